@@ -0,0 +1,104 @@
+package cn.edu.thu.tsfile.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cn.edu.thu.tsfile.encoding.bitpacking.IntPacker;
+import cn.edu.thu.tsfile.encoding.bitpacking.LongPacker;
+
+/**
+ * Throughput of IntPacker and LongPacker, in values per second, for several bit widths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BitPackingBenchmark {
+    /**
+     * number of values, a multiple of 8
+     */
+    private static final int SIZE = 8192;
+
+    /**
+     * bit width, IntPacker packs at most 32 bits of each value
+     */
+    @Param({"1", "7", "16", "31", "45", "63"})
+    public int width;
+
+    private int intWidth;
+    private IntPacker intPacker;
+    private LongPacker longPacker;
+    private int[] ints;
+    private long[] longs;
+    private byte[] packedInts;
+    private byte[] packedLongs;
+    private byte[] buf;
+
+    @Setup
+    public void setup() {
+        long[] values = DataDistribution.RANDOM.generate(SIZE, 1L << width);
+        longs = values;
+        intWidth = Math.min(width, 32);
+        ints = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            ints[i] = (int) (values[i] & ((1L << intWidth) - 1));
+        }
+        intPacker = new IntPacker(intWidth);
+        longPacker = new LongPacker(width);
+        buf = new byte[width];
+        packedInts = packInts();
+        packedLongs = packLongs();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public byte[] packInts() {
+        byte[] packed = new byte[SIZE / 8 * intWidth];
+        for (int i = 0; i < SIZE; i += 8) {
+            intPacker.pack8Values(ints, i, buf);
+            System.arraycopy(buf, 0, packed, i / 8 * intWidth, intWidth);
+        }
+        return packed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] unpackInts() {
+        int[] values = new int[SIZE];
+        intPacker.unpackAllValues(packedInts, 0, packedInts.length, values);
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public byte[] packLongs() {
+        byte[] packed = new byte[SIZE / 8 * width];
+        for (int i = 0; i < SIZE; i += 8) {
+            longPacker.pack8Values(longs, i, buf);
+            System.arraycopy(buf, 0, packed, i / 8 * width, width);
+        }
+        return packed;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long[] unpackLongs() {
+        long[] values = new long[SIZE];
+        longPacker.unpackAllValues(packedLongs, 0, packedLongs.length, values);
+        return values;
+    }
+}
@@ -0,0 +1,77 @@
+package cn.edu.thu.tsfile.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cn.edu.thu.tsfile.common.utils.ListByteArrayOutputStream;
+import cn.edu.thu.tsfile.common.utils.PublicBAOS;
+import cn.edu.thu.tsfile.compress.Compressor;
+import cn.edu.thu.tsfile.compress.UnCompressor;
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.PlainEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+
+/**
+ * Time to compress and uncompress one page of PLAIN encoded INT64 values, with SNAPPY compared to
+ * UNCOMPRESSED.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressionBenchmark {
+    /**
+     * number of values in one page, 64KB after encoding
+     */
+    private static final int SIZE = 8192;
+
+    @Param({"UNCOMPRESSED", "SNAPPY"})
+    public CompressionTypeName compression;
+
+    @Param({"MONOTONIC", "RANDOM", "REPEATED"})
+    public DataDistribution distribution;
+
+    private PublicBAOS page;
+    private byte[] compressed;
+    private Compressor compressor;
+    private UnCompressor unCompressor;
+
+    @Setup
+    public void setup() throws IOException {
+        page = new PublicBAOS();
+        Encoder encoder = new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.INT64, 0);
+        for (long v : distribution.generate(SIZE, 1L << 40)) {
+            encoder.encode(v, page);
+        }
+        encoder.flush(page);
+        compressor = Compressor.getCompressor(compression);
+        unCompressor = UnCompressor.getUnCompressor(compression);
+        compressed = compress().toByteArray();
+    }
+
+    @Benchmark
+    public ListByteArrayOutputStream compress() {
+        return compressor.compress(ListByteArrayOutputStream.from(page));
+    }
+
+    @Benchmark
+    public byte[] uncompress() {
+        return unCompressor.uncompress(compressed);
+    }
+}
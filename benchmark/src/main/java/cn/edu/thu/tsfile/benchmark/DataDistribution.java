@@ -0,0 +1,68 @@
+package cn.edu.thu.tsfile.benchmark;
+
+import java.util.Random;
+
+/**
+ * Distributions of the generated values used by the benchmarks. Values are generated with a fixed
+ * seed so that every run encodes the same data.
+ */
+public enum DataDistribution {
+    /**
+     * increasing values with small random steps, like timestamps or counters
+     */
+    MONOTONIC {
+        @Override
+        public long[] generate(int size, long bound) {
+            Random random = new Random(SEED);
+            long[] values = new long[size];
+            long v = 0;
+            for (int i = 0; i < size; i++) {
+                v += 1 + random.nextInt(10);
+                values[i] = v % bound;
+            }
+            return values;
+        }
+    },
+    /**
+     * uniformly distributed values in [0, bound)
+     */
+    RANDOM {
+        @Override
+        public long[] generate(int size, long bound) {
+            Random random = new Random(SEED);
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = (random.nextLong() & Long.MAX_VALUE) % bound;
+            }
+            return values;
+        }
+    },
+    /**
+     * runs of the same value whose length is between 1 and 100, like a status or a slowly changed
+     * sensor
+     */
+    REPEATED {
+        @Override
+        public long[] generate(int size, long bound) {
+            Random random = new Random(SEED);
+            long[] values = new long[size];
+            int i = 0;
+            while (i < size) {
+                long v = (random.nextLong() & Long.MAX_VALUE) % bound;
+                int run = 1 + random.nextInt(100);
+                for (int j = 0; j < run && i < size; j++) {
+                    values[i++] = v;
+                }
+            }
+            return values;
+        }
+    };
+
+    private static final long SEED = 20170101L;
+
+    /**
+     * @param size  number of values
+     * @param bound all values are in [0, bound)
+     */
+    public abstract long[] generate(int size, long bound);
+}
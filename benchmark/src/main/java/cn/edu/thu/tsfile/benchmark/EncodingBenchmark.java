@@ -0,0 +1,189 @@
+package cn.edu.thu.tsfile.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cn.edu.thu.tsfile.encoding.decoder.Decoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+import cn.edu.thu.tsfile.format.Encoding;
+import cn.edu.thu.tsfile.timeseries.write.schema.converter.TSEncodingConverter;
+
+/**
+ * Throughput of each Encoder/Decoder pair, in points per second, for every data type and value
+ * distribution. FLOAT and DOUBLE values have two decimal digits, which is the default
+ * float_precision.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+    /**
+     * number of points in one page
+     */
+    private static final int SIZE = 10000;
+
+    @Param({"INT32", "INT64", "FLOAT", "DOUBLE"})
+    public TSDataType dataType;
+
+    @Param({"PLAIN", "RLE", "TS_2DIFF"})
+    public TSEncoding encoding;
+
+    @Param({"MONOTONIC", "RANDOM", "REPEATED"})
+    public DataDistribution distribution;
+
+    private int[] ints;
+    private long[] longs;
+    private float[] floats;
+    private double[] doubles;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        long[] values;
+        switch (dataType) {
+            case INT32:
+                values = distribution.generate(SIZE, 1 << 30);
+                ints = new int[SIZE];
+                for (int i = 0; i < SIZE; i++) {
+                    ints[i] = (int) values[i];
+                }
+                break;
+            case INT64:
+                longs = distribution.generate(SIZE, 1L << 50);
+                break;
+            case FLOAT:
+                values = distribution.generate(SIZE, 1 << 20);
+                floats = new float[SIZE];
+                for (int i = 0; i < SIZE; i++) {
+                    floats[i] = values[i] / 100f;
+                }
+                break;
+            case DOUBLE:
+                values = distribution.generate(SIZE, 1L << 40);
+                doubles = new double[SIZE];
+                for (int i = 0; i < SIZE; i++) {
+                    doubles[i] = values[i] / 100.0;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(dataType.toString());
+        }
+        encoded = encode().toByteArray();
+    }
+
+    private Encoder getEncoder() {
+        TSEncodingConverter converter = TSEncodingConverter.getConverter(encoding);
+        converter.initFromProps("s", null);
+        return converter.getEncoder("s", dataType);
+    }
+
+    private Decoder getDecoder() {
+        return Decoder.getDecoderByType(Encoding.valueOf(encoding.toString()), dataType);
+    }
+
+    private ByteArrayOutputStream encode() throws IOException {
+        Encoder encoder = getEncoder();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < SIZE; i++) {
+            switch (dataType) {
+                case INT32:
+                    encoder.encode(ints[i], out);
+                    break;
+                case INT64:
+                    encoder.encode(longs[i], out);
+                    break;
+                case FLOAT:
+                    encoder.encode(floats[i], out);
+                    break;
+                default:
+                    encoder.encode(doubles[i], out);
+            }
+        }
+        encoder.flush(out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int encodePage() throws IOException {
+        return encode().size();
+    }
+
+    /**
+     * decode values one by one with hasNext and readXXX
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void decodePage(Blackhole bh) throws IOException {
+        Decoder decoder = getDecoder();
+        InputStream in = new ByteArrayInputStream(encoded);
+        while (decoder.hasNext(in)) {
+            switch (dataType) {
+                case INT32:
+                    bh.consume(decoder.readInt(in));
+                    break;
+                case INT64:
+                    bh.consume(decoder.readLong(in));
+                    break;
+                case FLOAT:
+                    bh.consume(decoder.readFloat(in));
+                    break;
+                default:
+                    bh.consume(decoder.readDouble(in));
+            }
+        }
+    }
+
+    /**
+     * decode the whole page with readInts, readLongs, readFloats or readDoubles
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void decodePageInBatch(Blackhole bh) throws IOException {
+        Decoder decoder = getDecoder();
+        InputStream in = new ByteArrayInputStream(encoded);
+        switch (dataType) {
+            case INT32:
+                int[] intValues = new int[SIZE];
+                bh.consume(decoder.readInts(in, intValues, 0, SIZE));
+                bh.consume(intValues);
+                break;
+            case INT64:
+                long[] longValues = new long[SIZE];
+                bh.consume(decoder.readLongs(in, longValues, 0, SIZE));
+                bh.consume(longValues);
+                break;
+            case FLOAT:
+                float[] floatValues = new float[SIZE];
+                bh.consume(decoder.readFloats(in, floatValues, 0, SIZE));
+                bh.consume(floatValues);
+                break;
+            default:
+                double[] doubleValues = new double[SIZE];
+                bh.consume(decoder.readDoubles(in, doubleValues, 0, SIZE));
+                bh.consume(doubleValues);
+        }
+    }
+}
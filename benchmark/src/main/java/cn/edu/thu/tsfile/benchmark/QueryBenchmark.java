@@ -0,0 +1,129 @@
+package cn.edu.thu.tsfile.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cn.edu.thu.tsfile.timeseries.generator.GenerateBigTSFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.read.support.RowRecord;
+
+/**
+ * Time of QueryEngine queries over a file written by {@link GenerateBigTSFile}, which has
+ * deltaObject d0 with s0(INT32), s1(INT64) and s2(FLOAT) and one point per millisecond. The file
+ * is generated once under java.io.tmpdir and reused by later runs with the same size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class QueryBenchmark {
+    private static final String PATHS = "d0.s0|d0.s1|d0.s2";
+
+    /**
+     * target size of the generated file
+     */
+    @Param({"16"})
+    public int fileSizeInMB;
+
+    @Param({"10000"})
+    public int fetchSize;
+
+    private LocalFileInput raf;
+    private QueryConfig scanConfig;
+    private QueryConfig timeFilterConfig;
+    private QueryConfig valueFilterConfig;
+    private QueryConfig crossFilterConfig;
+
+    @Setup
+    public void setup() throws Exception {
+        File file = new File(System.getProperty("java.io.tmpdir"), "tsfile-benchmark-" + fileSizeInMB + "MB.tsfile");
+        if (!file.exists()) {
+            GenerateBigTSFile.generate(file.getPath(), fileSizeInMB * 1024L * 1024L);
+        }
+        raf = new LocalFileInput(file.getPath());
+
+        scanConfig = new QueryConfig(PATHS);
+        // select the middle tenth of the file by time, and about half of the points by value
+        QueryDataSet dataSet = new QueryEngine(raf, fetchSize).query(new QueryConfig("d0.s0|d0.s2"));
+        long startTime = -1;
+        long endTime = -1;
+        int minInt = Integer.MAX_VALUE;
+        int maxInt = Integer.MIN_VALUE;
+        float minFloat = Float.MAX_VALUE;
+        float maxFloat = -Float.MAX_VALUE;
+        while (dataSet.hasNextRecord()) {
+            RowRecord record = dataSet.getNextRecord();
+            if (startTime == -1) {
+                startTime = record.timestamp;
+            }
+            endTime = record.timestamp;
+            int intValue = record.fields.get(0).getIntV();
+            minInt = Math.min(minInt, intValue);
+            maxInt = Math.max(maxInt, intValue);
+            float floatValue = record.fields.get(1).getFloatV();
+            minFloat = Math.min(minFloat, floatValue);
+            maxFloat = Math.max(maxFloat, floatValue);
+        }
+        long range = endTime - startTime;
+        int midInt = minInt + (maxInt - minInt) / 2;
+        float midFloat = minFloat + (maxFloat - minFloat) / 2;
+        timeFilterConfig = new QueryConfig(PATHS, "0,(>=" + (startTime + range * 45 / 100) + ")&(<"
+                + (startTime + range * 55 / 100) + ")", "null", "null");
+        // a single series filter only selects the filtered series
+        valueFilterConfig = new QueryConfig("d0.s0", "null", "null", "2,d0.s0,(>=" + midInt + ")");
+        crossFilterConfig = new QueryConfig("d0.s0|d0.s2", "null", "null",
+                "[2,d0.s0,(>=" + midInt + ")]&[2,d0.s2,(>" + midFloat + ")]");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        raf.close();
+    }
+
+    private void consume(QueryConfig config, Blackhole bh) throws IOException {
+        QueryDataSet dataSet = new QueryEngine(raf, fetchSize).query(config);
+        while (dataSet.hasNextRecord()) {
+            bh.consume(dataSet.getNextRecord());
+        }
+    }
+
+    @Benchmark
+    public void scan(Blackhole bh) throws IOException {
+        consume(scanConfig, bh);
+    }
+
+    @Benchmark
+    public void timeFilter(Blackhole bh) throws IOException {
+        consume(timeFilterConfig, bh);
+    }
+
+    @Benchmark
+    public void valueFilter(Blackhole bh) throws IOException {
+        consume(valueFilterConfig, bh);
+    }
+
+    @Benchmark
+    public void crossFilter(Blackhole bh) throws IOException {
+        consume(crossFilterConfig, bh);
+    }
+}
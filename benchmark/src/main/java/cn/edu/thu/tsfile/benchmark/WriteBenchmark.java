@@ -0,0 +1,144 @@
+package cn.edu.thu.tsfile.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.constant.JsonFormatConstant;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
+
+/**
+ * Throughput of {@code TsFile.writeLine} and {@code TsFile.writeTablet}, in lines per second. Each
+ * line has one INT32, INT64, FLOAT and DOUBLE value, and a new file is written in each iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WriteBenchmark {
+    private static final int LINES = 10000;
+    private static final String[] MEASUREMENTS = {"s0", "s1", "s2", "s3"};
+    private static final TSDataType[] TYPES =
+            {TSDataType.INT32, TSDataType.INT64, TSDataType.FLOAT, TSDataType.DOUBLE};
+
+    @Param({"PLAIN", "RLE", "TS_2DIFF"})
+    public String encoding;
+
+    @Param({"UNCOMPRESSED", "SNAPPY"})
+    public String compressor;
+
+    @Param({"RANDOM"})
+    public DataDistribution distribution;
+
+    private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private String oldCompressor;
+    /**
+     * the part after timestamp of each line
+     */
+    private String[] values;
+    private int[] intColumn;
+    private long[] longColumn;
+    private float[] floatColumn;
+    private double[] doubleColumn;
+    private long time;
+    private File file;
+    private TsFile tsFile;
+
+    @Setup
+    public void setup() {
+        long[] ints = distribution.generate(LINES, 1 << 20);
+        values = new String[LINES];
+        intColumn = new int[LINES];
+        longColumn = new long[LINES];
+        floatColumn = new float[LINES];
+        doubleColumn = new double[LINES];
+        for (int i = 0; i < LINES; i++) {
+            intColumn[i] = (int) ints[i];
+            longColumn[i] = ints[i] << 20;
+            floatColumn[i] = ints[i] / 100f;
+            doubleColumn[i] = ints[i] / 100.0;
+            values[i] = "," + MEASUREMENTS[0] + "," + ints[i] + "," + MEASUREMENTS[1] + "," + (ints[i] << 20)
+                    + "," + MEASUREMENTS[2] + "," + ints[i] / 100f + "," + MEASUREMENTS[3] + ","
+                    + ints[i] / 100.0;
+        }
+        oldCompressor = conf.compressor;
+        conf.compressor = compressor;
+    }
+
+    @TearDown
+    public void tearDown() {
+        conf.compressor = oldCompressor;
+    }
+
+    @Setup(Level.Iteration)
+    public void openFile() throws IOException, WriteProcessException {
+        file = File.createTempFile("write-benchmark", ".tsfile");
+        JSONArray schema = new JSONArray();
+        for (int i = 0; i < MEASUREMENTS.length; i++) {
+            JSONObject measurement = new JSONObject();
+            measurement.put(JsonFormatConstant.MEASUREMENT_UID, MEASUREMENTS[i]);
+            measurement.put(JsonFormatConstant.DATA_TYPE, TYPES[i].toString());
+            measurement.put(JsonFormatConstant.MEASUREMENT_ENCODING, encoding);
+            schema.put(measurement);
+        }
+        JSONObject jsonSchema = new JSONObject();
+        jsonSchema.put(JsonFormatConstant.DELTA_TYPE, "benchmark_type");
+        jsonSchema.put(JsonFormatConstant.JSON_SCHEMA, schema);
+        tsFile = new TsFile(new RandomAccessOutputStream(file), jsonSchema);
+        time = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeFile() throws IOException {
+        tsFile.close();
+        file.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void writeLine() throws IOException, WriteProcessException {
+        for (int i = 0; i < LINES; i++) {
+            tsFile.writeLine("d1," + time++ + values[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void writeTablet() throws IOException, WriteProcessException {
+        long[] timestamps = new long[LINES];
+        for (int i = 0; i < LINES; i++) {
+            timestamps[i] = time++;
+        }
+        TSTablet tablet = new TSTablet("d1", timestamps);
+        tablet.addColumn(MEASUREMENTS[0], intColumn);
+        tablet.addColumn(MEASUREMENTS[1], longColumn);
+        tablet.addColumn(MEASUREMENTS[2], floatColumn);
+        tablet.addColumn(MEASUREMENTS[3], doubleColumn);
+        tsFile.writeTablet(tablet);
+    }
+}
@@ -20,6 +20,43 @@ public class TSFileConfig {
      * The maximum number of data points in a page, defalut value is 1024 * 1024
      */
     public int maxNumberOfPointsInPage = 1024 * 1024;
+    /**
+     * Max number of full row groups waiting to be flushed by a background
+     * thread of each writer. Memory used by a writer grows up to (1 + this
+     * number) row groups. Default value is 0 which means row groups are
+     * flushed by the writing thread
+     */
+    public int maxPendingRowGroupFlushes = 0;
+    /**
+     * Max number of series whose last pages are encoded and compressed at the
+     * same time when flushing a row group. Default value is 1 which means
+     * series are flushed one by one
+     */
+    public int rowGroupFlushParallelism = 1;
+    /**
+     * Max memory size held by all writers in one JVM. The largest writers
+     * flush their row groups early if it is exceeded. Default value is 0
+     * which means each writer only flushes when its row group is full
+     */
+    public long writeMemoryBudgetInByte = 0;
+    /**
+     * Padding after a full row group, TsFile supports FILL, SPARSE, ALIGN and
+     * NONE. Default value is FILL which writes zeros until the row group takes
+     * groupSizeInByte
+     */
+    public String rowGroupPadding = "FILL";
+    /**
+     * Row groups start at a multiple of this size if rowGroupPadding is ALIGN,
+     * default value is 4KB
+     */
+    public int rowGroupAlignmentInByte = 4 * 1024;
+    /**
+     * Points of a series arriving at most this much later, in the unit of
+     * timestamps, than its latest point are sorted by time before they are
+     * encoded. Default value is 0 which means points are encoded in arrival
+     * order
+     */
+    public long outOfOrderWindow = 0;
     
     // Data type configuration
     /**
@@ -38,12 +75,14 @@ public class TSFileConfig {
     // Encoder configuration
     /**
      * Encoder of time series, TsFile supports TS_2DIFF, PLAIN and RLE(run-length encoding)
-     * Default value is TS_2DIFF
+     * and REGULAR for series sampled at a fixed frequency. Default value is TS_2DIFF
      */
     public String timeSeriesEncoder = "TS_2DIFF";
     /**
      * Encoder of value series. default value is RLE. 
      * For int, long, float, double data type, TsFile also supports TS_2DIFF and RLE(run-length encoding)
+     * and lossless GORILLA for float and double. For string data type, TsFile also supports
+     * PLAIN_DICTIONARY
      */
     public String valueEncoder = "PLAIN";
     
@@ -61,6 +100,18 @@ public class TSFileConfig {
      * Default block size of two-diff. delta encoding is 128
      */
     public int deltaBlockSize = 128;    
+    /**
+     * Whether a block of two-diff. delta encoding saves rare wide values as patches, so that
+     * others are packed in fewer bits. Default value is false
+     */
+    public boolean deltaBlockPatched = false;
+    
+    // Dictionary configuration
+    /**
+     * Max byte size of the dictionary of a PLAIN_DICTIONARY series in a row group. Once it is
+     * exceeded, following pages of the series are encoded by PLAIN. Default value is 1MB
+     */
+    public int maxDictionarySize = 1024 * 1024;
     
     // Bitmap configuration
     public final int BITMAP_BITWIDTH = 1;
@@ -90,6 +141,31 @@ public class TSFileConfig {
      */
     public String compressor = "UNCOMPRESSED";
     
+    // Query configuration
+    /**
+     * Max memory size of the page cache shared by all queries in one JVM,
+     * which holds uncompressed pages. Default value is 0 which means the page
+     * cache is disabled
+     */
+    public long pageCacheSizeInByte = 0;
+    /**
+     * Max number of files whose metadata is cached and shared by all queries
+     * in one JVM. Default value is 0 which means the metadata cache is disabled
+     */
+    public int metadataCacheSize = 0;
+    /**
+     * Max number of RowGroups of one deltaObject decoded at the same time when
+     * reading one column. Default value is 1 which means RowGroups are read one
+     * by one
+     */
+    public int rowGroupReadParallelism = 1;
+    /**
+     * Whether files opened by path are read through memory-mapped buffers,
+     * which avoids copying page bytes. Default value is false which means
+     * files are read by RandomAccessFile
+     */
+    public boolean useMemoryMappedRead = false;
+    
     // Don't change the following configuration
     
     /**
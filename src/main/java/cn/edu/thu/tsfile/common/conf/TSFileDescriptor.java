@@ -68,12 +68,24 @@ public class TSFileDescriptor {
 		    conf.groupSizeInByte = Integer.parseInt(properties.getProperty("group_size_in_byte", conf.groupSizeInByte+""));
 		    conf.pageSizeInByte = Integer.parseInt(properties.getProperty("page_size_in_byte",conf.pageSizeInByte+""));
 		    conf.maxNumberOfPointsInPage = Integer.parseInt(properties.getProperty("max_number_of_points_in_page", conf.maxNumberOfPointsInPage+""));
+		    conf.maxPendingRowGroupFlushes = Integer.parseInt(properties.getProperty("max_pending_row_group_flushes", conf.maxPendingRowGroupFlushes+""));
+		    conf.rowGroupFlushParallelism = Integer.parseInt(properties.getProperty("row_group_flush_parallelism", conf.rowGroupFlushParallelism+""));
+		    conf.writeMemoryBudgetInByte = Long.parseLong(properties.getProperty("write_memory_budget_in_byte", conf.writeMemoryBudgetInByte+""));
+		    conf.rowGroupPadding = properties.getProperty("row_group_padding", conf.rowGroupPadding);
+		    conf.rowGroupAlignmentInByte = Integer.parseInt(properties.getProperty("row_group_alignment_in_byte", conf.rowGroupAlignmentInByte+""));
+		    conf.outOfOrderWindow = Long.parseLong(properties.getProperty("out_of_order_window", conf.outOfOrderWindow+""));
 		    conf.timeSeriesDataType = properties.getProperty("time_series_data_type",conf.timeSeriesDataType);
 		    conf.maxStringLength = Integer.parseInt(properties.getProperty("max_string_length",conf.maxStringLength+""));
 		    conf.floatPrecision = Integer.parseInt(properties.getProperty("float_precision", conf.floatPrecision+""));		    
+		    conf.deltaBlockPatched = Boolean.parseBoolean(properties.getProperty("delta_block_patched", conf.deltaBlockPatched+""));
+		    conf.maxDictionarySize = Integer.parseInt(properties.getProperty("max_dictionary_size", conf.maxDictionarySize+""));
 		    conf.timeSeriesEncoder = properties.getProperty("time_series_encoder", conf.timeSeriesEncoder);
 		    conf.valueEncoder = properties.getProperty("value_encoder", conf.valueEncoder);
 		    conf.compressor = properties.getProperty("compressor", conf.compressor);		    
+		    conf.pageCacheSizeInByte = Long.parseLong(properties.getProperty("page_cache_size_in_byte", conf.pageCacheSizeInByte+""));
+		    conf.metadataCacheSize = Integer.parseInt(properties.getProperty("metadata_cache_size", conf.metadataCacheSize+""));
+		    conf.rowGroupReadParallelism = Integer.parseInt(properties.getProperty("row_group_read_parallelism", conf.rowGroupReadParallelism+""));
+		    conf.useMemoryMappedRead = Boolean.parseBoolean(properties.getProperty("use_memory_mapped_read", conf.useMemoryMappedRead+""));
 		} catch (IOException e) {
 		    LOGGER.warn("Cannot load config file, use default configuration", e);
 		} catch (Exception e) {
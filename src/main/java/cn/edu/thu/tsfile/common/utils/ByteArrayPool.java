@@ -0,0 +1,100 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import java.util.ArrayDeque;
+
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+
+/**
+ * ByteArrayPool keeps released byte arrays to be allocated again, so that temporary buffers used
+ * for every page, such as the input and output of compression, are not created each time. Arrays
+ * are grouped by sizes of power of two, and at most {@code MAX_POOLED_PER_SIZE} arrays of each
+ * size are kept. Only arrays in the range of page sizes are kept, larger ones are left to GC.
+ * The pool is shared by all threads.
+ */
+public class ByteArrayPool {
+    private static final int MIN_SIZE_SHIFT = 10;
+    private static final int MAX_SIZE_SHIFT = 30;
+    private static final int MAX_POOLED_PER_SIZE = 16;
+
+    private static ByteArrayPool instance = new ByteArrayPool(0);
+
+    private final ArrayDeque<byte[]>[] pools;
+    // max length of the arrays kept, 0 to follow the page size in config
+    private final int maxPooledSize;
+
+    /**
+     * @param maxPooledSize - max length of the arrays kept, rounded up to a power of two. If it
+     *                      is 0, twice the current page size is used.
+     */
+    @SuppressWarnings("unchecked")
+    ByteArrayPool(int maxPooledSize) {
+        this.maxPooledSize = maxPooledSize;
+        pools = new ArrayDeque[MAX_SIZE_SHIFT + 1];
+        for (int i = MIN_SIZE_SHIFT; i <= MAX_SIZE_SHIFT; i++) {
+            pools[i] = new ArrayDeque<>();
+        }
+    }
+
+    public static ByteArrayPool getInstance() {
+        return instance;
+    }
+
+    /**
+     * @param minSize - minimum length of the array
+     * @return an array whose length is at least minSize. Its content is undefined.
+     */
+    public byte[] allocate(int minSize) {
+        int shift = getSizeShift(minSize);
+        if (shift > getMaxSizeShift()) {
+            return new byte[minSize];
+        }
+        byte[] array;
+        synchronized (pools[shift]) {
+            array = pools[shift].pollLast();
+        }
+        return array != null ? array : new byte[1 << shift];
+    }
+
+    /**
+     * return an array got from {@code allocate} to the pool. It must not be used after release.
+     */
+    public void release(byte[] array) {
+        int shift = getSizeShift(array.length);
+        if (shift > getMaxSizeShift() || array.length != 1 << shift) {
+            return;
+        }
+        synchronized (pools[shift]) {
+            if (pools[shift].size() < MAX_POOLED_PER_SIZE) {
+                pools[shift].addLast(array);
+            }
+        }
+    }
+
+    /**
+     * @return number of arrays kept in the pool
+     */
+    public int size() {
+        int size = 0;
+        for (int i = MIN_SIZE_SHIFT; i <= MAX_SIZE_SHIFT; i++) {
+            synchronized (pools[i]) {
+                size += pools[i].size();
+            }
+        }
+        return size;
+    }
+
+    private int getMaxSizeShift() {
+        // a page may be a little larger than pageSizeInByte, and the bound of its compressed size
+        // larger still, so arrays of twice the page size are kept
+        long size = maxPooledSize > 0 ? maxPooledSize
+                : 2L * TSFileDescriptor.getInstance().getConfig().pageSizeInByte;
+        return size >= 1 << MAX_SIZE_SHIFT ? MAX_SIZE_SHIFT : getSizeShift((int) size);
+    }
+
+    private static int getSizeShift(int size) {
+        if (size <= 1 << MIN_SIZE_SHIFT) {
+            return MIN_SIZE_SHIFT;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1);
+    }
+}
@@ -0,0 +1,74 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An InputStream reading from a {@link ByteBuffer} without copying it. It is used to
+ * read a page from a memory-mapped file or a cached page the same way as a
+ * {@code ByteArrayInputStream}. Reading advances the position of the given buffer.
+ */
+public class ByteBufferInputStream extends InputStream {
+    private ByteBuffer buf;
+
+    public ByteBufferInputStream(ByteBuffer buf) {
+        this.buf = buf;
+    }
+
+    @Override
+    public int read() {
+        if (!buf.hasRemaining()) {
+            return -1;
+        }
+        return buf.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buf.hasRemaining()) {
+            return -1;
+        }
+        len = Math.min(len, buf.remaining());
+        buf.get(b, off, len);
+        return len;
+    }
+
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        int skipped = (int) Math.min(n, buf.remaining());
+        buf.position(buf.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buf.remaining();
+    }
+
+    /**
+     * Get a view of the next {@code len} bytes and move the position forward by {@code len}.
+     * The returned buffer shares content with the underlying buffer.
+     *
+     * @param len number of bytes in the view
+     * @return a ByteBuffer view of the next len bytes
+     */
+    public ByteBuffer slice(int len) {
+        ByteBuffer view = buf.slice();
+        view.limit(len);
+        buf.position(buf.position() + len);
+        return view;
+    }
+
+    /**
+     * @return the underlying ByteBuffer
+     */
+    public ByteBuffer getBuffer() {
+        return buf;
+    }
+}
@@ -0,0 +1,185 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * FileChannelOutputStream implements the tsfile file writer interface on a {@code FileChannel}.
+ * Compared with {@linkplain RandomAccessOutputStream RandomAccessOutputStream}:
+ * <ul>
+ * <li>small writes such as headers and metadata are collected in a buffer before they are written
+ * to the channel</li>
+ * <li>all pages of a series chunk are written by one gathering write together with the buffered
+ * bytes</li>
+ * <li>the position is tracked in memory instead of asking the file system for the length</li>
+ * <li>written data is forced to the storage device according to a {@linkplain SyncPolicy}</li>
+ * </ul>
+ * The file is truncated at the position when it is closed.
+ */
+public class FileChannelOutputStream extends OutputStream implements TSRandomAccessFileWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * when written data is forced to the storage device
+     */
+    public enum SyncPolicy {
+        /**
+         * leave it to the operating system
+         */
+        NEVER,
+        /**
+         * after the row groups of each flush and when the file is closed
+         */
+        ROW_GROUP,
+        /**
+         * when the file is closed
+         */
+        CLOSE
+    }
+
+    private final FileChannel channel;
+    private final SyncPolicy syncPolicy;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long pos = 0;
+
+    public FileChannelOutputStream(File file) throws IOException {
+        this(file, SyncPolicy.NEVER);
+    }
+
+    public FileChannelOutputStream(File file, SyncPolicy syncPolicy) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.syncPolicy = syncPolicy;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            flushBuffer();
+        }
+        buffer.put((byte) b);
+        pos++;
+    }
+
+    @Override
+    public void write(byte[] b) throws IOException {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len > buffer.remaining()) {
+            flushBuffer();
+        }
+        if (len >= buffer.capacity()) {
+            writeFully(new ByteBuffer[] {ByteBuffer.wrap(b, off, len)});
+        } else {
+            buffer.put(b, off, len);
+        }
+        pos += len;
+    }
+
+    /**
+     * write the buffered bytes and all byte arrays in bytes by one gathering write
+     */
+    @Override
+    public void writeAll(ListByteArrayOutputStream bytes) throws IOException {
+        ByteBuffer[] byteBuffers = bytes.toByteBuffers();
+        ByteBuffer[] buffers = new ByteBuffer[byteBuffers.length + 1];
+        buffer.flip();
+        buffers[0] = buffer;
+        System.arraycopy(byteBuffers, 0, buffers, 1, byteBuffers.length);
+        writeFully(buffers);
+        buffer.clear();
+        pos += bytes.size();
+    }
+
+    @Override
+    public void writeHole(long length) throws IOException {
+        flushBuffer();
+        if (length <= 0) {
+            return;
+        }
+        pos += length;
+        // write the last byte of the gap so that the file is extended to pos like setLength, and
+        // the rest of the gap is left as a sparse region
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        while (lastByte.hasRemaining()) {
+            channel.write(lastByte, pos - 1 + lastByte.position());
+        }
+        channel.position(pos);
+    }
+
+    @Override
+    public long getPos() {
+        return pos;
+    }
+
+    @Override
+    public void seek(long offset) throws IOException {
+        flushBuffer();
+        channel.position(offset);
+        pos = offset;
+    }
+
+    @Override
+    public void endRowGroups() throws IOException {
+        flushBuffer();
+        if (syncPolicy == SyncPolicy.ROW_GROUP) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void sync() throws IOException {
+        flushBuffer();
+        channel.force(false);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+            if (channel.size() > pos) {
+                channel.truncate(pos);
+            }
+            if (syncPolicy != SyncPolicy.NEVER) {
+                channel.force(true);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return this;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (buffer.position() > 0) {
+            buffer.flip();
+            writeFully(new ByteBuffer[] {buffer});
+            buffer.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer[] buffers) throws IOException {
+        int last = buffers.length - 1;
+        int first = 0;
+        while (first <= last) {
+            channel.write(buffers, first, last - first + 1);
+            while (first <= last && !buffers[first].hasRemaining()) {
+                first++;
+            }
+        }
+    }
+}
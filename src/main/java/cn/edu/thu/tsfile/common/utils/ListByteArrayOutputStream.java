@@ -3,6 +3,7 @@ package cn.edu.thu.tsfile.common.utils;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -37,6 +38,33 @@ public class ListByteArrayOutputStream {
             baos.writeTo(out);
     }
 
+    /**
+     * Copies the complete contents in <code>list</code> into the specified array.
+     *
+     * @param dest the array to copy into, which has at least <code>size()</code> bytes after offset
+     * @param offset the position in dest of the first byte
+     */
+    public void copyTo(byte[] dest, int offset) {
+        for (PublicBAOS baos : list) {
+            System.arraycopy(baos.getBuf(), 0, dest, offset, baos.size());
+            offset += baos.size();
+        }
+    }
+
+    /**
+     * Wraps the contents in <code>list</code> into byte buffers without copying.
+     *
+     * @return one buffer for each <code>ByteArrayOutputStream</code>, in the order of the list
+     */
+    public ByteBuffer[] toByteBuffers() {
+        ByteBuffer[] buffers = new ByteBuffer[list.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            PublicBAOS baos = list.get(i);
+            buffers[i] = ByteBuffer.wrap(baos.getBuf(), 0, baos.size());
+        }
+        return buffers;
+    }
+
     /**
      * get the total size of this class
      * @return total size
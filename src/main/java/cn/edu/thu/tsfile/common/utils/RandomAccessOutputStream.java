@@ -49,6 +49,21 @@ public class RandomAccessOutputStream extends OutputStream implements TSRandomAc
     	out.seek(offset);
     }
 
+    /**
+     * extend the file by length bytes, which is a hole in a sparse file
+     */
+    @Override
+    public void writeHole(long length) throws IOException {
+        long newLength = out.length() + length;
+        out.setLength(newLength);
+        out.seek(newLength);
+    }
+
+    @Override
+    public void sync() throws IOException {
+        out.getFD().sync();
+    }
+
     @Override
     public void close() throws IOException {
         out.close();
@@ -207,4 +207,45 @@ public class ReadWriteStreamUtils {
 		}
 		return result;
 	}
+
+	/**
+	 * write a long value to stream using var long format after zigzag
+	 * encoding, so that values near 0, no matter positive or negative, take
+	 * few bytes
+	 * 
+	 * @param value
+	 *            - value to write into stream
+	 * @param out
+	 * @throws IOException
+	 */
+	public static void writeVarLong(long value, OutputStream out) throws IOException {
+		long zigzag = (value << 1) ^ (value >> 63);
+		while ((zigzag & 0xFFFFFFFFFFFFFF80L) != 0L) {
+			out.write((int) (zigzag & 0x7F) | 0x80);
+			zigzag >>>= 7;
+		}
+		out.write((int) zigzag);
+	}
+
+	/**
+	 * read a long value written by {@link #writeVarLong(long, OutputStream)}
+	 * 
+	 * @param in
+	 *            - stream to read a var long
+	 * @return long value
+	 * @throws IOException
+	 */
+	public static long readVarLong(InputStream in) throws IOException {
+		long zigzag = 0;
+		int i = 0;
+		int b;
+		do {
+			b = in.read();
+			if (b < 0)
+				throw new IOException("unexpected end of stream when reading var long");
+			zigzag |= (long) (b & 0x7F) << i;
+			i += 7;
+		} while ((b & 0x80) != 0);
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
 }
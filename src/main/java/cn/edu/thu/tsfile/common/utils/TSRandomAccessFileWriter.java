@@ -25,4 +25,44 @@ public interface TSRandomAccessFileWriter {
   public void close() throws IOException;
 
   public OutputStream getOutputStream();
+
+  /**
+   * Write length zero bytes. Implementations on file systems supporting sparse files may extend
+   * the file instead, leaving a hole which takes no disk space.
+   */
+  default void writeHole(long length) throws IOException {
+    OutputStream output = getOutputStream();
+    byte[] zeros = new byte[(int) Math.min(length, 64 * 1024)];
+    while (length > 0) {
+      int size = (int) Math.min(length, zeros.length);
+      output.write(zeros, 0, size);
+      length -= size;
+    }
+  }
+
+  /**
+   * Write all byte arrays in bytes, which are pages of a series chunk. Implementations may write
+   * them by one gathering write instead of one write per array.
+   */
+  default void writeAll(ListByteArrayOutputStream bytes) throws IOException {
+    bytes.writeAllTo(getOutputStream());
+  }
+
+  /**
+   * Called after all row groups of one flush are written, so that implementations may write out
+   * buffered bytes or force them to the storage device.
+   */
+  default void endRowGroups() throws IOException {}
+
+  /**
+   * Force all written bytes to the storage device. A TsFile written with a
+   * {@code MetadataCheckpoint} calls it before each checkpoint, so that no checkpoint refers to
+   * data lost in a crash.
+   *
+   * @throws UnsupportedOperationException if the output cannot force written bytes
+   */
+  default void sync() throws IOException {
+    throw new UnsupportedOperationException(
+        getClass().getName() + " cannot force written bytes to the storage device");
+  }
 }
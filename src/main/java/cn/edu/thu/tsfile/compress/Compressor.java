@@ -22,6 +22,23 @@ public abstract class Compressor {
 
     public abstract CompressionTypeName getCodecName();
 
+    /**
+     * @param uncompressedSize - size of the input
+     * @return max size of the output of {@code compress(byte[], int, int, byte[], int)}
+     */
+    public abstract int getMaxCompressedLength(int uncompressedSize);
+
+    /**
+     * compress input[inputOffset, inputOffset + inputLength) into output from outputOffset,
+     * without creating temporary buffers.
+     *
+     * @param output - array which has at least {@code getMaxCompressedLength(inputLength)} bytes
+     *            after outputOffset
+     * @return size of the compressed data
+     */
+    public abstract int compress(byte[] input, int inputOffset, int inputLength, byte[] output,
+            int outputOffset) throws IOException;
+
     public static Compressor getCompressor(String name) {
         return getCompressor(CompressionTypeName.valueOf(name));
     }
@@ -56,6 +73,18 @@ public abstract class Compressor {
         public CompressionTypeName getCodecName() {
             return CompressionTypeName.UNCOMPRESSED;
         }
+
+        @Override
+        public int getMaxCompressedLength(int uncompressedSize) {
+            return uncompressedSize;
+        }
+
+        @Override
+        public int compress(byte[] input, int inputOffset, int inputLength, byte[] output,
+                int outputOffset) {
+            System.arraycopy(input, inputOffset, output, outputOffset, inputLength);
+            return inputLength;
+        }
     }
 
     static public class SnappyCompressor extends Compressor {
@@ -81,5 +110,16 @@ public abstract class Compressor {
         public CompressionTypeName getCodecName() {
             return CompressionTypeName.SNAPPY;
         }
+
+        @Override
+        public int getMaxCompressedLength(int uncompressedSize) {
+            return Snappy.maxCompressedLength(uncompressedSize);
+        }
+
+        @Override
+        public int compress(byte[] input, int inputOffset, int inputLength, byte[] output,
+                int outputOffset) throws IOException {
+            return Snappy.compress(input, inputOffset, inputLength, output, outputOffset);
+        }
     }
 }
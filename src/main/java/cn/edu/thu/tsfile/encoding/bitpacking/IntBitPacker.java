@@ -0,0 +1,1489 @@
+package cn.edu.thu.tsfile.encoding.bitpacking;
+
+import java.util.Arrays;
+
+// This file is generated by src/main/python/gen_bit_packers.py, do not edit it by hand.
+
+/**
+ * IntBitPacker packs (unpacks) groups of 8 ints with a given bit-width, in the layout
+ * described in {@link IntPacker}. There is one subclass for each bit-width from 0 to 32,
+ * in which the shifts and masks of every value are unrolled into constants, so that the width
+ * is selected once for a block instead of being checked for every bit.
+ */
+abstract class IntBitPacker {
+
+	private static final IntBitPacker[] PACKERS = {
+		new Packer0(),
+		new Packer1(),
+		new Packer2(),
+		new Packer3(),
+		new Packer4(),
+		new Packer5(),
+		new Packer6(),
+		new Packer7(),
+		new Packer8(),
+		new Packer9(),
+		new Packer10(),
+		new Packer11(),
+		new Packer12(),
+		new Packer13(),
+		new Packer14(),
+		new Packer15(),
+		new Packer16(),
+		new Packer17(),
+		new Packer18(),
+		new Packer19(),
+		new Packer20(),
+		new Packer21(),
+		new Packer22(),
+		new Packer23(),
+		new Packer24(),
+		new Packer25(),
+		new Packer26(),
+		new Packer27(),
+		new Packer28(),
+		new Packer29(),
+		new Packer30(),
+		new Packer31(),
+		new Packer32()
+	};
+
+	/**
+	 * @param width - bit-width, from 0 to 32
+	 * @return the packer of the given bit-width
+	 */
+	static IntBitPacker of(int width) {
+		if (width < 0 || width > 32) {
+			throw new IllegalArgumentException("bit-width should be in [0, 32], but is " + width);
+		}
+		return PACKERS[width];
+	}
+
+	/**
+	 * encode {@code groups} groups of 8 ints from {@code values} into {@code buf}, every
+	 * group takes bit-width bytes
+	 *
+	 * @param values - array where values are in
+	 * @param valueOffset - index of the first value to be encoded
+	 * @param groups - number of groups to be encoded
+	 * @param buf - array where encoded bytes are written
+	 * @param bufOffset - index of the first byte to be written
+	 */
+	abstract void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset);
+
+	/**
+	 * decode {@code groups} groups of 8 ints from {@code buf} into {@code values}
+	 *
+	 * @param buf - array where encoded bytes are in
+	 * @param bufOffset - index of the first byte to be decoded
+	 * @param groups - number of groups to be decoded
+	 * @param values - array where decoded values are written
+	 * @param valueOffset - index of the first value to be written
+	 */
+	abstract void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset);
+
+
+	private static final class Packer0 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			Arrays.fill(values, valueOffset, valueOffset + groups * 8, 0);
+		}
+	}
+
+	private static final class Packer1 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] << 6) | (values[valueOffset + 2] << 5) | (values[valueOffset + 3] << 4) | (values[valueOffset + 4] << 3) | (values[valueOffset + 5] << 2) | (values[valueOffset + 6] << 1) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 1;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFF) >>> 7;
+				values[valueOffset + 1] = (buf[bufOffset] & 0x7F) >>> 6;
+				values[valueOffset + 2] = (buf[bufOffset] & 0x3F) >>> 5;
+				values[valueOffset + 3] = (buf[bufOffset] & 0x1F) >>> 4;
+				values[valueOffset + 4] = (buf[bufOffset] & 0xF) >>> 3;
+				values[valueOffset + 5] = (buf[bufOffset] & 0x7) >>> 2;
+				values[valueOffset + 6] = (buf[bufOffset] & 0x3) >>> 1;
+				values[valueOffset + 7] = (buf[bufOffset] & 0x1);
+				valueOffset += 8;
+				bufOffset += 1;
+			}
+		}
+	}
+
+	private static final class Packer2 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] << 4) | (values[valueOffset + 2] << 2) | values[valueOffset + 3]);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] << 4) | (values[valueOffset + 6] << 2) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 2;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFF) >>> 6;
+				values[valueOffset + 1] = (buf[bufOffset] & 0x3F) >>> 4;
+				values[valueOffset + 2] = (buf[bufOffset] & 0xF) >>> 2;
+				values[valueOffset + 3] = (buf[bufOffset] & 0x3);
+				values[valueOffset + 4] = (buf[bufOffset + 1] & 0xFF) >>> 6;
+				values[valueOffset + 5] = (buf[bufOffset + 1] & 0x3F) >>> 4;
+				values[valueOffset + 6] = (buf[bufOffset + 1] & 0xF) >>> 2;
+				values[valueOffset + 7] = (buf[bufOffset + 1] & 0x3);
+				valueOffset += 8;
+				bufOffset += 2;
+			}
+		}
+	}
+
+	private static final class Packer3 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 1));
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] << 4) | (values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 2));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] << 3) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 3;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFF) >>> 5;
+				values[valueOffset + 1] = (buf[bufOffset] & 0x1F) >>> 2;
+				values[valueOffset + 2] = ((buf[bufOffset] & 0x3) << 1) | ((buf[bufOffset + 1] & 0xFF) >>> 7);
+				values[valueOffset + 3] = (buf[bufOffset + 1] & 0x7F) >>> 4;
+				values[valueOffset + 4] = (buf[bufOffset + 1] & 0xF) >>> 1;
+				values[valueOffset + 5] = ((buf[bufOffset + 1] & 0x1) << 2) | ((buf[bufOffset + 2] & 0xFF) >>> 6);
+				values[valueOffset + 6] = (buf[bufOffset + 2] & 0x3F) >>> 3;
+				values[valueOffset + 7] = (buf[bufOffset + 2] & 0x7);
+				valueOffset += 8;
+				bufOffset += 3;
+			}
+		}
+	}
+
+	private static final class Packer4 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 4) | values[valueOffset + 1]);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 2] << 4) | values[valueOffset + 3]);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 4] << 4) | values[valueOffset + 5]);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 6] << 4) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 4;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFF) >>> 4;
+				values[valueOffset + 1] = (buf[bufOffset] & 0xF);
+				values[valueOffset + 2] = (buf[bufOffset + 1] & 0xFF) >>> 4;
+				values[valueOffset + 3] = (buf[bufOffset + 1] & 0xF);
+				values[valueOffset + 4] = (buf[bufOffset + 2] & 0xFF) >>> 4;
+				values[valueOffset + 5] = (buf[bufOffset + 2] & 0xF);
+				values[valueOffset + 6] = (buf[bufOffset + 3] & 0xFF) >>> 4;
+				values[valueOffset + 7] = (buf[bufOffset + 3] & 0xF);
+				valueOffset += 8;
+				bufOffset += 4;
+			}
+		}
+	}
+
+	private static final class Packer5 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 2));
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 4));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 1));
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 3));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 6] << 5) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 5;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFF) >>> 3;
+				values[valueOffset + 1] = ((buf[bufOffset] & 0x7) << 2) | ((buf[bufOffset + 1] & 0xFF) >>> 6);
+				values[valueOffset + 2] = (buf[bufOffset + 1] & 0x3F) >>> 1;
+				values[valueOffset + 3] = ((buf[bufOffset + 1] & 0x1) << 4) | ((buf[bufOffset + 2] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 2] & 0xF) << 1) | ((buf[bufOffset + 3] & 0xFF) >>> 7);
+				values[valueOffset + 5] = (buf[bufOffset + 3] & 0x7F) >>> 2;
+				values[valueOffset + 6] = ((buf[bufOffset + 3] & 0x3) << 3) | ((buf[bufOffset + 4] & 0xFF) >>> 5);
+				values[valueOffset + 7] = (buf[bufOffset + 4] & 0x1F);
+				valueOffset += 8;
+				bufOffset += 5;
+			}
+		}
+	}
+
+	private static final class Packer6 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 4));
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 2));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 2] << 6) | values[valueOffset + 3]);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 4));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 2));
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 6] << 6) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 6;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFF) >>> 2;
+				values[valueOffset + 1] = ((buf[bufOffset] & 0x3) << 4) | ((buf[bufOffset + 1] & 0xFF) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 1] & 0xF) << 2) | ((buf[bufOffset + 2] & 0xFF) >>> 6);
+				values[valueOffset + 3] = (buf[bufOffset + 2] & 0x3F);
+				values[valueOffset + 4] = (buf[bufOffset + 3] & 0xFF) >>> 2;
+				values[valueOffset + 5] = ((buf[bufOffset + 3] & 0x3) << 4) | ((buf[bufOffset + 4] & 0xFF) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 4] & 0xF) << 2) | ((buf[bufOffset + 5] & 0xFF) >>> 6);
+				values[valueOffset + 7] = (buf[bufOffset + 5] & 0x3F);
+				valueOffset += 8;
+				bufOffset += 6;
+			}
+		}
+	}
+
+	private static final class Packer7 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 6));
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 5));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 4));
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 3));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 2));
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 1));
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 6] << 7) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 7;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFF) >>> 1;
+				values[valueOffset + 1] = ((buf[bufOffset] & 0x1) << 6) | ((buf[bufOffset + 1] & 0xFF) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 1] & 0x3) << 5) | ((buf[bufOffset + 2] & 0xFF) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 2] & 0x7) << 4) | ((buf[bufOffset + 3] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 3] & 0xF) << 3) | ((buf[bufOffset + 4] & 0xFF) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 4] & 0x1F) << 2) | ((buf[bufOffset + 5] & 0xFF) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 5] & 0x3F) << 1) | ((buf[bufOffset + 6] & 0xFF) >>> 7);
+				values[valueOffset + 7] = (buf[bufOffset + 6] & 0x7F);
+				valueOffset += 8;
+				bufOffset += 7;
+			}
+		}
+	}
+
+	private static final class Packer8 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset]);
+				buf[bufOffset + 1] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 8;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFF);
+				values[valueOffset + 1] = (buf[bufOffset + 1] & 0xFF);
+				values[valueOffset + 2] = (buf[bufOffset + 2] & 0xFF);
+				values[valueOffset + 3] = (buf[bufOffset + 3] & 0xFF);
+				values[valueOffset + 4] = (buf[bufOffset + 4] & 0xFF);
+				values[valueOffset + 5] = (buf[bufOffset + 5] & 0xFF);
+				values[valueOffset + 6] = (buf[bufOffset + 6] & 0xFF);
+				values[valueOffset + 7] = (buf[bufOffset + 7] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 8;
+			}
+		}
+	}
+
+	private static final class Packer9 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 2));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 3));
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 4));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 5));
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 6));
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 7));
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 9;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 1) | ((buf[bufOffset + 1] & 0xFF) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x7F) << 2) | ((buf[bufOffset + 2] & 0xFF) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 2] & 0x3F) << 3) | ((buf[bufOffset + 3] & 0xFF) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 3] & 0x1F) << 4) | ((buf[bufOffset + 4] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 4] & 0xF) << 5) | ((buf[bufOffset + 5] & 0xFF) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 5] & 0x7) << 6) | ((buf[bufOffset + 6] & 0xFF) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 6] & 0x3) << 7) | ((buf[bufOffset + 7] & 0xFF) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 7] & 0x1) << 8) | (buf[bufOffset + 8] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 9;
+			}
+		}
+	}
+
+	private static final class Packer10 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 4));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 6));
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 8));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 4));
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 6));
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 10;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 2) | ((buf[bufOffset + 1] & 0xFF) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x3F) << 4) | ((buf[bufOffset + 2] & 0xFF) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 2] & 0xF) << 6) | ((buf[bufOffset + 3] & 0xFF) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 3] & 0x3) << 8) | (buf[bufOffset + 4] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 5] & 0xFF) << 2) | ((buf[bufOffset + 6] & 0xFF) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 6] & 0x3F) << 4) | ((buf[bufOffset + 7] & 0xFF) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 7] & 0xF) << 6) | ((buf[bufOffset + 8] & 0xFF) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 8] & 0x3) << 8) | (buf[bufOffset + 9] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 10;
+			}
+		}
+	}
+
+	private static final class Packer11 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 6));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 9));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 4));
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 7));
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 10));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 5));
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 11;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 3) | ((buf[bufOffset + 1] & 0xFF) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x1F) << 6) | ((buf[bufOffset + 2] & 0xFF) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 2] & 0x3) << 9) | ((buf[bufOffset + 3] & 0xFF) << 1) | ((buf[bufOffset + 4] & 0xFF) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 4] & 0x7F) << 4) | ((buf[bufOffset + 5] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 5] & 0xF) << 7) | ((buf[bufOffset + 6] & 0xFF) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 6] & 0x1) << 10) | ((buf[bufOffset + 7] & 0xFF) << 2) | ((buf[bufOffset + 8] & 0xFF) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 8] & 0x3F) << 5) | ((buf[bufOffset + 9] & 0xFF) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 9] & 0x7) << 8) | (buf[bufOffset + 10] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 11;
+			}
+		}
+	}
+
+	private static final class Packer12 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 8));
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 8));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 8));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 12;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 4) | ((buf[bufOffset + 1] & 0xFF) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0xF) << 8) | (buf[bufOffset + 2] & 0xFF);
+				values[valueOffset + 2] = ((buf[bufOffset + 3] & 0xFF) << 4) | ((buf[bufOffset + 4] & 0xFF) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 4] & 0xF) << 8) | (buf[bufOffset + 5] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 6] & 0xFF) << 4) | ((buf[bufOffset + 7] & 0xFF) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 7] & 0xF) << 8) | (buf[bufOffset + 8] & 0xFF);
+				values[valueOffset + 6] = ((buf[bufOffset + 9] & 0xFF) << 4) | ((buf[bufOffset + 10] & 0xFF) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 10] & 0xF) << 8) | (buf[bufOffset + 11] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 12;
+			}
+		}
+	}
+
+	private static final class Packer13 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 10));
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 7));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 12));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 9));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 6));
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 11));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 13;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 5) | ((buf[bufOffset + 1] & 0xFF) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x7) << 10) | ((buf[bufOffset + 2] & 0xFF) << 2) | ((buf[bufOffset + 3] & 0xFF) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 3] & 0x3F) << 7) | ((buf[bufOffset + 4] & 0xFF) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 4] & 0x1) << 12) | ((buf[bufOffset + 5] & 0xFF) << 4) | ((buf[bufOffset + 6] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 6] & 0xF) << 9) | ((buf[bufOffset + 7] & 0xFF) << 1) | ((buf[bufOffset + 8] & 0xFF) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 8] & 0x7F) << 6) | ((buf[bufOffset + 9] & 0xFF) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 9] & 0x3) << 11) | ((buf[bufOffset + 10] & 0xFF) << 3) | ((buf[bufOffset + 11] & 0xFF) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 11] & 0x1F) << 8) | (buf[bufOffset + 12] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 13;
+			}
+		}
+	}
+
+	private static final class Packer14 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 12));
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 10));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 8));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 12));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 10));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 14;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 6) | ((buf[bufOffset + 1] & 0xFF) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x3) << 12) | ((buf[bufOffset + 2] & 0xFF) << 4) | ((buf[bufOffset + 3] & 0xFF) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 3] & 0xF) << 10) | ((buf[bufOffset + 4] & 0xFF) << 2) | ((buf[bufOffset + 5] & 0xFF) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 5] & 0x3F) << 8) | (buf[bufOffset + 6] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 7] & 0xFF) << 6) | ((buf[bufOffset + 8] & 0xFF) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 8] & 0x3) << 12) | ((buf[bufOffset + 9] & 0xFF) << 4) | ((buf[bufOffset + 10] & 0xFF) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 10] & 0xF) << 10) | ((buf[bufOffset + 11] & 0xFF) << 2) | ((buf[bufOffset + 12] & 0xFF) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 12] & 0x3F) << 8) | (buf[bufOffset + 13] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 14;
+			}
+		}
+	}
+
+	private static final class Packer15 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 14));
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 13));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 12));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 11));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 10));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 9));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 15;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 7) | ((buf[bufOffset + 1] & 0xFF) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x1) << 14) | ((buf[bufOffset + 2] & 0xFF) << 6) | ((buf[bufOffset + 3] & 0xFF) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 3] & 0x3) << 13) | ((buf[bufOffset + 4] & 0xFF) << 5) | ((buf[bufOffset + 5] & 0xFF) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 5] & 0x7) << 12) | ((buf[bufOffset + 6] & 0xFF) << 4) | ((buf[bufOffset + 7] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 7] & 0xF) << 11) | ((buf[bufOffset + 8] & 0xFF) << 3) | ((buf[bufOffset + 9] & 0xFF) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 9] & 0x1F) << 10) | ((buf[bufOffset + 10] & 0xFF) << 2) | ((buf[bufOffset + 11] & 0xFF) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 11] & 0x3F) << 9) | ((buf[bufOffset + 12] & 0xFF) << 1) | ((buf[bufOffset + 13] & 0xFF) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 13] & 0x7F) << 8) | (buf[bufOffset + 14] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 15;
+			}
+		}
+	}
+
+	private static final class Packer16 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 1] = (byte) (values[valueOffset]);
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 16;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 8) | (buf[bufOffset + 1] & 0xFF);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0xFF) << 8) | (buf[bufOffset + 3] & 0xFF);
+				values[valueOffset + 2] = ((buf[bufOffset + 4] & 0xFF) << 8) | (buf[bufOffset + 5] & 0xFF);
+				values[valueOffset + 3] = ((buf[bufOffset + 6] & 0xFF) << 8) | (buf[bufOffset + 7] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 8] & 0xFF) << 8) | (buf[bufOffset + 9] & 0xFF);
+				values[valueOffset + 5] = ((buf[bufOffset + 10] & 0xFF) << 8) | (buf[bufOffset + 11] & 0xFF);
+				values[valueOffset + 6] = ((buf[bufOffset + 12] & 0xFF) << 8) | (buf[bufOffset + 13] & 0xFF);
+				values[valueOffset + 7] = ((buf[bufOffset + 14] & 0xFF) << 8) | (buf[bufOffset + 15] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 16;
+			}
+		}
+	}
+
+	private static final class Packer17 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 9);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 10));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 11));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2] >>> 3);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 12));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 13));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 4] >>> 5);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 14));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 15));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 6] >>> 7);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 17;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 9) | ((buf[bufOffset + 1] & 0xFF) << 1) | ((buf[bufOffset + 2] & 0xFF) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x7F) << 10) | ((buf[bufOffset + 3] & 0xFF) << 2) | ((buf[bufOffset + 4] & 0xFF) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 4] & 0x3F) << 11) | ((buf[bufOffset + 5] & 0xFF) << 3) | ((buf[bufOffset + 6] & 0xFF) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 6] & 0x1F) << 12) | ((buf[bufOffset + 7] & 0xFF) << 4) | ((buf[bufOffset + 8] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 8] & 0xF) << 13) | ((buf[bufOffset + 9] & 0xFF) << 5) | ((buf[bufOffset + 10] & 0xFF) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 10] & 0x7) << 14) | ((buf[bufOffset + 11] & 0xFF) << 6) | ((buf[bufOffset + 12] & 0xFF) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 12] & 0x3) << 15) | ((buf[bufOffset + 13] & 0xFF) << 7) | ((buf[bufOffset + 14] & 0xFF) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 14] & 0x1) << 16) | ((buf[bufOffset + 15] & 0xFF) << 8) | (buf[bufOffset + 16] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 17;
+			}
+		}
+	}
+
+	private static final class Packer18 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 10);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 12));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 14));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2] >>> 6);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 16));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 4] >>> 10);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 12));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 14));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 6] >>> 6);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 18;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 10) | ((buf[bufOffset + 1] & 0xFF) << 2) | ((buf[bufOffset + 2] & 0xFF) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x3F) << 12) | ((buf[bufOffset + 3] & 0xFF) << 4) | ((buf[bufOffset + 4] & 0xFF) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 4] & 0xF) << 14) | ((buf[bufOffset + 5] & 0xFF) << 6) | ((buf[bufOffset + 6] & 0xFF) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 6] & 0x3) << 16) | ((buf[bufOffset + 7] & 0xFF) << 8) | (buf[bufOffset + 8] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 9] & 0xFF) << 10) | ((buf[bufOffset + 10] & 0xFF) << 2) | ((buf[bufOffset + 11] & 0xFF) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 11] & 0x3F) << 12) | ((buf[bufOffset + 12] & 0xFF) << 4) | ((buf[bufOffset + 13] & 0xFF) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 13] & 0xF) << 14) | ((buf[bufOffset + 14] & 0xFF) << 6) | ((buf[bufOffset + 15] & 0xFF) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 15] & 0x3) << 16) | ((buf[bufOffset + 16] & 0xFF) << 8) | (buf[bufOffset + 17] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 18;
+			}
+		}
+	}
+
+	private static final class Packer19 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 11);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 14));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 17));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2] >>> 9);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 12));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 15));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 4] >>> 7);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 18));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 13));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 6] >>> 5);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 19;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 11) | ((buf[bufOffset + 1] & 0xFF) << 3) | ((buf[bufOffset + 2] & 0xFF) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x1F) << 14) | ((buf[bufOffset + 3] & 0xFF) << 6) | ((buf[bufOffset + 4] & 0xFF) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 4] & 0x3) << 17) | ((buf[bufOffset + 5] & 0xFF) << 9) | ((buf[bufOffset + 6] & 0xFF) << 1) | ((buf[bufOffset + 7] & 0xFF) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 7] & 0x7F) << 12) | ((buf[bufOffset + 8] & 0xFF) << 4) | ((buf[bufOffset + 9] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 9] & 0xF) << 15) | ((buf[bufOffset + 10] & 0xFF) << 7) | ((buf[bufOffset + 11] & 0xFF) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 11] & 0x1) << 18) | ((buf[bufOffset + 12] & 0xFF) << 10) | ((buf[bufOffset + 13] & 0xFF) << 2) | ((buf[bufOffset + 14] & 0xFF) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 14] & 0x3F) << 13) | ((buf[bufOffset + 15] & 0xFF) << 5) | ((buf[bufOffset + 16] & 0xFF) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 16] & 0x7) << 16) | ((buf[bufOffset + 17] & 0xFF) << 8) | (buf[bufOffset + 18] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 19;
+			}
+		}
+	}
+
+	private static final class Packer20 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 12);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 16));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2] >>> 12);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 16));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 4] >>> 12);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 16));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 6] >>> 12);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 20;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 12) | ((buf[bufOffset + 1] & 0xFF) << 4) | ((buf[bufOffset + 2] & 0xFF) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0xF) << 16) | ((buf[bufOffset + 3] & 0xFF) << 8) | (buf[bufOffset + 4] & 0xFF);
+				values[valueOffset + 2] = ((buf[bufOffset + 5] & 0xFF) << 12) | ((buf[bufOffset + 6] & 0xFF) << 4) | ((buf[bufOffset + 7] & 0xFF) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 7] & 0xF) << 16) | ((buf[bufOffset + 8] & 0xFF) << 8) | (buf[bufOffset + 9] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 10] & 0xFF) << 12) | ((buf[bufOffset + 11] & 0xFF) << 4) | ((buf[bufOffset + 12] & 0xFF) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 12] & 0xF) << 16) | ((buf[bufOffset + 13] & 0xFF) << 8) | (buf[bufOffset + 14] & 0xFF);
+				values[valueOffset + 6] = ((buf[bufOffset + 15] & 0xFF) << 12) | ((buf[bufOffset + 16] & 0xFF) << 4) | ((buf[bufOffset + 17] & 0xFF) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 17] & 0xF) << 16) | ((buf[bufOffset + 18] & 0xFF) << 8) | (buf[bufOffset + 19] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 20;
+			}
+		}
+	}
+
+	private static final class Packer21 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 13);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 18));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 15));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 7);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 20));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 17));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 4] >>> 9);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 14));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 19));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 6] >>> 11);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 21;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 13) | ((buf[bufOffset + 1] & 0xFF) << 5) | ((buf[bufOffset + 2] & 0xFF) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x7) << 18) | ((buf[bufOffset + 3] & 0xFF) << 10) | ((buf[bufOffset + 4] & 0xFF) << 2) | ((buf[bufOffset + 5] & 0xFF) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 5] & 0x3F) << 15) | ((buf[bufOffset + 6] & 0xFF) << 7) | ((buf[bufOffset + 7] & 0xFF) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 7] & 0x1) << 20) | ((buf[bufOffset + 8] & 0xFF) << 12) | ((buf[bufOffset + 9] & 0xFF) << 4) | ((buf[bufOffset + 10] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 10] & 0xF) << 17) | ((buf[bufOffset + 11] & 0xFF) << 9) | ((buf[bufOffset + 12] & 0xFF) << 1) | ((buf[bufOffset + 13] & 0xFF) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 13] & 0x7F) << 14) | ((buf[bufOffset + 14] & 0xFF) << 6) | ((buf[bufOffset + 15] & 0xFF) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 15] & 0x3) << 19) | ((buf[bufOffset + 16] & 0xFF) << 11) | ((buf[bufOffset + 17] & 0xFF) << 3) | ((buf[bufOffset + 18] & 0xFF) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 18] & 0x1F) << 16) | ((buf[bufOffset + 19] & 0xFF) << 8) | (buf[bufOffset + 20] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 21;
+			}
+		}
+	}
+
+	private static final class Packer22 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 14);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 20));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 18));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 10);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 16));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 4] >>> 14);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 20));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 18));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 6] >>> 10);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 22;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 14) | ((buf[bufOffset + 1] & 0xFF) << 6) | ((buf[bufOffset + 2] & 0xFF) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x3) << 20) | ((buf[bufOffset + 3] & 0xFF) << 12) | ((buf[bufOffset + 4] & 0xFF) << 4) | ((buf[bufOffset + 5] & 0xFF) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 5] & 0xF) << 18) | ((buf[bufOffset + 6] & 0xFF) << 10) | ((buf[bufOffset + 7] & 0xFF) << 2) | ((buf[bufOffset + 8] & 0xFF) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 8] & 0x3F) << 16) | ((buf[bufOffset + 9] & 0xFF) << 8) | (buf[bufOffset + 10] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 11] & 0xFF) << 14) | ((buf[bufOffset + 12] & 0xFF) << 6) | ((buf[bufOffset + 13] & 0xFF) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 13] & 0x3) << 20) | ((buf[bufOffset + 14] & 0xFF) << 12) | ((buf[bufOffset + 15] & 0xFF) << 4) | ((buf[bufOffset + 16] & 0xFF) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 16] & 0xF) << 18) | ((buf[bufOffset + 17] & 0xFF) << 10) | ((buf[bufOffset + 18] & 0xFF) << 2) | ((buf[bufOffset + 19] & 0xFF) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 19] & 0x3F) << 16) | ((buf[bufOffset + 20] & 0xFF) << 8) | (buf[bufOffset + 21] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 22;
+			}
+		}
+	}
+
+	private static final class Packer23 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 15);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 22));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 21));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 13);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 20));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 19));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 4] >>> 11);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 18));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 17));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 6] >>> 9);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 20] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 23;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 15) | ((buf[bufOffset + 1] & 0xFF) << 7) | ((buf[bufOffset + 2] & 0xFF) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x1) << 22) | ((buf[bufOffset + 3] & 0xFF) << 14) | ((buf[bufOffset + 4] & 0xFF) << 6) | ((buf[bufOffset + 5] & 0xFF) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 5] & 0x3) << 21) | ((buf[bufOffset + 6] & 0xFF) << 13) | ((buf[bufOffset + 7] & 0xFF) << 5) | ((buf[bufOffset + 8] & 0xFF) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 8] & 0x7) << 20) | ((buf[bufOffset + 9] & 0xFF) << 12) | ((buf[bufOffset + 10] & 0xFF) << 4) | ((buf[bufOffset + 11] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 11] & 0xF) << 19) | ((buf[bufOffset + 12] & 0xFF) << 11) | ((buf[bufOffset + 13] & 0xFF) << 3) | ((buf[bufOffset + 14] & 0xFF) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 14] & 0x1F) << 18) | ((buf[bufOffset + 15] & 0xFF) << 10) | ((buf[bufOffset + 16] & 0xFF) << 2) | ((buf[bufOffset + 17] & 0xFF) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 17] & 0x3F) << 17) | ((buf[bufOffset + 18] & 0xFF) << 9) | ((buf[bufOffset + 19] & 0xFF) << 1) | ((buf[bufOffset + 20] & 0xFF) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 20] & 0x7F) << 16) | ((buf[bufOffset + 21] & 0xFF) << 8) | (buf[bufOffset + 22] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 23;
+			}
+		}
+	}
+
+	private static final class Packer24 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 16);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 2] = (byte) (values[valueOffset]);
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 16);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 4] >>> 16);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 6] >>> 16);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 24;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 16) | ((buf[bufOffset + 1] & 0xFF) << 8) | (buf[bufOffset + 2] & 0xFF);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0xFF) << 16) | ((buf[bufOffset + 4] & 0xFF) << 8) | (buf[bufOffset + 5] & 0xFF);
+				values[valueOffset + 2] = ((buf[bufOffset + 6] & 0xFF) << 16) | ((buf[bufOffset + 7] & 0xFF) << 8) | (buf[bufOffset + 8] & 0xFF);
+				values[valueOffset + 3] = ((buf[bufOffset + 9] & 0xFF) << 16) | ((buf[bufOffset + 10] & 0xFF) << 8) | (buf[bufOffset + 11] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 12] & 0xFF) << 16) | ((buf[bufOffset + 13] & 0xFF) << 8) | (buf[bufOffset + 14] & 0xFF);
+				values[valueOffset + 5] = ((buf[bufOffset + 15] & 0xFF) << 16) | ((buf[bufOffset + 16] & 0xFF) << 8) | (buf[bufOffset + 17] & 0xFF);
+				values[valueOffset + 6] = ((buf[bufOffset + 18] & 0xFF) << 16) | ((buf[bufOffset + 19] & 0xFF) << 8) | (buf[bufOffset + 20] & 0xFF);
+				values[valueOffset + 7] = ((buf[bufOffset + 21] & 0xFF) << 16) | ((buf[bufOffset + 22] & 0xFF) << 8) | (buf[bufOffset + 23] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 24;
+			}
+		}
+	}
+
+	private static final class Packer25 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 17);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 9);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 18));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 19));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 11);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 3);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 20));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 21));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 4] >>> 13);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4] >>> 5);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 22));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 23));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 6] >>> 15);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 6] >>> 7);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 25;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 17) | ((buf[bufOffset + 1] & 0xFF) << 9) | ((buf[bufOffset + 2] & 0xFF) << 1) | ((buf[bufOffset + 3] & 0xFF) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x7F) << 18) | ((buf[bufOffset + 4] & 0xFF) << 10) | ((buf[bufOffset + 5] & 0xFF) << 2) | ((buf[bufOffset + 6] & 0xFF) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 6] & 0x3F) << 19) | ((buf[bufOffset + 7] & 0xFF) << 11) | ((buf[bufOffset + 8] & 0xFF) << 3) | ((buf[bufOffset + 9] & 0xFF) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 9] & 0x1F) << 20) | ((buf[bufOffset + 10] & 0xFF) << 12) | ((buf[bufOffset + 11] & 0xFF) << 4) | ((buf[bufOffset + 12] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 12] & 0xF) << 21) | ((buf[bufOffset + 13] & 0xFF) << 13) | ((buf[bufOffset + 14] & 0xFF) << 5) | ((buf[bufOffset + 15] & 0xFF) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 15] & 0x7) << 22) | ((buf[bufOffset + 16] & 0xFF) << 14) | ((buf[bufOffset + 17] & 0xFF) << 6) | ((buf[bufOffset + 18] & 0xFF) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 18] & 0x3) << 23) | ((buf[bufOffset + 19] & 0xFF) << 15) | ((buf[bufOffset + 20] & 0xFF) << 7) | ((buf[bufOffset + 21] & 0xFF) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 21] & 0x1) << 24) | ((buf[bufOffset + 22] & 0xFF) << 16) | ((buf[bufOffset + 23] & 0xFF) << 8) | (buf[bufOffset + 24] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 25;
+			}
+		}
+	}
+
+	private static final class Packer26 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 18);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 10);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 20));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 22));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 14);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 6);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 24));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 4] >>> 18);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4] >>> 10);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 20));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 22));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 6] >>> 14);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 6] >>> 6);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 26;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 18) | ((buf[bufOffset + 1] & 0xFF) << 10) | ((buf[bufOffset + 2] & 0xFF) << 2) | ((buf[bufOffset + 3] & 0xFF) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x3F) << 20) | ((buf[bufOffset + 4] & 0xFF) << 12) | ((buf[bufOffset + 5] & 0xFF) << 4) | ((buf[bufOffset + 6] & 0xFF) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 6] & 0xF) << 22) | ((buf[bufOffset + 7] & 0xFF) << 14) | ((buf[bufOffset + 8] & 0xFF) << 6) | ((buf[bufOffset + 9] & 0xFF) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 9] & 0x3) << 24) | ((buf[bufOffset + 10] & 0xFF) << 16) | ((buf[bufOffset + 11] & 0xFF) << 8) | (buf[bufOffset + 12] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 13] & 0xFF) << 18) | ((buf[bufOffset + 14] & 0xFF) << 10) | ((buf[bufOffset + 15] & 0xFF) << 2) | ((buf[bufOffset + 16] & 0xFF) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 16] & 0x3F) << 20) | ((buf[bufOffset + 17] & 0xFF) << 12) | ((buf[bufOffset + 18] & 0xFF) << 4) | ((buf[bufOffset + 19] & 0xFF) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 19] & 0xF) << 22) | ((buf[bufOffset + 20] & 0xFF) << 14) | ((buf[bufOffset + 21] & 0xFF) << 6) | ((buf[bufOffset + 22] & 0xFF) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 22] & 0x3) << 24) | ((buf[bufOffset + 23] & 0xFF) << 16) | ((buf[bufOffset + 24] & 0xFF) << 8) | (buf[bufOffset + 25] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 26;
+			}
+		}
+	}
+
+	private static final class Packer27 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 19);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 11);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 22));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 25));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 17);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 9);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 20));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 23));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4] >>> 15);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 7);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 26));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 20] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 21));
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 6] >>> 13);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 6] >>> 5);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 27;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 19) | ((buf[bufOffset + 1] & 0xFF) << 11) | ((buf[bufOffset + 2] & 0xFF) << 3) | ((buf[bufOffset + 3] & 0xFF) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x1F) << 22) | ((buf[bufOffset + 4] & 0xFF) << 14) | ((buf[bufOffset + 5] & 0xFF) << 6) | ((buf[bufOffset + 6] & 0xFF) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 6] & 0x3) << 25) | ((buf[bufOffset + 7] & 0xFF) << 17) | ((buf[bufOffset + 8] & 0xFF) << 9) | ((buf[bufOffset + 9] & 0xFF) << 1) | ((buf[bufOffset + 10] & 0xFF) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 10] & 0x7F) << 20) | ((buf[bufOffset + 11] & 0xFF) << 12) | ((buf[bufOffset + 12] & 0xFF) << 4) | ((buf[bufOffset + 13] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 13] & 0xF) << 23) | ((buf[bufOffset + 14] & 0xFF) << 15) | ((buf[bufOffset + 15] & 0xFF) << 7) | ((buf[bufOffset + 16] & 0xFF) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 16] & 0x1) << 26) | ((buf[bufOffset + 17] & 0xFF) << 18) | ((buf[bufOffset + 18] & 0xFF) << 10) | ((buf[bufOffset + 19] & 0xFF) << 2) | ((buf[bufOffset + 20] & 0xFF) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 20] & 0x3F) << 21) | ((buf[bufOffset + 21] & 0xFF) << 13) | ((buf[bufOffset + 22] & 0xFF) << 5) | ((buf[bufOffset + 23] & 0xFF) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 23] & 0x7) << 24) | ((buf[bufOffset + 24] & 0xFF) << 16) | ((buf[bufOffset + 25] & 0xFF) << 8) | (buf[bufOffset + 26] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 27;
+			}
+		}
+	}
+
+	private static final class Packer28 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 20);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 12);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 24));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 20);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 12);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 24));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4] >>> 20);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 12);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 24));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 6] >>> 20);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 6] >>> 12);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 24] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 28;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 20) | ((buf[bufOffset + 1] & 0xFF) << 12) | ((buf[bufOffset + 2] & 0xFF) << 4) | ((buf[bufOffset + 3] & 0xFF) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0xF) << 24) | ((buf[bufOffset + 4] & 0xFF) << 16) | ((buf[bufOffset + 5] & 0xFF) << 8) | (buf[bufOffset + 6] & 0xFF);
+				values[valueOffset + 2] = ((buf[bufOffset + 7] & 0xFF) << 20) | ((buf[bufOffset + 8] & 0xFF) << 12) | ((buf[bufOffset + 9] & 0xFF) << 4) | ((buf[bufOffset + 10] & 0xFF) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 10] & 0xF) << 24) | ((buf[bufOffset + 11] & 0xFF) << 16) | ((buf[bufOffset + 12] & 0xFF) << 8) | (buf[bufOffset + 13] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 14] & 0xFF) << 20) | ((buf[bufOffset + 15] & 0xFF) << 12) | ((buf[bufOffset + 16] & 0xFF) << 4) | ((buf[bufOffset + 17] & 0xFF) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 17] & 0xF) << 24) | ((buf[bufOffset + 18] & 0xFF) << 16) | ((buf[bufOffset + 19] & 0xFF) << 8) | (buf[bufOffset + 20] & 0xFF);
+				values[valueOffset + 6] = ((buf[bufOffset + 21] & 0xFF) << 20) | ((buf[bufOffset + 22] & 0xFF) << 12) | ((buf[bufOffset + 23] & 0xFF) << 4) | ((buf[bufOffset + 24] & 0xFF) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 24] & 0xF) << 24) | ((buf[bufOffset + 25] & 0xFF) << 16) | ((buf[bufOffset + 26] & 0xFF) << 8) | (buf[bufOffset + 27] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 28;
+			}
+		}
+	}
+
+	private static final class Packer29 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 21);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 13);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 26));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 23));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 15);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 7);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 28));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 25));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 17);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 9);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 22));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 27));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 6] >>> 19);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 6] >>> 11);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 25] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 29;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 21) | ((buf[bufOffset + 1] & 0xFF) << 13) | ((buf[bufOffset + 2] & 0xFF) << 5) | ((buf[bufOffset + 3] & 0xFF) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x7) << 26) | ((buf[bufOffset + 4] & 0xFF) << 18) | ((buf[bufOffset + 5] & 0xFF) << 10) | ((buf[bufOffset + 6] & 0xFF) << 2) | ((buf[bufOffset + 7] & 0xFF) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 7] & 0x3F) << 23) | ((buf[bufOffset + 8] & 0xFF) << 15) | ((buf[bufOffset + 9] & 0xFF) << 7) | ((buf[bufOffset + 10] & 0xFF) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 10] & 0x1) << 28) | ((buf[bufOffset + 11] & 0xFF) << 20) | ((buf[bufOffset + 12] & 0xFF) << 12) | ((buf[bufOffset + 13] & 0xFF) << 4) | ((buf[bufOffset + 14] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 14] & 0xF) << 25) | ((buf[bufOffset + 15] & 0xFF) << 17) | ((buf[bufOffset + 16] & 0xFF) << 9) | ((buf[bufOffset + 17] & 0xFF) << 1) | ((buf[bufOffset + 18] & 0xFF) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 18] & 0x7F) << 22) | ((buf[bufOffset + 19] & 0xFF) << 14) | ((buf[bufOffset + 20] & 0xFF) << 6) | ((buf[bufOffset + 21] & 0xFF) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 21] & 0x3) << 27) | ((buf[bufOffset + 22] & 0xFF) << 19) | ((buf[bufOffset + 23] & 0xFF) << 11) | ((buf[bufOffset + 24] & 0xFF) << 3) | ((buf[bufOffset + 25] & 0xFF) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 25] & 0x1F) << 24) | ((buf[bufOffset + 26] & 0xFF) << 16) | ((buf[bufOffset + 27] & 0xFF) << 8) | (buf[bufOffset + 28] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 29;
+			}
+		}
+	}
+
+	private static final class Packer30 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 22);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 14);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 28));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 26));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 18);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 10);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 24));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 22);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 14);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 28));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 26));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 6] >>> 18);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 6] >>> 10);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 26] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 30;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 22) | ((buf[bufOffset + 1] & 0xFF) << 14) | ((buf[bufOffset + 2] & 0xFF) << 6) | ((buf[bufOffset + 3] & 0xFF) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x3) << 28) | ((buf[bufOffset + 4] & 0xFF) << 20) | ((buf[bufOffset + 5] & 0xFF) << 12) | ((buf[bufOffset + 6] & 0xFF) << 4) | ((buf[bufOffset + 7] & 0xFF) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 7] & 0xF) << 26) | ((buf[bufOffset + 8] & 0xFF) << 18) | ((buf[bufOffset + 9] & 0xFF) << 10) | ((buf[bufOffset + 10] & 0xFF) << 2) | ((buf[bufOffset + 11] & 0xFF) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 11] & 0x3F) << 24) | ((buf[bufOffset + 12] & 0xFF) << 16) | ((buf[bufOffset + 13] & 0xFF) << 8) | (buf[bufOffset + 14] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 15] & 0xFF) << 22) | ((buf[bufOffset + 16] & 0xFF) << 14) | ((buf[bufOffset + 17] & 0xFF) << 6) | ((buf[bufOffset + 18] & 0xFF) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 18] & 0x3) << 28) | ((buf[bufOffset + 19] & 0xFF) << 20) | ((buf[bufOffset + 20] & 0xFF) << 12) | ((buf[bufOffset + 21] & 0xFF) << 4) | ((buf[bufOffset + 22] & 0xFF) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 22] & 0xF) << 26) | ((buf[bufOffset + 23] & 0xFF) << 18) | ((buf[bufOffset + 24] & 0xFF) << 10) | ((buf[bufOffset + 25] & 0xFF) << 2) | ((buf[bufOffset + 26] & 0xFF) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 26] & 0x3F) << 24) | ((buf[bufOffset + 27] & 0xFF) << 16) | ((buf[bufOffset + 28] & 0xFF) << 8) | (buf[bufOffset + 29] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 30;
+			}
+		}
+	}
+
+	private static final class Packer31 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 23);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 15);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 30));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 29));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 21);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 13);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 28));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 27));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 19);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 11);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 26));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 25));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 6] >>> 17);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 6] >>> 9);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 27] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 31;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 23) | ((buf[bufOffset + 1] & 0xFF) << 15) | ((buf[bufOffset + 2] & 0xFF) << 7) | ((buf[bufOffset + 3] & 0xFF) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x1) << 30) | ((buf[bufOffset + 4] & 0xFF) << 22) | ((buf[bufOffset + 5] & 0xFF) << 14) | ((buf[bufOffset + 6] & 0xFF) << 6) | ((buf[bufOffset + 7] & 0xFF) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 7] & 0x3) << 29) | ((buf[bufOffset + 8] & 0xFF) << 21) | ((buf[bufOffset + 9] & 0xFF) << 13) | ((buf[bufOffset + 10] & 0xFF) << 5) | ((buf[bufOffset + 11] & 0xFF) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 11] & 0x7) << 28) | ((buf[bufOffset + 12] & 0xFF) << 20) | ((buf[bufOffset + 13] & 0xFF) << 12) | ((buf[bufOffset + 14] & 0xFF) << 4) | ((buf[bufOffset + 15] & 0xFF) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 15] & 0xF) << 27) | ((buf[bufOffset + 16] & 0xFF) << 19) | ((buf[bufOffset + 17] & 0xFF) << 11) | ((buf[bufOffset + 18] & 0xFF) << 3) | ((buf[bufOffset + 19] & 0xFF) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 19] & 0x1F) << 26) | ((buf[bufOffset + 20] & 0xFF) << 18) | ((buf[bufOffset + 21] & 0xFF) << 10) | ((buf[bufOffset + 22] & 0xFF) << 2) | ((buf[bufOffset + 23] & 0xFF) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 23] & 0x3F) << 25) | ((buf[bufOffset + 24] & 0xFF) << 17) | ((buf[bufOffset + 25] & 0xFF) << 9) | ((buf[bufOffset + 26] & 0xFF) << 1) | ((buf[bufOffset + 27] & 0xFF) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 27] & 0x7F) << 24) | ((buf[bufOffset + 28] & 0xFF) << 16) | ((buf[bufOffset + 29] & 0xFF) << 8) | (buf[bufOffset + 30] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 31;
+			}
+		}
+	}
+
+	private static final class Packer32 extends IntBitPacker {
+
+		@Override
+		void pack(int[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 24);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 16);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 3] = (byte) (values[valueOffset]);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 24);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 16);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 24);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 16);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 6] >>> 24);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 6] >>> 16);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 32;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, int[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFF) << 24) | ((buf[bufOffset + 1] & 0xFF) << 16) | ((buf[bufOffset + 2] & 0xFF) << 8) | (buf[bufOffset + 3] & 0xFF);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0xFF) << 24) | ((buf[bufOffset + 5] & 0xFF) << 16) | ((buf[bufOffset + 6] & 0xFF) << 8) | (buf[bufOffset + 7] & 0xFF);
+				values[valueOffset + 2] = ((buf[bufOffset + 8] & 0xFF) << 24) | ((buf[bufOffset + 9] & 0xFF) << 16) | ((buf[bufOffset + 10] & 0xFF) << 8) | (buf[bufOffset + 11] & 0xFF);
+				values[valueOffset + 3] = ((buf[bufOffset + 12] & 0xFF) << 24) | ((buf[bufOffset + 13] & 0xFF) << 16) | ((buf[bufOffset + 14] & 0xFF) << 8) | (buf[bufOffset + 15] & 0xFF);
+				values[valueOffset + 4] = ((buf[bufOffset + 16] & 0xFF) << 24) | ((buf[bufOffset + 17] & 0xFF) << 16) | ((buf[bufOffset + 18] & 0xFF) << 8) | (buf[bufOffset + 19] & 0xFF);
+				values[valueOffset + 5] = ((buf[bufOffset + 20] & 0xFF) << 24) | ((buf[bufOffset + 21] & 0xFF) << 16) | ((buf[bufOffset + 22] & 0xFF) << 8) | (buf[bufOffset + 23] & 0xFF);
+				values[valueOffset + 6] = ((buf[bufOffset + 24] & 0xFF) << 24) | ((buf[bufOffset + 25] & 0xFF) << 16) | ((buf[bufOffset + 26] & 0xFF) << 8) | (buf[bufOffset + 27] & 0xFF);
+				values[valueOffset + 7] = ((buf[bufOffset + 28] & 0xFF) << 24) | ((buf[bufOffset + 29] & 0xFF) << 16) | ((buf[bufOffset + 30] & 0xFF) << 8) | (buf[bufOffset + 31] & 0xFF);
+				valueOffset += 8;
+				bufOffset += 32;
+			}
+		}
+	}
+}
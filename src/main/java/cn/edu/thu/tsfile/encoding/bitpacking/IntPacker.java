@@ -1,5 +1,7 @@
 package cn.edu.thu.tsfile.encoding.bitpacking;
 
+import java.nio.ByteBuffer;
+
 /**
  * @author Zhang Jinrui
  * This class is used to encode(decode) Integer in Java with specified bit-width.
@@ -31,9 +33,13 @@ public class IntPacker {
      * Number of Integers for each pack operation
      */
     private static final int NUM_OF_INTS = 8;
-    
+    /**
+     * routines unrolled for current bit-width, selected when the width is set
+     */
+    private IntBitPacker packer;
+
     public IntPacker(int width) {
-        this.width = width;
+        setWidth(width);
     }
 
     /**
@@ -44,50 +50,22 @@ public class IntPacker {
      * @param buf - encoded bytes, buf size must be equal to ({@link IntPacker#NUM_OF_INTS} * {@link IntPacker#width} / 8)
      */
     public void pack8Values(int[] values, int offset, byte[] buf) {
-
-        int bufIdx = 0;
-        int valueIdx = offset;
-        //remaining bits for the current unfinished Integer
-        int leftBit = 0; 
-
-        while (valueIdx < NUM_OF_INTS + offset) {
-        		// buffer is used for saving 32 bits as a part of result
-            int buffer = 0;
-            // remaining size of bits in the 'buffer'
-            int leftSize = 32;
-
-            // encode the left bits of current Integer to 'buffer'
-            if (leftBit > 0) {
-            		buffer |= (values[valueIdx] << (32 - leftBit));
-            		leftSize -= leftBit;
-                valueIdx++;
-            }
-            
-            while (leftSize >= width && valueIdx < NUM_OF_INTS + offset) {
-            		//encode one Integer to the 'buffer'
-            		buffer |= (values[valueIdx] << (leftSize - width));
-            		leftSize -= width;
-                valueIdx++;
-            }
-            // If the remaining space of the buffer can not save the bits for one Integer,
-            if (leftSize > 0 && valueIdx < NUM_OF_INTS + offset) {
-            		// put the first 'leftSize' bits of the Integer into remaining space of the buffer 
-            		buffer |= (values[valueIdx] >>> (width - leftSize));
-                leftBit = width - leftSize;
-                leftSize = 0;
-            }
-
-            // put the buffer into the final result
-            for (int j = 0; j < 4; j++) {
-                buf[bufIdx] = (byte) ((buffer >>> ((3 - j) * 8)) & 0xFF);
-                bufIdx++;
-                if (bufIdx >= width) {
-                    return;
-                }
-            }
-        }
+        packer.pack(values, offset, 1, buf, 0);
     }
 
+    /**
+     * Encode groups of 8 ({@link IntPacker#NUM_OF_INTS}) Integers, each group takes
+     * {@link IntPacker#width} bytes in 'buf'
+     *
+     * @param values - array where Integers are in
+     * @param offset - the offset of first Integer to be encoded
+     * @param groups - number of groups to be encoded
+     * @param buf - array where encoded bytes are written
+     * @param bufOffset - the offset of first byte to be written in buf
+     */
+    public void packValues(int[] values, int offset, int groups, byte[] buf, int bufOffset) {
+        packer.pack(values, offset, groups, buf, bufOffset);
+    }
 
     /**
      * decode Integers from byte array.
@@ -96,31 +74,19 @@ public class IntPacker {
      * @param values - decoded result , the length of 'values' should be @{link IntPacker#NUM_OF_INTS}
      */
     public void unpack8Values(byte[] buf, int offset, int[] values) {
-    	
-        int byteIdx = offset;
-        long buffer = 0;
-        //total bits which have read from 'buf' to 'buffer'. i.e., number of avalible bits to be decoded.
-        int totalBits = 0;
-        int valueIdx = 0;
+        packer.unpack(buf, offset, 1, values, 0);
+    }
 
-        while (valueIdx < NUM_OF_INTS) {
-        	//If current avalible bits are not enough to decode one Integer, then add next byte from buf to 'buffer'
-        	//until totalBits >= width
-            while (totalBits < width) {
-            		buffer = ((buffer << 8) | (buf[byteIdx] & 0xFF));
-            		byteIdx++;
-            		totalBits += 8;
-            }
-            
-            //If current avalible bits are enough to decode one Integer, then decode one Integer one by one
-            //until left bits in 'buffer' is not enough to decode one Integer.
-            while (totalBits >= width && valueIdx < 8) {
-                values[valueIdx] = (int) (buffer >>> (totalBits - width));
-                valueIdx++;
-                totalBits -= width;
-                buffer = (buffer & ((1 << totalBits) - 1));
-            }
-        }
+    /**
+     * decode groups of 8 ({@link IntPacker#NUM_OF_INTS}) Integers from byte array.
+     * @param buf - array where bytes are in.
+     * @param offset - offset of first byte to be decoded in buf
+     * @param groups - number of groups to be decoded
+     * @param values - decoded result
+     * @param valueOffset - the offset of first decoded Integer in values
+     */
+    public void unpackValues(byte[] buf, int offset, int groups, int[] values, int valueOffset) {
+        packer.unpack(buf, offset, groups, values, valueOffset);
     }
 
     /**
@@ -132,21 +98,41 @@ public class IntPacker {
      * @param values: decoded result. 
      */
     public void unpackAllValues(byte[] buf, int offset, int length, int[] values) {
-        int idx = 0;
-        int k = 0;
-        while (idx < length) {
-            int[] tv = new int[8];
-            //decode 8 values one time, current result will be saved in the array named 'tv'
-            unpack8Values(buf, idx, tv);
-            for (int i = 0; i < 8; i++) {
-                values[k + i] = tv[i];
-            }
-            idx += width;
-            k += 8;
+        if (width == 0) {
+            return;
+        }
+        packer.unpack(buf, offset, (length + width - 1) / width, values, 0);
+    }
+
+    /**
+     * decode all values from 'buf' with specified offset and length, the position of 'buf' is
+     * not changed. decoded result will be saved in the array named 'values'.
+     * @param buf: buffer where all bytes are in.
+     * @param offset: the index of first byte to be decoded in buf.
+     * @param length: length of bytes to be decoded in buf.
+     * @param values: decoded result.
+     */
+    public void unpackAllValues(ByteBuffer buf, int offset, int length, int[] values) {
+        if (width == 0) {
+            return;
+        }
+        int groups = (length + width - 1) / width;
+        if (buf.hasArray()) {
+            packer.unpack(buf.array(), buf.arrayOffset() + offset, groups, values, 0);
+            return;
+        }
+        // copy a group into a heap array at a time, for a direct buffer
+        byte[] group = new byte[width];
+        ByteBuffer duplicate = buf.duplicate();
+        duplicate.position(offset);
+        for (int i = 0; i < groups; i++) {
+            duplicate.get(group, 0, Math.min(width, length - i * width));
+            packer.unpack(group, 0, 1, values, i * NUM_OF_INTS);
         }
     }
-    
+
     public void setWidth(int width) {
         this.width = width;
+        this.packer = IntBitPacker.of(width);
     }
 }
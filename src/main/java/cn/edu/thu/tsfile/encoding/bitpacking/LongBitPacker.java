@@ -0,0 +1,3937 @@
+package cn.edu.thu.tsfile.encoding.bitpacking;
+
+import java.util.Arrays;
+
+// This file is generated by src/main/python/gen_bit_packers.py, do not edit it by hand.
+
+/**
+ * LongBitPacker packs (unpacks) groups of 8 longs with a given bit-width, in the layout
+ * described in {@link LongPacker}. There is one subclass for each bit-width from 0 to 64,
+ * in which the shifts and masks of every value are unrolled into constants, so that the width
+ * is selected once for a block instead of being checked for every bit.
+ */
+abstract class LongBitPacker {
+
+	private static final LongBitPacker[] PACKERS = {
+		new Packer0(),
+		new Packer1(),
+		new Packer2(),
+		new Packer3(),
+		new Packer4(),
+		new Packer5(),
+		new Packer6(),
+		new Packer7(),
+		new Packer8(),
+		new Packer9(),
+		new Packer10(),
+		new Packer11(),
+		new Packer12(),
+		new Packer13(),
+		new Packer14(),
+		new Packer15(),
+		new Packer16(),
+		new Packer17(),
+		new Packer18(),
+		new Packer19(),
+		new Packer20(),
+		new Packer21(),
+		new Packer22(),
+		new Packer23(),
+		new Packer24(),
+		new Packer25(),
+		new Packer26(),
+		new Packer27(),
+		new Packer28(),
+		new Packer29(),
+		new Packer30(),
+		new Packer31(),
+		new Packer32(),
+		new Packer33(),
+		new Packer34(),
+		new Packer35(),
+		new Packer36(),
+		new Packer37(),
+		new Packer38(),
+		new Packer39(),
+		new Packer40(),
+		new Packer41(),
+		new Packer42(),
+		new Packer43(),
+		new Packer44(),
+		new Packer45(),
+		new Packer46(),
+		new Packer47(),
+		new Packer48(),
+		new Packer49(),
+		new Packer50(),
+		new Packer51(),
+		new Packer52(),
+		new Packer53(),
+		new Packer54(),
+		new Packer55(),
+		new Packer56(),
+		new Packer57(),
+		new Packer58(),
+		new Packer59(),
+		new Packer60(),
+		new Packer61(),
+		new Packer62(),
+		new Packer63(),
+		new Packer64()
+	};
+
+	/**
+	 * @param width - bit-width, from 0 to 64
+	 * @return the packer of the given bit-width
+	 */
+	static LongBitPacker of(int width) {
+		if (width < 0 || width > 64) {
+			throw new IllegalArgumentException("bit-width should be in [0, 64], but is " + width);
+		}
+		return PACKERS[width];
+	}
+
+	/**
+	 * encode {@code groups} groups of 8 longs from {@code values} into {@code buf}, every
+	 * group takes bit-width bytes
+	 *
+	 * @param values - array where values are in
+	 * @param valueOffset - index of the first value to be encoded
+	 * @param groups - number of groups to be encoded
+	 * @param buf - array where encoded bytes are written
+	 * @param bufOffset - index of the first byte to be written
+	 */
+	abstract void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset);
+
+	/**
+	 * decode {@code groups} groups of 8 longs from {@code buf} into {@code values}
+	 *
+	 * @param buf - array where encoded bytes are in
+	 * @param bufOffset - index of the first byte to be decoded
+	 * @param groups - number of groups to be decoded
+	 * @param values - array where decoded values are written
+	 * @param valueOffset - index of the first value to be written
+	 */
+	abstract void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset);
+
+
+	private static final class Packer0 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			Arrays.fill(values, valueOffset, valueOffset + groups * 8, 0);
+		}
+	}
+
+	private static final class Packer1 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] << 6) | (values[valueOffset + 2] << 5) | (values[valueOffset + 3] << 4) | (values[valueOffset + 4] << 3) | (values[valueOffset + 5] << 2) | (values[valueOffset + 6] << 1) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 1;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFFL) >>> 7;
+				values[valueOffset + 1] = (buf[bufOffset] & 0x7FL) >>> 6;
+				values[valueOffset + 2] = (buf[bufOffset] & 0x3FL) >>> 5;
+				values[valueOffset + 3] = (buf[bufOffset] & 0x1FL) >>> 4;
+				values[valueOffset + 4] = (buf[bufOffset] & 0xFL) >>> 3;
+				values[valueOffset + 5] = (buf[bufOffset] & 0x7L) >>> 2;
+				values[valueOffset + 6] = (buf[bufOffset] & 0x3L) >>> 1;
+				values[valueOffset + 7] = (buf[bufOffset] & 0x1L);
+				valueOffset += 8;
+				bufOffset += 1;
+			}
+		}
+	}
+
+	private static final class Packer2 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] << 4) | (values[valueOffset + 2] << 2) | values[valueOffset + 3]);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] << 4) | (values[valueOffset + 6] << 2) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 2;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFFL) >>> 6;
+				values[valueOffset + 1] = (buf[bufOffset] & 0x3FL) >>> 4;
+				values[valueOffset + 2] = (buf[bufOffset] & 0xFL) >>> 2;
+				values[valueOffset + 3] = (buf[bufOffset] & 0x3L);
+				values[valueOffset + 4] = (buf[bufOffset + 1] & 0xFFL) >>> 6;
+				values[valueOffset + 5] = (buf[bufOffset + 1] & 0x3FL) >>> 4;
+				values[valueOffset + 6] = (buf[bufOffset + 1] & 0xFL) >>> 2;
+				values[valueOffset + 7] = (buf[bufOffset + 1] & 0x3L);
+				valueOffset += 8;
+				bufOffset += 2;
+			}
+		}
+	}
+
+	private static final class Packer3 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 1));
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] << 4) | (values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 2));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] << 3) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 3;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFFL) >>> 5;
+				values[valueOffset + 1] = (buf[bufOffset] & 0x1FL) >>> 2;
+				values[valueOffset + 2] = ((buf[bufOffset] & 0x3L) << 1) | ((buf[bufOffset + 1] & 0xFFL) >>> 7);
+				values[valueOffset + 3] = (buf[bufOffset + 1] & 0x7FL) >>> 4;
+				values[valueOffset + 4] = (buf[bufOffset + 1] & 0xFL) >>> 1;
+				values[valueOffset + 5] = ((buf[bufOffset + 1] & 0x1L) << 2) | ((buf[bufOffset + 2] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = (buf[bufOffset + 2] & 0x3FL) >>> 3;
+				values[valueOffset + 7] = (buf[bufOffset + 2] & 0x7L);
+				valueOffset += 8;
+				bufOffset += 3;
+			}
+		}
+	}
+
+	private static final class Packer4 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 4) | values[valueOffset + 1]);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 2] << 4) | values[valueOffset + 3]);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 4] << 4) | values[valueOffset + 5]);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 6] << 4) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 4;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFFL) >>> 4;
+				values[valueOffset + 1] = (buf[bufOffset] & 0xFL);
+				values[valueOffset + 2] = (buf[bufOffset + 1] & 0xFFL) >>> 4;
+				values[valueOffset + 3] = (buf[bufOffset + 1] & 0xFL);
+				values[valueOffset + 4] = (buf[bufOffset + 2] & 0xFFL) >>> 4;
+				values[valueOffset + 5] = (buf[bufOffset + 2] & 0xFL);
+				values[valueOffset + 6] = (buf[bufOffset + 3] & 0xFFL) >>> 4;
+				values[valueOffset + 7] = (buf[bufOffset + 3] & 0xFL);
+				valueOffset += 8;
+				bufOffset += 4;
+			}
+		}
+	}
+
+	private static final class Packer5 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 2));
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 4));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 1));
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 3));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 6] << 5) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 5;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFFL) >>> 3;
+				values[valueOffset + 1] = ((buf[bufOffset] & 0x7L) << 2) | ((buf[bufOffset + 1] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = (buf[bufOffset + 1] & 0x3FL) >>> 1;
+				values[valueOffset + 3] = ((buf[bufOffset + 1] & 0x1L) << 4) | ((buf[bufOffset + 2] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 2] & 0xFL) << 1) | ((buf[bufOffset + 3] & 0xFFL) >>> 7);
+				values[valueOffset + 5] = (buf[bufOffset + 3] & 0x7FL) >>> 2;
+				values[valueOffset + 6] = ((buf[bufOffset + 3] & 0x3L) << 3) | ((buf[bufOffset + 4] & 0xFFL) >>> 5);
+				values[valueOffset + 7] = (buf[bufOffset + 4] & 0x1FL);
+				valueOffset += 8;
+				bufOffset += 5;
+			}
+		}
+	}
+
+	private static final class Packer6 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 4));
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 2));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 2] << 6) | values[valueOffset + 3]);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 4));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 2));
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 6] << 6) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 6;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFFL) >>> 2;
+				values[valueOffset + 1] = ((buf[bufOffset] & 0x3L) << 4) | ((buf[bufOffset + 1] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 1] & 0xFL) << 2) | ((buf[bufOffset + 2] & 0xFFL) >>> 6);
+				values[valueOffset + 3] = (buf[bufOffset + 2] & 0x3FL);
+				values[valueOffset + 4] = (buf[bufOffset + 3] & 0xFFL) >>> 2;
+				values[valueOffset + 5] = ((buf[bufOffset + 3] & 0x3L) << 4) | ((buf[bufOffset + 4] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 4] & 0xFL) << 2) | ((buf[bufOffset + 5] & 0xFFL) >>> 6);
+				values[valueOffset + 7] = (buf[bufOffset + 5] & 0x3FL);
+				valueOffset += 8;
+				bufOffset += 6;
+			}
+		}
+	}
+
+	private static final class Packer7 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 6));
+				buf[bufOffset + 1] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 5));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 4));
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 3));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 2));
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 1));
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 6] << 7) | values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 7;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFFL) >>> 1;
+				values[valueOffset + 1] = ((buf[bufOffset] & 0x1L) << 6) | ((buf[bufOffset + 1] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 1] & 0x3L) << 5) | ((buf[bufOffset + 2] & 0xFFL) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 2] & 0x7L) << 4) | ((buf[bufOffset + 3] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 3] & 0xFL) << 3) | ((buf[bufOffset + 4] & 0xFFL) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 4] & 0x1FL) << 2) | ((buf[bufOffset + 5] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 5] & 0x3FL) << 1) | ((buf[bufOffset + 6] & 0xFFL) >>> 7);
+				values[valueOffset + 7] = (buf[bufOffset + 6] & 0x7FL);
+				valueOffset += 8;
+				bufOffset += 7;
+			}
+		}
+	}
+
+	private static final class Packer8 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset]);
+				buf[bufOffset + 1] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 8;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = (buf[bufOffset] & 0xFFL);
+				values[valueOffset + 1] = (buf[bufOffset + 1] & 0xFFL);
+				values[valueOffset + 2] = (buf[bufOffset + 2] & 0xFFL);
+				values[valueOffset + 3] = (buf[bufOffset + 3] & 0xFFL);
+				values[valueOffset + 4] = (buf[bufOffset + 4] & 0xFFL);
+				values[valueOffset + 5] = (buf[bufOffset + 5] & 0xFFL);
+				values[valueOffset + 6] = (buf[bufOffset + 6] & 0xFFL);
+				values[valueOffset + 7] = (buf[bufOffset + 7] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 8;
+			}
+		}
+	}
+
+	private static final class Packer9 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 2));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 3));
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 4));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 5));
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 6));
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 7));
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 9;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 1) | ((buf[bufOffset + 1] & 0xFFL) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x7FL) << 2) | ((buf[bufOffset + 2] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 2] & 0x3FL) << 3) | ((buf[bufOffset + 3] & 0xFFL) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 3] & 0x1FL) << 4) | ((buf[bufOffset + 4] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 4] & 0xFL) << 5) | ((buf[bufOffset + 5] & 0xFFL) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 5] & 0x7L) << 6) | ((buf[bufOffset + 6] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 6] & 0x3L) << 7) | ((buf[bufOffset + 7] & 0xFFL) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 7] & 0x1L) << 8) | (buf[bufOffset + 8] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 9;
+			}
+		}
+	}
+
+	private static final class Packer10 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 4));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 6));
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 8));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 4));
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 6));
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 10;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 2) | ((buf[bufOffset + 1] & 0xFFL) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x3FL) << 4) | ((buf[bufOffset + 2] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 2] & 0xFL) << 6) | ((buf[bufOffset + 3] & 0xFFL) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 3] & 0x3L) << 8) | (buf[bufOffset + 4] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 5] & 0xFFL) << 2) | ((buf[bufOffset + 6] & 0xFFL) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 6] & 0x3FL) << 4) | ((buf[bufOffset + 7] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 7] & 0xFL) << 6) | ((buf[bufOffset + 8] & 0xFFL) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 8] & 0x3L) << 8) | (buf[bufOffset + 9] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 10;
+			}
+		}
+	}
+
+	private static final class Packer11 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 6));
+				buf[bufOffset + 2] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 9));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 4));
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 7));
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 10));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 5));
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 11;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 3) | ((buf[bufOffset + 1] & 0xFFL) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x1FL) << 6) | ((buf[bufOffset + 2] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 2] & 0x3L) << 9) | ((buf[bufOffset + 3] & 0xFFL) << 1) | ((buf[bufOffset + 4] & 0xFFL) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 4] & 0x7FL) << 4) | ((buf[bufOffset + 5] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 5] & 0xFL) << 7) | ((buf[bufOffset + 6] & 0xFFL) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 6] & 0x1L) << 10) | ((buf[bufOffset + 7] & 0xFFL) << 2) | ((buf[bufOffset + 8] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 8] & 0x3FL) << 5) | ((buf[bufOffset + 9] & 0xFFL) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 9] & 0x7L) << 8) | (buf[bufOffset + 10] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 11;
+			}
+		}
+	}
+
+	private static final class Packer12 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 8));
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 8));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 8));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 12;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 4) | ((buf[bufOffset + 1] & 0xFFL) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0xFL) << 8) | (buf[bufOffset + 2] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 3] & 0xFFL) << 4) | ((buf[bufOffset + 4] & 0xFFL) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 4] & 0xFL) << 8) | (buf[bufOffset + 5] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 6] & 0xFFL) << 4) | ((buf[bufOffset + 7] & 0xFFL) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 7] & 0xFL) << 8) | (buf[bufOffset + 8] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 9] & 0xFFL) << 4) | ((buf[bufOffset + 10] & 0xFFL) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 10] & 0xFL) << 8) | (buf[bufOffset + 11] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 12;
+			}
+		}
+	}
+
+	private static final class Packer13 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 10));
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 7));
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 12));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 9));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 6));
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 11));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 13;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 5) | ((buf[bufOffset + 1] & 0xFFL) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x7L) << 10) | ((buf[bufOffset + 2] & 0xFFL) << 2) | ((buf[bufOffset + 3] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 3] & 0x3FL) << 7) | ((buf[bufOffset + 4] & 0xFFL) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 4] & 0x1L) << 12) | ((buf[bufOffset + 5] & 0xFFL) << 4) | ((buf[bufOffset + 6] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 6] & 0xFL) << 9) | ((buf[bufOffset + 7] & 0xFFL) << 1) | ((buf[bufOffset + 8] & 0xFFL) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 8] & 0x7FL) << 6) | ((buf[bufOffset + 9] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 9] & 0x3L) << 11) | ((buf[bufOffset + 10] & 0xFFL) << 3) | ((buf[bufOffset + 11] & 0xFFL) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 11] & 0x1FL) << 8) | (buf[bufOffset + 12] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 13;
+			}
+		}
+	}
+
+	private static final class Packer14 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 12));
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 10));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 8));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 12));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 10));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 14;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 6) | ((buf[bufOffset + 1] & 0xFFL) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x3L) << 12) | ((buf[bufOffset + 2] & 0xFFL) << 4) | ((buf[bufOffset + 3] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 3] & 0xFL) << 10) | ((buf[bufOffset + 4] & 0xFFL) << 2) | ((buf[bufOffset + 5] & 0xFFL) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 5] & 0x3FL) << 8) | (buf[bufOffset + 6] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 7] & 0xFFL) << 6) | ((buf[bufOffset + 8] & 0xFFL) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 8] & 0x3L) << 12) | ((buf[bufOffset + 9] & 0xFFL) << 4) | ((buf[bufOffset + 10] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 10] & 0xFL) << 10) | ((buf[bufOffset + 11] & 0xFFL) << 2) | ((buf[bufOffset + 12] & 0xFFL) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 12] & 0x3FL) << 8) | (buf[bufOffset + 13] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 14;
+			}
+		}
+	}
+
+	private static final class Packer15 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 1] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 14));
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 13));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 12));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 11));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 10));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 9));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 8));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 15;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 7) | ((buf[bufOffset + 1] & 0xFFL) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 1] & 0x1L) << 14) | ((buf[bufOffset + 2] & 0xFFL) << 6) | ((buf[bufOffset + 3] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 3] & 0x3L) << 13) | ((buf[bufOffset + 4] & 0xFFL) << 5) | ((buf[bufOffset + 5] & 0xFFL) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 5] & 0x7L) << 12) | ((buf[bufOffset + 6] & 0xFFL) << 4) | ((buf[bufOffset + 7] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 7] & 0xFL) << 11) | ((buf[bufOffset + 8] & 0xFFL) << 3) | ((buf[bufOffset + 9] & 0xFFL) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 9] & 0x1FL) << 10) | ((buf[bufOffset + 10] & 0xFFL) << 2) | ((buf[bufOffset + 11] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 11] & 0x3FL) << 9) | ((buf[bufOffset + 12] & 0xFFL) << 1) | ((buf[bufOffset + 13] & 0xFFL) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 13] & 0x7FL) << 8) | (buf[bufOffset + 14] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 15;
+			}
+		}
+	}
+
+	private static final class Packer16 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 1] = (byte) (values[valueOffset]);
+				buf[bufOffset + 2] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 16;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 8) | (buf[bufOffset + 1] & 0xFFL);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0xFFL) << 8) | (buf[bufOffset + 3] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 4] & 0xFFL) << 8) | (buf[bufOffset + 5] & 0xFFL);
+				values[valueOffset + 3] = ((buf[bufOffset + 6] & 0xFFL) << 8) | (buf[bufOffset + 7] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 8] & 0xFFL) << 8) | (buf[bufOffset + 9] & 0xFFL);
+				values[valueOffset + 5] = ((buf[bufOffset + 10] & 0xFFL) << 8) | (buf[bufOffset + 11] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 12] & 0xFFL) << 8) | (buf[bufOffset + 13] & 0xFFL);
+				values[valueOffset + 7] = ((buf[bufOffset + 14] & 0xFFL) << 8) | (buf[bufOffset + 15] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 16;
+			}
+		}
+	}
+
+	private static final class Packer17 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 9);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 10));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 11));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2] >>> 3);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 12));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 13));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 4] >>> 5);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 14));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 15));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 6] >>> 7);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 17;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 9) | ((buf[bufOffset + 1] & 0xFFL) << 1) | ((buf[bufOffset + 2] & 0xFFL) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x7FL) << 10) | ((buf[bufOffset + 3] & 0xFFL) << 2) | ((buf[bufOffset + 4] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 4] & 0x3FL) << 11) | ((buf[bufOffset + 5] & 0xFFL) << 3) | ((buf[bufOffset + 6] & 0xFFL) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 6] & 0x1FL) << 12) | ((buf[bufOffset + 7] & 0xFFL) << 4) | ((buf[bufOffset + 8] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 8] & 0xFL) << 13) | ((buf[bufOffset + 9] & 0xFFL) << 5) | ((buf[bufOffset + 10] & 0xFFL) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 10] & 0x7L) << 14) | ((buf[bufOffset + 11] & 0xFFL) << 6) | ((buf[bufOffset + 12] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 12] & 0x3L) << 15) | ((buf[bufOffset + 13] & 0xFFL) << 7) | ((buf[bufOffset + 14] & 0xFFL) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 14] & 0x1L) << 16) | ((buf[bufOffset + 15] & 0xFFL) << 8) | (buf[bufOffset + 16] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 17;
+			}
+		}
+	}
+
+	private static final class Packer18 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 10);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 12));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 14));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2] >>> 6);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 16));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 4] >>> 10);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 12));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 14));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 6] >>> 6);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 18;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 10) | ((buf[bufOffset + 1] & 0xFFL) << 2) | ((buf[bufOffset + 2] & 0xFFL) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x3FL) << 12) | ((buf[bufOffset + 3] & 0xFFL) << 4) | ((buf[bufOffset + 4] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 4] & 0xFL) << 14) | ((buf[bufOffset + 5] & 0xFFL) << 6) | ((buf[bufOffset + 6] & 0xFFL) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 6] & 0x3L) << 16) | ((buf[bufOffset + 7] & 0xFFL) << 8) | (buf[bufOffset + 8] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 9] & 0xFFL) << 10) | ((buf[bufOffset + 10] & 0xFFL) << 2) | ((buf[bufOffset + 11] & 0xFFL) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 11] & 0x3FL) << 12) | ((buf[bufOffset + 12] & 0xFFL) << 4) | ((buf[bufOffset + 13] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 13] & 0xFL) << 14) | ((buf[bufOffset + 14] & 0xFFL) << 6) | ((buf[bufOffset + 15] & 0xFFL) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 15] & 0x3L) << 16) | ((buf[bufOffset + 16] & 0xFFL) << 8) | (buf[bufOffset + 17] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 18;
+			}
+		}
+	}
+
+	private static final class Packer19 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 11);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 14));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 17));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2] >>> 9);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 12));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 15));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 4] >>> 7);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 18));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 13));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 6] >>> 5);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 19;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 11) | ((buf[bufOffset + 1] & 0xFFL) << 3) | ((buf[bufOffset + 2] & 0xFFL) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x1FL) << 14) | ((buf[bufOffset + 3] & 0xFFL) << 6) | ((buf[bufOffset + 4] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 4] & 0x3L) << 17) | ((buf[bufOffset + 5] & 0xFFL) << 9) | ((buf[bufOffset + 6] & 0xFFL) << 1) | ((buf[bufOffset + 7] & 0xFFL) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 7] & 0x7FL) << 12) | ((buf[bufOffset + 8] & 0xFFL) << 4) | ((buf[bufOffset + 9] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 9] & 0xFL) << 15) | ((buf[bufOffset + 10] & 0xFFL) << 7) | ((buf[bufOffset + 11] & 0xFFL) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 11] & 0x1L) << 18) | ((buf[bufOffset + 12] & 0xFFL) << 10) | ((buf[bufOffset + 13] & 0xFFL) << 2) | ((buf[bufOffset + 14] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 14] & 0x3FL) << 13) | ((buf[bufOffset + 15] & 0xFFL) << 5) | ((buf[bufOffset + 16] & 0xFFL) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 16] & 0x7L) << 16) | ((buf[bufOffset + 17] & 0xFFL) << 8) | (buf[bufOffset + 18] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 19;
+			}
+		}
+	}
+
+	private static final class Packer20 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 12);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 16));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 2] >>> 12);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 16));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 4] >>> 12);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 16));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 6] >>> 12);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 20;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 12) | ((buf[bufOffset + 1] & 0xFFL) << 4) | ((buf[bufOffset + 2] & 0xFFL) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0xFL) << 16) | ((buf[bufOffset + 3] & 0xFFL) << 8) | (buf[bufOffset + 4] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 5] & 0xFFL) << 12) | ((buf[bufOffset + 6] & 0xFFL) << 4) | ((buf[bufOffset + 7] & 0xFFL) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 7] & 0xFL) << 16) | ((buf[bufOffset + 8] & 0xFFL) << 8) | (buf[bufOffset + 9] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 10] & 0xFFL) << 12) | ((buf[bufOffset + 11] & 0xFFL) << 4) | ((buf[bufOffset + 12] & 0xFFL) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 12] & 0xFL) << 16) | ((buf[bufOffset + 13] & 0xFFL) << 8) | (buf[bufOffset + 14] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 15] & 0xFFL) << 12) | ((buf[bufOffset + 16] & 0xFFL) << 4) | ((buf[bufOffset + 17] & 0xFFL) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 17] & 0xFL) << 16) | ((buf[bufOffset + 18] & 0xFFL) << 8) | (buf[bufOffset + 19] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 20;
+			}
+		}
+	}
+
+	private static final class Packer21 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 13);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 18));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 15));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 7);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 20));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 17));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 4] >>> 9);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 14));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 19));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 6] >>> 11);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 21;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 13) | ((buf[bufOffset + 1] & 0xFFL) << 5) | ((buf[bufOffset + 2] & 0xFFL) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x7L) << 18) | ((buf[bufOffset + 3] & 0xFFL) << 10) | ((buf[bufOffset + 4] & 0xFFL) << 2) | ((buf[bufOffset + 5] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 5] & 0x3FL) << 15) | ((buf[bufOffset + 6] & 0xFFL) << 7) | ((buf[bufOffset + 7] & 0xFFL) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 7] & 0x1L) << 20) | ((buf[bufOffset + 8] & 0xFFL) << 12) | ((buf[bufOffset + 9] & 0xFFL) << 4) | ((buf[bufOffset + 10] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 10] & 0xFL) << 17) | ((buf[bufOffset + 11] & 0xFFL) << 9) | ((buf[bufOffset + 12] & 0xFFL) << 1) | ((buf[bufOffset + 13] & 0xFFL) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 13] & 0x7FL) << 14) | ((buf[bufOffset + 14] & 0xFFL) << 6) | ((buf[bufOffset + 15] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 15] & 0x3L) << 19) | ((buf[bufOffset + 16] & 0xFFL) << 11) | ((buf[bufOffset + 17] & 0xFFL) << 3) | ((buf[bufOffset + 18] & 0xFFL) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 18] & 0x1FL) << 16) | ((buf[bufOffset + 19] & 0xFFL) << 8) | (buf[bufOffset + 20] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 21;
+			}
+		}
+	}
+
+	private static final class Packer22 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 14);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 20));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 18));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 10);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 16));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 4] >>> 14);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 20));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 18));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 6] >>> 10);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 22;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 14) | ((buf[bufOffset + 1] & 0xFFL) << 6) | ((buf[bufOffset + 2] & 0xFFL) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x3L) << 20) | ((buf[bufOffset + 3] & 0xFFL) << 12) | ((buf[bufOffset + 4] & 0xFFL) << 4) | ((buf[bufOffset + 5] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 5] & 0xFL) << 18) | ((buf[bufOffset + 6] & 0xFFL) << 10) | ((buf[bufOffset + 7] & 0xFFL) << 2) | ((buf[bufOffset + 8] & 0xFFL) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 8] & 0x3FL) << 16) | ((buf[bufOffset + 9] & 0xFFL) << 8) | (buf[bufOffset + 10] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 11] & 0xFFL) << 14) | ((buf[bufOffset + 12] & 0xFFL) << 6) | ((buf[bufOffset + 13] & 0xFFL) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 13] & 0x3L) << 20) | ((buf[bufOffset + 14] & 0xFFL) << 12) | ((buf[bufOffset + 15] & 0xFFL) << 4) | ((buf[bufOffset + 16] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 16] & 0xFL) << 18) | ((buf[bufOffset + 17] & 0xFFL) << 10) | ((buf[bufOffset + 18] & 0xFFL) << 2) | ((buf[bufOffset + 19] & 0xFFL) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 19] & 0x3FL) << 16) | ((buf[bufOffset + 20] & 0xFFL) << 8) | (buf[bufOffset + 21] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 22;
+			}
+		}
+	}
+
+	private static final class Packer23 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 15);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 2] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 22));
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 21));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 13);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 20));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 19));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 4] >>> 11);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 18));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 17));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 6] >>> 9);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 20] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 16));
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 23;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 15) | ((buf[bufOffset + 1] & 0xFFL) << 7) | ((buf[bufOffset + 2] & 0xFFL) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 2] & 0x1L) << 22) | ((buf[bufOffset + 3] & 0xFFL) << 14) | ((buf[bufOffset + 4] & 0xFFL) << 6) | ((buf[bufOffset + 5] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 5] & 0x3L) << 21) | ((buf[bufOffset + 6] & 0xFFL) << 13) | ((buf[bufOffset + 7] & 0xFFL) << 5) | ((buf[bufOffset + 8] & 0xFFL) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 8] & 0x7L) << 20) | ((buf[bufOffset + 9] & 0xFFL) << 12) | ((buf[bufOffset + 10] & 0xFFL) << 4) | ((buf[bufOffset + 11] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 11] & 0xFL) << 19) | ((buf[bufOffset + 12] & 0xFFL) << 11) | ((buf[bufOffset + 13] & 0xFFL) << 3) | ((buf[bufOffset + 14] & 0xFFL) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 14] & 0x1FL) << 18) | ((buf[bufOffset + 15] & 0xFFL) << 10) | ((buf[bufOffset + 16] & 0xFFL) << 2) | ((buf[bufOffset + 17] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 17] & 0x3FL) << 17) | ((buf[bufOffset + 18] & 0xFFL) << 9) | ((buf[bufOffset + 19] & 0xFFL) << 1) | ((buf[bufOffset + 20] & 0xFFL) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 20] & 0x7FL) << 16) | ((buf[bufOffset + 21] & 0xFFL) << 8) | (buf[bufOffset + 22] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 23;
+			}
+		}
+	}
+
+	private static final class Packer24 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 16);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 2] = (byte) (values[valueOffset]);
+				buf[bufOffset + 3] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 2] >>> 16);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 4] >>> 16);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 6] >>> 16);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 24;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 16) | ((buf[bufOffset + 1] & 0xFFL) << 8) | (buf[bufOffset + 2] & 0xFFL);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0xFFL) << 16) | ((buf[bufOffset + 4] & 0xFFL) << 8) | (buf[bufOffset + 5] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 6] & 0xFFL) << 16) | ((buf[bufOffset + 7] & 0xFFL) << 8) | (buf[bufOffset + 8] & 0xFFL);
+				values[valueOffset + 3] = ((buf[bufOffset + 9] & 0xFFL) << 16) | ((buf[bufOffset + 10] & 0xFFL) << 8) | (buf[bufOffset + 11] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 12] & 0xFFL) << 16) | ((buf[bufOffset + 13] & 0xFFL) << 8) | (buf[bufOffset + 14] & 0xFFL);
+				values[valueOffset + 5] = ((buf[bufOffset + 15] & 0xFFL) << 16) | ((buf[bufOffset + 16] & 0xFFL) << 8) | (buf[bufOffset + 17] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 18] & 0xFFL) << 16) | ((buf[bufOffset + 19] & 0xFFL) << 8) | (buf[bufOffset + 20] & 0xFFL);
+				values[valueOffset + 7] = ((buf[bufOffset + 21] & 0xFFL) << 16) | ((buf[bufOffset + 22] & 0xFFL) << 8) | (buf[bufOffset + 23] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 24;
+			}
+		}
+	}
+
+	private static final class Packer25 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 17);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 9);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 18));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 19));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 11);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 3);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 20));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 21));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 4] >>> 13);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4] >>> 5);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 22));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 23));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 6] >>> 15);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 6] >>> 7);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 25;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 17) | ((buf[bufOffset + 1] & 0xFFL) << 9) | ((buf[bufOffset + 2] & 0xFFL) << 1) | ((buf[bufOffset + 3] & 0xFFL) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x7FL) << 18) | ((buf[bufOffset + 4] & 0xFFL) << 10) | ((buf[bufOffset + 5] & 0xFFL) << 2) | ((buf[bufOffset + 6] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 6] & 0x3FL) << 19) | ((buf[bufOffset + 7] & 0xFFL) << 11) | ((buf[bufOffset + 8] & 0xFFL) << 3) | ((buf[bufOffset + 9] & 0xFFL) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 9] & 0x1FL) << 20) | ((buf[bufOffset + 10] & 0xFFL) << 12) | ((buf[bufOffset + 11] & 0xFFL) << 4) | ((buf[bufOffset + 12] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 12] & 0xFL) << 21) | ((buf[bufOffset + 13] & 0xFFL) << 13) | ((buf[bufOffset + 14] & 0xFFL) << 5) | ((buf[bufOffset + 15] & 0xFFL) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 15] & 0x7L) << 22) | ((buf[bufOffset + 16] & 0xFFL) << 14) | ((buf[bufOffset + 17] & 0xFFL) << 6) | ((buf[bufOffset + 18] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 18] & 0x3L) << 23) | ((buf[bufOffset + 19] & 0xFFL) << 15) | ((buf[bufOffset + 20] & 0xFFL) << 7) | ((buf[bufOffset + 21] & 0xFFL) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 21] & 0x1L) << 24) | ((buf[bufOffset + 22] & 0xFFL) << 16) | ((buf[bufOffset + 23] & 0xFFL) << 8) | (buf[bufOffset + 24] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 25;
+			}
+		}
+	}
+
+	private static final class Packer26 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 18);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 10);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 20));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 22));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 14);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 6);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 24));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 4] >>> 18);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4] >>> 10);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 20));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 22));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 6] >>> 14);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 6] >>> 6);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 26;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 18) | ((buf[bufOffset + 1] & 0xFFL) << 10) | ((buf[bufOffset + 2] & 0xFFL) << 2) | ((buf[bufOffset + 3] & 0xFFL) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x3FL) << 20) | ((buf[bufOffset + 4] & 0xFFL) << 12) | ((buf[bufOffset + 5] & 0xFFL) << 4) | ((buf[bufOffset + 6] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 6] & 0xFL) << 22) | ((buf[bufOffset + 7] & 0xFFL) << 14) | ((buf[bufOffset + 8] & 0xFFL) << 6) | ((buf[bufOffset + 9] & 0xFFL) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 9] & 0x3L) << 24) | ((buf[bufOffset + 10] & 0xFFL) << 16) | ((buf[bufOffset + 11] & 0xFFL) << 8) | (buf[bufOffset + 12] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 13] & 0xFFL) << 18) | ((buf[bufOffset + 14] & 0xFFL) << 10) | ((buf[bufOffset + 15] & 0xFFL) << 2) | ((buf[bufOffset + 16] & 0xFFL) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 16] & 0x3FL) << 20) | ((buf[bufOffset + 17] & 0xFFL) << 12) | ((buf[bufOffset + 18] & 0xFFL) << 4) | ((buf[bufOffset + 19] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 19] & 0xFL) << 22) | ((buf[bufOffset + 20] & 0xFFL) << 14) | ((buf[bufOffset + 21] & 0xFFL) << 6) | ((buf[bufOffset + 22] & 0xFFL) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 22] & 0x3L) << 24) | ((buf[bufOffset + 23] & 0xFFL) << 16) | ((buf[bufOffset + 24] & 0xFFL) << 8) | (buf[bufOffset + 25] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 26;
+			}
+		}
+	}
+
+	private static final class Packer27 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 19);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 11);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 22));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 25));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 17);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 9);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 20));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 23));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4] >>> 15);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 7);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 26));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 20] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 21));
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 6] >>> 13);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 6] >>> 5);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 27;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 19) | ((buf[bufOffset + 1] & 0xFFL) << 11) | ((buf[bufOffset + 2] & 0xFFL) << 3) | ((buf[bufOffset + 3] & 0xFFL) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x1FL) << 22) | ((buf[bufOffset + 4] & 0xFFL) << 14) | ((buf[bufOffset + 5] & 0xFFL) << 6) | ((buf[bufOffset + 6] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 6] & 0x3L) << 25) | ((buf[bufOffset + 7] & 0xFFL) << 17) | ((buf[bufOffset + 8] & 0xFFL) << 9) | ((buf[bufOffset + 9] & 0xFFL) << 1) | ((buf[bufOffset + 10] & 0xFFL) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 10] & 0x7FL) << 20) | ((buf[bufOffset + 11] & 0xFFL) << 12) | ((buf[bufOffset + 12] & 0xFFL) << 4) | ((buf[bufOffset + 13] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 13] & 0xFL) << 23) | ((buf[bufOffset + 14] & 0xFFL) << 15) | ((buf[bufOffset + 15] & 0xFFL) << 7) | ((buf[bufOffset + 16] & 0xFFL) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 16] & 0x1L) << 26) | ((buf[bufOffset + 17] & 0xFFL) << 18) | ((buf[bufOffset + 18] & 0xFFL) << 10) | ((buf[bufOffset + 19] & 0xFFL) << 2) | ((buf[bufOffset + 20] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 20] & 0x3FL) << 21) | ((buf[bufOffset + 21] & 0xFFL) << 13) | ((buf[bufOffset + 22] & 0xFFL) << 5) | ((buf[bufOffset + 23] & 0xFFL) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 23] & 0x7L) << 24) | ((buf[bufOffset + 24] & 0xFFL) << 16) | ((buf[bufOffset + 25] & 0xFFL) << 8) | (buf[bufOffset + 26] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 27;
+			}
+		}
+	}
+
+	private static final class Packer28 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 20);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 12);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 24));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 2] >>> 20);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 12);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 24));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 4] >>> 20);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 12);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 24));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 6] >>> 20);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 6] >>> 12);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 24] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 28;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 20) | ((buf[bufOffset + 1] & 0xFFL) << 12) | ((buf[bufOffset + 2] & 0xFFL) << 4) | ((buf[bufOffset + 3] & 0xFFL) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0xFL) << 24) | ((buf[bufOffset + 4] & 0xFFL) << 16) | ((buf[bufOffset + 5] & 0xFFL) << 8) | (buf[bufOffset + 6] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 7] & 0xFFL) << 20) | ((buf[bufOffset + 8] & 0xFFL) << 12) | ((buf[bufOffset + 9] & 0xFFL) << 4) | ((buf[bufOffset + 10] & 0xFFL) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 10] & 0xFL) << 24) | ((buf[bufOffset + 11] & 0xFFL) << 16) | ((buf[bufOffset + 12] & 0xFFL) << 8) | (buf[bufOffset + 13] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 14] & 0xFFL) << 20) | ((buf[bufOffset + 15] & 0xFFL) << 12) | ((buf[bufOffset + 16] & 0xFFL) << 4) | ((buf[bufOffset + 17] & 0xFFL) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 17] & 0xFL) << 24) | ((buf[bufOffset + 18] & 0xFFL) << 16) | ((buf[bufOffset + 19] & 0xFFL) << 8) | (buf[bufOffset + 20] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 21] & 0xFFL) << 20) | ((buf[bufOffset + 22] & 0xFFL) << 12) | ((buf[bufOffset + 23] & 0xFFL) << 4) | ((buf[bufOffset + 24] & 0xFFL) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 24] & 0xFL) << 24) | ((buf[bufOffset + 25] & 0xFFL) << 16) | ((buf[bufOffset + 26] & 0xFFL) << 8) | (buf[bufOffset + 27] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 28;
+			}
+		}
+	}
+
+	private static final class Packer29 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 21);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 13);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 26));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 23));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 15);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 7);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 28));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 25));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 17);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 9);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 22));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 27));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 6] >>> 19);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 6] >>> 11);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 25] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 29;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 21) | ((buf[bufOffset + 1] & 0xFFL) << 13) | ((buf[bufOffset + 2] & 0xFFL) << 5) | ((buf[bufOffset + 3] & 0xFFL) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x7L) << 26) | ((buf[bufOffset + 4] & 0xFFL) << 18) | ((buf[bufOffset + 5] & 0xFFL) << 10) | ((buf[bufOffset + 6] & 0xFFL) << 2) | ((buf[bufOffset + 7] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 7] & 0x3FL) << 23) | ((buf[bufOffset + 8] & 0xFFL) << 15) | ((buf[bufOffset + 9] & 0xFFL) << 7) | ((buf[bufOffset + 10] & 0xFFL) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 10] & 0x1L) << 28) | ((buf[bufOffset + 11] & 0xFFL) << 20) | ((buf[bufOffset + 12] & 0xFFL) << 12) | ((buf[bufOffset + 13] & 0xFFL) << 4) | ((buf[bufOffset + 14] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 14] & 0xFL) << 25) | ((buf[bufOffset + 15] & 0xFFL) << 17) | ((buf[bufOffset + 16] & 0xFFL) << 9) | ((buf[bufOffset + 17] & 0xFFL) << 1) | ((buf[bufOffset + 18] & 0xFFL) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 18] & 0x7FL) << 22) | ((buf[bufOffset + 19] & 0xFFL) << 14) | ((buf[bufOffset + 20] & 0xFFL) << 6) | ((buf[bufOffset + 21] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 21] & 0x3L) << 27) | ((buf[bufOffset + 22] & 0xFFL) << 19) | ((buf[bufOffset + 23] & 0xFFL) << 11) | ((buf[bufOffset + 24] & 0xFFL) << 3) | ((buf[bufOffset + 25] & 0xFFL) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 25] & 0x1FL) << 24) | ((buf[bufOffset + 26] & 0xFFL) << 16) | ((buf[bufOffset + 27] & 0xFFL) << 8) | (buf[bufOffset + 28] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 29;
+			}
+		}
+	}
+
+	private static final class Packer30 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 22);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 14);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 28));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 26));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 18);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 10);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 24));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 4] >>> 22);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 14);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 28));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 26));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 6] >>> 18);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 6] >>> 10);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 26] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 30;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 22) | ((buf[bufOffset + 1] & 0xFFL) << 14) | ((buf[bufOffset + 2] & 0xFFL) << 6) | ((buf[bufOffset + 3] & 0xFFL) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x3L) << 28) | ((buf[bufOffset + 4] & 0xFFL) << 20) | ((buf[bufOffset + 5] & 0xFFL) << 12) | ((buf[bufOffset + 6] & 0xFFL) << 4) | ((buf[bufOffset + 7] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 7] & 0xFL) << 26) | ((buf[bufOffset + 8] & 0xFFL) << 18) | ((buf[bufOffset + 9] & 0xFFL) << 10) | ((buf[bufOffset + 10] & 0xFFL) << 2) | ((buf[bufOffset + 11] & 0xFFL) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 11] & 0x3FL) << 24) | ((buf[bufOffset + 12] & 0xFFL) << 16) | ((buf[bufOffset + 13] & 0xFFL) << 8) | (buf[bufOffset + 14] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 15] & 0xFFL) << 22) | ((buf[bufOffset + 16] & 0xFFL) << 14) | ((buf[bufOffset + 17] & 0xFFL) << 6) | ((buf[bufOffset + 18] & 0xFFL) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 18] & 0x3L) << 28) | ((buf[bufOffset + 19] & 0xFFL) << 20) | ((buf[bufOffset + 20] & 0xFFL) << 12) | ((buf[bufOffset + 21] & 0xFFL) << 4) | ((buf[bufOffset + 22] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 22] & 0xFL) << 26) | ((buf[bufOffset + 23] & 0xFFL) << 18) | ((buf[bufOffset + 24] & 0xFFL) << 10) | ((buf[bufOffset + 25] & 0xFFL) << 2) | ((buf[bufOffset + 26] & 0xFFL) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 26] & 0x3FL) << 24) | ((buf[bufOffset + 27] & 0xFFL) << 16) | ((buf[bufOffset + 28] & 0xFFL) << 8) | (buf[bufOffset + 29] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 30;
+			}
+		}
+	}
+
+	private static final class Packer31 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 23);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 15);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 3] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 30));
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 29));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 21);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 13);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 28));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 27));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 19);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 11);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 26));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 25));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 6] >>> 17);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 6] >>> 9);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 27] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 24));
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 31;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 23) | ((buf[bufOffset + 1] & 0xFFL) << 15) | ((buf[bufOffset + 2] & 0xFFL) << 7) | ((buf[bufOffset + 3] & 0xFFL) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 3] & 0x1L) << 30) | ((buf[bufOffset + 4] & 0xFFL) << 22) | ((buf[bufOffset + 5] & 0xFFL) << 14) | ((buf[bufOffset + 6] & 0xFFL) << 6) | ((buf[bufOffset + 7] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 7] & 0x3L) << 29) | ((buf[bufOffset + 8] & 0xFFL) << 21) | ((buf[bufOffset + 9] & 0xFFL) << 13) | ((buf[bufOffset + 10] & 0xFFL) << 5) | ((buf[bufOffset + 11] & 0xFFL) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 11] & 0x7L) << 28) | ((buf[bufOffset + 12] & 0xFFL) << 20) | ((buf[bufOffset + 13] & 0xFFL) << 12) | ((buf[bufOffset + 14] & 0xFFL) << 4) | ((buf[bufOffset + 15] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 15] & 0xFL) << 27) | ((buf[bufOffset + 16] & 0xFFL) << 19) | ((buf[bufOffset + 17] & 0xFFL) << 11) | ((buf[bufOffset + 18] & 0xFFL) << 3) | ((buf[bufOffset + 19] & 0xFFL) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 19] & 0x1FL) << 26) | ((buf[bufOffset + 20] & 0xFFL) << 18) | ((buf[bufOffset + 21] & 0xFFL) << 10) | ((buf[bufOffset + 22] & 0xFFL) << 2) | ((buf[bufOffset + 23] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 23] & 0x3FL) << 25) | ((buf[bufOffset + 24] & 0xFFL) << 17) | ((buf[bufOffset + 25] & 0xFFL) << 9) | ((buf[bufOffset + 26] & 0xFFL) << 1) | ((buf[bufOffset + 27] & 0xFFL) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 27] & 0x7FL) << 24) | ((buf[bufOffset + 28] & 0xFFL) << 16) | ((buf[bufOffset + 29] & 0xFFL) << 8) | (buf[bufOffset + 30] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 31;
+			}
+		}
+	}
+
+	private static final class Packer32 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 24);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 16);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 3] = (byte) (values[valueOffset]);
+				buf[bufOffset + 4] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 2] >>> 24);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 16);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 4] >>> 24);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 16);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 6] >>> 24);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 6] >>> 16);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 32;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 24) | ((buf[bufOffset + 1] & 0xFFL) << 16) | ((buf[bufOffset + 2] & 0xFFL) << 8) | (buf[bufOffset + 3] & 0xFFL);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0xFFL) << 24) | ((buf[bufOffset + 5] & 0xFFL) << 16) | ((buf[bufOffset + 6] & 0xFFL) << 8) | (buf[bufOffset + 7] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 8] & 0xFFL) << 24) | ((buf[bufOffset + 9] & 0xFFL) << 16) | ((buf[bufOffset + 10] & 0xFFL) << 8) | (buf[bufOffset + 11] & 0xFFL);
+				values[valueOffset + 3] = ((buf[bufOffset + 12] & 0xFFL) << 24) | ((buf[bufOffset + 13] & 0xFFL) << 16) | ((buf[bufOffset + 14] & 0xFFL) << 8) | (buf[bufOffset + 15] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 16] & 0xFFL) << 24) | ((buf[bufOffset + 17] & 0xFFL) << 16) | ((buf[bufOffset + 18] & 0xFFL) << 8) | (buf[bufOffset + 19] & 0xFFL);
+				values[valueOffset + 5] = ((buf[bufOffset + 20] & 0xFFL) << 24) | ((buf[bufOffset + 21] & 0xFFL) << 16) | ((buf[bufOffset + 22] & 0xFFL) << 8) | (buf[bufOffset + 23] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 24] & 0xFFL) << 24) | ((buf[bufOffset + 25] & 0xFFL) << 16) | ((buf[bufOffset + 26] & 0xFFL) << 8) | (buf[bufOffset + 27] & 0xFFL);
+				values[valueOffset + 7] = ((buf[bufOffset + 28] & 0xFFL) << 24) | ((buf[bufOffset + 29] & 0xFFL) << 16) | ((buf[bufOffset + 30] & 0xFFL) << 8) | (buf[bufOffset + 31] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 32;
+			}
+		}
+	}
+
+	private static final class Packer33 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 25);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 17);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 9);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 26));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 27));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 19);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 11);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 3);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 28));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 29));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 21);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 4] >>> 13);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 4] >>> 5);
+				buf[bufOffset + 20] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 30));
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 5] >>> 22);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 24] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 31));
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 6] >>> 23);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 6] >>> 15);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 6] >>> 7);
+				buf[bufOffset + 28] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 32));
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 33;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 25) | ((buf[bufOffset + 1] & 0xFFL) << 17) | ((buf[bufOffset + 2] & 0xFFL) << 9) | ((buf[bufOffset + 3] & 0xFFL) << 1) | ((buf[bufOffset + 4] & 0xFFL) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0x7FL) << 26) | ((buf[bufOffset + 5] & 0xFFL) << 18) | ((buf[bufOffset + 6] & 0xFFL) << 10) | ((buf[bufOffset + 7] & 0xFFL) << 2) | ((buf[bufOffset + 8] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 8] & 0x3FL) << 27) | ((buf[bufOffset + 9] & 0xFFL) << 19) | ((buf[bufOffset + 10] & 0xFFL) << 11) | ((buf[bufOffset + 11] & 0xFFL) << 3) | ((buf[bufOffset + 12] & 0xFFL) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 12] & 0x1FL) << 28) | ((buf[bufOffset + 13] & 0xFFL) << 20) | ((buf[bufOffset + 14] & 0xFFL) << 12) | ((buf[bufOffset + 15] & 0xFFL) << 4) | ((buf[bufOffset + 16] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 16] & 0xFL) << 29) | ((buf[bufOffset + 17] & 0xFFL) << 21) | ((buf[bufOffset + 18] & 0xFFL) << 13) | ((buf[bufOffset + 19] & 0xFFL) << 5) | ((buf[bufOffset + 20] & 0xFFL) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 20] & 0x7L) << 30) | ((buf[bufOffset + 21] & 0xFFL) << 22) | ((buf[bufOffset + 22] & 0xFFL) << 14) | ((buf[bufOffset + 23] & 0xFFL) << 6) | ((buf[bufOffset + 24] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 24] & 0x3L) << 31) | ((buf[bufOffset + 25] & 0xFFL) << 23) | ((buf[bufOffset + 26] & 0xFFL) << 15) | ((buf[bufOffset + 27] & 0xFFL) << 7) | ((buf[bufOffset + 28] & 0xFFL) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 28] & 0x1L) << 32) | ((buf[bufOffset + 29] & 0xFFL) << 24) | ((buf[bufOffset + 30] & 0xFFL) << 16) | ((buf[bufOffset + 31] & 0xFFL) << 8) | (buf[bufOffset + 32] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 33;
+			}
+		}
+	}
+
+	private static final class Packer34 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 26);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 18);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 10);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 28));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 30));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 22);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 14);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 6);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 32));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 4] >>> 26);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 4] >>> 18);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 4] >>> 10);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 28));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 25] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 30));
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 6] >>> 22);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 6] >>> 14);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 6] >>> 6);
+				buf[bufOffset + 29] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 32));
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 34;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 26) | ((buf[bufOffset + 1] & 0xFFL) << 18) | ((buf[bufOffset + 2] & 0xFFL) << 10) | ((buf[bufOffset + 3] & 0xFFL) << 2) | ((buf[bufOffset + 4] & 0xFFL) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0x3FL) << 28) | ((buf[bufOffset + 5] & 0xFFL) << 20) | ((buf[bufOffset + 6] & 0xFFL) << 12) | ((buf[bufOffset + 7] & 0xFFL) << 4) | ((buf[bufOffset + 8] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 8] & 0xFL) << 30) | ((buf[bufOffset + 9] & 0xFFL) << 22) | ((buf[bufOffset + 10] & 0xFFL) << 14) | ((buf[bufOffset + 11] & 0xFFL) << 6) | ((buf[bufOffset + 12] & 0xFFL) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 12] & 0x3L) << 32) | ((buf[bufOffset + 13] & 0xFFL) << 24) | ((buf[bufOffset + 14] & 0xFFL) << 16) | ((buf[bufOffset + 15] & 0xFFL) << 8) | (buf[bufOffset + 16] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 17] & 0xFFL) << 26) | ((buf[bufOffset + 18] & 0xFFL) << 18) | ((buf[bufOffset + 19] & 0xFFL) << 10) | ((buf[bufOffset + 20] & 0xFFL) << 2) | ((buf[bufOffset + 21] & 0xFFL) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 21] & 0x3FL) << 28) | ((buf[bufOffset + 22] & 0xFFL) << 20) | ((buf[bufOffset + 23] & 0xFFL) << 12) | ((buf[bufOffset + 24] & 0xFFL) << 4) | ((buf[bufOffset + 25] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 25] & 0xFL) << 30) | ((buf[bufOffset + 26] & 0xFFL) << 22) | ((buf[bufOffset + 27] & 0xFFL) << 14) | ((buf[bufOffset + 28] & 0xFFL) << 6) | ((buf[bufOffset + 29] & 0xFFL) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 29] & 0x3L) << 32) | ((buf[bufOffset + 30] & 0xFFL) << 24) | ((buf[bufOffset + 31] & 0xFFL) << 16) | ((buf[bufOffset + 32] & 0xFFL) << 8) | (buf[bufOffset + 33] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 34;
+			}
+		}
+	}
+
+	private static final class Packer35 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 27);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 19);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 11);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 30));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 8] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 33));
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 25);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 17);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 9);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 28));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 31));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 4] >>> 23);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 4] >>> 15);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 4] >>> 7);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 34));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 5] >>> 26);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 26] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 29));
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 6] >>> 21);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 6] >>> 13);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 6] >>> 5);
+				buf[bufOffset + 30] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 32));
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 35;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 27) | ((buf[bufOffset + 1] & 0xFFL) << 19) | ((buf[bufOffset + 2] & 0xFFL) << 11) | ((buf[bufOffset + 3] & 0xFFL) << 3) | ((buf[bufOffset + 4] & 0xFFL) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0x1FL) << 30) | ((buf[bufOffset + 5] & 0xFFL) << 22) | ((buf[bufOffset + 6] & 0xFFL) << 14) | ((buf[bufOffset + 7] & 0xFFL) << 6) | ((buf[bufOffset + 8] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 8] & 0x3L) << 33) | ((buf[bufOffset + 9] & 0xFFL) << 25) | ((buf[bufOffset + 10] & 0xFFL) << 17) | ((buf[bufOffset + 11] & 0xFFL) << 9) | ((buf[bufOffset + 12] & 0xFFL) << 1) | ((buf[bufOffset + 13] & 0xFFL) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 13] & 0x7FL) << 28) | ((buf[bufOffset + 14] & 0xFFL) << 20) | ((buf[bufOffset + 15] & 0xFFL) << 12) | ((buf[bufOffset + 16] & 0xFFL) << 4) | ((buf[bufOffset + 17] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 17] & 0xFL) << 31) | ((buf[bufOffset + 18] & 0xFFL) << 23) | ((buf[bufOffset + 19] & 0xFFL) << 15) | ((buf[bufOffset + 20] & 0xFFL) << 7) | ((buf[bufOffset + 21] & 0xFFL) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 21] & 0x1L) << 34) | ((buf[bufOffset + 22] & 0xFFL) << 26) | ((buf[bufOffset + 23] & 0xFFL) << 18) | ((buf[bufOffset + 24] & 0xFFL) << 10) | ((buf[bufOffset + 25] & 0xFFL) << 2) | ((buf[bufOffset + 26] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 26] & 0x3FL) << 29) | ((buf[bufOffset + 27] & 0xFFL) << 21) | ((buf[bufOffset + 28] & 0xFFL) << 13) | ((buf[bufOffset + 29] & 0xFFL) << 5) | ((buf[bufOffset + 30] & 0xFFL) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 30] & 0x7L) << 32) | ((buf[bufOffset + 31] & 0xFFL) << 24) | ((buf[bufOffset + 32] & 0xFFL) << 16) | ((buf[bufOffset + 33] & 0xFFL) << 8) | (buf[bufOffset + 34] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 35;
+			}
+		}
+	}
+
+	private static final class Packer36 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 28);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 20);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 12);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 32));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 2] >>> 28);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 20);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 12);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 32));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 4] >>> 28);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 4] >>> 20);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 4] >>> 12);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 32));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 6] >>> 28);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 6] >>> 20);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 6] >>> 12);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 31] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 32));
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 36;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 28) | ((buf[bufOffset + 1] & 0xFFL) << 20) | ((buf[bufOffset + 2] & 0xFFL) << 12) | ((buf[bufOffset + 3] & 0xFFL) << 4) | ((buf[bufOffset + 4] & 0xFFL) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0xFL) << 32) | ((buf[bufOffset + 5] & 0xFFL) << 24) | ((buf[bufOffset + 6] & 0xFFL) << 16) | ((buf[bufOffset + 7] & 0xFFL) << 8) | (buf[bufOffset + 8] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 9] & 0xFFL) << 28) | ((buf[bufOffset + 10] & 0xFFL) << 20) | ((buf[bufOffset + 11] & 0xFFL) << 12) | ((buf[bufOffset + 12] & 0xFFL) << 4) | ((buf[bufOffset + 13] & 0xFFL) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 13] & 0xFL) << 32) | ((buf[bufOffset + 14] & 0xFFL) << 24) | ((buf[bufOffset + 15] & 0xFFL) << 16) | ((buf[bufOffset + 16] & 0xFFL) << 8) | (buf[bufOffset + 17] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 18] & 0xFFL) << 28) | ((buf[bufOffset + 19] & 0xFFL) << 20) | ((buf[bufOffset + 20] & 0xFFL) << 12) | ((buf[bufOffset + 21] & 0xFFL) << 4) | ((buf[bufOffset + 22] & 0xFFL) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 22] & 0xFL) << 32) | ((buf[bufOffset + 23] & 0xFFL) << 24) | ((buf[bufOffset + 24] & 0xFFL) << 16) | ((buf[bufOffset + 25] & 0xFFL) << 8) | (buf[bufOffset + 26] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 27] & 0xFFL) << 28) | ((buf[bufOffset + 28] & 0xFFL) << 20) | ((buf[bufOffset + 29] & 0xFFL) << 12) | ((buf[bufOffset + 30] & 0xFFL) << 4) | ((buf[bufOffset + 31] & 0xFFL) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 31] & 0xFL) << 32) | ((buf[bufOffset + 32] & 0xFFL) << 24) | ((buf[bufOffset + 33] & 0xFFL) << 16) | ((buf[bufOffset + 34] & 0xFFL) << 8) | (buf[bufOffset + 35] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 36;
+			}
+		}
+	}
+
+	private static final class Packer37 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 29);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 21);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 13);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 34));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 26);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 31));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 23);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 15);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 7);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 36));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 33));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 4] >>> 25);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 4] >>> 17);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 4] >>> 9);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 30));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 5] >>> 22);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 27] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 35));
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 6] >>> 27);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 6] >>> 19);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 6] >>> 11);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 32] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 32));
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 37;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 29) | ((buf[bufOffset + 1] & 0xFFL) << 21) | ((buf[bufOffset + 2] & 0xFFL) << 13) | ((buf[bufOffset + 3] & 0xFFL) << 5) | ((buf[bufOffset + 4] & 0xFFL) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0x7L) << 34) | ((buf[bufOffset + 5] & 0xFFL) << 26) | ((buf[bufOffset + 6] & 0xFFL) << 18) | ((buf[bufOffset + 7] & 0xFFL) << 10) | ((buf[bufOffset + 8] & 0xFFL) << 2) | ((buf[bufOffset + 9] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 9] & 0x3FL) << 31) | ((buf[bufOffset + 10] & 0xFFL) << 23) | ((buf[bufOffset + 11] & 0xFFL) << 15) | ((buf[bufOffset + 12] & 0xFFL) << 7) | ((buf[bufOffset + 13] & 0xFFL) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 13] & 0x1L) << 36) | ((buf[bufOffset + 14] & 0xFFL) << 28) | ((buf[bufOffset + 15] & 0xFFL) << 20) | ((buf[bufOffset + 16] & 0xFFL) << 12) | ((buf[bufOffset + 17] & 0xFFL) << 4) | ((buf[bufOffset + 18] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 18] & 0xFL) << 33) | ((buf[bufOffset + 19] & 0xFFL) << 25) | ((buf[bufOffset + 20] & 0xFFL) << 17) | ((buf[bufOffset + 21] & 0xFFL) << 9) | ((buf[bufOffset + 22] & 0xFFL) << 1) | ((buf[bufOffset + 23] & 0xFFL) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 23] & 0x7FL) << 30) | ((buf[bufOffset + 24] & 0xFFL) << 22) | ((buf[bufOffset + 25] & 0xFFL) << 14) | ((buf[bufOffset + 26] & 0xFFL) << 6) | ((buf[bufOffset + 27] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 27] & 0x3L) << 35) | ((buf[bufOffset + 28] & 0xFFL) << 27) | ((buf[bufOffset + 29] & 0xFFL) << 19) | ((buf[bufOffset + 30] & 0xFFL) << 11) | ((buf[bufOffset + 31] & 0xFFL) << 3) | ((buf[bufOffset + 32] & 0xFFL) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 32] & 0x1FL) << 32) | ((buf[bufOffset + 33] & 0xFFL) << 24) | ((buf[bufOffset + 34] & 0xFFL) << 16) | ((buf[bufOffset + 35] & 0xFFL) << 8) | (buf[bufOffset + 36] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 37;
+			}
+		}
+	}
+
+	private static final class Packer38 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 30);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 22);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 14);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 36));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 28);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 34));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 26);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 18);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 10);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 32));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 4] >>> 30);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 4] >>> 22);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 4] >>> 14);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 36));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 5] >>> 28);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 28] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 34));
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 6] >>> 26);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 6] >>> 18);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 6] >>> 10);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 33] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 32));
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 38;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 30) | ((buf[bufOffset + 1] & 0xFFL) << 22) | ((buf[bufOffset + 2] & 0xFFL) << 14) | ((buf[bufOffset + 3] & 0xFFL) << 6) | ((buf[bufOffset + 4] & 0xFFL) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0x3L) << 36) | ((buf[bufOffset + 5] & 0xFFL) << 28) | ((buf[bufOffset + 6] & 0xFFL) << 20) | ((buf[bufOffset + 7] & 0xFFL) << 12) | ((buf[bufOffset + 8] & 0xFFL) << 4) | ((buf[bufOffset + 9] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 9] & 0xFL) << 34) | ((buf[bufOffset + 10] & 0xFFL) << 26) | ((buf[bufOffset + 11] & 0xFFL) << 18) | ((buf[bufOffset + 12] & 0xFFL) << 10) | ((buf[bufOffset + 13] & 0xFFL) << 2) | ((buf[bufOffset + 14] & 0xFFL) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 14] & 0x3FL) << 32) | ((buf[bufOffset + 15] & 0xFFL) << 24) | ((buf[bufOffset + 16] & 0xFFL) << 16) | ((buf[bufOffset + 17] & 0xFFL) << 8) | (buf[bufOffset + 18] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 19] & 0xFFL) << 30) | ((buf[bufOffset + 20] & 0xFFL) << 22) | ((buf[bufOffset + 21] & 0xFFL) << 14) | ((buf[bufOffset + 22] & 0xFFL) << 6) | ((buf[bufOffset + 23] & 0xFFL) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 23] & 0x3L) << 36) | ((buf[bufOffset + 24] & 0xFFL) << 28) | ((buf[bufOffset + 25] & 0xFFL) << 20) | ((buf[bufOffset + 26] & 0xFFL) << 12) | ((buf[bufOffset + 27] & 0xFFL) << 4) | ((buf[bufOffset + 28] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 28] & 0xFL) << 34) | ((buf[bufOffset + 29] & 0xFFL) << 26) | ((buf[bufOffset + 30] & 0xFFL) << 18) | ((buf[bufOffset + 31] & 0xFFL) << 10) | ((buf[bufOffset + 32] & 0xFFL) << 2) | ((buf[bufOffset + 33] & 0xFFL) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 33] & 0x3FL) << 32) | ((buf[bufOffset + 34] & 0xFFL) << 24) | ((buf[bufOffset + 35] & 0xFFL) << 16) | ((buf[bufOffset + 36] & 0xFFL) << 8) | (buf[bufOffset + 37] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 38;
+			}
+		}
+	}
+
+	private static final class Packer39 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 31);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 23);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 15);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 4] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 38));
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 30);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 9] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 37));
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 29);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 21);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 13);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 36));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 35));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 4] >>> 27);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 4] >>> 19);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 4] >>> 11);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 24] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 34));
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 5] >>> 26);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 29] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 33));
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 6] >>> 25);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 6] >>> 17);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 6] >>> 9);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 34] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 32));
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 39;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 31) | ((buf[bufOffset + 1] & 0xFFL) << 23) | ((buf[bufOffset + 2] & 0xFFL) << 15) | ((buf[bufOffset + 3] & 0xFFL) << 7) | ((buf[bufOffset + 4] & 0xFFL) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 4] & 0x1L) << 38) | ((buf[bufOffset + 5] & 0xFFL) << 30) | ((buf[bufOffset + 6] & 0xFFL) << 22) | ((buf[bufOffset + 7] & 0xFFL) << 14) | ((buf[bufOffset + 8] & 0xFFL) << 6) | ((buf[bufOffset + 9] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 9] & 0x3L) << 37) | ((buf[bufOffset + 10] & 0xFFL) << 29) | ((buf[bufOffset + 11] & 0xFFL) << 21) | ((buf[bufOffset + 12] & 0xFFL) << 13) | ((buf[bufOffset + 13] & 0xFFL) << 5) | ((buf[bufOffset + 14] & 0xFFL) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 14] & 0x7L) << 36) | ((buf[bufOffset + 15] & 0xFFL) << 28) | ((buf[bufOffset + 16] & 0xFFL) << 20) | ((buf[bufOffset + 17] & 0xFFL) << 12) | ((buf[bufOffset + 18] & 0xFFL) << 4) | ((buf[bufOffset + 19] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 19] & 0xFL) << 35) | ((buf[bufOffset + 20] & 0xFFL) << 27) | ((buf[bufOffset + 21] & 0xFFL) << 19) | ((buf[bufOffset + 22] & 0xFFL) << 11) | ((buf[bufOffset + 23] & 0xFFL) << 3) | ((buf[bufOffset + 24] & 0xFFL) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 24] & 0x1FL) << 34) | ((buf[bufOffset + 25] & 0xFFL) << 26) | ((buf[bufOffset + 26] & 0xFFL) << 18) | ((buf[bufOffset + 27] & 0xFFL) << 10) | ((buf[bufOffset + 28] & 0xFFL) << 2) | ((buf[bufOffset + 29] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 29] & 0x3FL) << 33) | ((buf[bufOffset + 30] & 0xFFL) << 25) | ((buf[bufOffset + 31] & 0xFFL) << 17) | ((buf[bufOffset + 32] & 0xFFL) << 9) | ((buf[bufOffset + 33] & 0xFFL) << 1) | ((buf[bufOffset + 34] & 0xFFL) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 34] & 0x7FL) << 32) | ((buf[bufOffset + 35] & 0xFFL) << 24) | ((buf[bufOffset + 36] & 0xFFL) << 16) | ((buf[bufOffset + 37] & 0xFFL) << 8) | (buf[bufOffset + 38] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 39;
+			}
+		}
+	}
+
+	private static final class Packer40 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 32);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 24);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 16);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 4] = (byte) (values[valueOffset]);
+				buf[bufOffset + 5] = (byte) (values[valueOffset + 1] >>> 32);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 2] >>> 32);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 24);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 16);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 4] >>> 32);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 4] >>> 24);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 4] >>> 16);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 5] >>> 32);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 6] >>> 32);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 6] >>> 24);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 6] >>> 16);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 40;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 32) | ((buf[bufOffset + 1] & 0xFFL) << 24) | ((buf[bufOffset + 2] & 0xFFL) << 16) | ((buf[bufOffset + 3] & 0xFFL) << 8) | (buf[bufOffset + 4] & 0xFFL);
+				values[valueOffset + 1] = ((buf[bufOffset + 5] & 0xFFL) << 32) | ((buf[bufOffset + 6] & 0xFFL) << 24) | ((buf[bufOffset + 7] & 0xFFL) << 16) | ((buf[bufOffset + 8] & 0xFFL) << 8) | (buf[bufOffset + 9] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 10] & 0xFFL) << 32) | ((buf[bufOffset + 11] & 0xFFL) << 24) | ((buf[bufOffset + 12] & 0xFFL) << 16) | ((buf[bufOffset + 13] & 0xFFL) << 8) | (buf[bufOffset + 14] & 0xFFL);
+				values[valueOffset + 3] = ((buf[bufOffset + 15] & 0xFFL) << 32) | ((buf[bufOffset + 16] & 0xFFL) << 24) | ((buf[bufOffset + 17] & 0xFFL) << 16) | ((buf[bufOffset + 18] & 0xFFL) << 8) | (buf[bufOffset + 19] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 20] & 0xFFL) << 32) | ((buf[bufOffset + 21] & 0xFFL) << 24) | ((buf[bufOffset + 22] & 0xFFL) << 16) | ((buf[bufOffset + 23] & 0xFFL) << 8) | (buf[bufOffset + 24] & 0xFFL);
+				values[valueOffset + 5] = ((buf[bufOffset + 25] & 0xFFL) << 32) | ((buf[bufOffset + 26] & 0xFFL) << 24) | ((buf[bufOffset + 27] & 0xFFL) << 16) | ((buf[bufOffset + 28] & 0xFFL) << 8) | (buf[bufOffset + 29] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 30] & 0xFFL) << 32) | ((buf[bufOffset + 31] & 0xFFL) << 24) | ((buf[bufOffset + 32] & 0xFFL) << 16) | ((buf[bufOffset + 33] & 0xFFL) << 8) | (buf[bufOffset + 34] & 0xFFL);
+				values[valueOffset + 7] = ((buf[bufOffset + 35] & 0xFFL) << 32) | ((buf[bufOffset + 36] & 0xFFL) << 24) | ((buf[bufOffset + 37] & 0xFFL) << 16) | ((buf[bufOffset + 38] & 0xFFL) << 8) | (buf[bufOffset + 39] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 40;
+			}
+		}
+	}
+
+	private static final class Packer41 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 33);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 25);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 17);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 9);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 34));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 26);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 35));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 27);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 19);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 11);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 3);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 36));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 20] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 37));
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 4] >>> 29);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 4] >>> 21);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 4] >>> 13);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4] >>> 5);
+				buf[bufOffset + 25] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 38));
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 5] >>> 30);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 5] >>> 22);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 30] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 39));
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 6] >>> 31);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 6] >>> 23);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 6] >>> 15);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 6] >>> 7);
+				buf[bufOffset + 35] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 40));
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 41;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 33) | ((buf[bufOffset + 1] & 0xFFL) << 25) | ((buf[bufOffset + 2] & 0xFFL) << 17) | ((buf[bufOffset + 3] & 0xFFL) << 9) | ((buf[bufOffset + 4] & 0xFFL) << 1) | ((buf[bufOffset + 5] & 0xFFL) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 5] & 0x7FL) << 34) | ((buf[bufOffset + 6] & 0xFFL) << 26) | ((buf[bufOffset + 7] & 0xFFL) << 18) | ((buf[bufOffset + 8] & 0xFFL) << 10) | ((buf[bufOffset + 9] & 0xFFL) << 2) | ((buf[bufOffset + 10] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 10] & 0x3FL) << 35) | ((buf[bufOffset + 11] & 0xFFL) << 27) | ((buf[bufOffset + 12] & 0xFFL) << 19) | ((buf[bufOffset + 13] & 0xFFL) << 11) | ((buf[bufOffset + 14] & 0xFFL) << 3) | ((buf[bufOffset + 15] & 0xFFL) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 15] & 0x1FL) << 36) | ((buf[bufOffset + 16] & 0xFFL) << 28) | ((buf[bufOffset + 17] & 0xFFL) << 20) | ((buf[bufOffset + 18] & 0xFFL) << 12) | ((buf[bufOffset + 19] & 0xFFL) << 4) | ((buf[bufOffset + 20] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 20] & 0xFL) << 37) | ((buf[bufOffset + 21] & 0xFFL) << 29) | ((buf[bufOffset + 22] & 0xFFL) << 21) | ((buf[bufOffset + 23] & 0xFFL) << 13) | ((buf[bufOffset + 24] & 0xFFL) << 5) | ((buf[bufOffset + 25] & 0xFFL) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 25] & 0x7L) << 38) | ((buf[bufOffset + 26] & 0xFFL) << 30) | ((buf[bufOffset + 27] & 0xFFL) << 22) | ((buf[bufOffset + 28] & 0xFFL) << 14) | ((buf[bufOffset + 29] & 0xFFL) << 6) | ((buf[bufOffset + 30] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 30] & 0x3L) << 39) | ((buf[bufOffset + 31] & 0xFFL) << 31) | ((buf[bufOffset + 32] & 0xFFL) << 23) | ((buf[bufOffset + 33] & 0xFFL) << 15) | ((buf[bufOffset + 34] & 0xFFL) << 7) | ((buf[bufOffset + 35] & 0xFFL) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 35] & 0x1L) << 40) | ((buf[bufOffset + 36] & 0xFFL) << 32) | ((buf[bufOffset + 37] & 0xFFL) << 24) | ((buf[bufOffset + 38] & 0xFFL) << 16) | ((buf[bufOffset + 39] & 0xFFL) << 8) | (buf[bufOffset + 40] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 41;
+			}
+		}
+	}
+
+	private static final class Packer42 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 34);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 26);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 18);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 10);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 36));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 28);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 38));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 30);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 22);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 14);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 6);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 40));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 4] >>> 34);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 4] >>> 26);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 4] >>> 18);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4] >>> 10);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 26] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 36));
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 5] >>> 28);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 31] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 38));
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 6] >>> 30);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 6] >>> 22);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 6] >>> 14);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 6] >>> 6);
+				buf[bufOffset + 36] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 40));
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 42;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 34) | ((buf[bufOffset + 1] & 0xFFL) << 26) | ((buf[bufOffset + 2] & 0xFFL) << 18) | ((buf[bufOffset + 3] & 0xFFL) << 10) | ((buf[bufOffset + 4] & 0xFFL) << 2) | ((buf[bufOffset + 5] & 0xFFL) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 5] & 0x3FL) << 36) | ((buf[bufOffset + 6] & 0xFFL) << 28) | ((buf[bufOffset + 7] & 0xFFL) << 20) | ((buf[bufOffset + 8] & 0xFFL) << 12) | ((buf[bufOffset + 9] & 0xFFL) << 4) | ((buf[bufOffset + 10] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 10] & 0xFL) << 38) | ((buf[bufOffset + 11] & 0xFFL) << 30) | ((buf[bufOffset + 12] & 0xFFL) << 22) | ((buf[bufOffset + 13] & 0xFFL) << 14) | ((buf[bufOffset + 14] & 0xFFL) << 6) | ((buf[bufOffset + 15] & 0xFFL) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 15] & 0x3L) << 40) | ((buf[bufOffset + 16] & 0xFFL) << 32) | ((buf[bufOffset + 17] & 0xFFL) << 24) | ((buf[bufOffset + 18] & 0xFFL) << 16) | ((buf[bufOffset + 19] & 0xFFL) << 8) | (buf[bufOffset + 20] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 21] & 0xFFL) << 34) | ((buf[bufOffset + 22] & 0xFFL) << 26) | ((buf[bufOffset + 23] & 0xFFL) << 18) | ((buf[bufOffset + 24] & 0xFFL) << 10) | ((buf[bufOffset + 25] & 0xFFL) << 2) | ((buf[bufOffset + 26] & 0xFFL) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 26] & 0x3FL) << 36) | ((buf[bufOffset + 27] & 0xFFL) << 28) | ((buf[bufOffset + 28] & 0xFFL) << 20) | ((buf[bufOffset + 29] & 0xFFL) << 12) | ((buf[bufOffset + 30] & 0xFFL) << 4) | ((buf[bufOffset + 31] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 31] & 0xFL) << 38) | ((buf[bufOffset + 32] & 0xFFL) << 30) | ((buf[bufOffset + 33] & 0xFFL) << 22) | ((buf[bufOffset + 34] & 0xFFL) << 14) | ((buf[bufOffset + 35] & 0xFFL) << 6) | ((buf[bufOffset + 36] & 0xFFL) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 36] & 0x3L) << 40) | ((buf[bufOffset + 37] & 0xFFL) << 32) | ((buf[bufOffset + 38] & 0xFFL) << 24) | ((buf[bufOffset + 39] & 0xFFL) << 16) | ((buf[bufOffset + 40] & 0xFFL) << 8) | (buf[bufOffset + 41] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 42;
+			}
+		}
+	}
+
+	private static final class Packer43 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 35);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 27);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 19);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 11);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 38));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 30);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 10] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 41));
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 33);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 25);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 17);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 9);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 36));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 39));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 4] >>> 31);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 4] >>> 23);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4] >>> 15);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 7);
+				buf[bufOffset + 26] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 42));
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 5] >>> 34);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 5] >>> 26);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 32] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 37));
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 6] >>> 29);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 6] >>> 21);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 6] >>> 13);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 6] >>> 5);
+				buf[bufOffset + 37] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 40));
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 43;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 35) | ((buf[bufOffset + 1] & 0xFFL) << 27) | ((buf[bufOffset + 2] & 0xFFL) << 19) | ((buf[bufOffset + 3] & 0xFFL) << 11) | ((buf[bufOffset + 4] & 0xFFL) << 3) | ((buf[bufOffset + 5] & 0xFFL) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 5] & 0x1FL) << 38) | ((buf[bufOffset + 6] & 0xFFL) << 30) | ((buf[bufOffset + 7] & 0xFFL) << 22) | ((buf[bufOffset + 8] & 0xFFL) << 14) | ((buf[bufOffset + 9] & 0xFFL) << 6) | ((buf[bufOffset + 10] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 10] & 0x3L) << 41) | ((buf[bufOffset + 11] & 0xFFL) << 33) | ((buf[bufOffset + 12] & 0xFFL) << 25) | ((buf[bufOffset + 13] & 0xFFL) << 17) | ((buf[bufOffset + 14] & 0xFFL) << 9) | ((buf[bufOffset + 15] & 0xFFL) << 1) | ((buf[bufOffset + 16] & 0xFFL) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 16] & 0x7FL) << 36) | ((buf[bufOffset + 17] & 0xFFL) << 28) | ((buf[bufOffset + 18] & 0xFFL) << 20) | ((buf[bufOffset + 19] & 0xFFL) << 12) | ((buf[bufOffset + 20] & 0xFFL) << 4) | ((buf[bufOffset + 21] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 21] & 0xFL) << 39) | ((buf[bufOffset + 22] & 0xFFL) << 31) | ((buf[bufOffset + 23] & 0xFFL) << 23) | ((buf[bufOffset + 24] & 0xFFL) << 15) | ((buf[bufOffset + 25] & 0xFFL) << 7) | ((buf[bufOffset + 26] & 0xFFL) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 26] & 0x1L) << 42) | ((buf[bufOffset + 27] & 0xFFL) << 34) | ((buf[bufOffset + 28] & 0xFFL) << 26) | ((buf[bufOffset + 29] & 0xFFL) << 18) | ((buf[bufOffset + 30] & 0xFFL) << 10) | ((buf[bufOffset + 31] & 0xFFL) << 2) | ((buf[bufOffset + 32] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 32] & 0x3FL) << 37) | ((buf[bufOffset + 33] & 0xFFL) << 29) | ((buf[bufOffset + 34] & 0xFFL) << 21) | ((buf[bufOffset + 35] & 0xFFL) << 13) | ((buf[bufOffset + 36] & 0xFFL) << 5) | ((buf[bufOffset + 37] & 0xFFL) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 37] & 0x7L) << 40) | ((buf[bufOffset + 38] & 0xFFL) << 32) | ((buf[bufOffset + 39] & 0xFFL) << 24) | ((buf[bufOffset + 40] & 0xFFL) << 16) | ((buf[bufOffset + 41] & 0xFFL) << 8) | (buf[bufOffset + 42] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 43;
+			}
+		}
+	}
+
+	private static final class Packer44 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 36);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 28);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 20);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 12);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 40));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 32);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 2] >>> 36);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 28);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 20);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 12);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 40));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 4] >>> 36);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 4] >>> 28);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4] >>> 20);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 12);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 27] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 40));
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 5] >>> 32);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 6] >>> 36);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 6] >>> 28);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 6] >>> 20);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 6] >>> 12);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 38] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 40));
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 44;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 36) | ((buf[bufOffset + 1] & 0xFFL) << 28) | ((buf[bufOffset + 2] & 0xFFL) << 20) | ((buf[bufOffset + 3] & 0xFFL) << 12) | ((buf[bufOffset + 4] & 0xFFL) << 4) | ((buf[bufOffset + 5] & 0xFFL) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 5] & 0xFL) << 40) | ((buf[bufOffset + 6] & 0xFFL) << 32) | ((buf[bufOffset + 7] & 0xFFL) << 24) | ((buf[bufOffset + 8] & 0xFFL) << 16) | ((buf[bufOffset + 9] & 0xFFL) << 8) | (buf[bufOffset + 10] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 11] & 0xFFL) << 36) | ((buf[bufOffset + 12] & 0xFFL) << 28) | ((buf[bufOffset + 13] & 0xFFL) << 20) | ((buf[bufOffset + 14] & 0xFFL) << 12) | ((buf[bufOffset + 15] & 0xFFL) << 4) | ((buf[bufOffset + 16] & 0xFFL) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 16] & 0xFL) << 40) | ((buf[bufOffset + 17] & 0xFFL) << 32) | ((buf[bufOffset + 18] & 0xFFL) << 24) | ((buf[bufOffset + 19] & 0xFFL) << 16) | ((buf[bufOffset + 20] & 0xFFL) << 8) | (buf[bufOffset + 21] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 22] & 0xFFL) << 36) | ((buf[bufOffset + 23] & 0xFFL) << 28) | ((buf[bufOffset + 24] & 0xFFL) << 20) | ((buf[bufOffset + 25] & 0xFFL) << 12) | ((buf[bufOffset + 26] & 0xFFL) << 4) | ((buf[bufOffset + 27] & 0xFFL) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 27] & 0xFL) << 40) | ((buf[bufOffset + 28] & 0xFFL) << 32) | ((buf[bufOffset + 29] & 0xFFL) << 24) | ((buf[bufOffset + 30] & 0xFFL) << 16) | ((buf[bufOffset + 31] & 0xFFL) << 8) | (buf[bufOffset + 32] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 33] & 0xFFL) << 36) | ((buf[bufOffset + 34] & 0xFFL) << 28) | ((buf[bufOffset + 35] & 0xFFL) << 20) | ((buf[bufOffset + 36] & 0xFFL) << 12) | ((buf[bufOffset + 37] & 0xFFL) << 4) | ((buf[bufOffset + 38] & 0xFFL) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 38] & 0xFL) << 40) | ((buf[bufOffset + 39] & 0xFFL) << 32) | ((buf[bufOffset + 40] & 0xFFL) << 24) | ((buf[bufOffset + 41] & 0xFFL) << 16) | ((buf[bufOffset + 42] & 0xFFL) << 8) | (buf[bufOffset + 43] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 44;
+			}
+		}
+	}
+
+	private static final class Packer45 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 37);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 29);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 21);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 13);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 42));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 34);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 26);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 39));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 31);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 23);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 15);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 7);
+				buf[bufOffset + 16] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 44));
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 41));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 4] >>> 33);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4] >>> 25);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 17);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 9);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 28] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 38));
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 5] >>> 30);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 5] >>> 22);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 33] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 43));
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 6] >>> 35);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 6] >>> 27);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 6] >>> 19);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 6] >>> 11);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 39] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 40));
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 45;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 37) | ((buf[bufOffset + 1] & 0xFFL) << 29) | ((buf[bufOffset + 2] & 0xFFL) << 21) | ((buf[bufOffset + 3] & 0xFFL) << 13) | ((buf[bufOffset + 4] & 0xFFL) << 5) | ((buf[bufOffset + 5] & 0xFFL) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 5] & 0x7L) << 42) | ((buf[bufOffset + 6] & 0xFFL) << 34) | ((buf[bufOffset + 7] & 0xFFL) << 26) | ((buf[bufOffset + 8] & 0xFFL) << 18) | ((buf[bufOffset + 9] & 0xFFL) << 10) | ((buf[bufOffset + 10] & 0xFFL) << 2) | ((buf[bufOffset + 11] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 11] & 0x3FL) << 39) | ((buf[bufOffset + 12] & 0xFFL) << 31) | ((buf[bufOffset + 13] & 0xFFL) << 23) | ((buf[bufOffset + 14] & 0xFFL) << 15) | ((buf[bufOffset + 15] & 0xFFL) << 7) | ((buf[bufOffset + 16] & 0xFFL) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 16] & 0x1L) << 44) | ((buf[bufOffset + 17] & 0xFFL) << 36) | ((buf[bufOffset + 18] & 0xFFL) << 28) | ((buf[bufOffset + 19] & 0xFFL) << 20) | ((buf[bufOffset + 20] & 0xFFL) << 12) | ((buf[bufOffset + 21] & 0xFFL) << 4) | ((buf[bufOffset + 22] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 22] & 0xFL) << 41) | ((buf[bufOffset + 23] & 0xFFL) << 33) | ((buf[bufOffset + 24] & 0xFFL) << 25) | ((buf[bufOffset + 25] & 0xFFL) << 17) | ((buf[bufOffset + 26] & 0xFFL) << 9) | ((buf[bufOffset + 27] & 0xFFL) << 1) | ((buf[bufOffset + 28] & 0xFFL) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 28] & 0x7FL) << 38) | ((buf[bufOffset + 29] & 0xFFL) << 30) | ((buf[bufOffset + 30] & 0xFFL) << 22) | ((buf[bufOffset + 31] & 0xFFL) << 14) | ((buf[bufOffset + 32] & 0xFFL) << 6) | ((buf[bufOffset + 33] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 33] & 0x3L) << 43) | ((buf[bufOffset + 34] & 0xFFL) << 35) | ((buf[bufOffset + 35] & 0xFFL) << 27) | ((buf[bufOffset + 36] & 0xFFL) << 19) | ((buf[bufOffset + 37] & 0xFFL) << 11) | ((buf[bufOffset + 38] & 0xFFL) << 3) | ((buf[bufOffset + 39] & 0xFFL) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 39] & 0x1FL) << 40) | ((buf[bufOffset + 40] & 0xFFL) << 32) | ((buf[bufOffset + 41] & 0xFFL) << 24) | ((buf[bufOffset + 42] & 0xFFL) << 16) | ((buf[bufOffset + 43] & 0xFFL) << 8) | (buf[bufOffset + 44] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 45;
+			}
+		}
+	}
+
+	private static final class Packer46 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 38);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 30);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 22);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 14);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 44));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 36);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 28);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 42));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 34);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 26);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 18);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 10);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 40));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 4] >>> 38);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4] >>> 30);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 22);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 14);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 28] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 44));
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 5] >>> 36);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 5] >>> 28);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 34] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 42));
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 6] >>> 34);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 6] >>> 26);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 6] >>> 18);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 6] >>> 10);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 40] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 40));
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 46;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 38) | ((buf[bufOffset + 1] & 0xFFL) << 30) | ((buf[bufOffset + 2] & 0xFFL) << 22) | ((buf[bufOffset + 3] & 0xFFL) << 14) | ((buf[bufOffset + 4] & 0xFFL) << 6) | ((buf[bufOffset + 5] & 0xFFL) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 5] & 0x3L) << 44) | ((buf[bufOffset + 6] & 0xFFL) << 36) | ((buf[bufOffset + 7] & 0xFFL) << 28) | ((buf[bufOffset + 8] & 0xFFL) << 20) | ((buf[bufOffset + 9] & 0xFFL) << 12) | ((buf[bufOffset + 10] & 0xFFL) << 4) | ((buf[bufOffset + 11] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 11] & 0xFL) << 42) | ((buf[bufOffset + 12] & 0xFFL) << 34) | ((buf[bufOffset + 13] & 0xFFL) << 26) | ((buf[bufOffset + 14] & 0xFFL) << 18) | ((buf[bufOffset + 15] & 0xFFL) << 10) | ((buf[bufOffset + 16] & 0xFFL) << 2) | ((buf[bufOffset + 17] & 0xFFL) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 17] & 0x3FL) << 40) | ((buf[bufOffset + 18] & 0xFFL) << 32) | ((buf[bufOffset + 19] & 0xFFL) << 24) | ((buf[bufOffset + 20] & 0xFFL) << 16) | ((buf[bufOffset + 21] & 0xFFL) << 8) | (buf[bufOffset + 22] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 23] & 0xFFL) << 38) | ((buf[bufOffset + 24] & 0xFFL) << 30) | ((buf[bufOffset + 25] & 0xFFL) << 22) | ((buf[bufOffset + 26] & 0xFFL) << 14) | ((buf[bufOffset + 27] & 0xFFL) << 6) | ((buf[bufOffset + 28] & 0xFFL) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 28] & 0x3L) << 44) | ((buf[bufOffset + 29] & 0xFFL) << 36) | ((buf[bufOffset + 30] & 0xFFL) << 28) | ((buf[bufOffset + 31] & 0xFFL) << 20) | ((buf[bufOffset + 32] & 0xFFL) << 12) | ((buf[bufOffset + 33] & 0xFFL) << 4) | ((buf[bufOffset + 34] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 34] & 0xFL) << 42) | ((buf[bufOffset + 35] & 0xFFL) << 34) | ((buf[bufOffset + 36] & 0xFFL) << 26) | ((buf[bufOffset + 37] & 0xFFL) << 18) | ((buf[bufOffset + 38] & 0xFFL) << 10) | ((buf[bufOffset + 39] & 0xFFL) << 2) | ((buf[bufOffset + 40] & 0xFFL) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 40] & 0x3FL) << 40) | ((buf[bufOffset + 41] & 0xFFL) << 32) | ((buf[bufOffset + 42] & 0xFFL) << 24) | ((buf[bufOffset + 43] & 0xFFL) << 16) | ((buf[bufOffset + 44] & 0xFFL) << 8) | (buf[bufOffset + 45] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 46;
+			}
+		}
+	}
+
+	private static final class Packer47 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 39);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 31);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 23);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 15);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 5] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 46));
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 38);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 30);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 11] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 45));
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 37);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 29);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 21);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 13);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 17] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 44));
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 43));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4] >>> 35);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 27);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 19);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 11);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 29] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 42));
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 5] >>> 34);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 5] >>> 26);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 35] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 41));
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 6] >>> 33);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 6] >>> 25);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 6] >>> 17);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 6] >>> 9);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 41] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 40));
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 47;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 39) | ((buf[bufOffset + 1] & 0xFFL) << 31) | ((buf[bufOffset + 2] & 0xFFL) << 23) | ((buf[bufOffset + 3] & 0xFFL) << 15) | ((buf[bufOffset + 4] & 0xFFL) << 7) | ((buf[bufOffset + 5] & 0xFFL) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 5] & 0x1L) << 46) | ((buf[bufOffset + 6] & 0xFFL) << 38) | ((buf[bufOffset + 7] & 0xFFL) << 30) | ((buf[bufOffset + 8] & 0xFFL) << 22) | ((buf[bufOffset + 9] & 0xFFL) << 14) | ((buf[bufOffset + 10] & 0xFFL) << 6) | ((buf[bufOffset + 11] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 11] & 0x3L) << 45) | ((buf[bufOffset + 12] & 0xFFL) << 37) | ((buf[bufOffset + 13] & 0xFFL) << 29) | ((buf[bufOffset + 14] & 0xFFL) << 21) | ((buf[bufOffset + 15] & 0xFFL) << 13) | ((buf[bufOffset + 16] & 0xFFL) << 5) | ((buf[bufOffset + 17] & 0xFFL) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 17] & 0x7L) << 44) | ((buf[bufOffset + 18] & 0xFFL) << 36) | ((buf[bufOffset + 19] & 0xFFL) << 28) | ((buf[bufOffset + 20] & 0xFFL) << 20) | ((buf[bufOffset + 21] & 0xFFL) << 12) | ((buf[bufOffset + 22] & 0xFFL) << 4) | ((buf[bufOffset + 23] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 23] & 0xFL) << 43) | ((buf[bufOffset + 24] & 0xFFL) << 35) | ((buf[bufOffset + 25] & 0xFFL) << 27) | ((buf[bufOffset + 26] & 0xFFL) << 19) | ((buf[bufOffset + 27] & 0xFFL) << 11) | ((buf[bufOffset + 28] & 0xFFL) << 3) | ((buf[bufOffset + 29] & 0xFFL) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 29] & 0x1FL) << 42) | ((buf[bufOffset + 30] & 0xFFL) << 34) | ((buf[bufOffset + 31] & 0xFFL) << 26) | ((buf[bufOffset + 32] & 0xFFL) << 18) | ((buf[bufOffset + 33] & 0xFFL) << 10) | ((buf[bufOffset + 34] & 0xFFL) << 2) | ((buf[bufOffset + 35] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 35] & 0x3FL) << 41) | ((buf[bufOffset + 36] & 0xFFL) << 33) | ((buf[bufOffset + 37] & 0xFFL) << 25) | ((buf[bufOffset + 38] & 0xFFL) << 17) | ((buf[bufOffset + 39] & 0xFFL) << 9) | ((buf[bufOffset + 40] & 0xFFL) << 1) | ((buf[bufOffset + 41] & 0xFFL) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 41] & 0x7FL) << 40) | ((buf[bufOffset + 42] & 0xFFL) << 32) | ((buf[bufOffset + 43] & 0xFFL) << 24) | ((buf[bufOffset + 44] & 0xFFL) << 16) | ((buf[bufOffset + 45] & 0xFFL) << 8) | (buf[bufOffset + 46] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 47;
+			}
+		}
+	}
+
+	private static final class Packer48 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 40);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 32);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 24);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 16);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 5] = (byte) (values[valueOffset]);
+				buf[bufOffset + 6] = (byte) (values[valueOffset + 1] >>> 40);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 32);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 2] >>> 40);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 32);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 24);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 16);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 4] >>> 40);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 32);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 24);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 16);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 5] >>> 40);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 5] >>> 32);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 6] >>> 40);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 6] >>> 32);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 6] >>> 24);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 6] >>> 16);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 48;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 40) | ((buf[bufOffset + 1] & 0xFFL) << 32) | ((buf[bufOffset + 2] & 0xFFL) << 24) | ((buf[bufOffset + 3] & 0xFFL) << 16) | ((buf[bufOffset + 4] & 0xFFL) << 8) | (buf[bufOffset + 5] & 0xFFL);
+				values[valueOffset + 1] = ((buf[bufOffset + 6] & 0xFFL) << 40) | ((buf[bufOffset + 7] & 0xFFL) << 32) | ((buf[bufOffset + 8] & 0xFFL) << 24) | ((buf[bufOffset + 9] & 0xFFL) << 16) | ((buf[bufOffset + 10] & 0xFFL) << 8) | (buf[bufOffset + 11] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 12] & 0xFFL) << 40) | ((buf[bufOffset + 13] & 0xFFL) << 32) | ((buf[bufOffset + 14] & 0xFFL) << 24) | ((buf[bufOffset + 15] & 0xFFL) << 16) | ((buf[bufOffset + 16] & 0xFFL) << 8) | (buf[bufOffset + 17] & 0xFFL);
+				values[valueOffset + 3] = ((buf[bufOffset + 18] & 0xFFL) << 40) | ((buf[bufOffset + 19] & 0xFFL) << 32) | ((buf[bufOffset + 20] & 0xFFL) << 24) | ((buf[bufOffset + 21] & 0xFFL) << 16) | ((buf[bufOffset + 22] & 0xFFL) << 8) | (buf[bufOffset + 23] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 24] & 0xFFL) << 40) | ((buf[bufOffset + 25] & 0xFFL) << 32) | ((buf[bufOffset + 26] & 0xFFL) << 24) | ((buf[bufOffset + 27] & 0xFFL) << 16) | ((buf[bufOffset + 28] & 0xFFL) << 8) | (buf[bufOffset + 29] & 0xFFL);
+				values[valueOffset + 5] = ((buf[bufOffset + 30] & 0xFFL) << 40) | ((buf[bufOffset + 31] & 0xFFL) << 32) | ((buf[bufOffset + 32] & 0xFFL) << 24) | ((buf[bufOffset + 33] & 0xFFL) << 16) | ((buf[bufOffset + 34] & 0xFFL) << 8) | (buf[bufOffset + 35] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 36] & 0xFFL) << 40) | ((buf[bufOffset + 37] & 0xFFL) << 32) | ((buf[bufOffset + 38] & 0xFFL) << 24) | ((buf[bufOffset + 39] & 0xFFL) << 16) | ((buf[bufOffset + 40] & 0xFFL) << 8) | (buf[bufOffset + 41] & 0xFFL);
+				values[valueOffset + 7] = ((buf[bufOffset + 42] & 0xFFL) << 40) | ((buf[bufOffset + 43] & 0xFFL) << 32) | ((buf[bufOffset + 44] & 0xFFL) << 24) | ((buf[bufOffset + 45] & 0xFFL) << 16) | ((buf[bufOffset + 46] & 0xFFL) << 8) | (buf[bufOffset + 47] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 48;
+			}
+		}
+	}
+
+	private static final class Packer49 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 41);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 33);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 25);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 17);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 9);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 42));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 34);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 26);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 43));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 35);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 27);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 19);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 11);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 3);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 44));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 24] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 45));
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 37);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 29);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 21);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 13);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 5);
+				buf[bufOffset + 30] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 46));
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 5] >>> 38);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 5] >>> 30);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 5] >>> 22);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 36] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 47));
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 6] >>> 39);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 6] >>> 31);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 6] >>> 23);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 6] >>> 15);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 6] >>> 7);
+				buf[bufOffset + 42] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 48));
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 49;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 41) | ((buf[bufOffset + 1] & 0xFFL) << 33) | ((buf[bufOffset + 2] & 0xFFL) << 25) | ((buf[bufOffset + 3] & 0xFFL) << 17) | ((buf[bufOffset + 4] & 0xFFL) << 9) | ((buf[bufOffset + 5] & 0xFFL) << 1) | ((buf[bufOffset + 6] & 0xFFL) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 6] & 0x7FL) << 42) | ((buf[bufOffset + 7] & 0xFFL) << 34) | ((buf[bufOffset + 8] & 0xFFL) << 26) | ((buf[bufOffset + 9] & 0xFFL) << 18) | ((buf[bufOffset + 10] & 0xFFL) << 10) | ((buf[bufOffset + 11] & 0xFFL) << 2) | ((buf[bufOffset + 12] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 12] & 0x3FL) << 43) | ((buf[bufOffset + 13] & 0xFFL) << 35) | ((buf[bufOffset + 14] & 0xFFL) << 27) | ((buf[bufOffset + 15] & 0xFFL) << 19) | ((buf[bufOffset + 16] & 0xFFL) << 11) | ((buf[bufOffset + 17] & 0xFFL) << 3) | ((buf[bufOffset + 18] & 0xFFL) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 18] & 0x1FL) << 44) | ((buf[bufOffset + 19] & 0xFFL) << 36) | ((buf[bufOffset + 20] & 0xFFL) << 28) | ((buf[bufOffset + 21] & 0xFFL) << 20) | ((buf[bufOffset + 22] & 0xFFL) << 12) | ((buf[bufOffset + 23] & 0xFFL) << 4) | ((buf[bufOffset + 24] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 24] & 0xFL) << 45) | ((buf[bufOffset + 25] & 0xFFL) << 37) | ((buf[bufOffset + 26] & 0xFFL) << 29) | ((buf[bufOffset + 27] & 0xFFL) << 21) | ((buf[bufOffset + 28] & 0xFFL) << 13) | ((buf[bufOffset + 29] & 0xFFL) << 5) | ((buf[bufOffset + 30] & 0xFFL) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 30] & 0x7L) << 46) | ((buf[bufOffset + 31] & 0xFFL) << 38) | ((buf[bufOffset + 32] & 0xFFL) << 30) | ((buf[bufOffset + 33] & 0xFFL) << 22) | ((buf[bufOffset + 34] & 0xFFL) << 14) | ((buf[bufOffset + 35] & 0xFFL) << 6) | ((buf[bufOffset + 36] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 36] & 0x3L) << 47) | ((buf[bufOffset + 37] & 0xFFL) << 39) | ((buf[bufOffset + 38] & 0xFFL) << 31) | ((buf[bufOffset + 39] & 0xFFL) << 23) | ((buf[bufOffset + 40] & 0xFFL) << 15) | ((buf[bufOffset + 41] & 0xFFL) << 7) | ((buf[bufOffset + 42] & 0xFFL) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 42] & 0x1L) << 48) | ((buf[bufOffset + 43] & 0xFFL) << 40) | ((buf[bufOffset + 44] & 0xFFL) << 32) | ((buf[bufOffset + 45] & 0xFFL) << 24) | ((buf[bufOffset + 46] & 0xFFL) << 16) | ((buf[bufOffset + 47] & 0xFFL) << 8) | (buf[bufOffset + 48] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 49;
+			}
+		}
+	}
+
+	private static final class Packer50 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 42);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 34);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 26);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 18);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 10);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 44));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 36);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 28);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 46));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 38);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 30);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 22);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 14);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 6);
+				buf[bufOffset + 18] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 48));
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 4] >>> 42);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 34);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 26);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 18);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 10);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 31] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 44));
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 5] >>> 36);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 5] >>> 28);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 37] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 46));
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 6] >>> 38);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 6] >>> 30);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 6] >>> 22);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 6] >>> 14);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 6] >>> 6);
+				buf[bufOffset + 43] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 48));
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 50;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 42) | ((buf[bufOffset + 1] & 0xFFL) << 34) | ((buf[bufOffset + 2] & 0xFFL) << 26) | ((buf[bufOffset + 3] & 0xFFL) << 18) | ((buf[bufOffset + 4] & 0xFFL) << 10) | ((buf[bufOffset + 5] & 0xFFL) << 2) | ((buf[bufOffset + 6] & 0xFFL) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 6] & 0x3FL) << 44) | ((buf[bufOffset + 7] & 0xFFL) << 36) | ((buf[bufOffset + 8] & 0xFFL) << 28) | ((buf[bufOffset + 9] & 0xFFL) << 20) | ((buf[bufOffset + 10] & 0xFFL) << 12) | ((buf[bufOffset + 11] & 0xFFL) << 4) | ((buf[bufOffset + 12] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 12] & 0xFL) << 46) | ((buf[bufOffset + 13] & 0xFFL) << 38) | ((buf[bufOffset + 14] & 0xFFL) << 30) | ((buf[bufOffset + 15] & 0xFFL) << 22) | ((buf[bufOffset + 16] & 0xFFL) << 14) | ((buf[bufOffset + 17] & 0xFFL) << 6) | ((buf[bufOffset + 18] & 0xFFL) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 18] & 0x3L) << 48) | ((buf[bufOffset + 19] & 0xFFL) << 40) | ((buf[bufOffset + 20] & 0xFFL) << 32) | ((buf[bufOffset + 21] & 0xFFL) << 24) | ((buf[bufOffset + 22] & 0xFFL) << 16) | ((buf[bufOffset + 23] & 0xFFL) << 8) | (buf[bufOffset + 24] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 25] & 0xFFL) << 42) | ((buf[bufOffset + 26] & 0xFFL) << 34) | ((buf[bufOffset + 27] & 0xFFL) << 26) | ((buf[bufOffset + 28] & 0xFFL) << 18) | ((buf[bufOffset + 29] & 0xFFL) << 10) | ((buf[bufOffset + 30] & 0xFFL) << 2) | ((buf[bufOffset + 31] & 0xFFL) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 31] & 0x3FL) << 44) | ((buf[bufOffset + 32] & 0xFFL) << 36) | ((buf[bufOffset + 33] & 0xFFL) << 28) | ((buf[bufOffset + 34] & 0xFFL) << 20) | ((buf[bufOffset + 35] & 0xFFL) << 12) | ((buf[bufOffset + 36] & 0xFFL) << 4) | ((buf[bufOffset + 37] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 37] & 0xFL) << 46) | ((buf[bufOffset + 38] & 0xFFL) << 38) | ((buf[bufOffset + 39] & 0xFFL) << 30) | ((buf[bufOffset + 40] & 0xFFL) << 22) | ((buf[bufOffset + 41] & 0xFFL) << 14) | ((buf[bufOffset + 42] & 0xFFL) << 6) | ((buf[bufOffset + 43] & 0xFFL) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 43] & 0x3L) << 48) | ((buf[bufOffset + 44] & 0xFFL) << 40) | ((buf[bufOffset + 45] & 0xFFL) << 32) | ((buf[bufOffset + 46] & 0xFFL) << 24) | ((buf[bufOffset + 47] & 0xFFL) << 16) | ((buf[bufOffset + 48] & 0xFFL) << 8) | (buf[bufOffset + 49] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 50;
+			}
+		}
+	}
+
+	private static final class Packer51 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 43);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 35);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 27);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 19);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 11);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 46));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 38);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 30);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 12] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 49));
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 41);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 33);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 25);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 17);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 9);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 44));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 25] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 47));
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 39);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 31);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 23);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 15);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 7);
+				buf[bufOffset + 31] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 50));
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 5] >>> 42);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 5] >>> 34);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 5] >>> 26);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 38] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 45));
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 6] >>> 37);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 6] >>> 29);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 6] >>> 21);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 6] >>> 13);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 6] >>> 5);
+				buf[bufOffset + 44] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 48));
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 51;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 43) | ((buf[bufOffset + 1] & 0xFFL) << 35) | ((buf[bufOffset + 2] & 0xFFL) << 27) | ((buf[bufOffset + 3] & 0xFFL) << 19) | ((buf[bufOffset + 4] & 0xFFL) << 11) | ((buf[bufOffset + 5] & 0xFFL) << 3) | ((buf[bufOffset + 6] & 0xFFL) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 6] & 0x1FL) << 46) | ((buf[bufOffset + 7] & 0xFFL) << 38) | ((buf[bufOffset + 8] & 0xFFL) << 30) | ((buf[bufOffset + 9] & 0xFFL) << 22) | ((buf[bufOffset + 10] & 0xFFL) << 14) | ((buf[bufOffset + 11] & 0xFFL) << 6) | ((buf[bufOffset + 12] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 12] & 0x3L) << 49) | ((buf[bufOffset + 13] & 0xFFL) << 41) | ((buf[bufOffset + 14] & 0xFFL) << 33) | ((buf[bufOffset + 15] & 0xFFL) << 25) | ((buf[bufOffset + 16] & 0xFFL) << 17) | ((buf[bufOffset + 17] & 0xFFL) << 9) | ((buf[bufOffset + 18] & 0xFFL) << 1) | ((buf[bufOffset + 19] & 0xFFL) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 19] & 0x7FL) << 44) | ((buf[bufOffset + 20] & 0xFFL) << 36) | ((buf[bufOffset + 21] & 0xFFL) << 28) | ((buf[bufOffset + 22] & 0xFFL) << 20) | ((buf[bufOffset + 23] & 0xFFL) << 12) | ((buf[bufOffset + 24] & 0xFFL) << 4) | ((buf[bufOffset + 25] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 25] & 0xFL) << 47) | ((buf[bufOffset + 26] & 0xFFL) << 39) | ((buf[bufOffset + 27] & 0xFFL) << 31) | ((buf[bufOffset + 28] & 0xFFL) << 23) | ((buf[bufOffset + 29] & 0xFFL) << 15) | ((buf[bufOffset + 30] & 0xFFL) << 7) | ((buf[bufOffset + 31] & 0xFFL) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 31] & 0x1L) << 50) | ((buf[bufOffset + 32] & 0xFFL) << 42) | ((buf[bufOffset + 33] & 0xFFL) << 34) | ((buf[bufOffset + 34] & 0xFFL) << 26) | ((buf[bufOffset + 35] & 0xFFL) << 18) | ((buf[bufOffset + 36] & 0xFFL) << 10) | ((buf[bufOffset + 37] & 0xFFL) << 2) | ((buf[bufOffset + 38] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 38] & 0x3FL) << 45) | ((buf[bufOffset + 39] & 0xFFL) << 37) | ((buf[bufOffset + 40] & 0xFFL) << 29) | ((buf[bufOffset + 41] & 0xFFL) << 21) | ((buf[bufOffset + 42] & 0xFFL) << 13) | ((buf[bufOffset + 43] & 0xFFL) << 5) | ((buf[bufOffset + 44] & 0xFFL) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 44] & 0x7L) << 48) | ((buf[bufOffset + 45] & 0xFFL) << 40) | ((buf[bufOffset + 46] & 0xFFL) << 32) | ((buf[bufOffset + 47] & 0xFFL) << 24) | ((buf[bufOffset + 48] & 0xFFL) << 16) | ((buf[bufOffset + 49] & 0xFFL) << 8) | (buf[bufOffset + 50] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 51;
+			}
+		}
+	}
+
+	private static final class Packer52 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 44);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 36);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 28);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 20);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 12);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 48));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 40);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 32);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 2] >>> 44);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 36);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 28);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 20);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 12);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 48));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 4] >>> 44);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 36);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 28);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 20);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 12);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 32] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 48));
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 5] >>> 40);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 5] >>> 32);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 6] >>> 44);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 6] >>> 36);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 6] >>> 28);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 6] >>> 20);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 6] >>> 12);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 45] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 48));
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 52;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 44) | ((buf[bufOffset + 1] & 0xFFL) << 36) | ((buf[bufOffset + 2] & 0xFFL) << 28) | ((buf[bufOffset + 3] & 0xFFL) << 20) | ((buf[bufOffset + 4] & 0xFFL) << 12) | ((buf[bufOffset + 5] & 0xFFL) << 4) | ((buf[bufOffset + 6] & 0xFFL) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 6] & 0xFL) << 48) | ((buf[bufOffset + 7] & 0xFFL) << 40) | ((buf[bufOffset + 8] & 0xFFL) << 32) | ((buf[bufOffset + 9] & 0xFFL) << 24) | ((buf[bufOffset + 10] & 0xFFL) << 16) | ((buf[bufOffset + 11] & 0xFFL) << 8) | (buf[bufOffset + 12] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 13] & 0xFFL) << 44) | ((buf[bufOffset + 14] & 0xFFL) << 36) | ((buf[bufOffset + 15] & 0xFFL) << 28) | ((buf[bufOffset + 16] & 0xFFL) << 20) | ((buf[bufOffset + 17] & 0xFFL) << 12) | ((buf[bufOffset + 18] & 0xFFL) << 4) | ((buf[bufOffset + 19] & 0xFFL) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 19] & 0xFL) << 48) | ((buf[bufOffset + 20] & 0xFFL) << 40) | ((buf[bufOffset + 21] & 0xFFL) << 32) | ((buf[bufOffset + 22] & 0xFFL) << 24) | ((buf[bufOffset + 23] & 0xFFL) << 16) | ((buf[bufOffset + 24] & 0xFFL) << 8) | (buf[bufOffset + 25] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 26] & 0xFFL) << 44) | ((buf[bufOffset + 27] & 0xFFL) << 36) | ((buf[bufOffset + 28] & 0xFFL) << 28) | ((buf[bufOffset + 29] & 0xFFL) << 20) | ((buf[bufOffset + 30] & 0xFFL) << 12) | ((buf[bufOffset + 31] & 0xFFL) << 4) | ((buf[bufOffset + 32] & 0xFFL) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 32] & 0xFL) << 48) | ((buf[bufOffset + 33] & 0xFFL) << 40) | ((buf[bufOffset + 34] & 0xFFL) << 32) | ((buf[bufOffset + 35] & 0xFFL) << 24) | ((buf[bufOffset + 36] & 0xFFL) << 16) | ((buf[bufOffset + 37] & 0xFFL) << 8) | (buf[bufOffset + 38] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 39] & 0xFFL) << 44) | ((buf[bufOffset + 40] & 0xFFL) << 36) | ((buf[bufOffset + 41] & 0xFFL) << 28) | ((buf[bufOffset + 42] & 0xFFL) << 20) | ((buf[bufOffset + 43] & 0xFFL) << 12) | ((buf[bufOffset + 44] & 0xFFL) << 4) | ((buf[bufOffset + 45] & 0xFFL) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 45] & 0xFL) << 48) | ((buf[bufOffset + 46] & 0xFFL) << 40) | ((buf[bufOffset + 47] & 0xFFL) << 32) | ((buf[bufOffset + 48] & 0xFFL) << 24) | ((buf[bufOffset + 49] & 0xFFL) << 16) | ((buf[bufOffset + 50] & 0xFFL) << 8) | (buf[bufOffset + 51] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 52;
+			}
+		}
+	}
+
+	private static final class Packer53 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 45);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 37);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 29);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 21);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 13);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 50));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 42);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 34);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 26);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 47));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 39);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 31);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 23);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 15);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 7);
+				buf[bufOffset + 19] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 52));
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 3] >>> 44);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 26] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 49));
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 41);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 33);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 25);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 17);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 9);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 33] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 46));
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 5] >>> 38);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5] >>> 30);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 5] >>> 22);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 39] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 51));
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 6] >>> 43);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 6] >>> 35);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 6] >>> 27);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 6] >>> 19);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 6] >>> 11);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 46] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 48));
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 53;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 45) | ((buf[bufOffset + 1] & 0xFFL) << 37) | ((buf[bufOffset + 2] & 0xFFL) << 29) | ((buf[bufOffset + 3] & 0xFFL) << 21) | ((buf[bufOffset + 4] & 0xFFL) << 13) | ((buf[bufOffset + 5] & 0xFFL) << 5) | ((buf[bufOffset + 6] & 0xFFL) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 6] & 0x7L) << 50) | ((buf[bufOffset + 7] & 0xFFL) << 42) | ((buf[bufOffset + 8] & 0xFFL) << 34) | ((buf[bufOffset + 9] & 0xFFL) << 26) | ((buf[bufOffset + 10] & 0xFFL) << 18) | ((buf[bufOffset + 11] & 0xFFL) << 10) | ((buf[bufOffset + 12] & 0xFFL) << 2) | ((buf[bufOffset + 13] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 13] & 0x3FL) << 47) | ((buf[bufOffset + 14] & 0xFFL) << 39) | ((buf[bufOffset + 15] & 0xFFL) << 31) | ((buf[bufOffset + 16] & 0xFFL) << 23) | ((buf[bufOffset + 17] & 0xFFL) << 15) | ((buf[bufOffset + 18] & 0xFFL) << 7) | ((buf[bufOffset + 19] & 0xFFL) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 19] & 0x1L) << 52) | ((buf[bufOffset + 20] & 0xFFL) << 44) | ((buf[bufOffset + 21] & 0xFFL) << 36) | ((buf[bufOffset + 22] & 0xFFL) << 28) | ((buf[bufOffset + 23] & 0xFFL) << 20) | ((buf[bufOffset + 24] & 0xFFL) << 12) | ((buf[bufOffset + 25] & 0xFFL) << 4) | ((buf[bufOffset + 26] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 26] & 0xFL) << 49) | ((buf[bufOffset + 27] & 0xFFL) << 41) | ((buf[bufOffset + 28] & 0xFFL) << 33) | ((buf[bufOffset + 29] & 0xFFL) << 25) | ((buf[bufOffset + 30] & 0xFFL) << 17) | ((buf[bufOffset + 31] & 0xFFL) << 9) | ((buf[bufOffset + 32] & 0xFFL) << 1) | ((buf[bufOffset + 33] & 0xFFL) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 33] & 0x7FL) << 46) | ((buf[bufOffset + 34] & 0xFFL) << 38) | ((buf[bufOffset + 35] & 0xFFL) << 30) | ((buf[bufOffset + 36] & 0xFFL) << 22) | ((buf[bufOffset + 37] & 0xFFL) << 14) | ((buf[bufOffset + 38] & 0xFFL) << 6) | ((buf[bufOffset + 39] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 39] & 0x3L) << 51) | ((buf[bufOffset + 40] & 0xFFL) << 43) | ((buf[bufOffset + 41] & 0xFFL) << 35) | ((buf[bufOffset + 42] & 0xFFL) << 27) | ((buf[bufOffset + 43] & 0xFFL) << 19) | ((buf[bufOffset + 44] & 0xFFL) << 11) | ((buf[bufOffset + 45] & 0xFFL) << 3) | ((buf[bufOffset + 46] & 0xFFL) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 46] & 0x1FL) << 48) | ((buf[bufOffset + 47] & 0xFFL) << 40) | ((buf[bufOffset + 48] & 0xFFL) << 32) | ((buf[bufOffset + 49] & 0xFFL) << 24) | ((buf[bufOffset + 50] & 0xFFL) << 16) | ((buf[bufOffset + 51] & 0xFFL) << 8) | (buf[bufOffset + 52] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 53;
+			}
+		}
+	}
+
+	private static final class Packer54 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 46);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 38);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 30);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 22);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 14);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 52));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 44);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 36);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 28);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 50));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 42);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 34);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 26);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 18);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 10);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 20] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 48));
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 4] >>> 46);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 38);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 30);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 22);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 14);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 33] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 52));
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 5] >>> 44);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5] >>> 36);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 5] >>> 28);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 40] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 50));
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 6] >>> 42);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 6] >>> 34);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 6] >>> 26);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 6] >>> 18);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 6] >>> 10);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 47] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 48));
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 54;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 46) | ((buf[bufOffset + 1] & 0xFFL) << 38) | ((buf[bufOffset + 2] & 0xFFL) << 30) | ((buf[bufOffset + 3] & 0xFFL) << 22) | ((buf[bufOffset + 4] & 0xFFL) << 14) | ((buf[bufOffset + 5] & 0xFFL) << 6) | ((buf[bufOffset + 6] & 0xFFL) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 6] & 0x3L) << 52) | ((buf[bufOffset + 7] & 0xFFL) << 44) | ((buf[bufOffset + 8] & 0xFFL) << 36) | ((buf[bufOffset + 9] & 0xFFL) << 28) | ((buf[bufOffset + 10] & 0xFFL) << 20) | ((buf[bufOffset + 11] & 0xFFL) << 12) | ((buf[bufOffset + 12] & 0xFFL) << 4) | ((buf[bufOffset + 13] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 13] & 0xFL) << 50) | ((buf[bufOffset + 14] & 0xFFL) << 42) | ((buf[bufOffset + 15] & 0xFFL) << 34) | ((buf[bufOffset + 16] & 0xFFL) << 26) | ((buf[bufOffset + 17] & 0xFFL) << 18) | ((buf[bufOffset + 18] & 0xFFL) << 10) | ((buf[bufOffset + 19] & 0xFFL) << 2) | ((buf[bufOffset + 20] & 0xFFL) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 20] & 0x3FL) << 48) | ((buf[bufOffset + 21] & 0xFFL) << 40) | ((buf[bufOffset + 22] & 0xFFL) << 32) | ((buf[bufOffset + 23] & 0xFFL) << 24) | ((buf[bufOffset + 24] & 0xFFL) << 16) | ((buf[bufOffset + 25] & 0xFFL) << 8) | (buf[bufOffset + 26] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 27] & 0xFFL) << 46) | ((buf[bufOffset + 28] & 0xFFL) << 38) | ((buf[bufOffset + 29] & 0xFFL) << 30) | ((buf[bufOffset + 30] & 0xFFL) << 22) | ((buf[bufOffset + 31] & 0xFFL) << 14) | ((buf[bufOffset + 32] & 0xFFL) << 6) | ((buf[bufOffset + 33] & 0xFFL) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 33] & 0x3L) << 52) | ((buf[bufOffset + 34] & 0xFFL) << 44) | ((buf[bufOffset + 35] & 0xFFL) << 36) | ((buf[bufOffset + 36] & 0xFFL) << 28) | ((buf[bufOffset + 37] & 0xFFL) << 20) | ((buf[bufOffset + 38] & 0xFFL) << 12) | ((buf[bufOffset + 39] & 0xFFL) << 4) | ((buf[bufOffset + 40] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 40] & 0xFL) << 50) | ((buf[bufOffset + 41] & 0xFFL) << 42) | ((buf[bufOffset + 42] & 0xFFL) << 34) | ((buf[bufOffset + 43] & 0xFFL) << 26) | ((buf[bufOffset + 44] & 0xFFL) << 18) | ((buf[bufOffset + 45] & 0xFFL) << 10) | ((buf[bufOffset + 46] & 0xFFL) << 2) | ((buf[bufOffset + 47] & 0xFFL) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 47] & 0x3FL) << 48) | ((buf[bufOffset + 48] & 0xFFL) << 40) | ((buf[bufOffset + 49] & 0xFFL) << 32) | ((buf[bufOffset + 50] & 0xFFL) << 24) | ((buf[bufOffset + 51] & 0xFFL) << 16) | ((buf[bufOffset + 52] & 0xFFL) << 8) | (buf[bufOffset + 53] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 54;
+			}
+		}
+	}
+
+	private static final class Packer55 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 47);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 39);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 31);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 23);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 15);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 6] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 54));
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 46);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 38);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 30);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 13] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 53));
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 45);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 37);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 29);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 21);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 13);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 20] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 52));
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 44);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 27] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 51));
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 43);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 35);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 27);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 19);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 11);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 34] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 50));
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5] >>> 42);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 5] >>> 34);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 26);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 41] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 49));
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 6] >>> 41);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 6] >>> 33);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 6] >>> 25);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 6] >>> 17);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 6] >>> 9);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 48] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 48));
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 55;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 47) | ((buf[bufOffset + 1] & 0xFFL) << 39) | ((buf[bufOffset + 2] & 0xFFL) << 31) | ((buf[bufOffset + 3] & 0xFFL) << 23) | ((buf[bufOffset + 4] & 0xFFL) << 15) | ((buf[bufOffset + 5] & 0xFFL) << 7) | ((buf[bufOffset + 6] & 0xFFL) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 6] & 0x1L) << 54) | ((buf[bufOffset + 7] & 0xFFL) << 46) | ((buf[bufOffset + 8] & 0xFFL) << 38) | ((buf[bufOffset + 9] & 0xFFL) << 30) | ((buf[bufOffset + 10] & 0xFFL) << 22) | ((buf[bufOffset + 11] & 0xFFL) << 14) | ((buf[bufOffset + 12] & 0xFFL) << 6) | ((buf[bufOffset + 13] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 13] & 0x3L) << 53) | ((buf[bufOffset + 14] & 0xFFL) << 45) | ((buf[bufOffset + 15] & 0xFFL) << 37) | ((buf[bufOffset + 16] & 0xFFL) << 29) | ((buf[bufOffset + 17] & 0xFFL) << 21) | ((buf[bufOffset + 18] & 0xFFL) << 13) | ((buf[bufOffset + 19] & 0xFFL) << 5) | ((buf[bufOffset + 20] & 0xFFL) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 20] & 0x7L) << 52) | ((buf[bufOffset + 21] & 0xFFL) << 44) | ((buf[bufOffset + 22] & 0xFFL) << 36) | ((buf[bufOffset + 23] & 0xFFL) << 28) | ((buf[bufOffset + 24] & 0xFFL) << 20) | ((buf[bufOffset + 25] & 0xFFL) << 12) | ((buf[bufOffset + 26] & 0xFFL) << 4) | ((buf[bufOffset + 27] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 27] & 0xFL) << 51) | ((buf[bufOffset + 28] & 0xFFL) << 43) | ((buf[bufOffset + 29] & 0xFFL) << 35) | ((buf[bufOffset + 30] & 0xFFL) << 27) | ((buf[bufOffset + 31] & 0xFFL) << 19) | ((buf[bufOffset + 32] & 0xFFL) << 11) | ((buf[bufOffset + 33] & 0xFFL) << 3) | ((buf[bufOffset + 34] & 0xFFL) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 34] & 0x1FL) << 50) | ((buf[bufOffset + 35] & 0xFFL) << 42) | ((buf[bufOffset + 36] & 0xFFL) << 34) | ((buf[bufOffset + 37] & 0xFFL) << 26) | ((buf[bufOffset + 38] & 0xFFL) << 18) | ((buf[bufOffset + 39] & 0xFFL) << 10) | ((buf[bufOffset + 40] & 0xFFL) << 2) | ((buf[bufOffset + 41] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 41] & 0x3FL) << 49) | ((buf[bufOffset + 42] & 0xFFL) << 41) | ((buf[bufOffset + 43] & 0xFFL) << 33) | ((buf[bufOffset + 44] & 0xFFL) << 25) | ((buf[bufOffset + 45] & 0xFFL) << 17) | ((buf[bufOffset + 46] & 0xFFL) << 9) | ((buf[bufOffset + 47] & 0xFFL) << 1) | ((buf[bufOffset + 48] & 0xFFL) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 48] & 0x7FL) << 48) | ((buf[bufOffset + 49] & 0xFFL) << 40) | ((buf[bufOffset + 50] & 0xFFL) << 32) | ((buf[bufOffset + 51] & 0xFFL) << 24) | ((buf[bufOffset + 52] & 0xFFL) << 16) | ((buf[bufOffset + 53] & 0xFFL) << 8) | (buf[bufOffset + 54] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 55;
+			}
+		}
+	}
+
+	private static final class Packer56 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 48);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 40);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 32);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 24);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 16);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 6] = (byte) (values[valueOffset]);
+				buf[bufOffset + 7] = (byte) (values[valueOffset + 1] >>> 48);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 40);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 32);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 2] >>> 48);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 40);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 32);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 24);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 16);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 3] >>> 48);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 4] >>> 48);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 40);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 32);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 24);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 16);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 5] >>> 48);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 5] >>> 40);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 32);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 6] >>> 48);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 6] >>> 40);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 6] >>> 32);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 6] >>> 24);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 6] >>> 16);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 55] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 56;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 48) | ((buf[bufOffset + 1] & 0xFFL) << 40) | ((buf[bufOffset + 2] & 0xFFL) << 32) | ((buf[bufOffset + 3] & 0xFFL) << 24) | ((buf[bufOffset + 4] & 0xFFL) << 16) | ((buf[bufOffset + 5] & 0xFFL) << 8) | (buf[bufOffset + 6] & 0xFFL);
+				values[valueOffset + 1] = ((buf[bufOffset + 7] & 0xFFL) << 48) | ((buf[bufOffset + 8] & 0xFFL) << 40) | ((buf[bufOffset + 9] & 0xFFL) << 32) | ((buf[bufOffset + 10] & 0xFFL) << 24) | ((buf[bufOffset + 11] & 0xFFL) << 16) | ((buf[bufOffset + 12] & 0xFFL) << 8) | (buf[bufOffset + 13] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 14] & 0xFFL) << 48) | ((buf[bufOffset + 15] & 0xFFL) << 40) | ((buf[bufOffset + 16] & 0xFFL) << 32) | ((buf[bufOffset + 17] & 0xFFL) << 24) | ((buf[bufOffset + 18] & 0xFFL) << 16) | ((buf[bufOffset + 19] & 0xFFL) << 8) | (buf[bufOffset + 20] & 0xFFL);
+				values[valueOffset + 3] = ((buf[bufOffset + 21] & 0xFFL) << 48) | ((buf[bufOffset + 22] & 0xFFL) << 40) | ((buf[bufOffset + 23] & 0xFFL) << 32) | ((buf[bufOffset + 24] & 0xFFL) << 24) | ((buf[bufOffset + 25] & 0xFFL) << 16) | ((buf[bufOffset + 26] & 0xFFL) << 8) | (buf[bufOffset + 27] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 28] & 0xFFL) << 48) | ((buf[bufOffset + 29] & 0xFFL) << 40) | ((buf[bufOffset + 30] & 0xFFL) << 32) | ((buf[bufOffset + 31] & 0xFFL) << 24) | ((buf[bufOffset + 32] & 0xFFL) << 16) | ((buf[bufOffset + 33] & 0xFFL) << 8) | (buf[bufOffset + 34] & 0xFFL);
+				values[valueOffset + 5] = ((buf[bufOffset + 35] & 0xFFL) << 48) | ((buf[bufOffset + 36] & 0xFFL) << 40) | ((buf[bufOffset + 37] & 0xFFL) << 32) | ((buf[bufOffset + 38] & 0xFFL) << 24) | ((buf[bufOffset + 39] & 0xFFL) << 16) | ((buf[bufOffset + 40] & 0xFFL) << 8) | (buf[bufOffset + 41] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 42] & 0xFFL) << 48) | ((buf[bufOffset + 43] & 0xFFL) << 40) | ((buf[bufOffset + 44] & 0xFFL) << 32) | ((buf[bufOffset + 45] & 0xFFL) << 24) | ((buf[bufOffset + 46] & 0xFFL) << 16) | ((buf[bufOffset + 47] & 0xFFL) << 8) | (buf[bufOffset + 48] & 0xFFL);
+				values[valueOffset + 7] = ((buf[bufOffset + 49] & 0xFFL) << 48) | ((buf[bufOffset + 50] & 0xFFL) << 40) | ((buf[bufOffset + 51] & 0xFFL) << 32) | ((buf[bufOffset + 52] & 0xFFL) << 24) | ((buf[bufOffset + 53] & 0xFFL) << 16) | ((buf[bufOffset + 54] & 0xFFL) << 8) | (buf[bufOffset + 55] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 56;
+			}
+		}
+	}
+
+	private static final class Packer57 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 49);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 41);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 33);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 25);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 17);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 9);
+				buf[bufOffset + 6] = (byte) (values[valueOffset] >>> 1);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset] << 7) | (values[valueOffset + 1] >>> 50));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 42);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 34);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 26);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 51));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 43);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 35);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 27);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 19);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 11);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2] >>> 3);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 2] << 5) | (values[valueOffset + 3] >>> 52));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 44);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 28] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 53));
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 45);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 37);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 29);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 21);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 13);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4] >>> 5);
+				buf[bufOffset + 35] = (byte) ((values[valueOffset + 4] << 3) | (values[valueOffset + 5] >>> 54));
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 5] >>> 46);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 38);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5] >>> 30);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 22);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 42] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 55));
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 6] >>> 47);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 6] >>> 39);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 6] >>> 31);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 6] >>> 23);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 6] >>> 15);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6] >>> 7);
+				buf[bufOffset + 49] = (byte) ((values[valueOffset + 6] << 1) | (values[valueOffset + 7] >>> 56));
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 55] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 56] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 57;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 49) | ((buf[bufOffset + 1] & 0xFFL) << 41) | ((buf[bufOffset + 2] & 0xFFL) << 33) | ((buf[bufOffset + 3] & 0xFFL) << 25) | ((buf[bufOffset + 4] & 0xFFL) << 17) | ((buf[bufOffset + 5] & 0xFFL) << 9) | ((buf[bufOffset + 6] & 0xFFL) << 1) | ((buf[bufOffset + 7] & 0xFFL) >>> 7);
+				values[valueOffset + 1] = ((buf[bufOffset + 7] & 0x7FL) << 50) | ((buf[bufOffset + 8] & 0xFFL) << 42) | ((buf[bufOffset + 9] & 0xFFL) << 34) | ((buf[bufOffset + 10] & 0xFFL) << 26) | ((buf[bufOffset + 11] & 0xFFL) << 18) | ((buf[bufOffset + 12] & 0xFFL) << 10) | ((buf[bufOffset + 13] & 0xFFL) << 2) | ((buf[bufOffset + 14] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 14] & 0x3FL) << 51) | ((buf[bufOffset + 15] & 0xFFL) << 43) | ((buf[bufOffset + 16] & 0xFFL) << 35) | ((buf[bufOffset + 17] & 0xFFL) << 27) | ((buf[bufOffset + 18] & 0xFFL) << 19) | ((buf[bufOffset + 19] & 0xFFL) << 11) | ((buf[bufOffset + 20] & 0xFFL) << 3) | ((buf[bufOffset + 21] & 0xFFL) >>> 5);
+				values[valueOffset + 3] = ((buf[bufOffset + 21] & 0x1FL) << 52) | ((buf[bufOffset + 22] & 0xFFL) << 44) | ((buf[bufOffset + 23] & 0xFFL) << 36) | ((buf[bufOffset + 24] & 0xFFL) << 28) | ((buf[bufOffset + 25] & 0xFFL) << 20) | ((buf[bufOffset + 26] & 0xFFL) << 12) | ((buf[bufOffset + 27] & 0xFFL) << 4) | ((buf[bufOffset + 28] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 28] & 0xFL) << 53) | ((buf[bufOffset + 29] & 0xFFL) << 45) | ((buf[bufOffset + 30] & 0xFFL) << 37) | ((buf[bufOffset + 31] & 0xFFL) << 29) | ((buf[bufOffset + 32] & 0xFFL) << 21) | ((buf[bufOffset + 33] & 0xFFL) << 13) | ((buf[bufOffset + 34] & 0xFFL) << 5) | ((buf[bufOffset + 35] & 0xFFL) >>> 3);
+				values[valueOffset + 5] = ((buf[bufOffset + 35] & 0x7L) << 54) | ((buf[bufOffset + 36] & 0xFFL) << 46) | ((buf[bufOffset + 37] & 0xFFL) << 38) | ((buf[bufOffset + 38] & 0xFFL) << 30) | ((buf[bufOffset + 39] & 0xFFL) << 22) | ((buf[bufOffset + 40] & 0xFFL) << 14) | ((buf[bufOffset + 41] & 0xFFL) << 6) | ((buf[bufOffset + 42] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 42] & 0x3L) << 55) | ((buf[bufOffset + 43] & 0xFFL) << 47) | ((buf[bufOffset + 44] & 0xFFL) << 39) | ((buf[bufOffset + 45] & 0xFFL) << 31) | ((buf[bufOffset + 46] & 0xFFL) << 23) | ((buf[bufOffset + 47] & 0xFFL) << 15) | ((buf[bufOffset + 48] & 0xFFL) << 7) | ((buf[bufOffset + 49] & 0xFFL) >>> 1);
+				values[valueOffset + 7] = ((buf[bufOffset + 49] & 0x1L) << 56) | ((buf[bufOffset + 50] & 0xFFL) << 48) | ((buf[bufOffset + 51] & 0xFFL) << 40) | ((buf[bufOffset + 52] & 0xFFL) << 32) | ((buf[bufOffset + 53] & 0xFFL) << 24) | ((buf[bufOffset + 54] & 0xFFL) << 16) | ((buf[bufOffset + 55] & 0xFFL) << 8) | (buf[bufOffset + 56] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 57;
+			}
+		}
+	}
+
+	private static final class Packer58 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 50);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 42);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 34);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 26);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 18);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 10);
+				buf[bufOffset + 6] = (byte) (values[valueOffset] >>> 2);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset] << 6) | (values[valueOffset + 1] >>> 52));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 44);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 36);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 28);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 54));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 46);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 38);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 30);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 22);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 14);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2] >>> 6);
+				buf[bufOffset + 21] = (byte) ((values[valueOffset + 2] << 2) | (values[valueOffset + 3] >>> 56));
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 3] >>> 48);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 4] >>> 50);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 42);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 34);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 26);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 18);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4] >>> 10);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 4] >>> 2);
+				buf[bufOffset + 36] = (byte) ((values[valueOffset + 4] << 6) | (values[valueOffset + 5] >>> 52));
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 44);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5] >>> 36);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 28);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 43] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 54));
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 6] >>> 46);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 6] >>> 38);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 6] >>> 30);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 6] >>> 22);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6] >>> 14);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 6] >>> 6);
+				buf[bufOffset + 50] = (byte) ((values[valueOffset + 6] << 2) | (values[valueOffset + 7] >>> 56));
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 55] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 56] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 57] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 58;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 50) | ((buf[bufOffset + 1] & 0xFFL) << 42) | ((buf[bufOffset + 2] & 0xFFL) << 34) | ((buf[bufOffset + 3] & 0xFFL) << 26) | ((buf[bufOffset + 4] & 0xFFL) << 18) | ((buf[bufOffset + 5] & 0xFFL) << 10) | ((buf[bufOffset + 6] & 0xFFL) << 2) | ((buf[bufOffset + 7] & 0xFFL) >>> 6);
+				values[valueOffset + 1] = ((buf[bufOffset + 7] & 0x3FL) << 52) | ((buf[bufOffset + 8] & 0xFFL) << 44) | ((buf[bufOffset + 9] & 0xFFL) << 36) | ((buf[bufOffset + 10] & 0xFFL) << 28) | ((buf[bufOffset + 11] & 0xFFL) << 20) | ((buf[bufOffset + 12] & 0xFFL) << 12) | ((buf[bufOffset + 13] & 0xFFL) << 4) | ((buf[bufOffset + 14] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 14] & 0xFL) << 54) | ((buf[bufOffset + 15] & 0xFFL) << 46) | ((buf[bufOffset + 16] & 0xFFL) << 38) | ((buf[bufOffset + 17] & 0xFFL) << 30) | ((buf[bufOffset + 18] & 0xFFL) << 22) | ((buf[bufOffset + 19] & 0xFFL) << 14) | ((buf[bufOffset + 20] & 0xFFL) << 6) | ((buf[bufOffset + 21] & 0xFFL) >>> 2);
+				values[valueOffset + 3] = ((buf[bufOffset + 21] & 0x3L) << 56) | ((buf[bufOffset + 22] & 0xFFL) << 48) | ((buf[bufOffset + 23] & 0xFFL) << 40) | ((buf[bufOffset + 24] & 0xFFL) << 32) | ((buf[bufOffset + 25] & 0xFFL) << 24) | ((buf[bufOffset + 26] & 0xFFL) << 16) | ((buf[bufOffset + 27] & 0xFFL) << 8) | (buf[bufOffset + 28] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 29] & 0xFFL) << 50) | ((buf[bufOffset + 30] & 0xFFL) << 42) | ((buf[bufOffset + 31] & 0xFFL) << 34) | ((buf[bufOffset + 32] & 0xFFL) << 26) | ((buf[bufOffset + 33] & 0xFFL) << 18) | ((buf[bufOffset + 34] & 0xFFL) << 10) | ((buf[bufOffset + 35] & 0xFFL) << 2) | ((buf[bufOffset + 36] & 0xFFL) >>> 6);
+				values[valueOffset + 5] = ((buf[bufOffset + 36] & 0x3FL) << 52) | ((buf[bufOffset + 37] & 0xFFL) << 44) | ((buf[bufOffset + 38] & 0xFFL) << 36) | ((buf[bufOffset + 39] & 0xFFL) << 28) | ((buf[bufOffset + 40] & 0xFFL) << 20) | ((buf[bufOffset + 41] & 0xFFL) << 12) | ((buf[bufOffset + 42] & 0xFFL) << 4) | ((buf[bufOffset + 43] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 43] & 0xFL) << 54) | ((buf[bufOffset + 44] & 0xFFL) << 46) | ((buf[bufOffset + 45] & 0xFFL) << 38) | ((buf[bufOffset + 46] & 0xFFL) << 30) | ((buf[bufOffset + 47] & 0xFFL) << 22) | ((buf[bufOffset + 48] & 0xFFL) << 14) | ((buf[bufOffset + 49] & 0xFFL) << 6) | ((buf[bufOffset + 50] & 0xFFL) >>> 2);
+				values[valueOffset + 7] = ((buf[bufOffset + 50] & 0x3L) << 56) | ((buf[bufOffset + 51] & 0xFFL) << 48) | ((buf[bufOffset + 52] & 0xFFL) << 40) | ((buf[bufOffset + 53] & 0xFFL) << 32) | ((buf[bufOffset + 54] & 0xFFL) << 24) | ((buf[bufOffset + 55] & 0xFFL) << 16) | ((buf[bufOffset + 56] & 0xFFL) << 8) | (buf[bufOffset + 57] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 58;
+			}
+		}
+	}
+
+	private static final class Packer59 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 51);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 43);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 35);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 27);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 19);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 11);
+				buf[bufOffset + 6] = (byte) (values[valueOffset] >>> 3);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset] << 5) | (values[valueOffset + 1] >>> 54));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 46);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 38);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 30);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 14] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 57));
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 49);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 41);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 33);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 25);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 17);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2] >>> 9);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 2] >>> 1);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 2] << 7) | (values[valueOffset + 3] >>> 52));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 44);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 29] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 55));
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 47);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 39);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 31);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 23);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4] >>> 15);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 4] >>> 7);
+				buf[bufOffset + 36] = (byte) ((values[valueOffset + 4] << 1) | (values[valueOffset + 5] >>> 58));
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 5] >>> 50);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5] >>> 42);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 34);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 26);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 44] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 53));
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 6] >>> 45);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 6] >>> 37);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 6] >>> 29);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6] >>> 21);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 6] >>> 13);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 6] >>> 5);
+				buf[bufOffset + 51] = (byte) ((values[valueOffset + 6] << 3) | (values[valueOffset + 7] >>> 56));
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 55] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 56] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 57] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 58] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 59;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 51) | ((buf[bufOffset + 1] & 0xFFL) << 43) | ((buf[bufOffset + 2] & 0xFFL) << 35) | ((buf[bufOffset + 3] & 0xFFL) << 27) | ((buf[bufOffset + 4] & 0xFFL) << 19) | ((buf[bufOffset + 5] & 0xFFL) << 11) | ((buf[bufOffset + 6] & 0xFFL) << 3) | ((buf[bufOffset + 7] & 0xFFL) >>> 5);
+				values[valueOffset + 1] = ((buf[bufOffset + 7] & 0x1FL) << 54) | ((buf[bufOffset + 8] & 0xFFL) << 46) | ((buf[bufOffset + 9] & 0xFFL) << 38) | ((buf[bufOffset + 10] & 0xFFL) << 30) | ((buf[bufOffset + 11] & 0xFFL) << 22) | ((buf[bufOffset + 12] & 0xFFL) << 14) | ((buf[bufOffset + 13] & 0xFFL) << 6) | ((buf[bufOffset + 14] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 14] & 0x3L) << 57) | ((buf[bufOffset + 15] & 0xFFL) << 49) | ((buf[bufOffset + 16] & 0xFFL) << 41) | ((buf[bufOffset + 17] & 0xFFL) << 33) | ((buf[bufOffset + 18] & 0xFFL) << 25) | ((buf[bufOffset + 19] & 0xFFL) << 17) | ((buf[bufOffset + 20] & 0xFFL) << 9) | ((buf[bufOffset + 21] & 0xFFL) << 1) | ((buf[bufOffset + 22] & 0xFFL) >>> 7);
+				values[valueOffset + 3] = ((buf[bufOffset + 22] & 0x7FL) << 52) | ((buf[bufOffset + 23] & 0xFFL) << 44) | ((buf[bufOffset + 24] & 0xFFL) << 36) | ((buf[bufOffset + 25] & 0xFFL) << 28) | ((buf[bufOffset + 26] & 0xFFL) << 20) | ((buf[bufOffset + 27] & 0xFFL) << 12) | ((buf[bufOffset + 28] & 0xFFL) << 4) | ((buf[bufOffset + 29] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 29] & 0xFL) << 55) | ((buf[bufOffset + 30] & 0xFFL) << 47) | ((buf[bufOffset + 31] & 0xFFL) << 39) | ((buf[bufOffset + 32] & 0xFFL) << 31) | ((buf[bufOffset + 33] & 0xFFL) << 23) | ((buf[bufOffset + 34] & 0xFFL) << 15) | ((buf[bufOffset + 35] & 0xFFL) << 7) | ((buf[bufOffset + 36] & 0xFFL) >>> 1);
+				values[valueOffset + 5] = ((buf[bufOffset + 36] & 0x1L) << 58) | ((buf[bufOffset + 37] & 0xFFL) << 50) | ((buf[bufOffset + 38] & 0xFFL) << 42) | ((buf[bufOffset + 39] & 0xFFL) << 34) | ((buf[bufOffset + 40] & 0xFFL) << 26) | ((buf[bufOffset + 41] & 0xFFL) << 18) | ((buf[bufOffset + 42] & 0xFFL) << 10) | ((buf[bufOffset + 43] & 0xFFL) << 2) | ((buf[bufOffset + 44] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 44] & 0x3FL) << 53) | ((buf[bufOffset + 45] & 0xFFL) << 45) | ((buf[bufOffset + 46] & 0xFFL) << 37) | ((buf[bufOffset + 47] & 0xFFL) << 29) | ((buf[bufOffset + 48] & 0xFFL) << 21) | ((buf[bufOffset + 49] & 0xFFL) << 13) | ((buf[bufOffset + 50] & 0xFFL) << 5) | ((buf[bufOffset + 51] & 0xFFL) >>> 3);
+				values[valueOffset + 7] = ((buf[bufOffset + 51] & 0x7L) << 56) | ((buf[bufOffset + 52] & 0xFFL) << 48) | ((buf[bufOffset + 53] & 0xFFL) << 40) | ((buf[bufOffset + 54] & 0xFFL) << 32) | ((buf[bufOffset + 55] & 0xFFL) << 24) | ((buf[bufOffset + 56] & 0xFFL) << 16) | ((buf[bufOffset + 57] & 0xFFL) << 8) | (buf[bufOffset + 58] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 59;
+			}
+		}
+	}
+
+	private static final class Packer60 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 52);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 44);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 36);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 28);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 20);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 12);
+				buf[bufOffset + 6] = (byte) (values[valueOffset] >>> 4);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset] << 4) | (values[valueOffset + 1] >>> 56));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 48);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 40);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 32);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 2] >>> 52);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 44);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 36);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 28);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 20);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2] >>> 12);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 2] >>> 4);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 2] << 4) | (values[valueOffset + 3] >>> 56));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 48);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 4] >>> 52);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 44);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 36);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 28);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4] >>> 20);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 4] >>> 12);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 4] >>> 4);
+				buf[bufOffset + 37] = (byte) ((values[valueOffset + 4] << 4) | (values[valueOffset + 5] >>> 56));
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 5] >>> 48);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 40);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 32);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 6] >>> 52);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 6] >>> 44);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 6] >>> 36);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6] >>> 28);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 6] >>> 20);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 6] >>> 12);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 6] >>> 4);
+				buf[bufOffset + 52] = (byte) ((values[valueOffset + 6] << 4) | (values[valueOffset + 7] >>> 56));
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 55] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 56] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 57] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 58] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 59] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 60;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 52) | ((buf[bufOffset + 1] & 0xFFL) << 44) | ((buf[bufOffset + 2] & 0xFFL) << 36) | ((buf[bufOffset + 3] & 0xFFL) << 28) | ((buf[bufOffset + 4] & 0xFFL) << 20) | ((buf[bufOffset + 5] & 0xFFL) << 12) | ((buf[bufOffset + 6] & 0xFFL) << 4) | ((buf[bufOffset + 7] & 0xFFL) >>> 4);
+				values[valueOffset + 1] = ((buf[bufOffset + 7] & 0xFL) << 56) | ((buf[bufOffset + 8] & 0xFFL) << 48) | ((buf[bufOffset + 9] & 0xFFL) << 40) | ((buf[bufOffset + 10] & 0xFFL) << 32) | ((buf[bufOffset + 11] & 0xFFL) << 24) | ((buf[bufOffset + 12] & 0xFFL) << 16) | ((buf[bufOffset + 13] & 0xFFL) << 8) | (buf[bufOffset + 14] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 15] & 0xFFL) << 52) | ((buf[bufOffset + 16] & 0xFFL) << 44) | ((buf[bufOffset + 17] & 0xFFL) << 36) | ((buf[bufOffset + 18] & 0xFFL) << 28) | ((buf[bufOffset + 19] & 0xFFL) << 20) | ((buf[bufOffset + 20] & 0xFFL) << 12) | ((buf[bufOffset + 21] & 0xFFL) << 4) | ((buf[bufOffset + 22] & 0xFFL) >>> 4);
+				values[valueOffset + 3] = ((buf[bufOffset + 22] & 0xFL) << 56) | ((buf[bufOffset + 23] & 0xFFL) << 48) | ((buf[bufOffset + 24] & 0xFFL) << 40) | ((buf[bufOffset + 25] & 0xFFL) << 32) | ((buf[bufOffset + 26] & 0xFFL) << 24) | ((buf[bufOffset + 27] & 0xFFL) << 16) | ((buf[bufOffset + 28] & 0xFFL) << 8) | (buf[bufOffset + 29] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 30] & 0xFFL) << 52) | ((buf[bufOffset + 31] & 0xFFL) << 44) | ((buf[bufOffset + 32] & 0xFFL) << 36) | ((buf[bufOffset + 33] & 0xFFL) << 28) | ((buf[bufOffset + 34] & 0xFFL) << 20) | ((buf[bufOffset + 35] & 0xFFL) << 12) | ((buf[bufOffset + 36] & 0xFFL) << 4) | ((buf[bufOffset + 37] & 0xFFL) >>> 4);
+				values[valueOffset + 5] = ((buf[bufOffset + 37] & 0xFL) << 56) | ((buf[bufOffset + 38] & 0xFFL) << 48) | ((buf[bufOffset + 39] & 0xFFL) << 40) | ((buf[bufOffset + 40] & 0xFFL) << 32) | ((buf[bufOffset + 41] & 0xFFL) << 24) | ((buf[bufOffset + 42] & 0xFFL) << 16) | ((buf[bufOffset + 43] & 0xFFL) << 8) | (buf[bufOffset + 44] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 45] & 0xFFL) << 52) | ((buf[bufOffset + 46] & 0xFFL) << 44) | ((buf[bufOffset + 47] & 0xFFL) << 36) | ((buf[bufOffset + 48] & 0xFFL) << 28) | ((buf[bufOffset + 49] & 0xFFL) << 20) | ((buf[bufOffset + 50] & 0xFFL) << 12) | ((buf[bufOffset + 51] & 0xFFL) << 4) | ((buf[bufOffset + 52] & 0xFFL) >>> 4);
+				values[valueOffset + 7] = ((buf[bufOffset + 52] & 0xFL) << 56) | ((buf[bufOffset + 53] & 0xFFL) << 48) | ((buf[bufOffset + 54] & 0xFFL) << 40) | ((buf[bufOffset + 55] & 0xFFL) << 32) | ((buf[bufOffset + 56] & 0xFFL) << 24) | ((buf[bufOffset + 57] & 0xFFL) << 16) | ((buf[bufOffset + 58] & 0xFFL) << 8) | (buf[bufOffset + 59] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 60;
+			}
+		}
+	}
+
+	private static final class Packer61 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 53);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 45);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 37);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 29);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 21);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 13);
+				buf[bufOffset + 6] = (byte) (values[valueOffset] >>> 5);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset] << 3) | (values[valueOffset + 1] >>> 58));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 50);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 42);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 34);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 26);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 18);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1] >>> 10);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 1] >>> 2);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 1] << 6) | (values[valueOffset + 2] >>> 55));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 47);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 39);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 31);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 23);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2] >>> 15);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 2] >>> 7);
+				buf[bufOffset + 22] = (byte) ((values[valueOffset + 2] << 1) | (values[valueOffset + 3] >>> 60));
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 3] >>> 52);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 44);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 30] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 57));
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 49);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 41);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 33);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4] >>> 25);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 4] >>> 17);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 4] >>> 9);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 4] >>> 1);
+				buf[bufOffset + 38] = (byte) ((values[valueOffset + 4] << 7) | (values[valueOffset + 5] >>> 54));
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 46);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 38);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5] >>> 30);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 5] >>> 22);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 5] >>> 14);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 5] >>> 6);
+				buf[bufOffset + 45] = (byte) ((values[valueOffset + 5] << 2) | (values[valueOffset + 6] >>> 59));
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 6] >>> 51);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 6] >>> 43);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6] >>> 35);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 6] >>> 27);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 6] >>> 19);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 6] >>> 11);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 6] >>> 3);
+				buf[bufOffset + 53] = (byte) ((values[valueOffset + 6] << 5) | (values[valueOffset + 7] >>> 56));
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 55] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 56] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 57] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 58] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 59] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 60] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 61;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 53) | ((buf[bufOffset + 1] & 0xFFL) << 45) | ((buf[bufOffset + 2] & 0xFFL) << 37) | ((buf[bufOffset + 3] & 0xFFL) << 29) | ((buf[bufOffset + 4] & 0xFFL) << 21) | ((buf[bufOffset + 5] & 0xFFL) << 13) | ((buf[bufOffset + 6] & 0xFFL) << 5) | ((buf[bufOffset + 7] & 0xFFL) >>> 3);
+				values[valueOffset + 1] = ((buf[bufOffset + 7] & 0x7L) << 58) | ((buf[bufOffset + 8] & 0xFFL) << 50) | ((buf[bufOffset + 9] & 0xFFL) << 42) | ((buf[bufOffset + 10] & 0xFFL) << 34) | ((buf[bufOffset + 11] & 0xFFL) << 26) | ((buf[bufOffset + 12] & 0xFFL) << 18) | ((buf[bufOffset + 13] & 0xFFL) << 10) | ((buf[bufOffset + 14] & 0xFFL) << 2) | ((buf[bufOffset + 15] & 0xFFL) >>> 6);
+				values[valueOffset + 2] = ((buf[bufOffset + 15] & 0x3FL) << 55) | ((buf[bufOffset + 16] & 0xFFL) << 47) | ((buf[bufOffset + 17] & 0xFFL) << 39) | ((buf[bufOffset + 18] & 0xFFL) << 31) | ((buf[bufOffset + 19] & 0xFFL) << 23) | ((buf[bufOffset + 20] & 0xFFL) << 15) | ((buf[bufOffset + 21] & 0xFFL) << 7) | ((buf[bufOffset + 22] & 0xFFL) >>> 1);
+				values[valueOffset + 3] = ((buf[bufOffset + 22] & 0x1L) << 60) | ((buf[bufOffset + 23] & 0xFFL) << 52) | ((buf[bufOffset + 24] & 0xFFL) << 44) | ((buf[bufOffset + 25] & 0xFFL) << 36) | ((buf[bufOffset + 26] & 0xFFL) << 28) | ((buf[bufOffset + 27] & 0xFFL) << 20) | ((buf[bufOffset + 28] & 0xFFL) << 12) | ((buf[bufOffset + 29] & 0xFFL) << 4) | ((buf[bufOffset + 30] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 30] & 0xFL) << 57) | ((buf[bufOffset + 31] & 0xFFL) << 49) | ((buf[bufOffset + 32] & 0xFFL) << 41) | ((buf[bufOffset + 33] & 0xFFL) << 33) | ((buf[bufOffset + 34] & 0xFFL) << 25) | ((buf[bufOffset + 35] & 0xFFL) << 17) | ((buf[bufOffset + 36] & 0xFFL) << 9) | ((buf[bufOffset + 37] & 0xFFL) << 1) | ((buf[bufOffset + 38] & 0xFFL) >>> 7);
+				values[valueOffset + 5] = ((buf[bufOffset + 38] & 0x7FL) << 54) | ((buf[bufOffset + 39] & 0xFFL) << 46) | ((buf[bufOffset + 40] & 0xFFL) << 38) | ((buf[bufOffset + 41] & 0xFFL) << 30) | ((buf[bufOffset + 42] & 0xFFL) << 22) | ((buf[bufOffset + 43] & 0xFFL) << 14) | ((buf[bufOffset + 44] & 0xFFL) << 6) | ((buf[bufOffset + 45] & 0xFFL) >>> 2);
+				values[valueOffset + 6] = ((buf[bufOffset + 45] & 0x3L) << 59) | ((buf[bufOffset + 46] & 0xFFL) << 51) | ((buf[bufOffset + 47] & 0xFFL) << 43) | ((buf[bufOffset + 48] & 0xFFL) << 35) | ((buf[bufOffset + 49] & 0xFFL) << 27) | ((buf[bufOffset + 50] & 0xFFL) << 19) | ((buf[bufOffset + 51] & 0xFFL) << 11) | ((buf[bufOffset + 52] & 0xFFL) << 3) | ((buf[bufOffset + 53] & 0xFFL) >>> 5);
+				values[valueOffset + 7] = ((buf[bufOffset + 53] & 0x1FL) << 56) | ((buf[bufOffset + 54] & 0xFFL) << 48) | ((buf[bufOffset + 55] & 0xFFL) << 40) | ((buf[bufOffset + 56] & 0xFFL) << 32) | ((buf[bufOffset + 57] & 0xFFL) << 24) | ((buf[bufOffset + 58] & 0xFFL) << 16) | ((buf[bufOffset + 59] & 0xFFL) << 8) | (buf[bufOffset + 60] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 61;
+			}
+		}
+	}
+
+	private static final class Packer62 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 54);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 46);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 38);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 30);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 22);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 14);
+				buf[bufOffset + 6] = (byte) (values[valueOffset] >>> 6);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset] << 2) | (values[valueOffset + 1] >>> 60));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 52);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 44);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 36);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 28);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 20);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1] >>> 12);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 1] >>> 4);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 1] << 4) | (values[valueOffset + 2] >>> 58));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 50);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 42);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 34);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 26);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2] >>> 18);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 2] >>> 10);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 2] >>> 2);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 2] << 6) | (values[valueOffset + 3] >>> 56));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 48);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 4] >>> 54);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 46);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 38);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4] >>> 30);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 4] >>> 22);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 4] >>> 14);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 4] >>> 6);
+				buf[bufOffset + 38] = (byte) ((values[valueOffset + 4] << 2) | (values[valueOffset + 5] >>> 60));
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 5] >>> 52);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 44);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5] >>> 36);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 5] >>> 28);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 5] >>> 20);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 5] >>> 12);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 5] >>> 4);
+				buf[bufOffset + 46] = (byte) ((values[valueOffset + 5] << 4) | (values[valueOffset + 6] >>> 58));
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 6] >>> 50);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6] >>> 42);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 6] >>> 34);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 6] >>> 26);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 6] >>> 18);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 6] >>> 10);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 6] >>> 2);
+				buf[bufOffset + 54] = (byte) ((values[valueOffset + 6] << 6) | (values[valueOffset + 7] >>> 56));
+				buf[bufOffset + 55] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 56] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 57] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 58] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 59] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 60] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 61] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 62;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 54) | ((buf[bufOffset + 1] & 0xFFL) << 46) | ((buf[bufOffset + 2] & 0xFFL) << 38) | ((buf[bufOffset + 3] & 0xFFL) << 30) | ((buf[bufOffset + 4] & 0xFFL) << 22) | ((buf[bufOffset + 5] & 0xFFL) << 14) | ((buf[bufOffset + 6] & 0xFFL) << 6) | ((buf[bufOffset + 7] & 0xFFL) >>> 2);
+				values[valueOffset + 1] = ((buf[bufOffset + 7] & 0x3L) << 60) | ((buf[bufOffset + 8] & 0xFFL) << 52) | ((buf[bufOffset + 9] & 0xFFL) << 44) | ((buf[bufOffset + 10] & 0xFFL) << 36) | ((buf[bufOffset + 11] & 0xFFL) << 28) | ((buf[bufOffset + 12] & 0xFFL) << 20) | ((buf[bufOffset + 13] & 0xFFL) << 12) | ((buf[bufOffset + 14] & 0xFFL) << 4) | ((buf[bufOffset + 15] & 0xFFL) >>> 4);
+				values[valueOffset + 2] = ((buf[bufOffset + 15] & 0xFL) << 58) | ((buf[bufOffset + 16] & 0xFFL) << 50) | ((buf[bufOffset + 17] & 0xFFL) << 42) | ((buf[bufOffset + 18] & 0xFFL) << 34) | ((buf[bufOffset + 19] & 0xFFL) << 26) | ((buf[bufOffset + 20] & 0xFFL) << 18) | ((buf[bufOffset + 21] & 0xFFL) << 10) | ((buf[bufOffset + 22] & 0xFFL) << 2) | ((buf[bufOffset + 23] & 0xFFL) >>> 6);
+				values[valueOffset + 3] = ((buf[bufOffset + 23] & 0x3FL) << 56) | ((buf[bufOffset + 24] & 0xFFL) << 48) | ((buf[bufOffset + 25] & 0xFFL) << 40) | ((buf[bufOffset + 26] & 0xFFL) << 32) | ((buf[bufOffset + 27] & 0xFFL) << 24) | ((buf[bufOffset + 28] & 0xFFL) << 16) | ((buf[bufOffset + 29] & 0xFFL) << 8) | (buf[bufOffset + 30] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 31] & 0xFFL) << 54) | ((buf[bufOffset + 32] & 0xFFL) << 46) | ((buf[bufOffset + 33] & 0xFFL) << 38) | ((buf[bufOffset + 34] & 0xFFL) << 30) | ((buf[bufOffset + 35] & 0xFFL) << 22) | ((buf[bufOffset + 36] & 0xFFL) << 14) | ((buf[bufOffset + 37] & 0xFFL) << 6) | ((buf[bufOffset + 38] & 0xFFL) >>> 2);
+				values[valueOffset + 5] = ((buf[bufOffset + 38] & 0x3L) << 60) | ((buf[bufOffset + 39] & 0xFFL) << 52) | ((buf[bufOffset + 40] & 0xFFL) << 44) | ((buf[bufOffset + 41] & 0xFFL) << 36) | ((buf[bufOffset + 42] & 0xFFL) << 28) | ((buf[bufOffset + 43] & 0xFFL) << 20) | ((buf[bufOffset + 44] & 0xFFL) << 12) | ((buf[bufOffset + 45] & 0xFFL) << 4) | ((buf[bufOffset + 46] & 0xFFL) >>> 4);
+				values[valueOffset + 6] = ((buf[bufOffset + 46] & 0xFL) << 58) | ((buf[bufOffset + 47] & 0xFFL) << 50) | ((buf[bufOffset + 48] & 0xFFL) << 42) | ((buf[bufOffset + 49] & 0xFFL) << 34) | ((buf[bufOffset + 50] & 0xFFL) << 26) | ((buf[bufOffset + 51] & 0xFFL) << 18) | ((buf[bufOffset + 52] & 0xFFL) << 10) | ((buf[bufOffset + 53] & 0xFFL) << 2) | ((buf[bufOffset + 54] & 0xFFL) >>> 6);
+				values[valueOffset + 7] = ((buf[bufOffset + 54] & 0x3FL) << 56) | ((buf[bufOffset + 55] & 0xFFL) << 48) | ((buf[bufOffset + 56] & 0xFFL) << 40) | ((buf[bufOffset + 57] & 0xFFL) << 32) | ((buf[bufOffset + 58] & 0xFFL) << 24) | ((buf[bufOffset + 59] & 0xFFL) << 16) | ((buf[bufOffset + 60] & 0xFFL) << 8) | (buf[bufOffset + 61] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 62;
+			}
+		}
+	}
+
+	private static final class Packer63 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 55);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 47);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 39);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 31);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 23);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 15);
+				buf[bufOffset + 6] = (byte) (values[valueOffset] >>> 7);
+				buf[bufOffset + 7] = (byte) ((values[valueOffset] << 1) | (values[valueOffset + 1] >>> 62));
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 54);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 46);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 38);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 30);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 22);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1] >>> 14);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 1] >>> 6);
+				buf[bufOffset + 15] = (byte) ((values[valueOffset + 1] << 2) | (values[valueOffset + 2] >>> 61));
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 53);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 45);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 37);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 29);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2] >>> 21);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 2] >>> 13);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 2] >>> 5);
+				buf[bufOffset + 23] = (byte) ((values[valueOffset + 2] << 3) | (values[valueOffset + 3] >>> 60));
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 52);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 44);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 36);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3] >>> 28);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 3] >>> 20);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 3] >>> 12);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 3] >>> 4);
+				buf[bufOffset + 31] = (byte) ((values[valueOffset + 3] << 4) | (values[valueOffset + 4] >>> 59));
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 51);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 43);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4] >>> 35);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 4] >>> 27);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 4] >>> 19);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 4] >>> 11);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 4] >>> 3);
+				buf[bufOffset + 39] = (byte) ((values[valueOffset + 4] << 5) | (values[valueOffset + 5] >>> 58));
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 50);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5] >>> 42);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 5] >>> 34);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 5] >>> 26);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 5] >>> 18);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 5] >>> 10);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 5] >>> 2);
+				buf[bufOffset + 47] = (byte) ((values[valueOffset + 5] << 6) | (values[valueOffset + 6] >>> 57));
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6] >>> 49);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 6] >>> 41);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 6] >>> 33);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 6] >>> 25);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 6] >>> 17);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 6] >>> 9);
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 6] >>> 1);
+				buf[bufOffset + 55] = (byte) ((values[valueOffset + 6] << 7) | (values[valueOffset + 7] >>> 56));
+				buf[bufOffset + 56] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 57] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 58] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 59] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 60] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 61] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 62] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 63;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 55) | ((buf[bufOffset + 1] & 0xFFL) << 47) | ((buf[bufOffset + 2] & 0xFFL) << 39) | ((buf[bufOffset + 3] & 0xFFL) << 31) | ((buf[bufOffset + 4] & 0xFFL) << 23) | ((buf[bufOffset + 5] & 0xFFL) << 15) | ((buf[bufOffset + 6] & 0xFFL) << 7) | ((buf[bufOffset + 7] & 0xFFL) >>> 1);
+				values[valueOffset + 1] = ((buf[bufOffset + 7] & 0x1L) << 62) | ((buf[bufOffset + 8] & 0xFFL) << 54) | ((buf[bufOffset + 9] & 0xFFL) << 46) | ((buf[bufOffset + 10] & 0xFFL) << 38) | ((buf[bufOffset + 11] & 0xFFL) << 30) | ((buf[bufOffset + 12] & 0xFFL) << 22) | ((buf[bufOffset + 13] & 0xFFL) << 14) | ((buf[bufOffset + 14] & 0xFFL) << 6) | ((buf[bufOffset + 15] & 0xFFL) >>> 2);
+				values[valueOffset + 2] = ((buf[bufOffset + 15] & 0x3L) << 61) | ((buf[bufOffset + 16] & 0xFFL) << 53) | ((buf[bufOffset + 17] & 0xFFL) << 45) | ((buf[bufOffset + 18] & 0xFFL) << 37) | ((buf[bufOffset + 19] & 0xFFL) << 29) | ((buf[bufOffset + 20] & 0xFFL) << 21) | ((buf[bufOffset + 21] & 0xFFL) << 13) | ((buf[bufOffset + 22] & 0xFFL) << 5) | ((buf[bufOffset + 23] & 0xFFL) >>> 3);
+				values[valueOffset + 3] = ((buf[bufOffset + 23] & 0x7L) << 60) | ((buf[bufOffset + 24] & 0xFFL) << 52) | ((buf[bufOffset + 25] & 0xFFL) << 44) | ((buf[bufOffset + 26] & 0xFFL) << 36) | ((buf[bufOffset + 27] & 0xFFL) << 28) | ((buf[bufOffset + 28] & 0xFFL) << 20) | ((buf[bufOffset + 29] & 0xFFL) << 12) | ((buf[bufOffset + 30] & 0xFFL) << 4) | ((buf[bufOffset + 31] & 0xFFL) >>> 4);
+				values[valueOffset + 4] = ((buf[bufOffset + 31] & 0xFL) << 59) | ((buf[bufOffset + 32] & 0xFFL) << 51) | ((buf[bufOffset + 33] & 0xFFL) << 43) | ((buf[bufOffset + 34] & 0xFFL) << 35) | ((buf[bufOffset + 35] & 0xFFL) << 27) | ((buf[bufOffset + 36] & 0xFFL) << 19) | ((buf[bufOffset + 37] & 0xFFL) << 11) | ((buf[bufOffset + 38] & 0xFFL) << 3) | ((buf[bufOffset + 39] & 0xFFL) >>> 5);
+				values[valueOffset + 5] = ((buf[bufOffset + 39] & 0x1FL) << 58) | ((buf[bufOffset + 40] & 0xFFL) << 50) | ((buf[bufOffset + 41] & 0xFFL) << 42) | ((buf[bufOffset + 42] & 0xFFL) << 34) | ((buf[bufOffset + 43] & 0xFFL) << 26) | ((buf[bufOffset + 44] & 0xFFL) << 18) | ((buf[bufOffset + 45] & 0xFFL) << 10) | ((buf[bufOffset + 46] & 0xFFL) << 2) | ((buf[bufOffset + 47] & 0xFFL) >>> 6);
+				values[valueOffset + 6] = ((buf[bufOffset + 47] & 0x3FL) << 57) | ((buf[bufOffset + 48] & 0xFFL) << 49) | ((buf[bufOffset + 49] & 0xFFL) << 41) | ((buf[bufOffset + 50] & 0xFFL) << 33) | ((buf[bufOffset + 51] & 0xFFL) << 25) | ((buf[bufOffset + 52] & 0xFFL) << 17) | ((buf[bufOffset + 53] & 0xFFL) << 9) | ((buf[bufOffset + 54] & 0xFFL) << 1) | ((buf[bufOffset + 55] & 0xFFL) >>> 7);
+				values[valueOffset + 7] = ((buf[bufOffset + 55] & 0x7FL) << 56) | ((buf[bufOffset + 56] & 0xFFL) << 48) | ((buf[bufOffset + 57] & 0xFFL) << 40) | ((buf[bufOffset + 58] & 0xFFL) << 32) | ((buf[bufOffset + 59] & 0xFFL) << 24) | ((buf[bufOffset + 60] & 0xFFL) << 16) | ((buf[bufOffset + 61] & 0xFFL) << 8) | (buf[bufOffset + 62] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 63;
+			}
+		}
+	}
+
+	private static final class Packer64 extends LongBitPacker {
+
+		@Override
+		void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {
+			for (int i = 0; i < groups; i++) {
+				buf[bufOffset] = (byte) (values[valueOffset] >>> 56);
+				buf[bufOffset + 1] = (byte) (values[valueOffset] >>> 48);
+				buf[bufOffset + 2] = (byte) (values[valueOffset] >>> 40);
+				buf[bufOffset + 3] = (byte) (values[valueOffset] >>> 32);
+				buf[bufOffset + 4] = (byte) (values[valueOffset] >>> 24);
+				buf[bufOffset + 5] = (byte) (values[valueOffset] >>> 16);
+				buf[bufOffset + 6] = (byte) (values[valueOffset] >>> 8);
+				buf[bufOffset + 7] = (byte) (values[valueOffset]);
+				buf[bufOffset + 8] = (byte) (values[valueOffset + 1] >>> 56);
+				buf[bufOffset + 9] = (byte) (values[valueOffset + 1] >>> 48);
+				buf[bufOffset + 10] = (byte) (values[valueOffset + 1] >>> 40);
+				buf[bufOffset + 11] = (byte) (values[valueOffset + 1] >>> 32);
+				buf[bufOffset + 12] = (byte) (values[valueOffset + 1] >>> 24);
+				buf[bufOffset + 13] = (byte) (values[valueOffset + 1] >>> 16);
+				buf[bufOffset + 14] = (byte) (values[valueOffset + 1] >>> 8);
+				buf[bufOffset + 15] = (byte) (values[valueOffset + 1]);
+				buf[bufOffset + 16] = (byte) (values[valueOffset + 2] >>> 56);
+				buf[bufOffset + 17] = (byte) (values[valueOffset + 2] >>> 48);
+				buf[bufOffset + 18] = (byte) (values[valueOffset + 2] >>> 40);
+				buf[bufOffset + 19] = (byte) (values[valueOffset + 2] >>> 32);
+				buf[bufOffset + 20] = (byte) (values[valueOffset + 2] >>> 24);
+				buf[bufOffset + 21] = (byte) (values[valueOffset + 2] >>> 16);
+				buf[bufOffset + 22] = (byte) (values[valueOffset + 2] >>> 8);
+				buf[bufOffset + 23] = (byte) (values[valueOffset + 2]);
+				buf[bufOffset + 24] = (byte) (values[valueOffset + 3] >>> 56);
+				buf[bufOffset + 25] = (byte) (values[valueOffset + 3] >>> 48);
+				buf[bufOffset + 26] = (byte) (values[valueOffset + 3] >>> 40);
+				buf[bufOffset + 27] = (byte) (values[valueOffset + 3] >>> 32);
+				buf[bufOffset + 28] = (byte) (values[valueOffset + 3] >>> 24);
+				buf[bufOffset + 29] = (byte) (values[valueOffset + 3] >>> 16);
+				buf[bufOffset + 30] = (byte) (values[valueOffset + 3] >>> 8);
+				buf[bufOffset + 31] = (byte) (values[valueOffset + 3]);
+				buf[bufOffset + 32] = (byte) (values[valueOffset + 4] >>> 56);
+				buf[bufOffset + 33] = (byte) (values[valueOffset + 4] >>> 48);
+				buf[bufOffset + 34] = (byte) (values[valueOffset + 4] >>> 40);
+				buf[bufOffset + 35] = (byte) (values[valueOffset + 4] >>> 32);
+				buf[bufOffset + 36] = (byte) (values[valueOffset + 4] >>> 24);
+				buf[bufOffset + 37] = (byte) (values[valueOffset + 4] >>> 16);
+				buf[bufOffset + 38] = (byte) (values[valueOffset + 4] >>> 8);
+				buf[bufOffset + 39] = (byte) (values[valueOffset + 4]);
+				buf[bufOffset + 40] = (byte) (values[valueOffset + 5] >>> 56);
+				buf[bufOffset + 41] = (byte) (values[valueOffset + 5] >>> 48);
+				buf[bufOffset + 42] = (byte) (values[valueOffset + 5] >>> 40);
+				buf[bufOffset + 43] = (byte) (values[valueOffset + 5] >>> 32);
+				buf[bufOffset + 44] = (byte) (values[valueOffset + 5] >>> 24);
+				buf[bufOffset + 45] = (byte) (values[valueOffset + 5] >>> 16);
+				buf[bufOffset + 46] = (byte) (values[valueOffset + 5] >>> 8);
+				buf[bufOffset + 47] = (byte) (values[valueOffset + 5]);
+				buf[bufOffset + 48] = (byte) (values[valueOffset + 6] >>> 56);
+				buf[bufOffset + 49] = (byte) (values[valueOffset + 6] >>> 48);
+				buf[bufOffset + 50] = (byte) (values[valueOffset + 6] >>> 40);
+				buf[bufOffset + 51] = (byte) (values[valueOffset + 6] >>> 32);
+				buf[bufOffset + 52] = (byte) (values[valueOffset + 6] >>> 24);
+				buf[bufOffset + 53] = (byte) (values[valueOffset + 6] >>> 16);
+				buf[bufOffset + 54] = (byte) (values[valueOffset + 6] >>> 8);
+				buf[bufOffset + 55] = (byte) (values[valueOffset + 6]);
+				buf[bufOffset + 56] = (byte) (values[valueOffset + 7] >>> 56);
+				buf[bufOffset + 57] = (byte) (values[valueOffset + 7] >>> 48);
+				buf[bufOffset + 58] = (byte) (values[valueOffset + 7] >>> 40);
+				buf[bufOffset + 59] = (byte) (values[valueOffset + 7] >>> 32);
+				buf[bufOffset + 60] = (byte) (values[valueOffset + 7] >>> 24);
+				buf[bufOffset + 61] = (byte) (values[valueOffset + 7] >>> 16);
+				buf[bufOffset + 62] = (byte) (values[valueOffset + 7] >>> 8);
+				buf[bufOffset + 63] = (byte) (values[valueOffset + 7]);
+				valueOffset += 8;
+				bufOffset += 64;
+			}
+		}
+
+		@Override
+		void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset) {
+			for (int i = 0; i < groups; i++) {
+				values[valueOffset] = ((buf[bufOffset] & 0xFFL) << 56) | ((buf[bufOffset + 1] & 0xFFL) << 48) | ((buf[bufOffset + 2] & 0xFFL) << 40) | ((buf[bufOffset + 3] & 0xFFL) << 32) | ((buf[bufOffset + 4] & 0xFFL) << 24) | ((buf[bufOffset + 5] & 0xFFL) << 16) | ((buf[bufOffset + 6] & 0xFFL) << 8) | (buf[bufOffset + 7] & 0xFFL);
+				values[valueOffset + 1] = ((buf[bufOffset + 8] & 0xFFL) << 56) | ((buf[bufOffset + 9] & 0xFFL) << 48) | ((buf[bufOffset + 10] & 0xFFL) << 40) | ((buf[bufOffset + 11] & 0xFFL) << 32) | ((buf[bufOffset + 12] & 0xFFL) << 24) | ((buf[bufOffset + 13] & 0xFFL) << 16) | ((buf[bufOffset + 14] & 0xFFL) << 8) | (buf[bufOffset + 15] & 0xFFL);
+				values[valueOffset + 2] = ((buf[bufOffset + 16] & 0xFFL) << 56) | ((buf[bufOffset + 17] & 0xFFL) << 48) | ((buf[bufOffset + 18] & 0xFFL) << 40) | ((buf[bufOffset + 19] & 0xFFL) << 32) | ((buf[bufOffset + 20] & 0xFFL) << 24) | ((buf[bufOffset + 21] & 0xFFL) << 16) | ((buf[bufOffset + 22] & 0xFFL) << 8) | (buf[bufOffset + 23] & 0xFFL);
+				values[valueOffset + 3] = ((buf[bufOffset + 24] & 0xFFL) << 56) | ((buf[bufOffset + 25] & 0xFFL) << 48) | ((buf[bufOffset + 26] & 0xFFL) << 40) | ((buf[bufOffset + 27] & 0xFFL) << 32) | ((buf[bufOffset + 28] & 0xFFL) << 24) | ((buf[bufOffset + 29] & 0xFFL) << 16) | ((buf[bufOffset + 30] & 0xFFL) << 8) | (buf[bufOffset + 31] & 0xFFL);
+				values[valueOffset + 4] = ((buf[bufOffset + 32] & 0xFFL) << 56) | ((buf[bufOffset + 33] & 0xFFL) << 48) | ((buf[bufOffset + 34] & 0xFFL) << 40) | ((buf[bufOffset + 35] & 0xFFL) << 32) | ((buf[bufOffset + 36] & 0xFFL) << 24) | ((buf[bufOffset + 37] & 0xFFL) << 16) | ((buf[bufOffset + 38] & 0xFFL) << 8) | (buf[bufOffset + 39] & 0xFFL);
+				values[valueOffset + 5] = ((buf[bufOffset + 40] & 0xFFL) << 56) | ((buf[bufOffset + 41] & 0xFFL) << 48) | ((buf[bufOffset + 42] & 0xFFL) << 40) | ((buf[bufOffset + 43] & 0xFFL) << 32) | ((buf[bufOffset + 44] & 0xFFL) << 24) | ((buf[bufOffset + 45] & 0xFFL) << 16) | ((buf[bufOffset + 46] & 0xFFL) << 8) | (buf[bufOffset + 47] & 0xFFL);
+				values[valueOffset + 6] = ((buf[bufOffset + 48] & 0xFFL) << 56) | ((buf[bufOffset + 49] & 0xFFL) << 48) | ((buf[bufOffset + 50] & 0xFFL) << 40) | ((buf[bufOffset + 51] & 0xFFL) << 32) | ((buf[bufOffset + 52] & 0xFFL) << 24) | ((buf[bufOffset + 53] & 0xFFL) << 16) | ((buf[bufOffset + 54] & 0xFFL) << 8) | (buf[bufOffset + 55] & 0xFFL);
+				values[valueOffset + 7] = ((buf[bufOffset + 56] & 0xFFL) << 56) | ((buf[bufOffset + 57] & 0xFFL) << 48) | ((buf[bufOffset + 58] & 0xFFL) << 40) | ((buf[bufOffset + 59] & 0xFFL) << 32) | ((buf[bufOffset + 60] & 0xFFL) << 24) | ((buf[bufOffset + 61] & 0xFFL) << 16) | ((buf[bufOffset + 62] & 0xFFL) << 8) | (buf[bufOffset + 63] & 0xFFL);
+				valueOffset += 8;
+				bufOffset += 64;
+			}
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package cn.edu.thu.tsfile.encoding.bitpacking;
 
+import java.nio.ByteBuffer;
+
 /**
  * This class is used to encode(decode) Long in Java with specified bit-width.
  * User need to guarantee that the length of every given Long in binary mode 
@@ -31,9 +33,13 @@ public class LongPacker{
      * Number of Long values for each pack operation
      */
 	private static final int NUM_OF_LONGS = 8;
+	/**
+	 * routines unrolled for current bit-width, selected when the width is set
+	 */
+	private LongBitPacker packer;
 	
 	public LongPacker(int width) {
-		this.width = width;
+		setWidth(width);
 	}
 
     /**
@@ -44,97 +50,43 @@ public class LongPacker{
      * @param buf - encoded bytes, buf size must be equal to ({@link LongPacker#NUM_OF_LONGS}} * {@link IntPacker#width} / 8)
      */
 	public void pack8Values(long[] values, int offset, byte[] buf) {
-		
-		int bufIdx = 0;
-		int valueIdx = offset;
-		//remaining bits for the current unfinished Integer
-		int leftBit = 0;
-
-		while (valueIdx < NUM_OF_LONGS + offset) {
-			// buffer is used for saving 64 bits as a part of result
-			long buffer = 0;
-			//remaining size of bits in the 'buffer'
-			int leftSize = 64;
-
-			// encode the left bits of current Long to 'buffer'
-			if (leftBit > 0) {
-				buffer |= (values[valueIdx] << (64 - leftBit));
-				leftSize -= leftBit;
-				valueIdx++;
-			}
-
-			while (leftSize >= width && valueIdx < NUM_OF_LONGS + offset) {
-				//encode one Long to the 'buffer'
-				buffer |= (values[valueIdx] << (leftSize - width));
-				leftSize -= width;
-				valueIdx++;
-			}
-			// If the remaining space of the buffer can not save the bits for one Long
-			if (leftSize > 0 && valueIdx < NUM_OF_LONGS + offset) {
-				// put the first 'leftSize' bits of the Long into remaining space of the buffer
-				buffer |= (values[valueIdx] >>> (width - leftSize));
-				leftBit = width - leftSize;
-				leftSize = 0;
-			}
+		packer.pack(values, offset, 1, buf, 0);
+	}
 
-			// put the buffer into the final result
-			for (int j = 0; j < 8; j++) {
-				buf[bufIdx] = (byte) ((buffer >>> ((8 - j - 1) * 8)) & 0xFF);
-				bufIdx++;
-				if (bufIdx >= width * 8 / 8) {
-					return;
-				}
-			}
-		}
+	/**
+	 * Encode groups of 8 ({@link LongPacker#NUM_OF_LONGS}) Longs, each group takes
+	 * {@link LongPacker#width} bytes in 'buf'
+	 *
+	 * @param values - array where Longs are in
+	 * @param offset - the offset of first Long to be encoded
+	 * @param groups - number of groups to be encoded
+	 * @param buf - array where encoded bytes are written
+	 * @param bufOffset - the offset of first byte to be written in buf
+	 */
+	public void packValues(long[] values, int offset, int groups, byte[] buf, int bufOffset) {
+		packer.pack(values, offset, groups, buf, bufOffset);
 	}
 
 	/**
      * decode values from byte array.
      * @param buf - array where bytes are in.
      * @param offset - offset of first byte to be decoded in buf
-     * @param length - length of bytes to be decoded
      * @param values - decoded result , the size of values should be 8
      */
 	public void unpack8Values(byte[] buf, int offset, long[] values) {
-		int byteIdx = offset;
-		int valueIdx = 0;
-		//left bit(s) available for current byte in 'buf'
-		int leftBits = 8;  
-		//bits that has been read for current long value which is to be decoded
-		int totalBits = 0; 
-		
-		//decode long value one by one
-		while (valueIdx < 8) {
-			//set all the 64 bits in current value to '0'
-			values[valueIdx] = 0;
-			//read until 'totalBits' is equal to width
-			while (totalBits < width) {
-				//If 'leftBits' in current byte belongs to current long value
-				if (width - totalBits >= leftBits) {
-					//then put left bits in current byte to current long value
-					values[valueIdx] = values[valueIdx] << leftBits;
-					values[valueIdx] = (values[valueIdx] | ((((1L << leftBits) - 1)) & buf[byteIdx]));
-					totalBits += leftBits;
-					//get next byte
-					byteIdx++;
-					//set 'leftBits' in next byte to 8 because the next byte has not been used
-					leftBits = 8;
-				//Else take part of bits in 'leftBits' to current value.
-				} else {
-					//numbers of bits to be take
-					int t = width - totalBits;
-					values[valueIdx] = values[valueIdx] << t;
-					values[valueIdx] = (values[valueIdx]
-							| ((((1L << leftBits) - 1)) & buf[byteIdx]) >>> (leftBits - t));
-					leftBits -= t;
-					totalBits += t;
-				}
-			}
-			//Start to decode next long value
-			valueIdx++;
-			totalBits = 0;
-		}
+		packer.unpack(buf, offset, 1, values, 0);
+	}
 
+	/**
+	 * decode groups of 8 ({@link LongPacker#NUM_OF_LONGS}) Longs from byte array.
+	 * @param buf - array where bytes are in.
+	 * @param offset - offset of first byte to be decoded in buf
+	 * @param groups - number of groups to be decoded
+	 * @param values - decoded result
+	 * @param valueOffset - the offset of first decoded Long in values
+	 */
+	public void unpackValues(byte[] buf, int offset, int groups, long[] values, int valueOffset) {
+		packer.unpack(buf, offset, groups, values, valueOffset);
 	}
 
 	/**
@@ -146,21 +98,41 @@ public class LongPacker{
      * @param values: decoded result
      */
 	public void unpackAllValues(byte[] buf, int offset, int length, long[] values) {
-		int idx = 0;
-		int k = 0;
-		while (idx < length) {
-			long[] tv = new long[8];
-			//decode 8 values one time, current result will be saved in the array named 'tv'
-			unpack8Values(buf, idx, tv);
-			for (int i = 0; i < 8; i++) {
-				values[k + i] = tv[i];
-			}
-			idx += width;
-			k += 8;
+		if (width == 0) {
+			return;
+		}
+		packer.unpack(buf, offset, (length + width - 1) / width, values, 0);
+	}
+
+	/**
+	 * decode all values from 'buf' with specified offset and length, the position of 'buf' is
+	 * not changed. decoded result will be saved in array named 'values'.
+	 * @param buf: buffer where all bytes are in.
+	 * @param offset: the index of first byte to be decoded in buf.
+	 * @param length: length of bytes to be decoded in buf.
+	 * @param values: decoded result
+	 */
+	public void unpackAllValues(ByteBuffer buf, int offset, int length, long[] values) {
+		if (width == 0) {
+			return;
+		}
+		int groups = (length + width - 1) / width;
+		if (buf.hasArray()) {
+			packer.unpack(buf.array(), buf.arrayOffset() + offset, groups, values, 0);
+			return;
+		}
+		// copy a group into a heap array at a time, for a direct buffer
+		byte[] group = new byte[width];
+		ByteBuffer duplicate = buf.duplicate();
+		duplicate.position(offset);
+		for (int i = 0; i < groups; i++) {
+			duplicate.get(group, 0, Math.min(width, length - i * width));
+			packer.unpack(group, 0, 1, values, i * NUM_OF_LONGS);
 		}
 	}
 
 	public void setWidth(int width) {
 		this.width = width;
+		this.packer = LongBitPacker.of(width);
 	}
 }
@@ -55,6 +55,11 @@ public class BitmapDecoder extends Decoder {
    */
   private Map<Integer, byte[]> buffer;
 
+  /**
+   * all values decoded from buffer
+   */
+  private int[] values;
+
   /**
    * @param endianType deprecated
    */
@@ -81,19 +86,28 @@ public class BitmapDecoder extends Decoder {
             length, number, currentCount, buffer, e);
       }
     }
-    int result = 0;
-    int index = (number - currentCount) / 8;
-    int offset = 7 - ((number - currentCount) % 8);
-    for (Map.Entry<Integer, byte[]> entry : buffer.entrySet()) {
-      byte[] tmp = entry.getValue();
-      if ((tmp[index] & ((byte) 1 << offset)) != 0) {
-        result = entry.getKey();
-      }
-    }
+    int result = values[number - currentCount];
     currentCount--;
     return result;
   }
 
+  @Override
+  public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+    int n = 0;
+    while (n < len && hasNext(in)) {
+      if (currentCount == 0) {
+        reset();
+        getLengthAndNumber(in);
+        readNext();
+      }
+      int count = Math.min(len - n, currentCount);
+      System.arraycopy(values, number - currentCount, dst, off + n, count);
+      currentCount -= count;
+      n += count;
+    }
+    return n;
+  }
+
   private void getLengthAndNumber(InputStream in) throws IOException {
     this.length = ReadWriteStreamUtils.readUnsignedVarInt(in);
     this.number = ReadWriteStreamUtils.readUnsignedVarInt(in);
@@ -113,6 +127,17 @@ public class BitmapDecoder extends Decoder {
       byteCache.read(tmp, 0, len);
       buffer.put(value, tmp);
     }
+    // translate bitmap indexes to values once, so that reading a value does
+    // not check all bitmaps
+    values = new int[number];
+    for (Map.Entry<Integer, byte[]> entry : buffer.entrySet()) {
+      byte[] tmp = entry.getValue();
+      for (int i = 0; i < number; i++) {
+        if ((tmp[i / 8] & (1 << (7 - i % 8))) != 0) {
+          values[i] = entry.getKey();
+        }
+      }
+    }
     currentCount = number;
   }
 
@@ -56,6 +56,56 @@ public abstract class Decoder {
 
 	public abstract boolean hasNext(InputStream in) throws IOException;
 
+	/**
+	 * Decode at most {@code len} int values from in into {@code dst[off]} to
+	 * {@code dst[off + len - 1]}. Decoders override it to decode a whole batch
+	 * instead of calling {@code hasNext} and {@code readInt} for each value.
+	 *
+	 * @return number of decoded values, it is less than len only if there is
+	 *         no value left in in
+	 * @throws IOException
+	 */
+	public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+		int n = 0;
+		while (n < len && hasNext(in)) {
+			dst[off + n++] = readInt(in);
+		}
+		return n;
+	}
+
+	/**
+	 * @see #readInts(InputStream, int[], int, int)
+	 */
+	public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+		int n = 0;
+		while (n < len && hasNext(in)) {
+			dst[off + n++] = readLong(in);
+		}
+		return n;
+	}
+
+	/**
+	 * @see #readInts(InputStream, int[], int, int)
+	 */
+	public int readFloats(InputStream in, float[] dst, int off, int len) throws IOException {
+		int n = 0;
+		while (n < len && hasNext(in)) {
+			dst[off + n++] = readFloat(in);
+		}
+		return n;
+	}
+
+	/**
+	 * @see #readInts(InputStream, int[], int, int)
+	 */
+	public int readDoubles(InputStream in, double[] dst, int off, int len) throws IOException {
+		int n = 0;
+		while (n < len && hasNext(in)) {
+			dst[off + n++] = readDouble(in);
+		}
+		return n;
+	}
+
 	public static Decoder getDecoderByType(Encoding type, TSDataType dataType) {
 		if (type == Encoding.PLAIN) {
 			return new PlainDecoder(EndianType.LITTLE_ENDIAN);
@@ -63,12 +113,20 @@ public abstract class Decoder {
 			return new DeltaBinaryDecoder.IntDeltaDecoder();
 		} else if (type == Encoding.TS_2DIFF && dataType == TSDataType.INT64) {
 			return new DeltaBinaryDecoder.LongDeltaDecoder();
+		} else if (type == Encoding.PLAIN_DICTIONARY && dataType == TSDataType.BYTE_ARRAY) {
+			return new DictionaryDecoder();
+		} else if (type == Encoding.REGULAR && dataType == TSDataType.INT64) {
+			return new RegularDataDecoder();
 		} else if (type == Encoding.RLE && dataType == TSDataType.INT32) {
 			return new IntRleDecoder(EndianType.LITTLE_ENDIAN);
 		} else if (type == Encoding.RLE && dataType == TSDataType.INT64) {
 			return new LongRleDecoder(EndianType.LITTLE_ENDIAN);
 		} else if (type == Encoding.BITMAP && dataType == TSDataType.ENUMS) {
 			return new BitmapDecoder(EndianType.LITTLE_ENDIAN);
+		} else if (type == Encoding.GORILLA && dataType == TSDataType.FLOAT) {
+			return new GorillaDecoder.FloatGorillaDecoder();
+		} else if (type == Encoding.GORILLA && dataType == TSDataType.DOUBLE) {
+			return new GorillaDecoder.DoubleGorillaDecoder();
 		} else if (dataType == TSDataType.FLOAT || dataType == TSDataType.DOUBLE || dataType == TSDataType.BIGDECIMAL) {
 			return new FloatDecoder(TSEncoding.valueOf(type.toString()), dataType);
 		}
@@ -8,6 +8,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.common.utils.BytesUtils;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.bitpacking.IntPacker;
+import cn.edu.thu.tsfile.encoding.bitpacking.LongPacker;
 import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 
 /**
@@ -43,6 +46,17 @@ public abstract class DeltaBinaryDecoder extends Decoder {
    */
   protected int encodingLength;
 
+  /**
+   * whether current pack is patched, see {@link DeltaBinaryEncoder}
+   */
+  protected boolean patched;
+  /**
+   * indexes of patched values in current pack
+   */
+  protected int[] patchPositions;
+  protected int patchCount;
+  protected int patchWidth;
+
   public DeltaBinaryDecoder() {
     super(TSEncoding.TS_2DIFF);
   }
@@ -51,6 +65,9 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
   protected abstract void allocateDataArray();
 
+  /**
+   * read the i-th two_diff value of current pack into data array, bit by bit
+   */
   protected abstract void readValue(int i);
 
   /**
@@ -70,11 +87,39 @@ public abstract class DeltaBinaryDecoder extends Decoder {
     return (nextReadIndex < readIntTotalCount) || in.available() > 0;
   }
 
+  /**
+   * read width of a pack, and whether it is patched
+   */
+  protected void readPackWidth(InputStream in) throws IOException {
+    packWidth = BytesUtils.readInt(in);
+    patched = (packWidth & DeltaBinaryEncoder.PATCHED_FLAG) != 0;
+    packWidth &= ~DeltaBinaryEncoder.PATCHED_FLAG;
+  }
+
+  /**
+   * read patch count, patch width and positions of patched values after low bits of a patched
+   * pack
+   */
+  protected void readPatchPositions(InputStream in) throws IOException {
+    patchCount = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    if (patchCount == 0)
+      return;
+    patchWidth = in.read();
+    if (patchPositions == null || patchPositions.length < patchCount)
+      patchPositions = new int[patchCount];
+    int position = 0;
+    for (int i = 0; i < patchCount; i++) {
+      position += ReadWriteStreamUtils.readUnsignedVarInt(in);
+      patchPositions[i] = position;
+    }
+  }
+
   
 
   public static class IntDeltaDecoder extends DeltaBinaryDecoder {
 	  private int firstValue;
 	  private int[] data;
+	  private int[] group = new int[8];
 	  private int previous;
 	  /**
 	   * minimum value for all difference
@@ -97,6 +142,29 @@ public abstract class DeltaBinaryDecoder extends Decoder {
       return data[nextReadIndex++];
     }
     
+    /**
+     * copy decoded values of current pack into dst directly, and load next
+     * pack when current pack runs out
+     */
+    @Override
+    public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+      int n = 0;
+      while (n < len) {
+        if (nextReadIndex == readIntTotalCount) {
+          if (in.available() <= 0) {
+            break;
+          }
+          dst[off + n++] = loadIntBatch(in);
+        } else {
+          int count = Math.min(len - n, readIntTotalCount - nextReadIndex);
+          System.arraycopy(data, nextReadIndex, dst, off + n, count);
+          nextReadIndex += count;
+          n += count;
+        }
+      }
+      return n;
+    }
+
     @Override
     public int readInt(InputStream in) {
       try {
@@ -115,24 +183,65 @@ public abstract class DeltaBinaryDecoder extends Decoder {
      */
     protected int loadIntBatch(InputStream in) throws IOException {
       packNum = BytesUtils.readInt(in);
-      packWidth = BytesUtils.readInt(in);
+      readPackWidth(in);
       count++;
       readHeader(in);
 
+      previous = firstValue;
+      readIntTotalCount = packNum;
+      nextReadIndex = 0;
+      if (patched) {
+        readPatchedPack(in);
+        return firstValue;
+      }
       encodingLength = ceil(packNum * packWidth);
       deltaBuf = BytesUtils.safeReadInputStreamToBytes(encodingLength, in);
       allocateDataArray();
 
-      previous = firstValue;
-      readIntTotalCount = packNum;
-      nextReadIndex = 0;
       readPack();
       return firstValue;
     }
 
+    /**
+     * unpack full groups of 8 two_diff values by the packer unrolled for {@code packWidth}, and the
+     * remaining ones bit by bit, then add them up
+     */
     private void readPack() throws IOException {
-      for (int i = 0; i < packNum; i++) {
+      int groups = packNum / 8;
+      new IntPacker(packWidth).unpackValues(deltaBuf, 0, groups, data, 0);
+      for (int i = groups * 8; i < packNum; i++) {
         readValue(i);
+      }
+      for (int i = 0; i < packNum; i++) {
+        data[i] = previous + minDeltaBase + data[i];
+        previous = data[i];
+      }
+    }
+
+    /**
+     * unpack low bits and patches of two_diff values into {@code data}, then add them up
+     */
+    private void readPatchedPack(InputStream in) throws IOException {
+      int groups = (packNum + 7) / 8;
+      data = new int[groups * 8];
+      IntPacker packer = new IntPacker(packWidth);
+      if (packWidth > 0) {
+        deltaBuf = BytesUtils.safeReadInputStreamToBytes(groups * packWidth, in);
+        packer.unpackValues(deltaBuf, 0, groups, data, 0);
+      }
+      readPatchPositions(in);
+      if (patchCount > 0) {
+        packer.setWidth(patchWidth);
+        byte[] patchBuf = BytesUtils.safeReadInputStreamToBytes((patchCount + 7) / 8 * patchWidth, in);
+        for (int i = 0; i < patchCount; i += 8) {
+          packer.unpack8Values(patchBuf, i / 8 * patchWidth, group);
+          for (int j = 0; j < 8 && i + j < patchCount; j++) {
+            data[patchPositions[i + j]] |= group[j] << packWidth;
+          }
+        }
+      }
+      for (int i = 0; i < packNum; i++) {
+        data[i] = previous + minDeltaBase + data[i];
         previous = data[i];
       }
     }
@@ -150,14 +259,14 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
     @Override
     protected void readValue(int i) {
-      int v = BytesUtils.bytesToInt(deltaBuf, packWidth * i, packWidth);
-      data[i] = previous + minDeltaBase + v;
+      data[i] = BytesUtils.bytesToInt(deltaBuf, packWidth * i, packWidth);
     }
   }
 
   public static class LongDeltaDecoder extends DeltaBinaryDecoder {
 	  private long firstValue;
 	  private long [] data;
+	  private long[] group = new long[8];
 	  private long previous;
 	  /**
 	   * minimum value for all difference
@@ -187,29 +296,93 @@ public abstract class DeltaBinaryDecoder extends Decoder {
      */
     protected long loadIntBatch(InputStream in) throws IOException {
       packNum = BytesUtils.readInt(in);
-      packWidth = BytesUtils.readInt(in);
+      readPackWidth(in);
       count++;
       readHeader(in);
 
+      previous = firstValue;
+      readIntTotalCount = packNum;
+      nextReadIndex = 0;
+      if (patched) {
+        readPatchedPack(in);
+        return firstValue;
+      }
       encodingLength = ceil(packNum * packWidth);
       deltaBuf = BytesUtils.safeReadInputStreamToBytes(encodingLength, in);
       allocateDataArray();
 
-      previous = firstValue;
-      readIntTotalCount = packNum;
-      nextReadIndex = 0;
       readPack();
       return firstValue;
     }
     
 
+    /**
+     * unpack full groups of 8 two_diff values by the packer unrolled for {@code packWidth}, and the
+     * remaining ones bit by bit, then add them up
+     */
     private void readPack() throws IOException {
-      for (int i = 0; i < packNum; i++) {
+      int groups = packNum / 8;
+      new LongPacker(packWidth).unpackValues(deltaBuf, 0, groups, data, 0);
+      for (int i = groups * 8; i < packNum; i++) {
         readValue(i);
+      }
+      for (int i = 0; i < packNum; i++) {
+        data[i] = previous + minDeltaBase + data[i];
+        previous = data[i];
+      }
+    }
+
+    /**
+     * unpack low bits and patches of two_diff values into {@code data}, then add them up
+     */
+    private void readPatchedPack(InputStream in) throws IOException {
+      int groups = (packNum + 7) / 8;
+      data = new long[groups * 8];
+      LongPacker packer = new LongPacker(packWidth);
+      if (packWidth > 0) {
+        deltaBuf = BytesUtils.safeReadInputStreamToBytes(groups * packWidth, in);
+        packer.unpackValues(deltaBuf, 0, groups, data, 0);
+      }
+      readPatchPositions(in);
+      if (patchCount > 0) {
+        packer.setWidth(patchWidth);
+        byte[] patchBuf = BytesUtils.safeReadInputStreamToBytes((patchCount + 7) / 8 * patchWidth, in);
+        for (int i = 0; i < patchCount; i += 8) {
+          packer.unpack8Values(patchBuf, i / 8 * patchWidth, group);
+          for (int j = 0; j < 8 && i + j < patchCount; j++) {
+            data[patchPositions[i + j]] |= group[j] << packWidth;
+          }
+        }
+      }
+      for (int i = 0; i < packNum; i++) {
+        data[i] = previous + minDeltaBase + data[i];
         previous = data[i];
       }
     }
     
+    /**
+     * copy decoded values of current pack into dst directly, and load next
+     * pack when current pack runs out
+     */
+    @Override
+    public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+      int n = 0;
+      while (n < len) {
+        if (nextReadIndex == readIntTotalCount) {
+          if (in.available() <= 0) {
+            break;
+          }
+          dst[off + n++] = loadIntBatch(in);
+        } else {
+          int count = Math.min(len - n, readIntTotalCount - nextReadIndex);
+          System.arraycopy(data, nextReadIndex, dst, off + n, count);
+          nextReadIndex += count;
+          n += count;
+        }
+      }
+      return n;
+    }
+
     @Override
     public long readLong(InputStream in) {
       try {
@@ -233,8 +406,7 @@ public abstract class DeltaBinaryDecoder extends Decoder {
 
     @Override
     protected void readValue(int i) {
-      long v = BytesUtils.bytesToLong(deltaBuf, packWidth * i, packWidth);
-      data[i] = previous + minDeltaBase + v;
+      data[i] = BytesUtils.bytesToLong(deltaBuf, packWidth * i, packWidth);
     }
 
   }
@@ -0,0 +1,64 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * Decoder for Binary values encoded as ids in a dictionary. For more info
+ * about encoding pattern, see
+ * {@link cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder
+ * DictionaryEncoder}.<br>
+ * The dictionary of the series must be set before reading a page. Values
+ * with the same id are the same {@code Binary} instance in the dictionary,
+ * which should not be modified.
+ */
+public class DictionaryDecoder extends Decoder {
+	private IntRleDecoder idDecoder = new IntRleDecoder(EndianType.LITTLE_ENDIAN);
+	private Binary[] dictionary;
+
+	public DictionaryDecoder() {
+		super(TSEncoding.PLAIN_DICTIONARY);
+	}
+
+	/**
+	 * read entries of a dictionary page
+	 *
+	 * @param in
+	 *            - uncompressed content of the dictionary page
+	 * @param entryCount
+	 *            - number of entries in the dictionary page
+	 * @return the dictionary
+	 */
+	public static Binary[] readDictionary(InputStream in, int entryCount) {
+		PlainDecoder decoder = new PlainDecoder(EndianType.LITTLE_ENDIAN);
+		Binary[] dictionary = new Binary[entryCount];
+		for (int i = 0; i < entryCount; i++) {
+			dictionary[i] = decoder.readBinary(in);
+		}
+		return dictionary;
+	}
+
+	public void setDictionary(Binary[] dictionary) {
+		this.dictionary = dictionary;
+	}
+
+	@Override
+	public Binary readBinary(InputStream in) {
+		int id = idDecoder.readInt(in);
+		if (dictionary == null || id >= dictionary.length)
+			throw new TSFileDecodingException(String.format(
+					"tsfile-encoding DictionaryDecoder: id %d out of dictionary of %d entries", id,
+					dictionary == null ? 0 : dictionary.length));
+		return dictionary[id];
+	}
+
+	@Override
+	public boolean hasNext(InputStream in) throws IOException {
+		return idDecoder.hasNext(in);
+	}
+}
@@ -36,6 +36,13 @@ public class FloatDecoder extends Decoder {
 	 */
 	private boolean isMaxPointNumberRead;
 
+	/**
+	 * buffers for values decoded by readFloats and readDoubles before they
+	 * are divided by maxPointValue
+	 */
+	private int[] intBuffer;
+	private long[] longBuffer;
+
 	public FloatDecoder(TSEncoding encodingType, TSDataType dataType) {
 		super(encodingType);
 		if (encodingType == TSEncoding.RLE) {
@@ -83,6 +90,38 @@ public class FloatDecoder extends Decoder {
 		return result;
 	}
 
+	@Override
+	public int readFloats(InputStream in, float[] dst, int off, int len) throws IOException {
+		if (!hasNext(in)) {
+			return 0;
+		}
+		readMaxPointValue(in);
+		if (intBuffer == null || intBuffer.length < len) {
+			intBuffer = new int[len];
+		}
+		int n = decoder.readInts(in, intBuffer, 0, len);
+		for (int i = 0; i < n; i++) {
+			dst[off + i] = (float) (intBuffer[i] / maxPointValue);
+		}
+		return n;
+	}
+
+	@Override
+	public int readDoubles(InputStream in, double[] dst, int off, int len) throws IOException {
+		if (!hasNext(in)) {
+			return 0;
+		}
+		readMaxPointValue(in);
+		if (longBuffer == null || longBuffer.length < len) {
+			longBuffer = new long[len];
+		}
+		int n = decoder.readLongs(in, longBuffer, 0, len);
+		for (int i = 0; i < n; i++) {
+			dst[off + i] = longBuffer[i] / maxPointValue;
+		}
+		return n;
+	}
+
 	private void readMaxPointValue(InputStream in) {
 		try {
 			if (!isMaxPointNumberRead) {
@@ -0,0 +1,113 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * Decoder for float or double value encoded by XOR with the previous value.
+ * For more info about encoding pattern, see
+ * {@link cn.edu.thu.tsfile.encoding.encoder.GorillaEncoder GorillaEncoder}
+ */
+public abstract class GorillaDecoder extends Decoder {
+	/**
+	 * bit width of a value
+	 */
+	private final int valueWidth;
+	/**
+	 * bit width of the count of leading zeros and the length of meaningful bits
+	 */
+	private final int lengthWidth;
+
+	private int currentByte;
+	private int bitsLeft;
+
+	/**
+	 * number of values left in the current block
+	 */
+	private int remaining;
+	private long previousValue;
+	private int previousLeadingZeros;
+	private int previousTrailingZeros;
+
+	protected GorillaDecoder(int valueWidth, int lengthWidth) {
+		super(TSEncoding.GORILLA);
+		this.valueWidth = valueWidth;
+		this.lengthWidth = lengthWidth;
+	}
+
+	/**
+	 * @return bits of the next value, whose bits above {@code valueWidth} are 0
+	 */
+	protected long decodeBits(InputStream in) {
+		try {
+			if (remaining == 0) {
+				remaining = ReadWriteStreamUtils.readUnsignedVarInt(in);
+				bitsLeft = 0;
+				previousValue = readBits(in, valueWidth);
+			} else if (readBits(in, 1) == 1) {
+				if (readBits(in, 1) == 1) {
+					previousLeadingZeros = (int) readBits(in, lengthWidth);
+					int length = (int) readBits(in, lengthWidth) + 1;
+					previousTrailingZeros = valueWidth - previousLeadingZeros - length;
+				}
+				int length = valueWidth - previousLeadingZeros - previousTrailingZeros;
+				previousValue ^= readBits(in, length) << previousTrailingZeros;
+			}
+			remaining--;
+			return previousValue;
+		} catch (IOException e) {
+			throw new TSFileDecodingException("tsfile-encoding GorillaDecoder: error occurs when reading value", e);
+		}
+	}
+
+	/**
+	 * read {@code width} bits from the highest one
+	 */
+	private long readBits(InputStream in, int width) throws IOException {
+		long value = 0;
+		while (width > 0) {
+			if (bitsLeft == 0) {
+				currentByte = in.read();
+				if (currentByte < 0)
+					throw new IOException("unexpected end of stream");
+				bitsLeft = 8;
+			}
+			int n = Math.min(width, bitsLeft);
+			width -= n;
+			bitsLeft -= n;
+			value = (value << n) | ((currentByte >>> bitsLeft) & ((1 << n) - 1));
+		}
+		return value;
+	}
+
+	@Override
+	public boolean hasNext(InputStream in) throws IOException {
+		return remaining > 0 || in.available() > 0;
+	}
+
+	public static class FloatGorillaDecoder extends GorillaDecoder {
+		public FloatGorillaDecoder() {
+			super(32, 5);
+		}
+
+		@Override
+		public float readFloat(InputStream in) {
+			return Float.intBitsToFloat((int) decodeBits(in));
+		}
+	}
+
+	public static class DoubleGorillaDecoder extends GorillaDecoder {
+		public DoubleGorillaDecoder() {
+			super(64, 6);
+		}
+
+		@Override
+		public double readDouble(InputStream in) {
+			return Double.longBitsToDouble(decodeBits(in));
+		}
+	}
+}
@@ -2,6 +2,7 @@ package cn.edu.thu.tsfile.encoding.decoder;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -83,6 +84,39 @@ public class LongRleDecoder extends RleDecoder{
 		return result;
 	}
 
+	/**
+	 * read values of current rle or bit-packing group into dst in one copy
+	 */
+	@Override
+	public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+		int n = 0;
+		while (n < len && hasNext(in)) {
+			if (!isLengthAndBitWidthReaded) {
+				readLengthAndBitWidth(in);
+			}
+			if (currentCount == 0) {
+				readNext();
+			}
+			int count = Math.min(len - n, currentCount);
+			switch (mode) {
+			case RLE:
+				Arrays.fill(dst, off + n, off + n + count, currentValue);
+				break;
+			case BIT_PACKED:
+				System.arraycopy(currentBuffer, bitPackingNum - currentCount, dst, off + n, count);
+				break;
+			default:
+				throw new TSFileDecodingException(String.format("tsfile-encoding LongRleDecoder: not a valid mode %s", mode));
+			}
+			currentCount -= count;
+			n += count;
+			if (!hasNextPackage()) {
+				isLengthAndBitWidthReaded = false;
+			}
+		}
+		return n;
+	}
+
 	@Override
 	protected void initPacker() {
 		packer = new LongPacker(bitWidth);
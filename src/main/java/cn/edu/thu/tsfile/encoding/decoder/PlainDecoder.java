@@ -3,12 +3,16 @@ package cn.edu.thu.tsfile.encoding.decoder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
 import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.ByteBufferInputStream;
+import cn.edu.thu.tsfile.common.utils.BytesUtils;
 import cn.edu.thu.tsfile.encoding.common.EndianType;
 import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 
@@ -120,6 +124,48 @@ public class PlainDecoder extends Decoder {
     return binary;
   }
 
+  @Override
+  public int readInts(InputStream in, int[] dst, int off, int len) throws IOException {
+    int n = Math.min(len, in.available() / 4);
+    getBuffer(in, n * 4).asIntBuffer().get(dst, off, n);
+    return n;
+  }
+
+  @Override
+  public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+    int n = Math.min(len, in.available() / 8);
+    getBuffer(in, n * 8).asLongBuffer().get(dst, off, n);
+    return n;
+  }
+
+  @Override
+  public int readFloats(InputStream in, float[] dst, int off, int len) throws IOException {
+    int n = Math.min(len, in.available() / 4);
+    getBuffer(in, n * 4).asFloatBuffer().get(dst, off, n);
+    return n;
+  }
+
+  @Override
+  public int readDoubles(InputStream in, double[] dst, int off, int len) throws IOException {
+    int n = Math.min(len, in.available() / 8);
+    getBuffer(in, n * 8).asDoubleBuffer().get(dst, off, n);
+    return n;
+  }
+
+  /**
+   * get the next {@code size} bytes of in as a little endian ByteBuffer. If in
+   * is a {@code ByteBufferInputStream}, the bytes are not copied.
+   */
+  private ByteBuffer getBuffer(InputStream in, int size) throws IOException {
+    ByteBuffer buffer;
+    if (in instanceof ByteBufferInputStream) {
+      buffer = ((ByteBufferInputStream) in).slice(size);
+    } else {
+      buffer = ByteBuffer.wrap(BytesUtils.safeReadInputStreamToBytes(size, in));
+    }
+    return buffer.order(ByteOrder.LITTLE_ENDIAN);
+  }
+
   @Override
   public boolean hasNext(InputStream in) throws IOException {
     return in.available() > 0;
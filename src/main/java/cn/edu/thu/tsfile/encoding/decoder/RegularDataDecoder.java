@@ -0,0 +1,185 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import cn.edu.thu.tsfile.common.exception.TSFileDecodingException;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * Decoder for long values encoded as runs of a regular interval. For more
+ * info about encoding pattern, see
+ * {@link cn.edu.thu.tsfile.encoding.encoder.RegularDataEncoder
+ * RegularDataEncoder}.<br>
+ * All runs of a block are read at once, so that values of a run are computed
+ * from its start instead of being decoded one by one, and
+ * {@link #getValue(int)} computes a value of the current block by its position
+ * directly. Readers use it to turn a time filter into a range of positions.
+ */
+public class RegularDataDecoder extends Decoder {
+	private long interval;
+	/**
+	 * start values of runs in the current block
+	 */
+	private long[] runStarts = new long[16];
+	/**
+	 * runOffsets[i] is the position of the first value of run i, and
+	 * runOffsets[runCount] is the number of values in the current block
+	 */
+	private int[] runOffsets = new int[17];
+	private int runCount;
+
+	/**
+	 * position of the next value to read, and the run containing it
+	 */
+	private int position;
+	private int run;
+
+	public RegularDataDecoder() {
+		super(TSEncoding.REGULAR);
+	}
+
+	private void readBlock(InputStream in) throws IOException {
+		runCount = ReadWriteStreamUtils.readUnsignedVarInt(in);
+		interval = ReadWriteStreamUtils.readVarLong(in);
+		if (runStarts.length < runCount) {
+			runStarts = new long[runCount];
+			runOffsets = new int[runCount + 1];
+		}
+		long previousRunEnd = 0;
+		for (int i = 0; i < runCount; i++) {
+			int length = ReadWriteStreamUtils.readUnsignedVarInt(in);
+			long start = ReadWriteStreamUtils.readVarLong(in);
+			runStarts[i] = i == 0 ? start : previousRunEnd + interval + start;
+			runOffsets[i + 1] = runOffsets[i] + length;
+			previousRunEnd = runStarts[i] + (length - 1) * interval;
+		}
+		position = 0;
+		run = 0;
+	}
+
+	/**
+	 * read the next block of in at once, so that its values are computed by
+	 * their positions instead of being read one by one. The block is regarded
+	 * as consumed by following reads.
+	 *
+	 * @return number of values in the block
+	 */
+	public int loadBlock(InputStream in) throws IOException {
+		readBlock(in);
+		position = getCount();
+		return getCount();
+	}
+
+	/**
+	 * @return number of values in the current block
+	 */
+	public int getCount() {
+		return runOffsets[runCount];
+	}
+
+	/**
+	 * @return index of the run containing position, by binary search
+	 */
+	private int findRun(int position) {
+		if (position < 0 || position >= getCount())
+			throw new IndexOutOfBoundsException(String.format("position %d of %d values", position, getCount()));
+		int low = 0;
+		int high = runCount - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (runOffsets[mid] <= position)
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return low;
+	}
+
+	/**
+	 * compute a value of the current block by its position
+	 *
+	 * @param position
+	 *            - position of the value in the current block
+	 * @return the value
+	 */
+	public long getValue(int position) {
+		int r = findRun(position);
+		return runStarts[r] + (position - runOffsets[r]) * interval;
+	}
+
+	/**
+	 * compute len values of the current block from position
+	 */
+	public void getValues(int position, long[] dst, int off, int len) {
+		if (len == 0)
+			return;
+		int r = findRun(position);
+		long value = runStarts[r] + (position - runOffsets[r]) * interval;
+		for (int end = position + len; position < end; position++) {
+			if (position == runOffsets[r + 1]) {
+				r++;
+				value = runStarts[r];
+			}
+			dst[off++] = value;
+			value += interval;
+		}
+	}
+
+	/**
+	 * find a value in the current block by binary search, whose values must be
+	 * ascending as timestamps of a series are
+	 *
+	 * @return the first position whose value is not less than value, or the
+	 *         number of values if there is none
+	 */
+	public int getPosition(long value) {
+		int low = 0;
+		int high = getCount();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (getValue(mid) < value)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	@Override
+	public long readLong(InputStream in) {
+		try {
+			if (position == getCount())
+				readBlock(in);
+		} catch (IOException e) {
+			throw new TSFileDecodingException("tsfile-encoding RegularDataDecoder: error occurs when reading runs", e);
+		}
+		while (runOffsets[run + 1] == position)
+			run++;
+		return runStarts[run] + (position++ - runOffsets[run]) * interval;
+	}
+
+	@Override
+	public int readLongs(InputStream in, long[] dst, int off, int len) throws IOException {
+		int n = 0;
+		while (n < len && hasNext(in)) {
+			if (position == getCount())
+				readBlock(in);
+			while (runOffsets[run + 1] == position)
+				run++;
+			int end = Math.min(runOffsets[run + 1], position + len - n);
+			long value = runStarts[run] + (position - runOffsets[run]) * interval;
+			for (; position < end; position++) {
+				dst[off + n++] = value;
+				value += interval;
+			}
+		}
+		return n;
+	}
+
+	@Override
+	public boolean hasNext(InputStream in) throws IOException {
+		return position < getCount() || in.available() > 0;
+	}
+}
@@ -2,11 +2,15 @@ package cn.edu.thu.tsfile.encoding.encoder;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.common.utils.BytesUtils;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.encoding.bitpacking.IntPacker;
+import cn.edu.thu.tsfile.encoding.bitpacking.LongPacker;
 import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 
 /**
@@ -25,6 +29,25 @@ import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
  * {@code m} it takes for each two_diff value, which means the bit length that maximum two_diff
  * value takes. Only the low m bits are saved into result byte array for all two_diff values.
  * </p>
+ * <p>
+ * If the block is patched, a smaller width {@code w} covering most two_diff values is chosen
+ * instead, as patched frame-of-reference. The low w bits of all values are packed by
+ * {@linkplain IntPacker} or {@linkplain LongPacker}, and the higher bits of the few wider values
+ * are saved as patches, so that a rare spike doesn't widen the whole block. A patched block is
+ * written only if it is smaller, with the highest bit of its width set, according to following
+ * grammar:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * patched-block := <header> <low-bits> <patch-count> [<patch-width> <patch-position>+ <patch-bits>]
+ * low-bits := low w bits of each two_diff value, packed in groups of 8 and padded with 0
+ * patch-count := number of values wider than w, store as unsigned var int
+ * patch-width := bit width of the higher bits of patched values, in 1 byte
+ * patch-position := index of a patched value minus that of the previous one, store as unsigned var int
+ * patch-bits := higher bits of patched values, packed in groups of 8 and padded with 0
+ * }
+ * </pre>
  *
  * @author kangrong
  *
@@ -40,6 +63,24 @@ abstract public class DeltaBinaryEncoder extends Encoder {
   protected int writeIndex = -1;
   protected int writeWidth = 0;
 
+  /**
+   * the highest bit of width in the header of a patched block
+   */
+  public static final int PATCHED_FLAG = Integer.MIN_VALUE;
+  /**
+   * whether a block is patched when it is smaller than packing all values with the widest one
+   */
+  protected boolean patched;
+  /**
+   * width of low bits of the current block, chosen by {@link #calculatePatchedSize(int[], int)}
+   */
+  private int patchedWidth;
+  /**
+   * at most how many of the lowest deltas of a block are patched by choosing a larger
+   * minDeltaBase
+   */
+  protected static final int MAX_PATCHED_BASE_SKIP = 8;
+
   /**
    *
    * @param size - the number how many numbers to be packed into a block.
@@ -53,18 +94,43 @@ abstract public class DeltaBinaryEncoder extends Encoder {
 
   protected abstract void writeValueToBytes(int i);
 
+  /**
+   * write the first {@code groups} groups of 8 values by the packer unrolled for
+   * {@code writeWidth}
+   */
+  protected abstract void packValuesToBytes(int groups);
+
   protected abstract void calcTwoDiff(int i);
 
   protected abstract void reset();
 
   protected abstract int calculateBitWidthsForDeltaBlockBuffer();
+
+  /**
+   * @return bit width of the i-th two_diff value
+   */
+  protected abstract int getDeltaWidth(int i);
+
+  /**
+   * write low bits of all two_diff values and the patches of values wider than width
+   */
+  protected abstract void writePatchedData(int width) throws IOException;
+
+  /**
+   * choose minDeltaBase of a patched block. A reset or a gap downwards makes the minimum delta far
+   * below others, so the lowest few deltas are tried to be skipped, whose two_diff values then wrap
+   * around and are patched.
+   */
+  protected abstract void choosePatchedDeltaBase();
   
 
   /**
    * write all data into {@code encodingBlockBuffer}.
    */
   private void writeDataWithMinWidth() {
-    for (int i = 0; i < writeIndex; i++) {
+    int groups = writeIndex / 8;
+    packValuesToBytes(groups);
+    for (int i = groups * 8; i < writeIndex; i++) {
       writeValueToBytes(i);
     }
     int encodingLength = (int) Math.ceil((double) (writeIndex * writeWidth) / 8.0);
@@ -84,13 +150,31 @@ abstract public class DeltaBinaryEncoder extends Encoder {
     // since we store the min delta, the deltas will be converted to be the
     // difference to min delta and all positive
     this.out = out;
+    if (patched) {
+      choosePatchedDeltaBase();
+    }
     for (int i = 0; i < writeIndex; i++) {
       calcTwoDiff(i);
     }
     writeWidth = calculateBitWidthsForDeltaBlockBuffer();
     // System.out.println("write width:"+writeWidth);
-    writeHeaderToBytes();
-    writeDataWithMinWidth();
+    patchedWidth = writeWidth;
+    if (patched) {
+      int[] widthCounts = new int[writeWidth + 1];
+      for (int i = 0; i < writeIndex; i++) {
+        widthCounts[getDeltaWidth(i)]++;
+      }
+      calculatePatchedSize(widthCounts, writeWidth);
+    }
+    if (patchedWidth < writeWidth) {
+      out.write(BytesUtils.intToBytes(writeIndex));
+      out.write(BytesUtils.intToBytes(patchedWidth | PATCHED_FLAG));
+      writeHeader();
+      writePatchedData(patchedWidth);
+    } else {
+      writeHeaderToBytes();
+      writeDataWithMinWidth();
+    }
 
     reset();
     writeIndex = -1;
@@ -98,6 +182,53 @@ abstract public class DeltaBinaryEncoder extends Encoder {
 
   
 
+  /**
+   * find the width of low bits taking the least bytes, by the count of two_diff values of each
+   * width, and save it in {@code patchedWidth}. It is maxWidth if no patched block is smaller than
+   * an unpatched one.
+   *
+   * @param widthCounts - widthCounts[w] is the number of two_diff values of width w
+   * @param maxWidth - width of the widest two_diff value
+   * @return bytes of values and patches in the chosen width
+   */
+  protected int calculatePatchedSize(int[] widthCounts, int maxWidth) {
+    int groups = (writeIndex + 7) / 8;
+    patchedWidth = maxWidth;
+    // an unpatched block without header
+    int bestSize = (writeIndex * maxWidth + 7) / 8;
+    int patchCount = 0;
+    for (int width = maxWidth - 1; width >= 0; width--) {
+      patchCount += widthCounts[width + 1];
+      // low bits, patch count, patch width, positions in 1 or 2 bytes and patch bits
+      int size = groups * width + 1 + 1 + patchCount * (writeIndex < 128 ? 1 : 2)
+          + (patchCount + 7) / 8 * (maxWidth - width);
+      if (size < bestSize) {
+        bestSize = size;
+        patchedWidth = width;
+      }
+    }
+    return bestSize;
+  }
+
+  /**
+   * write positions of patched values and the patch count before them
+   *
+   * @param positions - indexes of patched values in ascending order
+   * @param count - number of patched values
+   * @param patchWidth - bit width of the higher bits of patched values
+   */
+  protected void writePatchPositions(int[] positions, int count, int patchWidth) throws IOException {
+    ReadWriteStreamUtils.writeUnsignedVarInt(count, out);
+    if (count == 0)
+      return;
+    out.write(patchWidth);
+    int previous = 0;
+    for (int i = 0; i < count; i++) {
+      ReadWriteStreamUtils.writeUnsignedVarInt(positions[i] - previous, out);
+      previous = positions[i];
+    }
+  }
+
   /**
    * calling this method to flush all values which haven't encoded to result byte array
    */
@@ -121,7 +252,16 @@ abstract public class DeltaBinaryEncoder extends Encoder {
     }
 
     public IntDeltaEncoder(int size) {
+      this(size, false);
+    }
+
+    /**
+     * @param size - the number how many numbers to be packed into a block.
+     * @param patched - whether blocks are patched when it saves space
+     */
+    public IntDeltaEncoder(int size, boolean patched) {
       super(size);
+      this.patched = patched;
       deltaBlockBuffer = new int[this.blockSize];
       encodingBlockBuffer = new byte[blockSize * 4];
       reset();
@@ -185,6 +325,72 @@ abstract public class DeltaBinaryEncoder extends Encoder {
       BytesUtils.intToBytes(deltaBlockBuffer[i], encodingBlockBuffer, writeWidth * i, writeWidth);
     }
 
+    @Override
+    protected void packValuesToBytes(int groups) {
+      new IntPacker(writeWidth).packValues(deltaBlockBuffer, 0, groups, encodingBlockBuffer, 0);
+    }
+
+    @Override
+    protected int getDeltaWidth(int i) {
+      return getValueWidth(deltaBlockBuffer[i]);
+    }
+
+    @Override
+    protected void choosePatchedDeltaBase() {
+      int[] sorted = Arrays.copyOf(deltaBlockBuffer, writeIndex);
+      Arrays.sort(sorted);
+      int[] widthCounts = new int[33];
+      int bestSize = Integer.MAX_VALUE;
+      for (int k = 0; k <= MAX_PATCHED_BASE_SKIP && k < writeIndex; k++) {
+        if (k > 0 && sorted[k] == sorted[k - 1])
+          continue;
+        Arrays.fill(widthCounts, 0);
+        int maxWidth = 0;
+        for (int i = 0; i < writeIndex; i++) {
+          int width = getValueWidth(deltaBlockBuffer[i] - sorted[k]);
+          widthCounts[width]++;
+          maxWidth = Math.max(maxWidth, width);
+        }
+        int size = calculatePatchedSize(widthCounts, maxWidth);
+        if (size < bestSize) {
+          bestSize = size;
+          minDeltaBase = sorted[k];
+        }
+      }
+    }
+
+    @Override
+    protected void writePatchedData(int width) throws IOException {
+      int patchWidth = writeWidth - width;
+      int[] group = new int[8];
+      int[] positions = new int[writeIndex];
+      int[] patches = new int[writeIndex + 7];
+      int count = 0;
+      IntPacker packer = new IntPacker(width);
+      byte[] buf = new byte[width];
+      for (int i = 0; i < writeIndex; i += 8) {
+        for (int j = 0; j < 8; j++) {
+          int v = i + j < writeIndex ? deltaBlockBuffer[i + j] : 0;
+          group[j] = v & ((1 << width) - 1);
+          if ((v >>> width) != 0) {
+            positions[count] = i + j;
+            patches[count++] = v >>> width;
+          }
+        }
+        if (width > 0) {
+          packer.pack8Values(group, 0, buf);
+          out.write(buf);
+        }
+      }
+      writePatchPositions(positions, count, patchWidth);
+      packer.setWidth(patchWidth);
+      buf = new byte[patchWidth];
+      for (int i = 0; i < count; i += 8) {
+        packer.pack8Values(patches, i, buf);
+        out.write(buf);
+      }
+    }
+
     @Override
     protected void calcTwoDiff(int i) {
       deltaBlockBuffer[i] = deltaBlockBuffer[i] - minDeltaBase;
@@ -223,7 +429,16 @@ abstract public class DeltaBinaryEncoder extends Encoder {
     }
 
     public LongDeltaEncoder(int size) {
+      this(size, false);
+    }
+
+    /**
+     * @param size - the number how many numbers to be packed into a block.
+     * @param patched - whether blocks are patched when it saves space
+     */
+    public LongDeltaEncoder(int size, boolean patched) {
       super(size);
+      this.patched = patched;
       deltaBlockBuffer = new long[this.blockSize];
       encodingBlockBuffer = new byte[blockSize * 8];
       reset();
@@ -259,6 +474,72 @@ abstract public class DeltaBinaryEncoder extends Encoder {
       BytesUtils.longToBytes(deltaBlockBuffer[i], encodingBlockBuffer, writeWidth * i, writeWidth);
     }
 
+    @Override
+    protected void packValuesToBytes(int groups) {
+      new LongPacker(writeWidth).packValues(deltaBlockBuffer, 0, groups, encodingBlockBuffer, 0);
+    }
+
+    @Override
+    protected int getDeltaWidth(int i) {
+      return getValueWidth(deltaBlockBuffer[i]);
+    }
+
+    @Override
+    protected void choosePatchedDeltaBase() {
+      long[] sorted = Arrays.copyOf(deltaBlockBuffer, writeIndex);
+      Arrays.sort(sorted);
+      int[] widthCounts = new int[65];
+      int bestSize = Integer.MAX_VALUE;
+      for (int k = 0; k <= MAX_PATCHED_BASE_SKIP && k < writeIndex; k++) {
+        if (k > 0 && sorted[k] == sorted[k - 1])
+          continue;
+        Arrays.fill(widthCounts, 0);
+        int maxWidth = 0;
+        for (int i = 0; i < writeIndex; i++) {
+          int width = getValueWidth(deltaBlockBuffer[i] - sorted[k]);
+          widthCounts[width]++;
+          maxWidth = Math.max(maxWidth, width);
+        }
+        int size = calculatePatchedSize(widthCounts, maxWidth);
+        if (size < bestSize) {
+          bestSize = size;
+          minDeltaBase = sorted[k];
+        }
+      }
+    }
+
+    @Override
+    protected void writePatchedData(int width) throws IOException {
+      int patchWidth = writeWidth - width;
+      long[] group = new long[8];
+      int[] positions = new int[writeIndex];
+      long[] patches = new long[writeIndex + 7];
+      int count = 0;
+      LongPacker packer = new LongPacker(width);
+      byte[] buf = new byte[width];
+      for (int i = 0; i < writeIndex; i += 8) {
+        for (int j = 0; j < 8; j++) {
+          long v = i + j < writeIndex ? deltaBlockBuffer[i + j] : 0;
+          group[j] = v & ((1L << width) - 1);
+          if ((v >>> width) != 0) {
+            positions[count] = i + j;
+            patches[count++] = v >>> width;
+          }
+        }
+        if (width > 0) {
+          packer.pack8Values(group, 0, buf);
+          out.write(buf);
+        }
+      }
+      writePatchPositions(positions, count, patchWidth);
+      packer.setWidth(patchWidth);
+      buf = new byte[patchWidth];
+      for (int i = 0; i < count; i += 8) {
+        packer.pack8Values(patches, i, buf);
+        out.write(buf);
+      }
+    }
+
     @Override
     protected void calcTwoDiff(int i) {
       deltaBlockBuffer[i] = deltaBlockBuffer[i] - minDeltaBase;
@@ -0,0 +1,141 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * <p>
+ * DictionaryEncoder is an encoder for Binary values of a series with few distinct values. Each
+ * distinct value is saved once in the dictionary of the series in a row group, and a data page only
+ * saves ids of its values, i.e. their indexes in the dictionary, by {@linkplain IntRleEncoder}.
+ * </p>
+ * <p>
+ * The dictionary is written as a dictionary page by the page writer after all data pages of the
+ * series, in which entries are encoded by {@linkplain PlainEncoder}. If the dictionary exceeds
+ * {@code maxDictionarySize} bytes, values of following pages are encoded by
+ * {@linkplain PlainEncoder} directly, and the encoding of each page is given by
+ * {@link #getPageEncoding()} after it is flushed.
+ * </p>
+ */
+public class DictionaryEncoder extends Encoder {
+  private final int maxDictionarySize;
+
+  private Map<Binary, Integer> entryIndex = new HashMap<>();
+  private List<Binary> entries = new ArrayList<>();
+  /**
+   * byte size of entries in plain encoding
+   */
+  private int dictionarySize;
+
+  private IntRleEncoder idEncoder = new IntRleEncoder(EndianType.LITTLE_ENDIAN);
+  private PlainEncoder plainEncoder;
+  /**
+   * whether values are encoded by plainEncoder since the dictionary is too large
+   */
+  private boolean fallback;
+  /**
+   * encoding of the last flushed page
+   */
+  private TSEncoding pageEncoding = TSEncoding.PLAIN_DICTIONARY;
+
+  public DictionaryEncoder(int maxStringLength, int maxDictionarySize) {
+    super(TSEncoding.PLAIN_DICTIONARY);
+    this.plainEncoder = new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.BYTE_ARRAY, maxStringLength);
+    this.maxDictionarySize = maxDictionarySize;
+  }
+
+  @Override
+  public void encode(Binary value, ByteArrayOutputStream out) throws IOException {
+    if (fallback) {
+      plainEncoder.encode(value, out);
+      return;
+    }
+    Integer id = entryIndex.get(value);
+    if (id == null) {
+      id = entries.size();
+      // the bytes of value may be reused by the caller
+      Binary entry = new Binary(Arrays.copyOf(value.values, value.getLength()));
+      entries.add(entry);
+      entryIndex.put(entry, id);
+      dictionarySize += 4 + entry.getLength();
+    }
+    idEncoder.encode(id, out);
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (fallback) {
+      pageEncoding = TSEncoding.PLAIN;
+      return;
+    }
+    idEncoder.flush(out);
+    pageEncoding = TSEncoding.PLAIN_DICTIONARY;
+    if (dictionarySize > maxDictionarySize) {
+      fallback = true;
+    }
+  }
+
+  /**
+   * @return PLAIN_DICTIONARY if ids are written in the last flushed page, or PLAIN if values are
+   */
+  public TSEncoding getPageEncoding() {
+    return pageEncoding;
+  }
+
+  /**
+   * @return number of entries in the dictionary
+   */
+  public int getEntryCount() {
+    return entries.size();
+  }
+
+  /**
+   * @return byte size of the dictionary in plain encoding
+   */
+  public int getDictionarySize() {
+    return dictionarySize;
+  }
+
+  /**
+   * write all entries of the dictionary by {@linkplain PlainEncoder}
+   *
+   * @param out - OutputStream of the dictionary page
+   */
+  public void writeDictionary(ByteArrayOutputStream out) {
+    for (Binary entry : entries) {
+      plainEncoder.encode(entry, out);
+    }
+  }
+
+  /**
+   * clear the dictionary after all pages of the series in a row group are written, so that next
+   * row group starts with an empty one
+   */
+  public void resetDictionary() {
+    entryIndex.clear();
+    entries.clear();
+    dictionarySize = 0;
+    fallback = false;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    return Math.max(idEncoder.getOneItemMaxSize(), plainEncoder.getOneItemMaxSize());
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // the dictionary is written with the series rather than in a page
+    return fallback ? plainEncoder.getMaxByteSize() : idEncoder.getMaxByteSize();
+  }
+}
@@ -0,0 +1,160 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import cn.edu.thu.tsfile.common.utils.PublicBAOS;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * <p>
+ * GorillaEncoder is a lossless encoder for float and double values. Adjacent values of a series
+ * usually share the sign, the exponent and the high bits of the mantissa, so the XOR of the bits of
+ * a value with those of the previous one has many leading and trailing zeros, and only the bits
+ * between them are saved.
+ * </p>
+ * <p>
+ * Values flushed together are encoded in a block according to following grammar:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * block := <count> <first-value> <xor>*, padded with 0 to whole bytes
+ * count := number of values in block, store as unsigned var int
+ * first-value := bits of the first value, in 32 bits for float and 64 bits for double
+ * xor := '0'                      if the value is the same as the previous one
+ *      | '10' <meaningful-bits>   if leading and trailing zeros of the XOR are not less
+ *                                 than those of the last XOR saved after '11'
+ *      | '11' <leading-zeros> <length - 1> <meaningful-bits>
+ * leading-zeros, length - 1 := in 5 bits for float and 6 bits for double
+ * }
+ * </pre>
+ */
+abstract public class GorillaEncoder extends Encoder {
+  /**
+   * bit width of a value
+   */
+  private final int valueWidth;
+  /**
+   * bit width of the count of leading zeros and the length of meaningful bits
+   */
+  private final int lengthWidth;
+
+  /**
+   * whole bytes of the current block
+   */
+  private PublicBAOS buffer = new PublicBAOS();
+  private int currentByte;
+  private int bitsLeft = 8;
+
+  private int count;
+  private long previousValue;
+  private int previousLeadingZeros;
+  private int previousTrailingZeros;
+
+  protected GorillaEncoder(int valueWidth, int lengthWidth) {
+    super(TSEncoding.GORILLA);
+    this.valueWidth = valueWidth;
+    this.lengthWidth = lengthWidth;
+  }
+
+  /**
+   * encode bits of a value, whose bits above {@code valueWidth} are 0
+   */
+  protected void encodeBits(long value) {
+    if (count == 0) {
+      writeBits(value, valueWidth);
+      previousLeadingZeros = -1;
+    } else {
+      long xor = value ^ previousValue;
+      if (xor == 0) {
+        writeBits(0, 1);
+      } else {
+        int leadingZeros = Long.numberOfLeadingZeros(xor) - (64 - valueWidth);
+        int trailingZeros = Long.numberOfTrailingZeros(xor);
+        if (previousLeadingZeros >= 0 && leadingZeros >= previousLeadingZeros
+            && trailingZeros >= previousTrailingZeros) {
+          writeBits(0b10, 2);
+          writeBits(xor >>> previousTrailingZeros,
+              valueWidth - previousLeadingZeros - previousTrailingZeros);
+        } else {
+          int length = valueWidth - leadingZeros - trailingZeros;
+          writeBits(0b11, 2);
+          writeBits(leadingZeros, lengthWidth);
+          writeBits(length - 1, lengthWidth);
+          writeBits(xor >>> trailingZeros, length);
+          previousLeadingZeros = leadingZeros;
+          previousTrailingZeros = trailingZeros;
+        }
+      }
+    }
+    previousValue = value;
+    count++;
+  }
+
+  /**
+   * write the low {@code width} bits of value, from the highest one
+   */
+  private void writeBits(long value, int width) {
+    while (width > 0) {
+      int n = Math.min(width, bitsLeft);
+      width -= n;
+      bitsLeft -= n;
+      currentByte |= (int) ((value >>> width) & ((1 << n) - 1)) << bitsLeft;
+      if (bitsLeft == 0) {
+        buffer.write(currentByte);
+        currentByte = 0;
+        bitsLeft = 8;
+      }
+    }
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (count == 0)
+      return;
+    ReadWriteStreamUtils.writeUnsignedVarInt(count, out);
+    buffer.writeTo(out);
+    if (bitsLeft < 8)
+      out.write(currentByte);
+    buffer.reset();
+    currentByte = 0;
+    bitsLeft = 8;
+    count = 0;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // '11', leading zeros, length and all bits of a value
+    return (2 + 2 * lengthWidth + valueWidth + 7) / 8;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // count in var int, whole bytes and the current byte
+    return 5 + buffer.size() + 1;
+  }
+
+  static public class FloatGorillaEncoder extends GorillaEncoder {
+    public FloatGorillaEncoder() {
+      super(32, 5);
+    }
+
+    @Override
+    public void encode(float value, ByteArrayOutputStream out) {
+      encodeBits(Float.floatToRawIntBits(value) & 0xFFFFFFFFL);
+    }
+  }
+
+  static public class DoubleGorillaEncoder extends GorillaEncoder {
+    public DoubleGorillaEncoder() {
+      super(64, 6);
+    }
+
+    @Override
+    public void encode(double value, ByteArrayOutputStream out) {
+      encodeBits(Double.doubleToRawLongBits(value));
+    }
+  }
+}
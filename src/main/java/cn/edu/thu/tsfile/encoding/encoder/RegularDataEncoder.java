@@ -0,0 +1,128 @@
+package cn.edu.thu.tsfile.encoding.encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * <p>
+ * RegularDataEncoder is an encoder for long values, mainly timestamps of a series sampled at a
+ * fixed frequency. Values are split into runs, in each of which a value is the previous one plus
+ * the same interval, so a run is saved as its start and length only. A gap or a jitter in sampling
+ * starts a new run. The interval is the most frequent difference between consecutive values of a
+ * block, so a jitter anywhere in the block, even between its first two values, costs only the runs
+ * around it.
+ * </p>
+ * <p>
+ * Values flushed together are encoded in a block according to following grammar:
+ * </p>
+ *
+ * <pre>
+ * {@code
+ * block := <run-count> <interval> <run>+
+ * run := <length> <start>
+ * interval := the most frequent difference between consecutive values, 0 if there is only one
+ *             value
+ * start := the first value for the first run, otherwise the difference between the start and
+ *          the last value of the previous run plus interval
+ * run-count, length := store as unsigned var int
+ * interval, start := store as var long after zigzag encoding
+ * }
+ * </pre>
+ */
+public class RegularDataEncoder extends Encoder {
+  /**
+   * values of the current block, which are encoded when it is flushed
+   */
+  private long[] values = new long[64];
+  private int count;
+  /**
+   * differences between consecutive values, reused to find the interval of every block
+   */
+  private long[] deltas = new long[64];
+
+  public RegularDataEncoder() {
+    super(TSEncoding.REGULAR);
+  }
+
+  @Override
+  public void encode(long value, ByteArrayOutputStream out) throws IOException {
+    if (count == values.length) {
+      values = Arrays.copyOf(values, count * 2);
+    }
+    values[count++] = value;
+  }
+
+  /**
+   * @return the most frequent difference between consecutive values, the smallest one of a tie
+   */
+  private long getDominantInterval() {
+    if (count == 1)
+      return 0;
+    if (deltas.length < count - 1) {
+      deltas = new long[values.length];
+    }
+    for (int i = 1; i < count; i++) {
+      deltas[i - 1] = values[i] - values[i - 1];
+    }
+    int deltaCount = count - 1;
+    Arrays.sort(deltas, 0, deltaCount);
+    long dominant = deltas[0];
+    int maxFrequency = 0;
+    int i = 0;
+    while (i < deltaCount) {
+      int j = i + 1;
+      while (j < deltaCount && deltas[j] == deltas[i])
+        j++;
+      if (j - i > maxFrequency) {
+        maxFrequency = j - i;
+        dominant = deltas[i];
+      }
+      i = j;
+    }
+    return dominant;
+  }
+
+  @Override
+  public void flush(ByteArrayOutputStream out) throws IOException {
+    if (count == 0)
+      return;
+    long interval = getDominantInterval();
+    int runCount = 1;
+    for (int i = 1; i < count; i++) {
+      if (values[i] - values[i - 1] != interval)
+        runCount++;
+    }
+    ReadWriteStreamUtils.writeUnsignedVarInt(runCount, out);
+    ReadWriteStreamUtils.writeVarLong(interval, out);
+
+    // the last value of the previous run
+    long previousRunEnd = 0;
+    int runStart = 0;
+    for (int i = 1; i <= count; i++) {
+      if (i == count || values[i] - values[i - 1] != interval) {
+        ReadWriteStreamUtils.writeUnsignedVarInt(i - runStart, out);
+        ReadWriteStreamUtils.writeVarLong(
+            runStart == 0 ? values[0] : values[runStart] - previousRunEnd - interval, out);
+        previousRunEnd = values[i - 1];
+        runStart = i;
+      }
+    }
+    count = 0;
+  }
+
+  @Override
+  public int getOneItemMaxSize() {
+    // a run of a single value, in the worst case
+    return 5 + 10;
+  }
+
+  @Override
+  public long getMaxByteSize() {
+    // run count, interval, and a run of a length and a start for every value in the worst case
+    return 5 + 10 + count * 11L;
+  }
+}
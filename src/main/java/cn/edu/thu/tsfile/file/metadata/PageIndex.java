@@ -0,0 +1,162 @@
+package cn.edu.thu.tsfile.file.metadata;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import cn.edu.thu.tsfile.common.utils.BytesUtils;
+import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
+
+/**
+ * @Description PageIndex records the offset, minimum time and maximum time of each data page in
+ *              a time series chunk. It is written as the content of an INDEX_PAGE after the data
+ *              pages of the chunk, and index_page_offset in TimeSeriesChunkMetaData points to its
+ *              page header. Offsets are relative to the beginning of the chunk. The index is only
+ *              written if pages are ordered by time, so that readers can binary-search the pages
+ *              overlapping a time range.
+ */
+public class PageIndex {
+  private static final int INIT_CAPACITY = 16;
+
+  private int size;
+  private int[] offsets;
+  private long[] minTimes;
+  private long[] maxTimes;
+  private boolean ordered = true;
+
+  public PageIndex() {
+    this(INIT_CAPACITY);
+  }
+
+  private PageIndex(int capacity) {
+    offsets = new int[capacity];
+    minTimes = new long[capacity];
+    maxTimes = new long[capacity];
+  }
+
+  /**
+   * add a page after all pages in this index
+   *
+   * @param offset - offset of the page header from the beginning of the chunk
+   * @param minTime - minimum timestamp in the page
+   * @param maxTime - maximum timestamp in the page
+   */
+  public void addPage(int offset, long minTime, long maxTime) {
+    if (size == offsets.length) {
+      int capacity = size * 2;
+      offsets = Arrays.copyOf(offsets, capacity);
+      minTimes = Arrays.copyOf(minTimes, capacity);
+      maxTimes = Arrays.copyOf(maxTimes, capacity);
+    }
+    if (size > 0 && minTime < maxTimes[size - 1]) {
+      ordered = false;
+    }
+    offsets[size] = offset;
+    minTimes[size] = minTime;
+    maxTimes[size] = maxTime;
+    size++;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int getOffset(int pageIndex) {
+    return offsets[pageIndex];
+  }
+
+  public long getMinTime(int pageIndex) {
+    return minTimes[pageIndex];
+  }
+
+  public long getMaxTime(int pageIndex) {
+    return maxTimes[pageIndex];
+  }
+
+  /**
+   * @return true if each page starts no earlier than the end of its previous page
+   */
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /**
+   * binary-search the first page which may contain a time not less than the given time
+   *
+   * @return index of the first page whose maximum time is not less than time, or size() if there
+   *         is no such page
+   */
+  public int firstPageEndingAtOrAfter(long time) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (maxTimes[mid] < time) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * binary-search the last page which may contain a time not greater than the given time
+   *
+   * @return index of the last page whose minimum time is not greater than time, or -1 if there is
+   *         no such page
+   */
+  public int lastPageStartingAtOrBefore(long time) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (minTimes[mid] <= time) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low - 1;
+  }
+
+  public void reset() {
+    size = 0;
+    ordered = true;
+  }
+
+  /**
+   * @return maximum bytes size of this index after serialization
+   */
+  public int estimateMaxSize() {
+    // page count--5, offset--5, minTime--8, maxTime--8
+    return 5 + size * 21;
+  }
+
+  public void serializeTo(OutputStream out) throws IOException {
+    ReadWriteStreamUtils.writeUnsignedVarInt(size, out);
+    for (int i = 0; i < size; i++) {
+      ReadWriteStreamUtils.writeUnsignedVarInt(offsets[i], out);
+      out.write(BytesUtils.longToBytes(minTimes[i]));
+      out.write(BytesUtils.longToBytes(maxTimes[i]));
+    }
+  }
+
+  public static PageIndex deserializeFrom(InputStream in) throws IOException {
+    int size = ReadWriteStreamUtils.readUnsignedVarInt(in);
+    PageIndex pageIndex = new PageIndex(Math.max(size, 1));
+    for (int i = 0; i < size; i++) {
+      int offset = ReadWriteStreamUtils.readUnsignedVarInt(in);
+      long minTime = BytesUtils.readLong(in);
+      long maxTime = BytesUtils.readLong(in);
+      pageIndex.addPage(offset, minTime, maxTime);
+    }
+    return pageIndex;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("PageIndex size:%d, ordered:%s", size, ordered);
+  }
+}
@@ -4,11 +4,13 @@ import java.util.List;
 
 import cn.edu.thu.tsfile.file.metadata.converter.IConverter;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.file.metadata.enums.TSFreqType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.format.DataType;
+import cn.edu.thu.tsfile.format.Encoding;
 import cn.edu.thu.tsfile.format.FreqType;
 import cn.edu.thu.tsfile.format.TimeInTimeSeriesChunkMetaData;
 
@@ -34,6 +36,12 @@ public class TInTimeSeriesChunkMetaData implements IConverter<TimeInTimeSeriesCh
    */
   private List<String> enumValues;
 
+  /**
+   * encoding of timestamps, which is not recorded in page headers. Null means TS_2DIFF, or an
+   * encoding unknown to this version
+   */
+  private TSEncoding timeEncoding;
+
   public TInTimeSeriesChunkMetaData() {}
 
   public TInTimeSeriesChunkMetaData(TSDataType dataType, long startTime, long endTime) {
@@ -56,6 +64,7 @@ public class TInTimeSeriesChunkMetaData implements IConverter<TimeInTimeSeriesCh
       tTimeSeriesChunkMetaDataInThrift.setFreq_type(freqType == null ? null : FreqType.valueOf(freqType.toString()));
       tTimeSeriesChunkMetaDataInThrift.setFrequencies(frequencies);
       tTimeSeriesChunkMetaDataInThrift.setEnum_values(enumValues);
+      tTimeSeriesChunkMetaDataInThrift.setTime_encoding(timeEncoding == null ? null : Encoding.valueOf(timeEncoding.toString()));
       return tTimeSeriesChunkMetaDataInThrift;
     } catch (Exception e) {
       if (LOGGER.isErrorEnabled())
@@ -80,6 +89,15 @@ public class TInTimeSeriesChunkMetaData implements IConverter<TimeInTimeSeriesCh
       startTime = tTimeSeriesChunkMetaDataInThrift.getStartime();
       endTime = tTimeSeriesChunkMetaDataInThrift.getEndtime();
       enumValues = tTimeSeriesChunkMetaDataInThrift.getEnum_values();
+      timeEncoding = null;
+      if (tTimeSeriesChunkMetaDataInThrift.getTime_encoding() != null) {
+        try {
+          timeEncoding = TSEncoding.valueOf(tTimeSeriesChunkMetaDataInThrift.getTime_encoding().toString());
+        } catch (IllegalArgumentException e) {
+          LOGGER.warn("tsfile-file TInTimeSeriesChunkMetaData: unknown time encoding {}",
+              tTimeSeriesChunkMetaDataInThrift.getTime_encoding());
+        }
+      }
     } catch (Exception e) {
       if (LOGGER.isErrorEnabled())
         LOGGER.error(
@@ -92,8 +110,8 @@ public class TInTimeSeriesChunkMetaData implements IConverter<TimeInTimeSeriesCh
   @Override
   public String toString() {
     return String.format(
-        "TInTimeSeriesChunkMetaData{ TSDataType %s, TSFreqType %s, frequencies %s, starttime %d, endtime %d, enumValues %s }",
-        dataType, freqType, frequencies, startTime, endTime, enumValues);
+        "TInTimeSeriesChunkMetaData{ TSDataType %s, TSFreqType %s, frequencies %s, starttime %d, endtime %d, enumValues %s, timeEncoding %s }",
+        dataType, freqType, frequencies, startTime, endTime, enumValues, timeEncoding);
   }
 
   public TSDataType getDataType() {
@@ -143,4 +161,12 @@ public class TInTimeSeriesChunkMetaData implements IConverter<TimeInTimeSeriesCh
   public void setEnumValues(List<String> enumValues) {
     this.enumValues = enumValues;
   }
+
+  public TSEncoding getTimeEncoding() {
+    return timeEncoding;
+  }
+
+  public void setTimeEncoding(TSEncoding timeEncoding) {
+    this.timeEncoding = timeEncoding;
+  }
 }
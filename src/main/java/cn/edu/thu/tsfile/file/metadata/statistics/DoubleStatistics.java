@@ -27,6 +27,29 @@ public class DoubleStatistics extends Statistics<Double> {
 		}
 	}
 
+	@Override
+	public void updateStats(double[] values, int start, int end) {
+		if (start >= end) {
+			return;
+		}
+		double minValue = values[start];
+		double maxValue = values[start];
+		for (int i = start + 1; i < end; i++) {
+			if (values[i] < minValue) {
+				minValue = values[i];
+			}
+			if (values[i] > maxValue) {
+				maxValue = values[i];
+			}
+		}
+		if (isEmpty) {
+			initializeStats(minValue, maxValue);
+			isEmpty = false;
+		} else {
+			updateStats(minValue, maxValue);
+		}
+	}
+
 	private void updateStats(double minValue, double maxValue) {
 		if (minValue < min) {
 			min = minValue;
@@ -27,6 +27,29 @@ public class FloatStatistics extends Statistics<Float> {
 		}
 	}
 
+	@Override
+	public void updateStats(float[] values, int start, int end) {
+		if (start >= end) {
+			return;
+		}
+		float minValue = values[start];
+		float maxValue = values[start];
+		for (int i = start + 1; i < end; i++) {
+			if (values[i] < minValue) {
+				minValue = values[i];
+			}
+			if (values[i] > maxValue) {
+				maxValue = values[i];
+			}
+		}
+		if (isEmpty) {
+			initializeStats(minValue, maxValue);
+			isEmpty = false;
+		} else {
+			updateStats(minValue, maxValue);
+		}
+	}
+
 	private void updateStats(float minValue, float maxValue) {
 		if (minValue < min) {
 			min = minValue;
@@ -28,6 +28,29 @@ public class IntegerStatistics extends Statistics<Integer> {
 		}
 	}
 
+	@Override
+	public void updateStats(int[] values, int start, int end) {
+		if (start >= end) {
+			return;
+		}
+		int minValue = values[start];
+		int maxValue = values[start];
+		for (int i = start + 1; i < end; i++) {
+			if (values[i] < minValue) {
+				minValue = values[i];
+			}
+			if (values[i] > maxValue) {
+				maxValue = values[i];
+			}
+		}
+		if (isEmpty) {
+			initializeStats(minValue, maxValue);
+			isEmpty = false;
+		} else {
+			updateStats(minValue, maxValue);
+		}
+	}
+
 	private void updateStats(int minValue, int maxValue) {
 		if (minValue < min) {
 			min = minValue;
@@ -37,6 +37,29 @@ public class LongStatistics extends Statistics<Long> {
 		}
 	}
 
+	@Override
+	public void updateStats(long[] values, int start, int end) {
+		if (start >= end) {
+			return;
+		}
+		long minValue = values[start];
+		long maxValue = values[start];
+		for (int i = start + 1; i < end; i++) {
+			if (values[i] < minValue) {
+				minValue = values[i];
+			}
+			if (values[i] > maxValue) {
+				maxValue = values[i];
+			}
+		}
+		if (isEmpty) {
+			initializeStats(minValue, maxValue);
+			isEmpty = false;
+		} else {
+			updateStats(minValue, maxValue);
+		}
+	}
+
 	@Override
 	public void updateStats(long minValue, long maxValue) {
 		if (minValue < min) {
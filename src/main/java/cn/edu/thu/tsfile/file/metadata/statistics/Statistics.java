@@ -131,6 +131,46 @@ public abstract class Statistics<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * update statistics with values[start, end). Subclasses override it to update minimum and
+     * maximum once for the whole batch.
+     */
+    public void updateStats(int[] values, int start, int end) {
+        for (int i = start; i < end; i++) {
+            updateStats(values[i]);
+        }
+    }
+
+    public void updateStats(long[] values, int start, int end) {
+        for (int i = start; i < end; i++) {
+            updateStats(values[i]);
+        }
+    }
+
+    public void updateStats(float[] values, int start, int end) {
+        for (int i = start; i < end; i++) {
+            updateStats(values[i]);
+        }
+    }
+
+    public void updateStats(double[] values, int start, int end) {
+        for (int i = start; i < end; i++) {
+            updateStats(values[i]);
+        }
+    }
+
+    public void updateStats(boolean[] values, int start, int end) {
+        for (int i = start; i < end; i++) {
+            updateStats(values[i]);
+        }
+    }
+
+    public void updateStats(Binary[] values, int start, int end) {
+        for (int i = start; i < end; i++) {
+            updateStats(values[i]);
+        }
+    }
+
     public void reset() {}
 
     abstract public byte[] getMaxBytes();
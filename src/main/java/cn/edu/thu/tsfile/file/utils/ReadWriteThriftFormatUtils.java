@@ -19,8 +19,10 @@ import cn.edu.thu.tsfile.format.DictionaryPageHeader;
 import cn.edu.thu.tsfile.format.Digest;
 import cn.edu.thu.tsfile.format.Encoding;
 import cn.edu.thu.tsfile.format.FileMetaData;
+import cn.edu.thu.tsfile.format.IndexPageHeader;
 import cn.edu.thu.tsfile.format.PageHeader;
 import cn.edu.thu.tsfile.format.PageType;
+import cn.edu.thu.tsfile.format.RowGroupMetaData;
 
 /**
  * 
@@ -55,6 +57,28 @@ public class ReadWriteThriftFormatUtils {
     return read(from, new FileMetaData());
   }
 
+  /**
+   * write row group metadata(thrift format) to stream
+   * 
+   * @param rowGroupMetadata
+   * @param to
+   * @throws IOException
+   */
+  public static void writeRowGroupMetaData(RowGroupMetaData rowGroupMetadata, OutputStream to)
+      throws IOException {
+    write(rowGroupMetadata, to);
+  }
+
+  /**
+   * read row group metadata(thrift format) from stream
+   * 
+   * @param from
+   * @throws IOException
+   */
+  public static RowGroupMetaData readRowGroupMetaData(InputStream from) throws IOException {
+    return read(from, new RowGroupMetaData());
+  }
+
   /**
    * @Description write DataPageHeader to output stream. For more information about DataPageHeader,
    *              see PageHeader and
@@ -96,11 +120,11 @@ public class ReadWriteThriftFormatUtils {
    * @Description write DictionaryPageHeader to output stream. For more information about
    *              DictionaryPageHeader, see PageHeader and
    *              DictionaryPageHeader in tsfile-format.
-   *              In current version, DictionaryPageHeader is not used.
+   *              It is written for series encoded by PLAIN_DICTIONARY.
    * @return void
    * @throws IOException
    */
-  public void writeDictionaryPageHeader(int uncompressedSize, int compressedSize, int numValues,
+  public static void writeDictionaryPageHeader(int uncompressedSize, int compressedSize, int numValues,
       TSEncoding encoding, OutputStream to) throws IOException {
     PageHeader pageHeader =
         new PageHeader(PageType.DICTIONARY_PAGE, uncompressedSize, compressedSize);
@@ -109,6 +133,18 @@ public class ReadWriteThriftFormatUtils {
     ReadWriteThriftFormatUtils.writePageHeader(pageHeader, to);
   }
 
+  /**
+   * @Description write a PageHeader which contains IndexPageHeader to output stream. The content
+   *              of index page is a serialized PageIndex and is never compressed.
+   * @return void
+   * @throws IOException
+   */
+  public static void writeIndexPageHeader(int pageSize, OutputStream to) throws IOException {
+    PageHeader pageHeader = new PageHeader(PageType.INDEX_PAGE, pageSize, pageSize);
+    pageHeader.setIndex_page_header(new IndexPageHeader());
+    ReadWriteThriftFormatUtils.writePageHeader(pageHeader, to);
+  }
+
   /**
    * write page header(thrift format) to stream
    * 
@@ -24,10 +24,9 @@ public enum Encoding implements org.apache.thrift.TEnum {
    */
   PLAIN(0),
   /**
-   * Deprecated: Dictionary encoding. The values in the dictionary are encoded in the
-   * plain type.
-   * in a data page use RLE_DICTIONARY instead.
-   * in a Dictionary page use PLAIN instead
+   * Dictionary encoding for BYTE_ARRAY. The values in the dictionary page of a column
+   * chunk are encoded in the plain type, and a data page saves indexes of its values
+   * in the dictionary by RLE.
    */
   PLAIN_DICTIONARY(2),
   /**
@@ -80,7 +79,17 @@ public enum Encoding implements org.apache.thrift.TEnum {
   /**
    * Discrete Fourier transform
    */
-  DFT(14);
+  DFT(14),
+  /**
+   * XOR with the previous value. Usable for lossless encoding of
+   * float and double values in a time series.
+   */
+  GORILLA(15),
+  /**
+   * Runs of values with a regular interval. Usable for encoding timestamps
+   * of a time series sampled at a fixed frequency.
+   */
+  REGULAR(16);
 
   private final int value;
 
@@ -127,6 +136,10 @@ public enum Encoding implements org.apache.thrift.TEnum {
         return SDT;
       case 14:
         return DFT;
+      case 15:
+        return GORILLA;
+      case 16:
+        return REGULAR;
       default:
         return null;
     }
@@ -35,6 +35,7 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
   private static final org.apache.thrift.protocol.TField STARTIME_FIELD_DESC = new org.apache.thrift.protocol.TField("startime", org.apache.thrift.protocol.TType.I64, (short)4);
   private static final org.apache.thrift.protocol.TField ENDTIME_FIELD_DESC = new org.apache.thrift.protocol.TField("endtime", org.apache.thrift.protocol.TType.I64, (short)5);
   private static final org.apache.thrift.protocol.TField ENUM_VALUES_FIELD_DESC = new org.apache.thrift.protocol.TField("enum_values", org.apache.thrift.protocol.TType.LIST, (short)6);
+  private static final org.apache.thrift.protocol.TField TIME_ENCODING_FIELD_DESC = new org.apache.thrift.protocol.TField("time_encoding", org.apache.thrift.protocol.TType.I32, (short)7);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -60,6 +61,13 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
    * values in time series
    */
   public List<String> enum_values; // optional
+  /**
+   * Encoding of timestamps, which is not recorded in page headers. TS_2DIFF
+   * is used if it is not set
+   * 
+   * @see Encoding
+   */
+  public Encoding time_encoding; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -80,7 +88,14 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
      * If values of data consist of enum values, metadata will store all possible
      * values in time series
      */
-    ENUM_VALUES((short)6, "enum_values");
+    ENUM_VALUES((short)6, "enum_values"),
+    /**
+     * Encoding of timestamps, which is not recorded in page headers. TS_2DIFF
+     * is used if it is not set
+     * 
+     * @see Encoding
+     */
+    TIME_ENCODING((short)7, "time_encoding");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -107,6 +122,8 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
           return ENDTIME;
         case 6: // ENUM_VALUES
           return ENUM_VALUES;
+        case 7: // TIME_ENCODING
+          return TIME_ENCODING;
         default:
           return null;
       }
@@ -150,7 +167,7 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
   private static final int __STARTIME_ISSET_ID = 0;
   private static final int __ENDTIME_ISSET_ID = 1;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.FREQ_TYPE,_Fields.FREQUENCIES,_Fields.ENUM_VALUES};
+  private static final _Fields optionals[] = {_Fields.FREQ_TYPE,_Fields.FREQUENCIES,_Fields.ENUM_VALUES,_Fields.TIME_ENCODING};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -168,6 +185,8 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
     tmpMap.put(_Fields.ENUM_VALUES, new org.apache.thrift.meta_data.FieldMetaData("enum_values", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.TIME_ENCODING, new org.apache.thrift.meta_data.FieldMetaData("time_encoding", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, Encoding.class)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TimeInTimeSeriesChunkMetaData.class, metaDataMap);
   }
@@ -209,6 +228,9 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
       List<String> __this__enum_values = new ArrayList<String>(other.enum_values);
       this.enum_values = __this__enum_values;
     }
+    if (other.isSetTime_encoding()) {
+      this.time_encoding = other.time_encoding;
+    }
   }
 
   public TimeInTimeSeriesChunkMetaData deepCopy() {
@@ -225,6 +247,7 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
     setEndtimeIsSet(false);
     this.endtime = 0;
     this.enum_values = null;
+    this.time_encoding = null;
   }
 
   /**
@@ -423,6 +446,42 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
     }
   }
 
+  /**
+   * Encoding of timestamps, which is not recorded in page headers. TS_2DIFF
+   * is used if it is not set
+   * 
+   * @see Encoding
+   */
+  public Encoding getTime_encoding() {
+    return this.time_encoding;
+  }
+
+  /**
+   * Encoding of timestamps, which is not recorded in page headers. TS_2DIFF
+   * is used if it is not set
+   * 
+   * @see Encoding
+   */
+  public TimeInTimeSeriesChunkMetaData setTime_encoding(Encoding time_encoding) {
+    this.time_encoding = time_encoding;
+    return this;
+  }
+
+  public void unsetTime_encoding() {
+    this.time_encoding = null;
+  }
+
+  /** Returns true if field time_encoding is set (has been assigned a value) and false otherwise */
+  public boolean isSetTime_encoding() {
+    return this.time_encoding != null;
+  }
+
+  public void setTime_encodingIsSet(boolean value) {
+    if (!value) {
+      this.time_encoding = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case DATA_TYPE:
@@ -473,6 +532,14 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
       }
       break;
 
+    case TIME_ENCODING:
+      if (value == null) {
+        unsetTime_encoding();
+      } else {
+        setTime_encoding((Encoding)value);
+      }
+      break;
+
     }
   }
 
@@ -496,6 +563,9 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
     case ENUM_VALUES:
       return getEnum_values();
 
+    case TIME_ENCODING:
+      return getTime_encoding();
+
     }
     throw new IllegalStateException();
   }
@@ -519,6 +589,8 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
       return isSetEndtime();
     case ENUM_VALUES:
       return isSetEnum_values();
+    case TIME_ENCODING:
+      return isSetTime_encoding();
     }
     throw new IllegalStateException();
   }
@@ -590,6 +662,15 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
         return false;
     }
 
+    boolean this_present_time_encoding = true && this.isSetTime_encoding();
+    boolean that_present_time_encoding = true && that.isSetTime_encoding();
+    if (this_present_time_encoding || that_present_time_encoding) {
+      if (!(this_present_time_encoding && that_present_time_encoding))
+        return false;
+      if (!this.time_encoding.equals(that.time_encoding))
+        return false;
+    }
+
     return true;
   }
 
@@ -627,6 +708,11 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
     if (present_enum_values)
       list.add(enum_values);
 
+    boolean present_time_encoding = true && (isSetTime_encoding());
+    list.add(present_time_encoding);
+    if (present_time_encoding)
+      list.add(time_encoding.getValue());
+
     return list.hashCode();
   }
 
@@ -698,6 +784,16 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetTime_encoding()).compareTo(other.isSetTime_encoding());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTime_encoding()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.time_encoding, other.time_encoding);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -763,6 +859,16 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
       }
       first = false;
     }
+    if (isSetTime_encoding()) {
+      if (!first) sb.append(", ");
+      sb.append("time_encoding:");
+      if (this.time_encoding == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.time_encoding);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -881,6 +987,14 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 7: // TIME_ENCODING
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.time_encoding = Encoding.findByValue(iprot.readI32());
+              struct.setTime_encodingIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -948,6 +1062,13 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
           oprot.writeFieldEnd();
         }
       }
+      if (struct.time_encoding != null) {
+        if (struct.isSetTime_encoding()) {
+          oprot.writeFieldBegin(TIME_ENCODING_FIELD_DESC);
+          oprot.writeI32(struct.time_encoding.getValue());
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -978,7 +1099,10 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
       if (struct.isSetEnum_values()) {
         optionals.set(2);
       }
-      oprot.writeBitSet(optionals, 3);
+      if (struct.isSetTime_encoding()) {
+        optionals.set(3);
+      }
+      oprot.writeBitSet(optionals, 4);
       if (struct.isSetFreq_type()) {
         oprot.writeI32(struct.freq_type.getValue());
       }
@@ -1000,6 +1124,9 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
           }
         }
       }
+      if (struct.isSetTime_encoding()) {
+        oprot.writeI32(struct.time_encoding.getValue());
+      }
     }
 
     @Override
@@ -1011,7 +1138,7 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
       struct.setStartimeIsSet(true);
       struct.endtime = iprot.readI64();
       struct.setEndtimeIsSet(true);
-      BitSet incoming = iprot.readBitSet(3);
+      BitSet incoming = iprot.readBitSet(4);
       if (incoming.get(0)) {
         struct.freq_type = FreqType.findByValue(iprot.readI32());
         struct.setFreq_typeIsSet(true);
@@ -1042,6 +1169,10 @@ public class TimeInTimeSeriesChunkMetaData implements org.apache.thrift.TBase<Ti
         }
         struct.setEnum_valuesIsSet(true);
       }
+      if (incoming.get(3)) {
+        struct.time_encoding = Encoding.findByValue(iprot.readI32());
+        struct.setTime_encodingIsSet(true);
+      }
     }
   }
 
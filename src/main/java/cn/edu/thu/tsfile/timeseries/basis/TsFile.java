@@ -16,10 +16,12 @@ import cn.edu.thu.tsfile.timeseries.write.TSRecordWriter;
 import cn.edu.thu.tsfile.timeseries.write.WriteSupport;
 import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
 import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileWriter;
 import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
 import cn.edu.thu.tsfile.timeseries.utils.RecordUtils;
+import cn.edu.thu.tsfile.timeseries.write.io.MetadataCheckpoint;
 import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 import org.json.JSONObject;
 
@@ -49,10 +51,29 @@ public class TsFile {
      */
     public TsFile(TSRandomAccessFileWriter tsFileOutputStream, JSONObject schemaJson)
             throws IOException, WriteProcessException {
+        this(tsFileOutputStream, schemaJson, null);
+    }
+
+    /**
+     * For Write with checkpoints, which may restore a TsFile not closed after a crash. The output
+     * stream should be opened after the checkpoint is opened:
+     * <pre>
+     * MetadataCheckpoint checkpoint = MetadataCheckpoint.open(file);
+     * TsFile tsFile = new TsFile(new FileChannelOutputStream(file, SyncPolicy.ROW_GROUP), schemaJson,
+     *         checkpoint);
+     * </pre>
+     *
+     * @param tsFileOutputStream an output stream of TsFile
+     * @param schemaJson       the fileSchema of TsFile in type of JSON
+     * @param checkpoint       checkpoint of the TsFile, null for writing without checkpoints
+     */
+    public TsFile(TSRandomAccessFileWriter tsFileOutputStream, JSONObject schemaJson,
+                  MetadataCheckpoint checkpoint) throws IOException, WriteProcessException {
         this.status = WRITE;
         fileSchema = new FileSchema(schemaJson);
         WriteSupport<TSRecord> writeSupport = new TSRecordWriteSupport();
-        TSFileIOWriter tsfileWriter = new TSFileIOWriter(fileSchema, tsFileOutputStream);
+        TSFileIOWriter tsfileWriter = checkpoint == null ? new TSFileIOWriter(fileSchema, tsFileOutputStream)
+                : new TSFileIOWriter(fileSchema, tsFileOutputStream, checkpoint);
         TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
         if (schemaJson.has(JsonFormatConstant.ROW_GROUP_SIZE))
             conf.groupSizeInByte = schemaJson.getInt(JsonFormatConstant.ROW_GROUP_SIZE);
@@ -125,6 +146,18 @@ public class TsFile {
         innerWriter.write(tsRecord);
     }
 
+    /**
+     * write a batch of rows of one delta object into TsFile
+     *
+     * @param tablet rows stored by column in form of {@linkplain TSTablet}
+     * @throws IOException           thrown if write process meats IOException like the output stream is closed abnormally.
+     * @throws WriteProcessException thrown if given data is not matched to fileSchema
+     */
+    public void writeTablet(TSTablet tablet) throws IOException, WriteProcessException {
+        checkStatus(WRITE);
+        innerWriter.write(tablet);
+    }
+
     /**
      * end the write process normally
      *
@@ -0,0 +1,88 @@
+package cn.edu.thu.tsfile.timeseries.filter.visitorImpl;
+
+import java.util.function.DoublePredicate;
+
+import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.And;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Eq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.GtEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.LtEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Not;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.NotEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Or;
+
+/**
+ * Compile a filter of FLOAT and DOUBLE series into a DoublePredicate once, so that
+ * a value can be judged without boxing and traversing the filter tree.
+ * The result is the same as {@link SingleValueVisitor}.</br>
+ * FLOAT values are widened to double, which is exact, so a FLOAT filter is
+ * evaluated with the same result as {@code SingleValueVisitor<Float>}.</br>
+ * Implemented per visitor pattern.
+ */
+public class DoublePredicateVisitor implements FilterVisitor<DoublePredicate> {
+
+    /**
+     * @param filter filter to be compiled, null means all values satisfy
+     * @return predicate equal to the filter
+     */
+    public DoublePredicate compile(SingleSeriesFilterExpression filter) {
+        if (filter == null) {
+            return v -> true;
+        }
+        return filter.accept(this);
+    }
+
+    private static double getValue(Object value) {
+        return ((Number) value).doubleValue();
+    }
+
+    @Override
+    public <T extends Comparable<T>> DoublePredicate visit(Eq<T> eq) {
+        double c = getValue(eq.getValue());
+        return v -> Double.compare(v, c) == 0;
+    }
+
+    @Override
+    public <T extends Comparable<T>> DoublePredicate visit(NotEq<T> notEq) {
+        double c = getValue(notEq.getValue());
+        return v -> Double.compare(v, c) != 0;
+    }
+
+    @Override
+    public <T extends Comparable<T>> DoublePredicate visit(LtEq<T> ltEq) {
+        double c = getValue(ltEq.getValue());
+        if (ltEq.getIfEq()) {
+            return v -> Double.compare(v, c) <= 0;
+        }
+        return v -> Double.compare(v, c) < 0;
+    }
+
+    @Override
+    public <T extends Comparable<T>> DoublePredicate visit(GtEq<T> gtEq) {
+        double c = getValue(gtEq.getValue());
+        if (gtEq.getIfEq()) {
+            return v -> Double.compare(v, c) >= 0;
+        }
+        return v -> Double.compare(v, c) > 0;
+    }
+
+    @Override
+    public DoublePredicate visit(Not not) {
+        return not.getFilterExpression().accept(this).negate();
+    }
+
+    @Override
+    public DoublePredicate visit(And and) {
+        DoublePredicate left = and.getLeft().accept(this);
+        DoublePredicate right = and.getRight().accept(this);
+        return v -> left.test(v) && right.test(v);
+    }
+
+    @Override
+    public DoublePredicate visit(Or or) {
+        DoublePredicate left = or.getLeft().accept(this);
+        DoublePredicate right = or.getRight().accept(this);
+        return v -> left.test(v) || right.test(v);
+    }
+
+}
@@ -0,0 +1,86 @@
+package cn.edu.thu.tsfile.timeseries.filter.visitorImpl;
+
+import java.util.function.IntPredicate;
+
+import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.And;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Eq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.GtEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.LtEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Not;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.NotEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Or;
+
+/**
+ * Compile a filter of INT32 series into an IntPredicate once, so that
+ * a value can be judged without boxing and traversing the filter tree.
+ * The result is the same as {@link SingleValueVisitor}.</br>
+ * Implemented per visitor pattern.
+ */
+public class IntPredicateVisitor implements FilterVisitor<IntPredicate> {
+
+    /**
+     * @param filter filter to be compiled, null means all values satisfy
+     * @return predicate equal to the filter
+     */
+    public IntPredicate compile(SingleSeriesFilterExpression filter) {
+        if (filter == null) {
+            return v -> true;
+        }
+        return filter.accept(this);
+    }
+
+    private static int getValue(Object value) {
+        return ((Number) value).intValue();
+    }
+
+    @Override
+    public <T extends Comparable<T>> IntPredicate visit(Eq<T> eq) {
+        int c = getValue(eq.getValue());
+        return v -> v == c;
+    }
+
+    @Override
+    public <T extends Comparable<T>> IntPredicate visit(NotEq<T> notEq) {
+        int c = getValue(notEq.getValue());
+        return v -> v != c;
+    }
+
+    @Override
+    public <T extends Comparable<T>> IntPredicate visit(LtEq<T> ltEq) {
+        int c = getValue(ltEq.getValue());
+        if (ltEq.getIfEq()) {
+            return v -> v <= c;
+        }
+        return v -> v < c;
+    }
+
+    @Override
+    public <T extends Comparable<T>> IntPredicate visit(GtEq<T> gtEq) {
+        int c = getValue(gtEq.getValue());
+        if (gtEq.getIfEq()) {
+            return v -> v >= c;
+        }
+        return v -> v > c;
+    }
+
+    @Override
+    public IntPredicate visit(Not not) {
+        return not.getFilterExpression().accept(this).negate();
+    }
+
+    @Override
+    public IntPredicate visit(And and) {
+        IntPredicate left = and.getLeft().accept(this);
+        IntPredicate right = and.getRight().accept(this);
+        return v -> left.test(v) && right.test(v);
+    }
+
+    @Override
+    public IntPredicate visit(Or or) {
+        IntPredicate left = or.getLeft().accept(this);
+        IntPredicate right = or.getRight().accept(this);
+        return v -> left.test(v) || right.test(v);
+    }
+
+}
@@ -0,0 +1,86 @@
+package cn.edu.thu.tsfile.timeseries.filter.visitorImpl;
+
+import java.util.function.LongPredicate;
+
+import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.And;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Eq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.GtEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.LtEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Not;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.NotEq;
+import cn.edu.thu.tsfile.timeseries.filter.definition.operators.Or;
+
+/**
+ * Compile a filter of INT64 and time series into a LongPredicate once, so that
+ * a value can be judged without boxing and traversing the filter tree.
+ * The result is the same as {@link SingleValueVisitor}.</br>
+ * Implemented per visitor pattern.
+ */
+public class LongPredicateVisitor implements FilterVisitor<LongPredicate> {
+
+    /**
+     * @param filter filter to be compiled, null means all values satisfy
+     * @return predicate equal to the filter
+     */
+    public LongPredicate compile(SingleSeriesFilterExpression filter) {
+        if (filter == null) {
+            return v -> true;
+        }
+        return filter.accept(this);
+    }
+
+    private static long getValue(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    @Override
+    public <T extends Comparable<T>> LongPredicate visit(Eq<T> eq) {
+        long c = getValue(eq.getValue());
+        return v -> v == c;
+    }
+
+    @Override
+    public <T extends Comparable<T>> LongPredicate visit(NotEq<T> notEq) {
+        long c = getValue(notEq.getValue());
+        return v -> v != c;
+    }
+
+    @Override
+    public <T extends Comparable<T>> LongPredicate visit(LtEq<T> ltEq) {
+        long c = getValue(ltEq.getValue());
+        if (ltEq.getIfEq()) {
+            return v -> v <= c;
+        }
+        return v -> v < c;
+    }
+
+    @Override
+    public <T extends Comparable<T>> LongPredicate visit(GtEq<T> gtEq) {
+        long c = getValue(gtEq.getValue());
+        if (gtEq.getIfEq()) {
+            return v -> v >= c;
+        }
+        return v -> v > c;
+    }
+
+    @Override
+    public LongPredicate visit(Not not) {
+        return not.getFilterExpression().accept(this).negate();
+    }
+
+    @Override
+    public LongPredicate visit(And and) {
+        LongPredicate left = and.getLeft().accept(this);
+        LongPredicate right = and.getRight().accept(this);
+        return v -> left.test(v) && right.test(v);
+    }
+
+    @Override
+    public LongPredicate visit(Or or) {
+        LongPredicate left = or.getLeft().accept(this);
+        LongPredicate right = or.getRight().accept(this);
+        return v -> left.test(v) || right.test(v);
+    }
+
+}
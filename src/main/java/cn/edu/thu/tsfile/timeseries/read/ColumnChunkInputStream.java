@@ -0,0 +1,145 @@
+package cn.edu.thu.tsfile.timeseries.read;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
+
+/**
+ * @description ColumnChunkInputStream reads a region [start, end) of a column
+ *              chunk from {@code TSRandomAccessFileReader} on demand. Only a
+ *              small buffer is kept for page headers, page contents are read
+ *              directly with exactly the requested size and skipped pages are
+ *              not read at all. Since the reader may be shared by several
+ *              ValueReaders, possibly in different threads, it seeks to its own
+ *              position before each read while holding the lock of the reader.
+ */
+public class ColumnChunkInputStream extends InputStream {
+
+	/**
+	 * bytes size of the buffer for small reads such as page headers
+	 */
+	private static final int BUFFER_SIZE = 4096;
+
+	private TSRandomAccessFileReader raf;
+	private final long end;
+	/**
+	 * position in file of the first byte in buf
+	 */
+	private long bufStart;
+	private byte[] buf;
+	private int bufLength = 0;
+	private int bufIdx = 0;
+
+	public ColumnChunkInputStream(TSRandomAccessFileReader raf, long start, long end) {
+		this.raf = raf;
+		this.bufStart = start;
+		this.end = end;
+		this.buf = new byte[BUFFER_SIZE];
+	}
+
+	/**
+	 * @return position in file of the next byte to read
+	 */
+	public long getPosition() {
+		return bufStart + bufIdx;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (bufIdx == bufLength && !fill()) {
+			return -1;
+		}
+		return buf[bufIdx++] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (available() == 0) {
+			return -1;
+		}
+		len = (int) Math.min(len, end - getPosition());
+		int readSize = Math.min(len, bufLength - bufIdx);
+		System.arraycopy(buf, bufIdx, b, off, readSize);
+		bufIdx += readSize;
+		if (readSize == len) {
+			return len;
+		}
+		if (len - readSize < BUFFER_SIZE) {
+			fill();
+			int n = Math.min(len - readSize, bufLength);
+			System.arraycopy(buf, 0, b, off + readSize, n);
+			bufIdx = n;
+			return readSize + n;
+		}
+
+		// large read such as page content, read into b directly
+		long pos = getPosition();
+		int n = readFully(pos, b, off + readSize, len - readSize);
+		resetBuffer(pos + n);
+		return readSize + n;
+	}
+
+	@Override
+	public long skip(long n) {
+		if (n <= 0) {
+			return 0;
+		}
+		n = Math.min(n, end - getPosition());
+		if (n <= bufLength - bufIdx) {
+			bufIdx += n;
+		} else {
+			resetBuffer(getPosition() + n);
+		}
+		return n;
+	}
+
+	@Override
+	public int available() {
+		return (int) (end - getPosition());
+	}
+
+	private void resetBuffer(long position) {
+		bufStart = position;
+		bufLength = 0;
+		bufIdx = 0;
+	}
+
+	/**
+	 * read next bytes from file into buf
+	 *
+	 * @return false if the end of this chunk is reached
+	 */
+	private boolean fill() throws IOException {
+		long pos = getPosition();
+		resetBuffer(pos);
+		int len = (int) Math.min(BUFFER_SIZE, end - pos);
+		if (len <= 0) {
+			return false;
+		}
+		bufLength = readFully(pos, buf, 0, len);
+		return bufLength > 0;
+	}
+
+	/**
+	 * read len bytes from position pos in file. The seek and read on raf are
+	 * done atomically since raf may be shared by threads reading other columns.
+	 */
+	private int readFully(long pos, byte[] b, int off, int len) throws IOException {
+		synchronized (raf) {
+			raf.seek(pos);
+			int readSize = 0;
+			while (readSize < len) {
+				int n = raf.read(b, off + readSize, len - readSize);
+				if (n < 0) {
+					throw new IOException("Expect byte size : " + len + ". Read size : " + readSize);
+				}
+				readSize += n;
+			}
+			return readSize;
+		}
+	}
+}
@@ -12,6 +12,8 @@ import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
 import cn.edu.thu.tsfile.file.metadata.TSFileMetaData;
 import cn.edu.thu.tsfile.file.metadata.converter.TSFileMetaDataConverter;
 import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
+import cn.edu.thu.tsfile.timeseries.read.cache.CacheUtils;
+import cn.edu.thu.tsfile.timeseries.read.cache.TsFileMetadataCache;
 import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 
 /**
@@ -44,10 +46,34 @@ public class FileReader {
     }
 	
 	/**
-	 * FileReader initialize, constructing fileMetaData and rowGroupReaders
+	 * FileReader initialize, constructing fileMetaData and rowGroupReaders. If
+	 * the metadata cache is enabled, the fileMetaData of a file which has been
+	 * opened before is taken from {@code TsFileMetadataCache} without reading
+	 * the footer. RowGroupReaders are always constructed for this raf.
 	 * @throws IOException 
 	 */
 	private void init() throws IOException {
+		TsFileMetadataCache metadataCache = TsFileMetadataCache.getInstance();
+		String fileId = null;
+		if (metadataCache.isEnabled()) {
+			fileId = CacheUtils.getFileId(raf);
+		}
+		if (fileId != null) {
+			this.fileMetaData = metadataCache.get(fileId);
+		}
+		if (this.fileMetaData == null) {
+			this.fileMetaData = readFileMetaData();
+			if (fileId != null) {
+				metadataCache.put(fileId, fileMetaData);
+			}
+		}
+		initFromRowGroupMetadataList(fileMetaData.getRowGroups());
+	}
+
+	/**
+	 * read and deserialize the footer of file
+	 */
+	private TSFileMetaData readFileMetaData() throws IOException {
 		long l = raf.length();
 		raf.seek(l - MAGIC_LENGTH - FOOTER_LENGTH);
 		int fileMetaDataLength = raf.readInt();
@@ -57,12 +83,8 @@ public class FileReader {
 		raf.read(buf, 0, buf.length);
 		bais = new ByteArrayInputStream(buf);
 
-		this.fileMetaData = new TSFileMetaDataConverter()
+		return new TSFileMetaDataConverter()
 				.toTSFileMetadata(ReadWriteThriftFormatUtils.readFileMetaData(bais));
-
-		rowGroupReaderList = new ArrayList<>();
-		rowGroupReadersMap = new HashMap<>();
-		initFromRowGroupMetadataList(fileMetaData.getRowGroups());
 	}
 
     private void initFromRowGroupMetadataList(List<RowGroupMetaData> rowGroupMetadataList){
@@ -15,9 +15,15 @@ import cn.edu.thu.tsfile.timeseries.read.management.FileStreamManager;
 public class LocalFileInput implements TSRandomAccessFileReader {
 
     private RandomAccessFile raf;
+    private String path;
 
     public LocalFileInput(String path) throws FileNotFoundException {
          this.raf = new RandomAccessFile(path, "r");
+         this.path = path;
+    }
+
+    public String getPath() {
+        return path;
     }
 
     @Override
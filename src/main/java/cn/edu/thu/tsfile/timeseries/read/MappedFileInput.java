@@ -0,0 +1,214 @@
+package cn.edu.thu.tsfile.timeseries.read;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
+import cn.edu.thu.tsfile.timeseries.read.management.FileStreamManager;
+
+/**
+ * @description File-read interface for local file using memory-mapped
+ *              buffers. A file larger than {@code Integer.MAX_VALUE} bytes is
+ *              mapped in several segments. Besides the methods of
+ *              {@code TSRandomAccessFileReader}, it provides {@code slice} to
+ *              get a ByteBuffer view of one region in file without copying.
+ */
+public class MappedFileInput implements TSRandomAccessFileReader {
+
+	/**
+	 * default max bytes size of one mapped segment
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+	private RandomAccessFile raf;
+	private String path;
+	private FileChannel channel;
+	private MappedByteBuffer[] segments;
+	private final long segmentSize;
+	private long length;
+	private long position = 0;
+	private volatile boolean closed = false;
+
+	public MappedFileInput(String path) throws IOException {
+		this(path, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * @param path
+	 *            file path
+	 * @param segmentSize
+	 *            max bytes size of one mapped segment
+	 * @throws IOException
+	 */
+	MappedFileInput(String path, int segmentSize) throws IOException {
+		this.raf = new RandomAccessFile(path, "r");
+		this.path = path;
+		this.channel = raf.getChannel();
+		this.segmentSize = segmentSize;
+		this.length = channel.size();
+
+		int segmentNum = (int) ((length + segmentSize - 1) / segmentSize);
+		segments = new MappedByteBuffer[segmentNum];
+		for (int i = 0; i < segmentNum; i++) {
+			long start = i * this.segmentSize;
+			long size = Math.min(this.segmentSize, length - start);
+			segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+		}
+	}
+
+	@Override
+	public void seek(long offset) throws IOException {
+		ensureOpen();
+		if (offset < 0) {
+			throw new IOException("Negative seek offset: " + offset);
+		}
+		this.position = offset;
+	}
+
+	@Override
+	public int read() throws IOException {
+		ensureOpen();
+		if (position >= length) {
+			return -1;
+		}
+		int b = segments[segmentIndex(position)].get(segmentOffset(position)) & 0xFF;
+		position++;
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		if (len == 0) {
+			return 0;
+		}
+		if (position >= length) {
+			return -1;
+		}
+		len = (int) Math.min(len, length - position);
+		readAt(position, b, off, len);
+		position += len;
+		return len;
+	}
+
+	/**
+	 * copy len bytes from pos in file into b without using the position of
+	 * this reader
+	 */
+	private void readAt(long pos, byte[] b, int off, int len) {
+		int readSize = 0;
+		while (readSize < len) {
+			ByteBuffer segment = segments[segmentIndex(pos)].duplicate();
+			segment.position(segmentOffset(pos));
+			int n = Math.min(len - readSize, segment.remaining());
+			segment.get(b, off + readSize, n);
+			readSize += n;
+			pos += n;
+		}
+	}
+
+	@Override
+	public long length() throws IOException {
+		ensureOpen();
+		return length;
+	}
+
+	/**
+	 * read a big-endian int as {@code RandomAccessFile.readInt}
+	 */
+	@Override
+	public int readInt() throws IOException {
+		ensureOpen();
+		if (position + 4 > length) {
+			throw new EOFException();
+		}
+		int idx = segmentIndex(position);
+		int segOffset = segmentOffset(position);
+		if (segOffset + 4 <= segments[idx].limit()) {
+			position += 4;
+			return segments[idx].getInt(segOffset);
+		}
+		int ch1 = read();
+		int ch2 = read();
+		int ch3 = read();
+		int ch4 = read();
+		return (ch1 << 24) + (ch2 << 16) + (ch3 << 8) + ch4;
+	}
+
+	/**
+	 * Get a read-only ByteBuffer of {@code len} bytes starting at
+	 * {@code offset}. If the region is inside one segment, the returned buffer
+	 * is a view of the mapped memory and no data is copied. Otherwise the
+	 * region is copied into a heap buffer. The position of this reader is not
+	 * changed, so slices can be taken by several threads concurrently.
+	 *
+	 * @param offset
+	 *            start position in file
+	 * @param len
+	 *            bytes size of the region
+	 * @return ByteBuffer whose position is 0 and limit is len
+	 * @throws IOException
+	 */
+	public ByteBuffer slice(long offset, int len) throws IOException {
+		ensureOpen();
+		if (offset < 0 || offset + len > length) {
+			throw new IOException("Slice out of file. Offset : " + offset + ". Length : " + len
+					+ ". File length : " + length);
+		}
+		int idx = segmentIndex(offset);
+		int segOffset = segmentOffset(offset);
+		if (len == 0 || segOffset + len <= segments[idx].limit()) {
+			ByteBuffer view = segments[idx].duplicate();
+			view.position(segOffset);
+			view.limit(segOffset + len);
+			return view.slice().asReadOnlyBuffer();
+		}
+
+		byte[] buf = new byte[len];
+		readAt(offset, buf, 0, len);
+		return ByteBuffer.wrap(buf).asReadOnlyBuffer();
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * throw IOException after close, as {@code LocalFileInput} does
+	 */
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException(path + " is closed");
+		}
+	}
+
+	private int segmentIndex(long pos) {
+		return (int) (pos / segmentSize);
+	}
+
+	private int segmentOffset(long pos) {
+		return (int) (pos % segmentSize);
+	}
+
+	/**
+	 * use {@code FileStreamManager} to manage all MappedFileInput
+	 */
+	public void closeFromManager() {
+		FileStreamManager.getInstance().close(this);
+	}
+
+	/**
+	 * Mapped buffers are released by GC after the channel is closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		segments = new MappedByteBuffer[0];
+		channel.close();
+		raf.close();
+	}
+}
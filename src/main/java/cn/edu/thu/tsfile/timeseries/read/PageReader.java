@@ -4,28 +4,33 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import cn.edu.thu.tsfile.common.utils.ByteBufferInputStream;
 import cn.edu.thu.tsfile.compress.UnCompressor;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
 import cn.edu.thu.tsfile.format.PageHeader;
 
 /**
- * @description PageReader is used to read a page in a column.
+ * @description PageReader is used to read a page in a column. If the input is a
+ *              {@code ByteBufferInputStream} and the column is uncompressed,
+ *              pages are returned as views of the input without copying.
  *
  * @author Jinrui Zhang
  *
  */
 public class PageReader {
-	private ByteArrayInputStream bis;
+	private InputStream bis;
 	private PageHeader pageHeader = null;
 	private UnCompressor unCompressor = null;
+	private CompressionTypeName compressionTypeName;
 
-	public PageReader(ByteArrayInputStream bis, CompressionTypeName compressionTypeName) {
+	public PageReader(InputStream bis, CompressionTypeName compressionTypeName) {
 		this.bis = bis;
+		this.compressionTypeName = compressionTypeName;
 		unCompressor = UnCompressor.getUnCompressor(compressionTypeName);
 	}
 
-	public boolean hasNextPage() {
+	public boolean hasNextPage() throws IOException {
 		if (bis.available() > 0)
 			return true;
 		return false;
@@ -43,24 +48,49 @@ public class PageReader {
 		return null;
 	}
 
-	public ByteArrayInputStream getNextPage() throws IOException {
+	public InputStream getNextPage() throws IOException {
+		if (bis.available() > 0) {
+			pageHeader = getNextPageHeader();
+			int pageSize = pageHeader.getCompressed_page_size();
+			if (bis instanceof ByteBufferInputStream && compressionTypeName == CompressionTypeName.UNCOMPRESSED) {
+				pageHeader = null;
+				return new ByteBufferInputStream(((ByteBufferInputStream) bis).slice(pageSize));
+			}
+			return new ByteArrayInputStream(getNextPageContent());
+		}
+		return null;
+	}
+
+	/**
+	 * Read and uncompress the content of next page.
+	 *
+	 * @return uncompressed bytes of next page, null if there is no more page
+	 */
+	public byte[] getNextPageContent() throws IOException {
 		if (bis.available() > 0) {
 			pageHeader = getNextPageHeader();
 			int pageSize = pageHeader.getCompressed_page_size();
 			byte[] pageContent = new byte[pageSize];
-			bis.read(pageContent, 0, pageSize);
+			readPage(bis, pageContent, pageSize);
 			pageContent = unCompressor.uncompress(pageContent);
 			pageHeader = null;
-			return new ByteArrayInputStream(pageContent);
+			return pageContent;
 		}
 		return null;
 	}
 
 	public void readPage(InputStream in, byte[] buf, int pageSize) throws IOException {
-		in.read(buf, 0, pageSize);
+		int readSize = 0;
+		while (readSize < pageSize) {
+			int n = in.read(buf, readSize, pageSize - readSize);
+			if (n < 0) {
+				throw new IOException("Expect page size : " + pageSize + ". Read size : " + readSize);
+			}
+			readSize += n;
+		}
 	}
 
-	public void skipCurrentPage() {
+	public void skipCurrentPage() throws IOException {
 		long skipSize = this.pageHeader.getCompressed_page_size();
 		bis.skip(skipSize);
 		pageHeader = null;
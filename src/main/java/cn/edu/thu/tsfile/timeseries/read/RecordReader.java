@@ -1,11 +1,23 @@
 package cn.edu.thu.tsfile.timeseries.read;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
 import cn.edu.thu.tsfile.common.exception.UnSupportedDataTypeException;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
@@ -13,6 +25,7 @@ import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
 import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
 import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeries;
 import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeriesType;
+import cn.edu.thu.tsfile.timeseries.read.management.FileStreamManager;
 import cn.edu.thu.tsfile.timeseries.read.metadata.SeriesSchema;
 import cn.edu.thu.tsfile.timeseries.read.query.DynamicOneColumnData;
 import org.slf4j.Logger;
@@ -31,15 +44,61 @@ public class RecordReader {
 	private static final Logger logger = LoggerFactory.getLogger(RecordReader.class);
 	private ReaderManager readerManager;
 	private HashMap<String, HashMap<String, SeriesSchema>> seriesSchemaMap;
+	private int rowGroupReadParallelism = TSFileDescriptor.getInstance().getConfig().rowGroupReadParallelism;
+	private ExecutorService rowGroupReadExecutor;
 
 	public RecordReader(String path) throws IOException {
-		this.readerManager = new ReaderManager(new LocalFileInput(path));
+		this.readerManager = new ReaderManager(FileStreamManager.getInstance().getLocalRandomAcessFileReader(path));
 	}
 
 	public RecordReader(TSRandomAccessFileReader raf) throws IOException {
 		this.readerManager = new ReaderManager(raf);
 	}
 
+	/**
+	 * Set the max number of RowGroups of one deltaObject decoded at the same
+	 * time by read functions 1#1 and 2#1.
+	 *
+	 * @param rowGroupReadParallelism
+	 *            1 means RowGroups are read one by one in the calling thread
+	 */
+	public synchronized void setRowGroupReadParallelism(int rowGroupReadParallelism) {
+		if (rowGroupReadParallelism < 1) {
+			throw new IllegalArgumentException("rowGroupReadParallelism should be positive: " + rowGroupReadParallelism);
+		}
+		if (rowGroupReadParallelism != this.rowGroupReadParallelism) {
+			closeRowGroupReadExecutor();
+		}
+		this.rowGroupReadParallelism = rowGroupReadParallelism;
+	}
+
+	public synchronized int getRowGroupReadParallelism() {
+		return rowGroupReadParallelism;
+	}
+
+	private synchronized ExecutorService getRowGroupReadExecutor() {
+		if (rowGroupReadExecutor == null) {
+			AtomicInteger threadCount = new AtomicInteger();
+			rowGroupReadExecutor = Executors.newFixedThreadPool(rowGroupReadParallelism, r -> {
+				Thread thread = new Thread(r, "tsfile-row-group-read-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return rowGroupReadExecutor;
+	}
+
+	/**
+	 * Release the threads used to read RowGroups concurrently. The file is not
+	 * closed, and the threads are created again by the next parallel read.
+	 */
+	public synchronized void closeRowGroupReadExecutor() {
+		if (rowGroupReadExecutor != null) {
+			rowGroupReadExecutor.shutdown();
+			rowGroupReadExecutor = null;
+		}
+	}
+
 	/**
 	 * Read function 1#1: read one column without filter
 	 * 
@@ -52,6 +111,9 @@ public class RecordReader {
 			, String deltaObjectUID, String measurementId) throws IOException {
 		checkSeries(deltaObjectUID, measurementId);
 		List<RowGroupReader> rowGroupReaderList = readerManager.getRowGroupReaderListByDeltaObject(deltaObjectUID);
+		if (rowGroupReadParallelism > 1) {
+			return getValuesInParallel(res, fetchSize, rowGroupReaderList, measurementId, null, null, null);
+		}
 		int i = 0;
 		if (res != null) {
 			i = res.getRowGroupIndex();
@@ -164,6 +226,10 @@ public class RecordReader {
 		}
 
 		List<RowGroupReader> rowGroupReaderList = readerManager.getRowGroupReaderListByDeltaObject(deltaObjectUID);
+		if (rowGroupReadParallelism > 1) {
+			return getValuesInParallel(res, fetchSize, rowGroupReaderList, measurementId, timeFilter, freqFilter,
+					valueFilter);
+		}
 		for (; i < rowGroupReaderList.size(); i++) {
 			RowGroupReader rowGroupReader = rowGroupReaderList.get(i);
 			res = getValuesUseFilter(res, fetchSize, rowGroupReader, measurementId, timeFilter, freqFilter, valueFilter);
@@ -177,6 +243,110 @@ public class RecordReader {
 		return res;
 	}
 
+	/**
+	 * Read one column with filters from the RowGroups of one deltaObject, where
+	 * up to rowGroupReadParallelism RowGroups are decoded concurrently by the
+	 * threads of this reader. Each RowGroup is decoded into its own
+	 * DynamicOneColumnData, at most fetchSize values of it, and they are
+	 * appended to res in the order of RowGroups, so the result is the same as
+	 * reading them one by one. No more RowGroup is submitted once fetchSize
+	 * values are appended, and the RowGroups submitted beyond it are read
+	 * again in next fetch. A RowGroup which has been partly read in last fetch is
+	 * finished in the calling thread first.
+	 *
+	 * @throws IOException
+	 */
+	private DynamicOneColumnData getValuesInParallel(DynamicOneColumnData res, int fetchSize,
+			List<RowGroupReader> rowGroupReaderList, String measurementId, SingleSeriesFilterExpression timeFilter,
+			SingleSeriesFilterExpression freqFilter, SingleSeriesFilterExpression valueFilter) throws IOException {
+		if (rowGroupReaderList.isEmpty()) {
+			return res;
+		}
+		if (res == null) {
+			res = new DynamicOneColumnData(rowGroupReaderList.get(0).getDataTypeBySeriesName(measurementId), true);
+		}
+		int i = res.getRowGroupIndex();
+		if (res.pageOffset != -1 && i < rowGroupReaderList.size()) {
+			RowGroupReader rowGroupReader = rowGroupReaderList.get(i);
+			res = getValuesUseFilter(res, fetchSize, rowGroupReader, measurementId, timeFilter, freqFilter, valueFilter);
+			res.setDeltaObjectType(rowGroupReader.getDeltaObjectType());
+			if (res.length >= fetchSize) {
+				res.hasReadAll = false;
+				return res;
+			}
+			if (res.getRowGroupIndex() == i) {
+				// no page in this RowGroup satisfies the filters
+				res.plusRowGroupIndexAndInitPageOffset();
+			}
+			i = res.getRowGroupIndex();
+		}
+
+		ExecutorService executor = getRowGroupReadExecutor();
+		int parallelism = getRowGroupReadParallelism();
+		// RowGroups being decoded, in the order of RowGroups from i
+		Deque<Future<DynamicOneColumnData>> tasks = new ArrayDeque<>();
+		AtomicBoolean discarded = new AtomicBoolean();
+		int next = i;
+		try {
+			while (i < rowGroupReaderList.size() && res.length < fetchSize) {
+				for (; next < rowGroupReaderList.size() && tasks.size() < parallelism; next++) {
+					ValueReader valueReader = rowGroupReaderList.get(next).getValueReaders().get(measurementId);
+					tasks.add(submit(executor, () -> discarded.get() ? null
+							: valueReader.readOneColumnUseFilter(new DynamicOneColumnData(valueReader.getDataType(), true),
+									fetchSize, timeFilter, freqFilter, valueFilter)));
+				}
+				DynamicOneColumnData rowGroupRes;
+				try {
+					rowGroupRes = tasks.poll().get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted when reading RowGroup " + i, e);
+				} catch (ExecutionException e) {
+					throw new IOException("Fail to read RowGroup " + i, e.getCause());
+				}
+				res.mergeRecord(rowGroupRes);
+				res.setDeltaObjectType(rowGroupReaderList.get(i).getDeltaObjectType());
+				if (rowGroupRes.getRowGroupIndex() == 0 && rowGroupRes.length >= fetchSize) {
+					// the RowGroup is stopped by fetchSize, go on with it in next fetch
+					res.pageOffset = rowGroupRes.pageOffset;
+					res.leftSize = rowGroupRes.leftSize;
+					break;
+				}
+				res.plusRowGroupIndexAndInitPageOffset();
+				i++;
+			}
+		} finally {
+			// RowGroups submitted beyond fetchSize are discarded. The ones not
+			// started are skipped, and the running ones are waited for, so
+			// that their ValueReaders are not used by two threads in next fetch
+			discarded.set(true);
+			for (Future<DynamicOneColumnData> task : tasks) {
+				try {
+					task.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (ExecutionException e) {
+					logger.debug("Fail to read a discarded RowGroup", e.getCause());
+				}
+			}
+		}
+		if (res.length >= fetchSize) {
+			res.hasReadAll = false;
+		}
+		return res;
+	}
+
+	private static Future<DynamicOneColumnData> submit(ExecutorService executor, Callable<DynamicOneColumnData> task) {
+		try {
+			return executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			// the executor has been closed, read in current thread
+			FutureTask<DynamicOneColumnData> future = new FutureTask<>(task);
+			future.run();
+			return future;
+		}
+	}
+
 	public DynamicOneColumnData getValuesUseFilter(DynamicOneColumnData res, int fetchSize
 			, SingleSeriesFilterExpression valueFilter) throws IOException {
 		String deltaObjectUID = valueFilter.getFilterSeries().getDeltaObjectUID();
@@ -502,7 +672,7 @@ public class RecordReader {
 		}
 	}
 
-	private void checkSeries(String deltaObject, String measurement) throws IOException {
+	private synchronized void checkSeries(String deltaObject, String measurement) throws IOException {
 		if(seriesSchemaMap == null){
 			seriesSchemaMap = new HashMap<>();
 			HashMap<String, ArrayList<SeriesSchema>> seriesSchemaListMap = getAllSeriesSchemasGroupByDeltaObject();
@@ -539,6 +709,7 @@ public class RecordReader {
 	}
 	
 	public void close() throws IOException{
+		closeRowGroupReadExecutor();
 		readerManager.close();
 	}
 }
@@ -11,7 +11,9 @@ import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
 import cn.edu.thu.tsfile.file.metadata.TimeSeriesChunkMetaData;
+import cn.edu.thu.tsfile.encoding.decoder.RegularDataDecoder;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
 import cn.edu.thu.tsfile.timeseries.read.query.DynamicOneColumnData;
 
@@ -54,6 +56,11 @@ public class RowGroupReader {
                         tscMetaData.getVInTimeSeriesChunkMetaData().getDigest(), this.raf,
                         tscMetaData.getVInTimeSeriesChunkMetaData().getEnumValues(),
                         tscMetaData.getProperties().getCompression(), tscMetaData.getNumRows());
+				si.setIndexPageOffset(tscMetaData.getIndexPageOffset());
+				si.setDictionaryPageOffset(tscMetaData.getDictionaryPageOffset());
+				if (tscMetaData.getTInTimeSeriesChunkMetaData() != null
+						&& tscMetaData.getTInTimeSeriesChunkMetaData().getTimeEncoding() == TSEncoding.REGULAR)
+					si.setTimeDecoder(new RegularDataDecoder());
 				valueReaders.put(tscMetaData.getProperties().getMeasurementUID(), si);
 			}
 		}
@@ -5,7 +5,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 
+import cn.edu.thu.tsfile.common.utils.ByteBufferInputStream;
 import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
 import cn.edu.thu.tsfile.common.utils.BytesUtils;
 import org.slf4j.Logger;
@@ -15,16 +19,29 @@ import cn.edu.thu.tsfile.common.utils.Binary;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
 import cn.edu.thu.tsfile.encoding.decoder.Decoder;
 import cn.edu.thu.tsfile.encoding.decoder.DeltaBinaryDecoder;
+import cn.edu.thu.tsfile.encoding.decoder.DictionaryDecoder;
+import cn.edu.thu.tsfile.encoding.decoder.RegularDataDecoder;
+import cn.edu.thu.tsfile.file.metadata.PageIndex;
 import cn.edu.thu.tsfile.file.metadata.TSDigest;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
 import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
 import cn.edu.thu.tsfile.timeseries.filter.utils.DigestForFilter;
+import cn.edu.thu.tsfile.timeseries.filter.utils.LongInterval;
+import cn.edu.thu.tsfile.timeseries.filter.verifier.FilterVerifier;
 import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.DigestVisitor;
+import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.DoublePredicateVisitor;
+import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.IntPredicateVisitor;
+import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.LongPredicateVisitor;
 import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.SingleValueVisitor;
 import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.SingleValueVisitorFactory;
 import cn.edu.thu.tsfile.format.Digest;
+import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
 import cn.edu.thu.tsfile.format.PageHeader;
+import cn.edu.thu.tsfile.format.PageType;
+import cn.edu.thu.tsfile.timeseries.read.cache.CacheUtils;
+import cn.edu.thu.tsfile.timeseries.read.cache.PageCache;
+import cn.edu.thu.tsfile.timeseries.read.cache.PageCache.PageKey;
 import cn.edu.thu.tsfile.timeseries.read.query.DynamicOneColumnData;
 
 /**
@@ -49,7 +66,16 @@ public class ValueReader {
 	protected List<String> enumValues;
 	protected CompressionTypeName compressionTypeName;
 	protected long rowNums;
-	
+	// identifier of the file in PageCache
+	private String fileId = null;
+	// offset of the index page header in file, 0 if this column has no page index
+	protected long indexPageOffset = 0;
+	private PageIndex pageIndex = null;
+	// offset of the dictionary page header in file, 0 if this column is not
+	// encoded by PLAIN_DICTIONARY
+	protected long dictionaryPageOffset = 0;
+	private Binary[] dictionary = null;
+
 	// save the mainFrequency of this page
 	protected List<float[]> mainFrequency = null;
 
@@ -110,7 +136,6 @@ public class ValueReader {
 	 */
 	protected long[] initTimeValue(InputStream page, int size, boolean skip) throws IOException {
 		long[] res = null;
-		int idx = 0;
 
 		int length = ReadWriteStreamUtils.readUnsignedVarInt(page);
 		byte[] buf = new byte[length];
@@ -122,47 +147,198 @@ public class ValueReader {
 		if (!skip) {
 			ByteArrayInputStream bis = new ByteArrayInputStream(buf);
 			res = new long[size];
-			while (timeDecoder.hasNext(bis)) {
-				res[idx++] = timeDecoder.readLong(bis);
-			}
+			timeDecoder.readLongs(bis, res, 0, size);
 		}
 
 		return res;
 	}
 
 	/**
-	 * Init current ValueReader use totalSize.
+	 * Read time value of a page encoded by REGULAR as one block of
+	 * regularDecoder, so that they are computed by their positions instead of
+	 * being read one by one.
 	 *
-	 * @return
+	 * @param size
+	 *            number of rows in the page
 	 * @throws IOException
 	 */
-	private ByteArrayInputStream initBAIS() throws IOException {
-		int length = (int) this.totalSize;
+	private void initRegularTimeValue(InputStream page, RegularDataDecoder regularDecoder, int size) throws IOException {
+		int length = ReadWriteStreamUtils.readUnsignedVarInt(page);
 		byte[] buf = new byte[length];
-		int readSize = 0;
-
-		raf.seek(fileOffset);
-		readSize = raf.read(buf, 0, length);
+		int readSize = page.read(buf, 0, length);
 		if (readSize != length) {
 			throw new IOException("Expect byte size : " + length + ". Read size : " + readSize);
 		}
+		int count = regularDecoder.loadBlock(new ByteArrayInputStream(buf));
+		if (count != size) {
+			throw new IOException("Expect " + size + " timestamps in one block. Read size : " + count);
+		}
+	}
 
-		ByteArrayInputStream bais = new ByteArrayInputStream(buf);
-		return bais;
+	/**
+	 * Turn timeFilter into the range [from, to) of positions in the block
+	 * loaded by regularDecoder, by binary search on its timestamps. Timestamps
+	 * out of the range do not satisfy timeFilter.
+	 *
+	 * @param interval
+	 *            interval of timeFilter
+	 * @return {from, to}
+	 */
+	private int[] getPositionRange(RegularDataDecoder regularDecoder, LongInterval interval, LongPredicate timePredicate) {
+		if (interval.count == 0) {
+			return new int[] { 0, 0 };
+		}
+		long minTime = Long.MAX_VALUE;
+		long maxTime = Long.MIN_VALUE;
+		for (int i = 0; i < interval.count; i += 2) {
+			minTime = Math.min(minTime, interval.v[i]);
+			maxTime = Math.max(maxTime, interval.v[i + 1]);
+		}
+		int from = regularDecoder.getPosition(minTime);
+		int to = maxTime == Long.MAX_VALUE ? regularDecoder.getCount() : regularDecoder.getPosition(maxTime + 1);
+		// bounds of the interval may be open
+		while (from < to && !timePredicate.test(regularDecoder.getValue(from))) {
+			from++;
+		}
+		while (from < to && !timePredicate.test(regularDecoder.getValue(to - 1))) {
+			to--;
+		}
+		return new int[] { from, to };
 	}
-	
-	private ByteArrayInputStream initBAISForOnePage(long pageOffset) throws IOException {
-		int length = (int) (this.totalSize - (pageOffset - fileOffset));
-		byte[] buf = new byte[length]; 
-		int readSize = 0;
-		raf.seek(pageOffset);
-		readSize = raf.read(buf, 0, length);
-		if (readSize != length) {
-			throw new IOException("Expect byte size : " + length + ". Read size : " + readSize);
+
+	/**
+	 * Get an InputStream of current column from pageOffset to the end. If raf
+	 * is a {@code MappedFileInput}, the stream is a view of the mapped file and
+	 * no bytes are copied. Otherwise pages are read one by one from raf when
+	 * they are consumed, so that only the pages needed by this fetch are read.
+	 */
+	private InputStream initBAISForOnePage(long pageOffset) throws IOException {
+		if (raf instanceof MappedFileInput) {
+			int length = (int) (this.totalSize - (pageOffset - fileOffset));
+			return new ByteBufferInputStream(((MappedFileInput) raf).slice(pageOffset, length));
 		}
+		return new ColumnChunkInputStream(raf, pageOffset, fileOffset + totalSize);
+	}
 
-		ByteArrayInputStream bais = new ByteArrayInputStream(buf);
-		return bais;
+	/**
+	 * Get the uncompressed content of next page whose header has been read by
+	 * pageReader. If the page cache is enabled, the content is taken from
+	 * {@code PageCache} and the page in bis is skipped.
+	 *
+	 * @param pageOffset
+	 *            offset of the page header in file
+	 */
+	private InputStream getNextPage(PageReader pageReader, long pageOffset) throws IOException {
+		PageCache pageCache = PageCache.getInstance();
+		if (!pageCache.isEnabled()) {
+			return pageReader.getNextPage();
+		}
+		if (fileId == null) {
+			fileId = CacheUtils.getFileId(raf);
+		}
+		if (fileId == null) {
+			return pageReader.getNextPage();
+		}
+		PageKey key = new PageKey(fileId, fileOffset, pageOffset);
+		byte[] pageContent = pageCache.get(key);
+		if (pageContent == null) {
+			pageContent = pageReader.getNextPageContent();
+			pageCache.put(key, pageContent);
+		} else {
+			pageReader.skipCurrentPage();
+		}
+		return new ByteArrayInputStream(pageContent);
+	}
+
+	/**
+	 * Read the page index of this column, which is written after the data
+	 * pages if there are more than one page ordered by time.
+	 *
+	 * @return null if this column has no page index
+	 */
+	private PageIndex getPageIndex() throws IOException {
+		if (indexPageOffset <= 0) {
+			return null;
+		}
+		if (pageIndex == null) {
+			InputStream in = new ColumnChunkInputStream(raf, indexPageOffset, raf.length());
+			PageHeader header = ReadWriteThriftFormatUtils.readPageHeader(in);
+			if (header.getType() != PageType.INDEX_PAGE) {
+				throw new IOException("Expect index page at " + indexPageOffset + ". Read page type : " + header.getType());
+			}
+			pageIndex = PageIndex.deserializeFrom(in);
+		}
+		return pageIndex;
+	}
+
+	/**
+	 * Read the dictionary of this column, which is written after the data
+	 * pages if it is encoded by PLAIN_DICTIONARY, and shared by all its pages.
+	 */
+	private Binary[] getDictionary() throws IOException {
+		if (dictionaryPageOffset <= 0) {
+			throw new IOException("Expect dictionary page of column at " + fileOffset);
+		}
+		if (dictionary == null) {
+			InputStream in = new ColumnChunkInputStream(raf, dictionaryPageOffset, raf.length());
+			PageReader pageReader = new PageReader(in, compressionTypeName);
+			PageHeader header = pageReader.getNextPageHeader();
+			if (header.getType() != PageType.DICTIONARY_PAGE) {
+				throw new IOException(
+						"Expect dictionary page at " + dictionaryPageOffset + ". Read page type : " + header.getType());
+			}
+			dictionary = DictionaryDecoder.readDictionary(new ByteArrayInputStream(pageReader.getNextPageContent()),
+					header.getDictionary_page_header().getNum_values());
+		}
+		return dictionary;
+	}
+
+	/**
+	 * Get the decoder of a data page by its encoding. A decoder of
+	 * PLAIN_DICTIONARY is given the dictionary of this column.
+	 */
+	private Decoder getDecoder(PageHeader pageHeader) throws IOException {
+		Decoder d = Decoder.getDecoderByType(pageHeader.getData_page_header().getEncoding(), getDataType());
+		if (d instanceof DictionaryDecoder) {
+			((DictionaryDecoder) d).setDictionary(getDictionary());
+		}
+		return d;
+	}
+
+	/**
+	 * Narrow [startOffset, endOffset) of the data pages to read down to the
+	 * pages which may contain a time satisfying timeFilter, by binary search in
+	 * the page index. Both offsets are positions in file.
+	 *
+	 * @return {startOffset, endOffset}, or null if this column has no page
+	 *         index or timeFilter is null
+	 */
+	private long[] getPageRangeByTime(SingleSeriesFilterExpression timeFilter) throws IOException {
+		if (timeFilter == null) {
+			return null;
+		}
+		PageIndex index = getPageIndex();
+		if (index == null) {
+			return null;
+		}
+		LongInterval interval = (LongInterval) FilterVerifier.get(timeFilter).getInterval(timeFilter);
+		if (interval.count == 0) {
+			return new long[] { fileOffset + totalSize, fileOffset + totalSize };
+		}
+		long minTime = Long.MAX_VALUE;
+		long maxTime = Long.MIN_VALUE;
+		for (int i = 0; i < interval.count; i += 2) {
+			minTime = Math.min(minTime, interval.v[i]);
+			maxTime = Math.max(maxTime, interval.v[i + 1]);
+		}
+		int first = index.firstPageEndingAtOrAfter(minTime);
+		int last = index.lastPageStartingAtOrBefore(maxTime);
+		if (first > last) {
+			return new long[] { fileOffset + totalSize, fileOffset + totalSize };
+		}
+		long startOffset = fileOffset + index.getOffset(first);
+		long endOffset = last + 1 < index.size() ? fileOffset + index.getOffset(last + 1) : fileOffset + totalSize;
+		return new long[] { startOffset, endOffset };
 	}
 
 	/**
@@ -179,11 +355,12 @@ public class ValueReader {
 		DigestForFilter digestFF = null;
 
 		if (getDataType() == TSDataType.ENUMS) {
+			// digest may be shared by cached metadata, so its position is not changed
 			byte[] minValue = new byte[digest.min.remaining()];
-			digest.min.get(minValue);
+			digest.min.duplicate().get(minValue);
 			String minString = enumValues.get(BytesUtils.bytesToInt(minValue) - 1);
 			byte[] maxValue = new byte[digest.max.remaining()];
-			digest.max.get(maxValue);
+			digest.max.duplicate().get(maxValue);
 			String maxString = enumValues.get(BytesUtils.bytesToInt(maxValue) - 1);
 			digestFF = new DigestForFilter(ByteBuffer.wrap(BytesUtils.StringToBytes(minString)), ByteBuffer.wrap(BytesUtils.StringToBytes(maxString)), TSDataType.BYTE_ARRAY);
 		} else {
@@ -249,13 +426,28 @@ public class ValueReader {
 			SingleSeriesFilterExpression timeFilter, SingleSeriesFilterExpression freqFilter, SingleSeriesFilterExpression valueFilter)
 					throws IOException {
 
-		SingleValueVisitor<?> timeVisitor = null;
-		if(timeFilter != null){
-			timeVisitor = getSingleValueVisitorByDataType(TSDataType.INT64, timeFilter);
-		}
+		// compile filters once for this call, so that values of primitive
+		// types are judged without boxing in the loops below
+		LongPredicate timePredicate = new LongPredicateVisitor().compile(timeFilter);
+		IntPredicate intPredicate = null;
+		LongPredicate longPredicate = null;
+		DoublePredicate doublePredicate = null;
 		SingleValueVisitor<?> valueVisitor = null;
-		if(valueFilter != null){
-			valueVisitor = getSingleValueVisitorByDataType(getDataType(), valueFilter);
+		switch (getDataType()) {
+		case INT32:
+			intPredicate = new IntPredicateVisitor().compile(valueFilter);
+			break;
+		case INT64:
+			longPredicate = new LongPredicateVisitor().compile(valueFilter);
+			break;
+		case FLOAT:
+		case DOUBLE:
+			doublePredicate = new DoublePredicateVisitor().compile(valueFilter);
+			break;
+		default:
+			if (valueFilter != null) {
+				valueVisitor = getSingleValueVisitorByDataType(getDataType(), valueFilter);
+			}
 		}
 		
 		if (res == null) {
@@ -272,14 +464,35 @@ public class ValueReader {
 		// record the length of res before reading
 		int currentLength = res.length;
 
+		// if timestamps are encoded by REGULAR, timeFilter is turned into a
+		// range of positions in each page, and the values out of the range are
+		// skipped without being judged. If timeFilter is a single interval, the
+		// values in the range need no judgement of time either.
+		LongInterval timeInterval = null;
+		LongPredicate rangeTimePredicate = timePredicate;
+		if (timeFilter != null && timeDecoder instanceof RegularDataDecoder) {
+			timeInterval = (LongInterval) FilterVerifier.get(timeFilter).getInterval(timeFilter);
+			if (timeInterval.count == 2) {
+				rangeTimePredicate = time -> true;
+			}
+		}
+
 		if (columnSatisfied(valueFilter, timeFilter, freqFilter)) {
 			log.debug("ValueFilter satisfied Or ValueFilter is null. [ValueFilter] is: " + valueFilter);
 
+			// skip the pages out of the time range of timeFilter
+			long endOffset = fileOffset + totalSize;
+			long[] pageRange = getPageRangeByTime(timeFilter);
+			if (pageRange != null) {
+				res.pageOffset = Math.max(res.pageOffset, pageRange[0]);
+				endOffset = pageRange[1];
+			}
+
 			// Initialize the bis according to the offset in last read.
-			ByteArrayInputStream bis = initBAISForOnePage(res.pageOffset);
+			InputStream bis = initBAISForOnePage(res.pageOffset);
 			PageReader pageReader = new PageReader(bis, compressionTypeName);
 			int pageCount = 0;
-			while ((res.pageOffset - fileOffset) < totalSize && (res.length - currentLength) < fetchSize) {
+			while (res.pageOffset < endOffset && (res.length - currentLength) < fetchSize) {
 				int lastAvailable = bis.available();
 
 				pageCount++;
@@ -312,27 +525,39 @@ public class ValueReader {
 
 					log.debug("page " + pageCount + " satisfied filter");
 
-					InputStream page = pageReader.getNextPage();
-
-					setDecoder(Decoder.getDecoderByType(pageHeader.getData_page_header().getEncoding(), getDataType()));
-
-					// get timevalues in this page
-					long[] timeValues = initTimeValue(page, pageHeader.data_page_header.num_rows, false);
+					InputStream page = getNextPage(pageReader, res.pageOffset);
+
+					setDecoder(getDecoder(pageHeader));
+
+					// get timevalues in this page, and the range [from, to) of
+					// positions which may satisfy timeFilter
+					long[] timeValues;
+					int from = 0;
+					int to;
+					LongPredicate pageTimePredicate = timePredicate;
+					if (timeInterval != null) {
+						RegularDataDecoder regularDecoder = (RegularDataDecoder) timeDecoder;
+						initRegularTimeValue(page, regularDecoder, pageHeader.data_page_header.num_rows);
+						int[] range = getPositionRange(regularDecoder, timeInterval, timePredicate);
+						from = range[0];
+						to = range[1];
+						timeValues = new long[to];
+						regularDecoder.getValues(from, timeValues, from, to - from);
+						pageTimePredicate = rangeTimePredicate;
+					} else {
+						timeValues = initTimeValue(page, pageHeader.data_page_header.num_rows, false);
+						to = timeValues.length;
+					}
 
 					try {
 						int timeIdx = 0;
+						int count;
 						switch (dataType) {
 							case BOOLEAN:
-								while (decoder.hasNext(page)) {
+								while (timeIdx < to && decoder.hasNext(page)) {
 									boolean v = decoder.readBoolean(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+									if (timeIdx >= from && (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter))
+											&& pageTimePredicate.test(timeValues[timeIdx])) {
 										res.putBoolean(v);
 										res.putTime(timeValues[timeIdx]);
 									}
@@ -340,84 +565,50 @@ public class ValueReader {
 								}
 								break;
 							case INT32:
-								while (decoder.hasNext(page)) {
-									int v = decoder.readInt(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
-										res.putInt(v);
-										res.putTime(timeValues[timeIdx]);
+								int[] intValues = new int[to];
+								count = decoder.readInts(page, intValues, 0, to);
+								for (int i = from; i < count; i++) {
+									if (intPredicate.test(intValues[i]) && pageTimePredicate.test(timeValues[i])) {
+										res.putInt(intValues[i]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case INT64:
-								while (decoder.hasNext(page)) {
-									long v = decoder.readLong(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
-										res.putLong(v);
-										res.putTime(timeValues[timeIdx]);
+								long[] longValues = new long[to];
+								count = decoder.readLongs(page, longValues, 0, to);
+								for (int i = from; i < count; i++) {
+									if (longPredicate.test(longValues[i]) && pageTimePredicate.test(timeValues[i])) {
+										res.putLong(longValues[i]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case FLOAT:
-								while (decoder.hasNext(page)) {
-									float v = decoder.readFloat(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
-										res.putFloat(v);
-										res.putTime(timeValues[timeIdx]);
+								float[] floatValues = new float[to];
+								count = decoder.readFloats(page, floatValues, 0, to);
+								for (int i = from; i < count; i++) {
+									if (doublePredicate.test(floatValues[i]) && pageTimePredicate.test(timeValues[i])) {
+										res.putFloat(floatValues[i]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case DOUBLE:
-								while (decoder.hasNext(page)) {
-									double v = decoder.readDouble(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
-										res.putDouble(v);
-										res.putTime(timeValues[timeIdx]);
+								double[] doubleValues = new double[to];
+								count = decoder.readDoubles(page, doubleValues, 0, to);
+								for (int i = from; i < count; i++) {
+									if (doublePredicate.test(doubleValues[i]) && pageTimePredicate.test(timeValues[i])) {
+										res.putDouble(doubleValues[i]);
+										res.putTime(timeValues[i]);
 									}
-									timeIdx++;
 								}
 								break;
 							case BYTE_ARRAY:
-								while (decoder.hasNext(page)) {
+								while (timeIdx < to && decoder.hasNext(page)) {
 									Binary v = decoder.readBinary(page);
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(v, valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(v, valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+									if (timeIdx >= from && (valueFilter == null || valueVisitor.satisfyObject(v, valueFilter))
+											&& pageTimePredicate.test(timeValues[timeIdx])) {
 										res.putBinary(v);
 										res.putTime(timeValues[timeIdx]);
 									}
@@ -425,16 +616,10 @@ public class ValueReader {
 								}
 								break;
 							case ENUMS:
-								while (decoder.hasNext(page)) {
+								while (timeIdx < to && decoder.hasNext(page)) {
 									int v = decoder.readInt(page) - 1;
-									if ((valueFilter == null && timeFilter == null)
-											|| (valueFilter != null && timeFilter == null
-											&& valueVisitor.satisfyObject(enumValues.get(v), valueFilter))
-											|| (valueFilter == null && timeFilter != null
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))
-											|| (valueFilter != null && timeFilter != null
-											&& valueVisitor.satisfyObject(enumValues.get(v), valueFilter)
-											&& timeVisitor.satisfyObject(timeValues[timeIdx], timeFilter))) {
+									if (timeIdx >= from && (valueFilter == null || valueVisitor.satisfyObject(enumValues.get(v), valueFilter))
+											&& pageTimePredicate.test(timeValues[timeIdx])) {
 										res.putBinary(Binary.valueOf(enumValues.get(v)));
 										res.putTime(timeValues[timeIdx]);
 									}
@@ -456,7 +641,7 @@ public class ValueReader {
 
 			// Represents current Column has been read all. Prepare for next
 			// column in another RowGroup
-			if ((res.pageOffset - fileOffset) >= totalSize) {
+			if (res.pageOffset >= endOffset) {
 				res.plusRowGroupIndexAndInitPageOffset();
 			}
 			return res;
@@ -482,13 +667,24 @@ public class ValueReader {
 		// time index of timeValues
 		int timeIdx = 0;
 
-		ByteArrayInputStream bis = initBAIS();
+		// start from the first page which may contain timestamps[0]
+		long startOffset = fileOffset;
+		PageIndex index = getPageIndex();
+		if (index != null) {
+			int first = index.firstPageEndingAtOrAfter(timestamps[0]);
+			if (first == index.size()) {
+				return res;
+			}
+			startOffset += index.getOffset(first);
+		}
+		InputStream bis = initBAISForOnePage(startOffset);
 		PageReader pageReader = new PageReader(bis, compressionTypeName);
 		int pageCount = 0;
 
 		while (timeIdx < timestamps.length && pageReader.hasNextPage()) {
 			pageCount++;
 			log.debug("read page " + pageCount);
+			long pageOffset = fileOffset + totalSize - bis.available();
 			PageHeader pageHeader = pageReader.getNextPageHeader();
 
 			long timeMaxv = pageHeader.data_page_header.getMax_timestamp();
@@ -496,9 +692,14 @@ public class ValueReader {
 			// If there may be some values acceptable in this page
 			if (timeIdx < timestamps.length && timeMaxv >= timestamps[timeIdx]) {
 
-				InputStream page = pageReader.getNextPage();
+				InputStream page = getNextPage(pageReader, pageOffset);
 
-				setDecoder(Decoder.getDecoderByType(pageHeader.getData_page_header().getEncoding(), getDataType()));
+				setDecoder(getDecoder(pageHeader));
+
+				if (timeDecoder instanceof RegularDataDecoder) {
+					timeIdx = getValuesByPosition(page, pageHeader.data_page_header.num_rows, timestamps, timeIdx, res);
+					continue;
+				}
 
 				long[] timeValues = initTimeValue(page, pageHeader.data_page_header.num_rows, false);
 
@@ -633,11 +834,115 @@ public class ValueReader {
 		return res;
 	}
 
+	/**
+	 * Read the values of a page whose time is included in timestamps from
+	 * timeIdx, if timestamps of the page are encoded by REGULAR. Positions of
+	 * timestamps are found by binary search instead of comparing them with
+	 * every timestamp of the page.
+	 *
+	 * @return index of the first timestamp after this page
+	 * @throws IOException
+	 */
+	private int getValuesByPosition(InputStream page, int size, long[] timestamps, int timeIdx,
+			DynamicOneColumnData res) throws IOException {
+		RegularDataDecoder regularDecoder = (RegularDataDecoder) timeDecoder;
+		initRegularTimeValue(page, regularDecoder, size);
+		// position of next value in page
+		int i = 0;
+		while (timeIdx < timestamps.length) {
+			int position = regularDecoder.getPosition(timestamps[timeIdx]);
+			if (position == size) {
+				break;
+			}
+			if (position >= i && regularDecoder.getValue(position) == timestamps[timeIdx]) {
+				for (; i < position; i++) {
+					skipValue(page);
+				}
+				readValue(page, res);
+				res.putTime(timestamps[timeIdx]);
+				i++;
+			}
+			timeIdx++;
+		}
+		return timeIdx;
+	}
+
+	/**
+	 * Read next value of the page into res.
+	 */
+	private void readValue(InputStream page, DynamicOneColumnData res) throws IOException {
+		switch (dataType) {
+		case BOOLEAN:
+			res.putBoolean(decoder.readBoolean(page));
+			break;
+		case INT32:
+			res.putInt(decoder.readInt(page));
+			break;
+		case INT64:
+			res.putLong(decoder.readLong(page));
+			break;
+		case FLOAT:
+			res.putFloat(decoder.readFloat(page));
+			break;
+		case DOUBLE:
+			res.putDouble(decoder.readDouble(page));
+			break;
+		case BYTE_ARRAY:
+			res.putBinary(decoder.readBinary(page));
+			break;
+		case ENUMS:
+			res.putBinary(Binary.valueOf(enumValues.get(decoder.readInt(page) - 1)));
+			break;
+		default:
+			throw new IOException("Data Type not support");
+		}
+	}
+
+	/**
+	 * Skip next value of the page.
+	 */
+	private void skipValue(InputStream page) throws IOException {
+		switch (dataType) {
+		case BOOLEAN:
+			decoder.readBoolean(page);
+			break;
+		case INT32:
+		case ENUMS:
+			decoder.readInt(page);
+			break;
+		case INT64:
+			decoder.readLong(page);
+			break;
+		case FLOAT:
+			decoder.readFloat(page);
+			break;
+		case DOUBLE:
+			decoder.readDouble(page);
+			break;
+		case BYTE_ARRAY:
+			decoder.readBinary(page);
+			break;
+		default:
+			throw new IOException("Data Type not support");
+		}
+	}
 
 	public void setDecoder(Decoder d) {
 		this.decoder = d;
 	}
 
+	public void setTimeDecoder(Decoder timeDecoder) {
+		this.timeDecoder = timeDecoder;
+	}
+
+	public void setIndexPageOffset(long indexPageOffset) {
+		this.indexPageOffset = indexPageOffset;
+	}
+
+	public void setDictionaryPageOffset(long dictionaryPageOffset) {
+		this.dictionaryPageOffset = dictionaryPageOffset;
+	}
+
 	public void setFileOffset(long offset) {
 		this.fileOffset = offset;
 	}
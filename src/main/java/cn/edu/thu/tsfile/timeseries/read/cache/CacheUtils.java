@@ -0,0 +1,40 @@
+package cn.edu.thu.tsfile.timeseries.read.cache;
+
+import java.io.File;
+import java.io.IOException;
+
+import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.MappedFileInput;
+
+/**
+ * @description Some functions shared by caches in read process.
+ */
+public class CacheUtils {
+
+	/**
+	 * Separator between path, modified time and length in a file identifier
+	 */
+	public static final String FILE_ID_SEPARATOR = "#";
+
+	/**
+	 * Get the identifier of the file read by raf which is used as key in
+	 * caches. Only local files are cached, and the modified time and length of
+	 * the file are included so that a rewritten file is not hit.
+	 *
+	 * @return null if raf is not a local file
+	 * @throws IOException
+	 */
+	public static String getFileId(TSRandomAccessFileReader raf) throws IOException {
+		String path = null;
+		if (raf instanceof LocalFileInput) {
+			path = ((LocalFileInput) raf).getPath();
+		} else if (raf instanceof MappedFileInput) {
+			path = ((MappedFileInput) raf).getPath();
+		}
+		if (path == null) {
+			return null;
+		}
+		return path + FILE_ID_SEPARATOR + new File(path).lastModified() + FILE_ID_SEPARATOR + raf.length();
+	}
+}
@@ -0,0 +1,175 @@
+package cn.edu.thu.tsfile.timeseries.read.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+
+/**
+ * @description PageCache holds uncompressed page contents shared by all queries
+ *              in one JVM. Pages are identified by the file, the offset of the
+ *              column chunk and the offset of the page in file. The total bytes
+ *              size of cached pages is bounded by
+ *              {@code TSFileConfig.pageCacheSizeInByte}, and least recently used
+ *              pages are evicted first. Cached page contents must not be
+ *              modified by callers.
+ */
+public class PageCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PageCache.class);
+
+	private static PageCache instance = new PageCache(
+			TSFileDescriptor.getInstance().getConfig().pageCacheSizeInByte);
+
+	private final LinkedHashMap<PageKey, byte[]> pages;
+	private long capacity;
+	private long usedSize = 0;
+	private long hitCount = 0;
+	private long missCount = 0;
+
+	private PageCache(long capacity) {
+		this.capacity = capacity;
+		// access order makes the iteration order from least to most recently used
+		this.pages = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	public static PageCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * @return false if the capacity is not positive
+	 */
+	public synchronized boolean isEnabled() {
+		return capacity > 0;
+	}
+
+	/**
+	 * Get the uncompressed content of a page.
+	 *
+	 * @return null if the page is not cached
+	 */
+	public synchronized byte[] get(PageKey key) {
+		byte[] page = pages.get(key);
+		if (page == null) {
+			missCount++;
+		} else {
+			hitCount++;
+		}
+		return page;
+	}
+
+	/**
+	 * Put the uncompressed content of a page. Pages larger than the capacity
+	 * are not cached.
+	 */
+	public synchronized void put(PageKey key, byte[] page) {
+		if (page.length > capacity) {
+			return;
+		}
+		byte[] old = pages.put(key, page);
+		if (old != null) {
+			usedSize -= old.length;
+		}
+		usedSize += page.length;
+		evict();
+	}
+
+	/**
+	 * Change the capacity of this cache. Pages are evicted if the used size
+	 * exceeds the new capacity.
+	 */
+	public synchronized void setCapacity(long capacity) {
+		LOG.info("Page cache capacity is set to {} bytes", capacity);
+		this.capacity = capacity;
+		evict();
+	}
+
+	public synchronized long getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Remove all cached pages and reset the hit and miss counters.
+	 */
+	public synchronized void clear() {
+		pages.clear();
+		usedSize = 0;
+		hitCount = 0;
+		missCount = 0;
+	}
+
+	public synchronized long getUsedSize() {
+		return usedSize;
+	}
+
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<PageKey, byte[]>> it = pages.entrySet().iterator();
+		while (usedSize > capacity && it.hasNext()) {
+			usedSize -= it.next().getValue().length;
+			it.remove();
+		}
+	}
+
+	/**
+	 * Key of one page in cache.
+	 */
+	public static class PageKey {
+		private final String fileId;
+		private final long chunkOffset;
+		private final long pageOffset;
+
+		/**
+		 * @param fileId
+		 *            identifier of the file which should change when the file
+		 *            is rewritten, such as path, modified time and length
+		 * @param chunkOffset
+		 *            offset of the column chunk in file
+		 * @param pageOffset
+		 *            offset of the page header in file
+		 */
+		public PageKey(String fileId, long chunkOffset, long pageOffset) {
+			this.fileId = fileId;
+			this.chunkOffset = chunkOffset;
+			this.pageOffset = pageOffset;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = fileId.hashCode();
+			result = 31 * result + (int) (chunkOffset ^ (chunkOffset >>> 32));
+			result = 31 * result + (int) (pageOffset ^ (pageOffset >>> 32));
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof PageKey)) {
+				return false;
+			}
+			PageKey other = (PageKey) obj;
+			return chunkOffset == other.chunkOffset && pageOffset == other.pageOffset
+					&& fileId.equals(other.fileId);
+		}
+
+		@Override
+		public String toString() {
+			return fileId + "[" + chunkOffset + "," + pageOffset + "]";
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package cn.edu.thu.tsfile.timeseries.read.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.file.metadata.TSFileMetaData;
+
+/**
+ * @description TsFileMetadataCache holds the {@code TSFileMetaData} of
+ *              recently opened files so that the footer is not read and
+ *              deserialized again when a file is opened by another query.
+ *              Files are identified by path, modified time and length (see
+ *              {@code CacheUtils.getFileId}). The number of cached files is
+ *              bounded by {@code TSFileConfig.metadataCacheSize}, and least
+ *              recently used files are evicted first. Cached metadata is shared
+ *              by all readers and must not be modified.
+ */
+public class TsFileMetadataCache {
+
+	private static final Logger LOG = LoggerFactory.getLogger(TsFileMetadataCache.class);
+
+	private static TsFileMetadataCache instance = new TsFileMetadataCache(
+			TSFileDescriptor.getInstance().getConfig().metadataCacheSize);
+
+	private final LinkedHashMap<String, TSFileMetaData> metadataMap;
+	private int capacity;
+	private long hitCount = 0;
+	private long missCount = 0;
+
+	private TsFileMetadataCache(int capacity) {
+		this.capacity = capacity;
+		// access order makes the iteration order from least to most recently used
+		this.metadataMap = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	public static TsFileMetadataCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * @return false if the capacity is not positive
+	 */
+	public synchronized boolean isEnabled() {
+		return capacity > 0;
+	}
+
+	/**
+	 * @param fileId
+	 *            identifier got from {@code CacheUtils.getFileId}
+	 * @return null if the metadata of this file is not cached
+	 */
+	public synchronized TSFileMetaData get(String fileId) {
+		TSFileMetaData fileMetaData = metadataMap.get(fileId);
+		if (fileMetaData == null) {
+			missCount++;
+		} else {
+			hitCount++;
+		}
+		return fileMetaData;
+	}
+
+	public synchronized void put(String fileId, TSFileMetaData fileMetaData) {
+		if (!isEnabled()) {
+			return;
+		}
+		metadataMap.put(fileId, fileMetaData);
+		evict();
+	}
+
+	/**
+	 * Remove the metadata of all versions of the file with given path. It
+	 * should be called after a file is rewritten within the precision of its
+	 * modified time.
+	 *
+	 * @param path
+	 *            path of the file
+	 */
+	public synchronized void invalidate(String path) {
+		String prefix = path + CacheUtils.FILE_ID_SEPARATOR;
+		Iterator<String> it = metadataMap.keySet().iterator();
+		while (it.hasNext()) {
+			if (it.next().startsWith(prefix)) {
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Change the max number of cached files. Files are evicted if the number
+	 * of cached files exceeds the new capacity.
+	 */
+	public synchronized void setCapacity(int capacity) {
+		LOG.info("File metadata cache capacity is set to {} files", capacity);
+		this.capacity = capacity;
+		evict();
+	}
+
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Remove all cached metadata and reset the hit and miss counters.
+	 */
+	public synchronized void clear() {
+		metadataMap.clear();
+		hitCount = 0;
+		missCount = 0;
+	}
+
+	public synchronized int size() {
+		return metadataMap.size();
+	}
+
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<String, TSFileMetaData>> it = metadataMap.entrySet().iterator();
+		while (metadataMap.size() > capacity && it.hasNext()) {
+			it.next();
+			it.remove();
+		}
+	}
+}
@@ -1,10 +1,11 @@
 package cn.edu.thu.tsfile.timeseries.read.management;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
 import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.MappedFileInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,7 +23,15 @@ public class FileStreamManager {
 
     }
 
-    public TSRandomAccessFileReader getLocalRandomAcessFileReader(String path) throws FileNotFoundException {
+    /**
+     * get a reader of a local file, which is a {@code MappedFileInput} if
+     * {@code TSFileConfig.useMemoryMappedRead} is set, or a
+     * {@code LocalFileInput} otherwise.
+     */
+    public TSRandomAccessFileReader getLocalRandomAcessFileReader(String path) throws IOException {
+        if (TSFileDescriptor.getInstance().getConfig().useMemoryMappedRead) {
+            return new MappedFileInput(path);
+        }
         return new LocalFileInput(path);
     }
 
@@ -613,6 +613,27 @@ public class DynamicOneColumnData {
         this.init(dataType, true);
     }
 
+    /**
+     * Copy the read status from another DynamicOneColumnData of the same column,
+     * so that the next batch of this column can be read into this one.
+     *
+     * @param from DynamicOneColumnData whose batch has been read
+     */
+    public void copyReadStatus(DynamicOneColumnData from) {
+        this.rowGroupIndex = from.rowGroupIndex;
+        this.pageOffset = from.pageOffset;
+        this.leftSize = from.leftSize;
+        this.hasReadAll = from.hasReadAll;
+        this.insertTrueIndex = from.insertTrueIndex;
+        this.insertTrue = from.insertTrue;
+        this.updateTrue = from.updateTrue;
+        this.updateFalse = from.updateFalse;
+        this.timeFilter = from.timeFilter;
+        this.deltaObjectType = from.deltaObjectType;
+        this.deltaObject = from.deltaObject;
+        this.measurementID = from.measurementID;
+    }
+
     public DynamicOneColumnData sub(int startPos) {
         return sub(startPos, this.length - 1);
     }
@@ -1,34 +1,72 @@
 package cn.edu.thu.tsfile.timeseries.read.query;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import cn.edu.thu.tsfile.timeseries.read.qp.Path;
 import cn.edu.thu.tsfile.timeseries.read.support.Field;
 import cn.edu.thu.tsfile.timeseries.read.support.RowRecord;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public abstract class IteratorQueryDataSet extends QueryDataSet {
-    private static final Logger logger = LoggerFactory.getLogger(IteratorQueryDataSet.class);
     public LinkedHashMap<Path, DynamicOneColumnData> retMap;
     private LinkedHashMap<Path, Boolean> hasMoreRet;
+    private ExecutorService executor;
+    // the next batch being read for each column, only used when executor is set
+    private HashMap<Path, Future<DynamicOneColumnData>> prefetchMap;
 
     public IteratorQueryDataSet(List<Path> paths) throws IOException {
+        this(paths, null);
+    }
+
+    /**
+     * @param paths    selected columns
+     * @param executor if it is not null, the batches of all columns are read
+     *                 concurrently by it, and the next batch of each column is
+     *                 prefetched into a second buffer while the current batch
+     *                 is consumed
+     * @throws IOException
+     */
+    public IteratorQueryDataSet(List<Path> paths, ExecutorService executor) throws IOException {
+        this.executor = executor;
         hasMoreRet = new LinkedHashMap<>();
         retMap = new LinkedHashMap<>();
         timeMap = new HashMap<>();
+        if (executor != null) {
+            // a duplicated path is read only once
+            paths = new ArrayList<>(new LinkedHashSet<>(paths));
+            prefetchMap = new HashMap<>();
+            for (Path p : paths) {
+                prefetchMap.put(p, prefetch(p, null, null));
+            }
+        }
         for (Path p : paths) {
-            DynamicOneColumnData res = getMoreRecordsForOneColumn(p, null);
+            DynamicOneColumnData res;
+            if (executor == null) {
+                res = getMoreRecordsForOneColumn(p, null);
+            } else {
+                res = getPrefetchedRecords(p);
+            }
 
             retMap.put(p, res);
             if (res == null || res.length == 0) {
                 hasMoreRet.put(p, false);
             } else {
                 hasMoreRet.put(p, true);
+                if (executor != null) {
+                    prefetchMap.put(p, prefetch(p, res, null));
+                }
             }
         }
     }
@@ -36,6 +74,54 @@ public abstract class IteratorQueryDataSet extends QueryDataSet {
     public abstract DynamicOneColumnData getMoreRecordsForOneColumn(Path colName
             , DynamicOneColumnData res) throws IOException;
 
+    /**
+     * Submit the reading of the next batch of one column after the batch in
+     * res.
+     *
+     * @param res    batch which has been read, null for the first batch
+     * @param buffer DynamicOneColumnData to be reused for the next batch, it
+     *               can be null
+     */
+    private Future<DynamicOneColumnData> prefetch(Path p, DynamicOneColumnData res, DynamicOneColumnData buffer) {
+        DynamicOneColumnData next = null;
+        if (res != null) {
+            next = buffer;
+            if (next == null) {
+                next = new DynamicOneColumnData(res.dataType, true);
+            } else {
+                next.clearData();
+            }
+            next.copyReadStatus(res);
+        }
+        final DynamicOneColumnData target = next;
+        Callable<DynamicOneColumnData> task = () -> getMoreRecordsForOneColumn(p, target);
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            // the executor has been shut down, read in current thread
+            FutureTask<DynamicOneColumnData> future = new FutureTask<>(task);
+            future.run();
+            return future;
+        }
+    }
+
+    /**
+     * Wait for the batch of one column submitted by {@code prefetch}.
+     *
+     * @throws IOException if the reading of the batch failed
+     */
+    private DynamicOneColumnData getPrefetchedRecords(Path p) throws IOException {
+        Future<DynamicOneColumnData> future = prefetchMap.remove(p);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted when reading " + p.getFullPath(), e);
+        } catch (ExecutionException e) {
+            throw new IOException("Fail to read " + p.getFullPath(), e.getCause());
+        }
+    }
+
     public void initForRecord() {
         heap = new PriorityQueue<>(retMap.size());
 
@@ -58,6 +144,9 @@ public abstract class IteratorQueryDataSet extends QueryDataSet {
         return false;
     }
 
+    /**
+     * @throws UncheckedIOException if the next batch of a column can not be read
+     */
     public RowRecord getNextRecord() {
         if (!ifInit) {
             initForRecord();
@@ -79,11 +168,24 @@ public abstract class IteratorQueryDataSet extends QueryDataSet {
                 putValueToField(res, res.curIdx, f);
                 res.curIdx++;
                 if (hasMoreRet.get(p) && res.curIdx >= res.length) {
-                    res.clearData();
-                    try {
-                        res = getMoreRecordsForOneColumn(p, res);
-                    } catch (IOException e) {
-                        logger.error("", e);
+                    if (executor == null) {
+                        res.clearData();
+                        try {
+                            res = getMoreRecordsForOneColumn(p, res);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    } else {
+                        DynamicOneColumnData consumed = res;
+                        try {
+                            res = getPrefetchedRecords(p);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        if (res.length > 0) {
+                            // reuse the consumed buffer for the batch after next
+                            prefetchMap.put(p, prefetch(p, res, consumed));
+                        }
                     }
                     retMap.put(p, res);
                     if (res.length == 0) {
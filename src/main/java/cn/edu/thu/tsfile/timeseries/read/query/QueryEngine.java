@@ -5,6 +5,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import cn.edu.thu.tsfile.common.exception.ProcessorException;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
@@ -18,9 +21,9 @@ import cn.edu.thu.tsfile.timeseries.filter.definition.FilterExpression;
 import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
 import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeries;
 import cn.edu.thu.tsfile.timeseries.filter.utils.FilterUtils;
-import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
 import cn.edu.thu.tsfile.timeseries.read.RecordReader;
 import cn.edu.thu.tsfile.timeseries.read.RowGroupReader;
+import cn.edu.thu.tsfile.timeseries.read.management.FileStreamManager;
 import cn.edu.thu.tsfile.timeseries.read.metadata.SeriesSchema;
 import cn.edu.thu.tsfile.timeseries.read.qp.Path;
 
@@ -31,6 +34,8 @@ public class QueryEngine {
     public TSRandomAccessFileReader raf;
     private RecordReader recordReader;
     private static int FETCH_SIZE = 20000;
+    private int readThreadNum = 1;
+    private ExecutorService readExecutor;
 
     public QueryEngine(TSRandomAccessFileReader raf) throws IOException {
         this.raf = raf;
@@ -43,8 +48,79 @@ public class QueryEngine {
         FETCH_SIZE = fetchSize;
     }
 
+    /**
+     * @param readThreadNum number of threads to read the selected columns
+     *                      concurrently, 1 means all columns are read in the
+     *                      query thread
+     */
+    public QueryEngine(TSRandomAccessFileReader raf, int fetchSize, int readThreadNum) throws IOException {
+        this(raf, fetchSize);
+        setReadThreadNum(readThreadNum);
+    }
+
+    /**
+     * Set the number of threads used to read and decode the selected columns
+     * concurrently in queries created after this call.
+     *
+     * @param readThreadNum 1 means all columns are read in the query thread
+     */
+    public synchronized void setReadThreadNum(int readThreadNum) {
+        if (readThreadNum < 1) {
+            throw new IllegalArgumentException("readThreadNum should be positive: " + readThreadNum);
+        }
+        if (readThreadNum != this.readThreadNum && readExecutor != null) {
+            readExecutor.shutdown();
+            readExecutor = null;
+        }
+        this.readThreadNum = readThreadNum;
+    }
+
+    public synchronized int getReadThreadNum() {
+        return readThreadNum;
+    }
+
+    /**
+     * Set the max number of RowGroups of one deltaObject decoded at the same
+     * time when reading one column.
+     *
+     * @param rowGroupReadParallelism 1 means RowGroups are read one by one
+     */
+    public void setRowGroupReadParallelism(int rowGroupReadParallelism) {
+        recordReader.setRowGroupReadParallelism(rowGroupReadParallelism);
+    }
+
+    /**
+     * @return null if columns are read in the query thread
+     */
+    private synchronized ExecutorService getReadExecutor() {
+        if (readThreadNum <= 1) {
+            return null;
+        }
+        if (readExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            readExecutor = Executors.newFixedThreadPool(readThreadNum, r -> {
+                Thread thread = new Thread(r, "tsfile-query-read-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return readExecutor;
+    }
+
+    /**
+     * Release the threads used to read columns and RowGroups concurrently.
+     * The raf is not closed.
+     */
+    public synchronized void close() {
+        if (readExecutor != null) {
+            readExecutor.shutdown();
+            readExecutor = null;
+        }
+        recordReader.closeRowGroupReadExecutor();
+    }
+
     public static QueryDataSet query(QueryConfig config, String fileName) throws IOException {
-        LocalFileInput raf = new LocalFileInput(fileName);
+        TSRandomAccessFileReader raf = FileStreamManager.getInstance().getLocalRandomAcessFileReader(fileName);
         QueryEngine queryEngine = new QueryEngine(raf);
         QueryDataSet queryDataSet = queryEngine.query(config);
         raf.close();
@@ -165,7 +241,7 @@ public class QueryEngine {
      * @throws IOException
      */
     private QueryDataSet readWithoutFilter(List<Path> paths) throws IOException {
-        return new IteratorQueryDataSet(paths) {
+        return new IteratorQueryDataSet(paths, getReadExecutor()) {
             @Override
             public DynamicOneColumnData getMoreRecordsForOneColumn(Path p, DynamicOneColumnData res) throws IOException {
                 return recordReader.getValueInOneColumn(res, FETCH_SIZE, p.getDeltaObjectToString(), p.getMeasurementToString());
@@ -181,7 +257,7 @@ public class QueryEngine {
      * @throws IOException
      */
     public QueryDataSet readWithoutFilter(List<Path> paths, ArrayList<Integer> RowGroupIdxList) throws IOException {
-        return new IteratorQueryDataSet(paths) {
+        return new IteratorQueryDataSet(paths, getReadExecutor()) {
             @Override
             public DynamicOneColumnData getMoreRecordsForOneColumn(Path p, DynamicOneColumnData res) throws IOException {
                 return recordReader.getValueInOneColumn(res, FETCH_SIZE, p.getDeltaObjectToString(), p.getMeasurementToString(), RowGroupIdxList);
@@ -218,7 +294,7 @@ public class QueryEngine {
     private QueryDataSet readOneColumnValueUseFilter(List<Path> paths, SingleSeriesFilterExpression timeFilter,
                                                     SingleSeriesFilterExpression freqFilter, SingleSeriesFilterExpression valueFilter) throws IOException {
         logger.debug("start read one column data with filter...");
-        return new IteratorQueryDataSet(paths) {
+        return new IteratorQueryDataSet(paths, getReadExecutor()) {
             @Override
             public DynamicOneColumnData getMoreRecordsForOneColumn(Path p, DynamicOneColumnData res) throws IOException {
                 return recordReader.getValuesUseFilter(res, FETCH_SIZE, p.getDeltaObjectToString(), p.getMeasurementToString()
@@ -242,7 +318,7 @@ public class QueryEngine {
                                                     SingleSeriesFilterExpression freqFilter, SingleSeriesFilterExpression valueFilter, ArrayList<Integer> rowGroupIndexList) throws IOException {
         logger.debug("start read one column data with filter according to specific RowGroup Index List {}", rowGroupIndexList);
 
-        return new IteratorQueryDataSet(paths) {
+        return new IteratorQueryDataSet(paths, getReadExecutor()) {
             @Override
             public DynamicOneColumnData getMoreRecordsForOneColumn(Path p, DynamicOneColumnData res) throws IOException {
                 return recordReader.getValuesUseFilter(res, FETCH_SIZE, p.getDeltaObjectToString(), p.getMeasurementToString()
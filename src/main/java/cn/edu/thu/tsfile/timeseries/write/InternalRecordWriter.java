@@ -1,18 +1,41 @@
 package cn.edu.thu.tsfile.timeseries.write;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.utils.Pair;
+import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
+import cn.edu.thu.tsfile.timeseries.write.exception.NoMeasurementException;
 import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.io.RowGroupPadding;
 import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
 import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
 import cn.edu.thu.tsfile.timeseries.write.series.IRowGroupWriter;
+import cn.edu.thu.tsfile.timeseries.write.series.ISeriesWriter;
 import cn.edu.thu.tsfile.timeseries.write.series.RowGroupWriterImpl;
 
 /**
@@ -21,7 +44,26 @@ import cn.edu.thu.tsfile.timeseries.write.series.RowGroupWriterImpl;
  * write. It checks memory size for all writing processing along its strategy
  * and flush data stored in memory to OutputStream. At the end of writing, user
  * should call {@code close()} method to flush the last data outside and close
- * the normal outputStream and error outputStream.
+ * the normal outputStream and error outputStream.<br>
+ * If {@code maxPendingRowGroupFlushes} in {@linkplain TSFileConfig} is
+ * positive, a full row group is handed to a background thread to be flushed,
+ * and new {@code IRowGroupWriter}s accept the following records. Writing
+ * blocks while that many row groups are waiting to be flushed, and an
+ * exception thrown in flushing is thrown when the next row group is full or
+ * in {@code close()}. {@code query} still returns the data of row groups
+ * waiting to be flushed, and waits for a row group being flushed until it is
+ * in {@code TSFileIOWriter.getRowGroups()}.<br>
+ * If {@code rowGroupFlushParallelism} is larger than 1, the last pages of all
+ * series in a row group are encoded and compressed concurrently before they
+ * are written to {@code TSFileIOWriter} in order.<br>
+ * The memory size of each writer is reported to {@linkplain WriteMemoryManager}
+ * , which may ask it to flush a row group before it reaches
+ * {@code groupSizeInByte}. Such a row group is not filled.<br>
+ * Records may be written by several threads concurrently. Records of
+ * different delta objects only share a read lock, and records of one delta
+ * object are serialized by its {@code IRowGroupWriter}. Checking memory size
+ * and flushing take the write lock, which waits until records being written
+ * are finished and blocks new ones until it is released.
  *
  * @param <T>
  *            - record type
@@ -30,10 +72,17 @@ import cn.edu.thu.tsfile.timeseries.write.series.RowGroupWriterImpl;
 public abstract class InternalRecordWriter<T> {
 	private static final Logger LOG = LoggerFactory.getLogger(InternalRecordWriter.class);
 	private static final int MINIMUM_RECORD_COUNT_FOR_CHECK = 1;
+	private static final AtomicInteger FLUSH_THREAD_COUNT = new AtomicInteger();
+	private static final AtomicInteger SEAL_THREAD_COUNT = new AtomicInteger();
 
-	protected long recordCount = 0;
-	private long recordCountForNextMemCheck = MINIMUM_RECORD_COUNT_FOR_CHECK;
-	protected Map<String, IRowGroupWriter> groupWriters = new HashMap<String, IRowGroupWriter>();
+	protected final AtomicLong recordCount = new AtomicLong();
+	private volatile long recordCountForNextMemCheck = MINIMUM_RECORD_COUNT_FOR_CHECK;
+	protected Map<String, IRowGroupWriter> groupWriters = new ConcurrentHashMap<String, IRowGroupWriter>();
+	/**
+	 * the read lock is held while writing records, and the write lock while
+	 * checking memory size and flushing
+	 */
+	private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
 
 	protected final TSFileIOWriter deltaFileWriter;
 	protected final WriteSupport<T> writeSupport;
@@ -43,6 +92,43 @@ public abstract class InternalRecordWriter<T> {
 	private long rowGroupSizeThreshold;
 	protected final long primaryRowGroupSize;
 	private int oneRowMaxSize;
+	private final RowGroupPadding rowGroupPadding;
+	private final int rowGroupAlignment;
+
+	/**
+	 * thread flushing row groups in background, null if row groups are
+	 * flushed by the writing thread
+	 */
+	private final ExecutorService flushExecutor;
+	/**
+	 * a permit is held by each row group waiting to be flushed
+	 */
+	private final Semaphore pendingFlushes;
+	private final int maxPendingFlushes;
+	/**
+	 * group writers handed to the flush thread, oldest first. Each map is
+	 * locked while its row group is written, and removed after that.
+	 */
+	private final List<Map<String, IRowGroupWriter>> flushingGroupWriters = new CopyOnWriteArrayList<>();
+	/**
+	 * the first exception thrown in background flushing
+	 */
+	private volatile Exception flushException;
+	/**
+	 * threads sealing the last pages of series in a row group, null if they
+	 * are sealed one by one when written
+	 */
+	private final ExecutorService sealExecutor;
+
+	private final WriteMemoryManager memoryManager = WriteMemoryManager.getInstance();
+	/**
+	 * set by {@linkplain WriteMemoryManager} to flush at the next record
+	 */
+	private volatile boolean flushRequested = false;
+	/**
+	 * memory size of row groups waiting to be flushed in background
+	 */
+	private final AtomicLong flushingMemSize = new AtomicLong();
 
 	public InternalRecordWriter(TSFileConfig conf, TSFileIOWriter tsfileWriter, WriteSupport<T> writeSupport,
 			FileSchema schema) {
@@ -53,6 +139,29 @@ public abstract class InternalRecordWriter<T> {
 		this.oneRowMaxSize = schema.getCurrentRowMaxSize();
 		this.rowGroupSizeThreshold = primaryRowGroupSize - oneRowMaxSize;
 		this.pageSize = conf.pageSizeInByte;
+		this.rowGroupPadding = RowGroupPadding.valueOf(conf.rowGroupPadding);
+		this.rowGroupAlignment = conf.rowGroupAlignmentInByte;
+		this.maxPendingFlushes = conf.maxPendingRowGroupFlushes;
+		if (maxPendingFlushes > 0) {
+			this.pendingFlushes = new Semaphore(maxPendingFlushes);
+			this.flushExecutor = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "tsfile-flush-" + FLUSH_THREAD_COUNT.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		} else {
+			this.pendingFlushes = null;
+			this.flushExecutor = null;
+		}
+		if (conf.rowGroupFlushParallelism > 1) {
+			this.sealExecutor = Executors.newFixedThreadPool(conf.rowGroupFlushParallelism, r -> {
+				Thread thread = new Thread(r, "tsfile-seal-" + SEAL_THREAD_COUNT.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		} else {
+			this.sealExecutor = null;
+		}
 		writeSupport.init(groupWriters);
 	}
 
@@ -74,33 +183,146 @@ public abstract class InternalRecordWriter<T> {
 	 *            - record responding a data line
 	 */
 	public void write(T record) throws IOException, WriteProcessException {
-		if (checkRowGroup(record)) {
+		flushLock.readLock().lock();
+		try {
+			if (!checkRowGroup(record))
+				return;
 			writeSupport.write(record);
-			++recordCount;
+			recordCount.incrementAndGet();
+		} finally {
+			flushLock.readLock().unlock();
+		}
+		checkMemorySize();
+	}
+
+	/**
+	 * write a batch of rows of one delta object. The rows are written in
+	 * slices which end at the next memory check, so that a row group is
+	 * flushed at the same size as writing the rows one by one.
+	 *
+	 * @param tablet
+	 *            - rows stored by column
+	 */
+	public void write(TSTablet tablet) throws IOException, WriteProcessException {
+		checkTablet(tablet);
+		int start = 0;
+		while (start < tablet.rowCount) {
+			long countBeforeCheck = Math.max(1, recordCountForNextMemCheck - recordCount.get());
+			int end = (int) Math.min(tablet.rowCount, start + countBeforeCheck);
+			flushLock.readLock().lock();
+			try {
+				// the delta object is added again after each flush
+				addGroupToInternalRecordWriter(tablet.deltaObjectId);
+				groupWriters.get(tablet.deltaObjectId).write(tablet, start, end);
+				recordCount.addAndGet(end - start);
+			} finally {
+				flushLock.readLock().unlock();
+			}
 			checkMemorySize();
+			start = end;
 		}
+	}
 
+	/**
+	 * check that every column of tablet matches the data type of its
+	 * measurement before any row is written
+	 */
+	private void checkTablet(TSTablet tablet) throws WriteProcessException {
+		for (int i = 0; i < tablet.measurementIds.size(); i++) {
+			String measurementId = tablet.measurementIds.get(i);
+			MeasurementDescriptor desc = schema.getDescriptor(measurementId);
+			if (desc == null)
+				throw new NoMeasurementException("measurement id " + measurementId + " not found!");
+			TSDataType type = tablet.dataTypes.get(i);
+			if (desc.getType() != type && !(desc.getType() == TSDataType.ENUMS && type == TSDataType.INT32))
+				throw new WriteProcessException("measurement " + measurementId + " is " + desc.getType()
+						+ ", but its values in tablet are " + type);
+		}
 	}
 
 	public List<Object> query(String deltaObjectId, String measurementId) {
+		flushLock.readLock().lock();
+		try {
+			List<Object> result = writeSupport.query(deltaObjectId, measurementId);
+			if (flushingGroupWriters.isEmpty())
+				return result;
+			return addFlushingPages(deltaObjectId, measurementId, result);
+		} finally {
+			flushLock.readLock().unlock();
+		}
+	}
 
-		return writeSupport.query(deltaObjectId, measurementId);
+	/**
+	 * put the pages of a series in row groups waiting to be flushed before the
+	 * pages of the current row group. Their last pages are sealed, which the
+	 * flush thread would do anyway, so that all their data is in pages.
+	 *
+	 * @param current
+	 *            - query result of the current row group
+	 */
+	@SuppressWarnings("unchecked")
+	private List<Object> addFlushingPages(String deltaObjectId, String measurementId, List<Object> current) {
+		Object currentPageData = current.get(0);
+		List<ByteArrayInputStream> pages = new ArrayList<ByteArrayInputStream>();
+		CompressionTypeName compression = null;
+		for (Map<String, IRowGroupWriter> writers : flushingGroupWriters) {
+			IRowGroupWriter groupWriter = writers.get(deltaObjectId);
+			if (groupWriter == null)
+				continue;
+			synchronized (writers) {
+				// it is in the file if it has been flushed while waiting for the lock
+				if (!isFlushing(writers))
+					continue;
+				for (ISeriesWriter seriesWriter : groupWriter.getSeriesWriters()) {
+					seriesWriter.sealCurrentPage();
+				}
+				List<Object> flushing = groupWriter.query(measurementId);
+				Pair<List<ByteArrayInputStream>, CompressionTypeName> flushingPages = (Pair<List<ByteArrayInputStream>, CompressionTypeName>) flushing
+						.get(1);
+				if (flushingPages == null)
+					continue;
+				pages.addAll(flushingPages.left);
+				compression = flushingPages.right;
+				if (currentPageData == null)
+					currentPageData = flushing.get(0);
+			}
+		}
+		if (compression == null)
+			return current;
+		Pair<List<ByteArrayInputStream>, CompressionTypeName> currentPages = (Pair<List<ByteArrayInputStream>, CompressionTypeName>) current
+				.get(1);
+		if (currentPages != null)
+			pages.addAll(currentPages.left);
+		List<Object> result = new ArrayList<Object>();
+		result.add(currentPageData);
+		result.add(new Pair<List<ByteArrayInputStream>, CompressionTypeName>(pages, compression));
+		return result;
+	}
+
+	private boolean isFlushing(Map<String, IRowGroupWriter> writers) {
+		for (Map<String, IRowGroupWriter> flushing : flushingGroupWriters) {
+			if (flushing == writers)
+				return true;
+		}
+		return false;
 	}
 
 	/**
 	 * <b>Note that</b>, before calling this method, all {@code IRowGroupWriter}
 	 * instance existing in {@code groupWriters} have been reset for next
 	 * writing stage, thus we don't add new {@code IRowGroupWriter} if its
-	 * deltaObjecyId has existed.
+	 * deltaObjecyId has existed. The delta object is added to the schema after
+	 * its {@code IRowGroupWriter}, so that other threads finding it in the
+	 * schema find its {@code IRowGroupWriter} as well.
 	 *
 	 * @param deltaObjectId
 	 *            - delta object to be add
 	 */
 	protected void addGroupToInternalRecordWriter(String deltaObjectId) {
-		if (!groupWriters.containsKey(deltaObjectId)) {
-			IRowGroupWriter groupWriter = new RowGroupWriterImpl(deltaObjectId, schema, pageSize);
-			groupWriters.put(deltaObjectId, groupWriter);
-		}
+		if (schema.hasDeltaObject(deltaObjectId))
+			return;
+		groupWriters.computeIfAbsent(deltaObjectId, id -> new RowGroupWriterImpl(id, schema, pageSize));
+		schema.addDeltaObject(deltaObjectId);
 	}
 
 	/**
@@ -109,7 +331,7 @@ public abstract class InternalRecordWriter<T> {
 	 * @return
 	 */
 	public long updateMemSizeForAllGroup() {
-		int memTotalSize = 0;
+		long memTotalSize = 0;
 		for (IRowGroupWriter group : groupWriters.values()) {
 			memTotalSize += group.updateMaxGroupMemSize();
 		}
@@ -123,18 +345,63 @@ public abstract class InternalRecordWriter<T> {
 	 * @throws IOException
 	 */
 	protected void checkMemorySize() throws IOException {
-		if (recordCount >= recordCountForNextMemCheck) {
+		if (recordCount.get() < recordCountForNextMemCheck && !flushRequested)
+			return;
+		flushLock.writeLock().lock();
+		try {
+			// another thread may have checked it while waiting for the lock
+			if (recordCount.get() < recordCountForNextMemCheck && !flushRequested)
+				return;
 			long memSize = updateMemSizeForAllGroup();
-			if (memSize > rowGroupSizeThreshold) {
-				LOG.info("start_write_row_group, memory space occupy:" + memSize);
-				flushRowGroup(true);
-				recordCountForNextMemCheck = rowGroupSizeThreshold / oneRowMaxSize;
+			boolean overBudget = flushRequested | reportMemSize(memSize);
+			flushRequested = false;
+			if (memSize > rowGroupSizeThreshold || overBudget) {
+				boolean isFillRowGroup = memSize > rowGroupSizeThreshold;
+				LOG.info("start_write_row_group, memory space occupy:{}, over budget:{}", memSize, overBudget);
+				if (flushExecutor == null)
+					flushRowGroup(isFillRowGroup);
+				else
+					flushRowGroupInBackground(isFillRowGroup, memSize);
+				reportMemSize(0);
+				recordCountForNextMemCheck = getRecordCountBeforeCheck(0);
 			} else {
-				recordCountForNextMemCheck = recordCount + (rowGroupSizeThreshold - memSize) / oneRowMaxSize;
+				recordCountForNextMemCheck = recordCount.get() + getRecordCountBeforeCheck(memSize);
 			}
+		} finally {
+			flushLock.writeLock().unlock();
 		}
 	}
 
+	/**
+	 * @return number of records which can be written before the memory size
+	 *         is checked again, at least 1
+	 */
+	private long getRecordCountBeforeCheck(long memSize) {
+		long sizeBeforeCheck = Math.min(rowGroupSizeThreshold - memSize, memoryManager.getCheckSize());
+		return Math.max(MINIMUM_RECORD_COUNT_FOR_CHECK, sizeBeforeCheck / oneRowMaxSize);
+	}
+
+	/**
+	 * @return true if this writer should flush since the memory budget is
+	 *         exceeded
+	 */
+	private boolean reportMemSize(long memSize) {
+		if (!memoryManager.isEnabled())
+			return false;
+		// see the flush thread releasing flushingMemSize
+		synchronized (memoryManager) {
+			return memoryManager.update(this, memSize + flushingMemSize.get());
+		}
+	}
+
+	/**
+	 * ask this writer to flush its current row group at the next record. It is
+	 * called by {@linkplain WriteMemoryManager} from other writing threads.
+	 */
+	void requestFlush() {
+		flushRequested = true;
+	}
+
 	/**
 	 * flush the data in all series writers and their page writers to
 	 * outputStream.
@@ -142,35 +409,163 @@ public abstract class InternalRecordWriter<T> {
 	 * @throws IOException
 	 */
 	protected void flushRowGroup(boolean isFillRowGroup) throws IOException {
+		if (recordCount.get() > 0) {
+			writeRowGroup(getAppearedGroupWriters(), recordCount.get(), isFillRowGroup);
+			recordCount.set(0);
+			reset();
+		}
+	}
+
+	/**
+	 * hand the group writers of appeared delta objects to the flush thread,
+	 * and replace them with new ones for the following records. Block while
+	 * {@code maxPendingFlushes} row groups are waiting to be flushed.
+	 *
+	 * @throws IOException
+	 *             thrown if a previous row group failed to be flushed
+	 */
+	private void flushRowGroupInBackground(boolean isFillRowGroup, long memSize) throws IOException {
+		checkFlushException();
+		if (recordCount.get() == 0)
+			return;
+		try {
+			pendingFlushes.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for row group flushing");
+		}
+		Map<String, IRowGroupWriter> flushingWriters = getAppearedGroupWriters();
+		long flushingRecordCount = recordCount.get();
+		// queried as a flushing row group from now on
+		flushingGroupWriters.add(flushingWriters);
+		// writeSupport holds this map, so clear it rather than create a new one
+		groupWriters.clear();
+		schema.resetUnusedDeltaObjectId(groupWriters);
+		recordCount.set(0);
+		flushingMemSize.addAndGet(memSize);
+		flushExecutor.execute(() -> {
+			try {
+				synchronized (flushingWriters) {
+					try {
+						if (flushException == null)
+							writeRowGroup(flushingWriters, flushingRecordCount, isFillRowGroup);
+					} finally {
+						flushingGroupWriters.remove(0);
+					}
+				}
+			} catch (Exception e) {
+				LOG.error("failed to flush row group in background", e);
+				flushException = e;
+			} finally {
+				// in one step, or a size reported between them would be released twice
+				synchronized (memoryManager) {
+					flushingMemSize.addAndGet(-memSize);
+					memoryManager.release(this, memSize);
+				}
+				pendingFlushes.release();
+			}
+		});
+	}
+
+	private Map<String, IRowGroupWriter> getAppearedGroupWriters() {
+		Map<String, IRowGroupWriter> appearedWriters = new LinkedHashMap<String, IRowGroupWriter>();
+		for (String deltaObjectId : schema.getDeltaObjectAppearedSet()) {
+			appearedWriters.put(deltaObjectId, groupWriters.get(deltaObjectId));
+		}
+		return appearedWriters;
+	}
+
+	private void writeRowGroup(Map<String, IRowGroupWriter> writers, long rowGroupRecordCount, boolean isFillRowGroup)
+			throws IOException {
 		// at the present stage, just flush one block
 		String deltaType = schema.getDeltaType();
-		if (recordCount > 0) {
-			long totalMemStart = deltaFileWriter.getPos();
-			for (String deltaObjectId : schema.getDeltaObjectAppearedSet()) {
-				long memSize = deltaFileWriter.getPos();
-				deltaFileWriter.startRowGroup(recordCount, deltaObjectId, deltaType);
-				IRowGroupWriter groupWriter = groupWriters.get(deltaObjectId);
-				groupWriter.flushToFileWriter(deltaFileWriter);
-				deltaFileWriter.endRowGroup(deltaFileWriter.getPos() - memSize);
+		if (sealExecutor != null)
+			sealCurrentPages(writers.values());
+		long totalMemStart = deltaFileWriter.getPos();
+		for (Map.Entry<String, IRowGroupWriter> entry : writers.entrySet()) {
+			long memSize = deltaFileWriter.getPos();
+			deltaFileWriter.startRowGroup(rowGroupRecordCount, entry.getKey(), deltaType);
+			entry.getValue().flushToFileWriter(deltaFileWriter);
+			deltaFileWriter.endRowGroup(deltaFileWriter.getPos() - memSize);
+		}
+		long actualTotalRowGroupSize = deltaFileWriter.getPos() - totalMemStart;
+		if (isFillRowGroup) {
+			long fillStart = deltaFileWriter.getPos();
+			fillInRowGroupSize(actualTotalRowGroupSize);
+			LOG.info("total row group size:{}, actual:{}, padding:{}, filled:{}", primaryRowGroupSize,
+					actualTotalRowGroupSize, rowGroupPadding, deltaFileWriter.getPos() - fillStart);
+		} else
+			LOG.info("total row group size:{}, row group is not filled", actualTotalRowGroupSize);
+		deltaFileWriter.endRowGroups();
+		LOG.info("write row group end");
+	}
+
+	/**
+	 * encode and compress the last page of every series concurrently, and wait
+	 * until all of them are finished
+	 */
+	private void sealCurrentPages(Collection<IRowGroupWriter> writers) throws IOException {
+		List<Future<?>> sealTasks = new ArrayList<Future<?>>();
+		for (IRowGroupWriter groupWriter : writers) {
+			for (ISeriesWriter seriesWriter : groupWriter.getSeriesWriters()) {
+				sealTasks.add(sealExecutor.submit(seriesWriter::sealCurrentPage));
 			}
-			long actualTotalRowGroupSize = deltaFileWriter.getPos() - totalMemStart;
-			if (isFillRowGroup) {
-				fillInRowGroupSize(actualTotalRowGroupSize);
-				LOG.info("total row group size:{}, actual:{}, filled:{}", primaryRowGroupSize, actualTotalRowGroupSize,
-						primaryRowGroupSize - actualTotalRowGroupSize);
-			} else
-				LOG.info("total row group size:{}, row group is not filled", actualTotalRowGroupSize);
-			LOG.info("write row group end");
-			recordCount = 0;
-			reset();
 		}
+		try {
+			for (Future<?> task : sealTasks) {
+				task.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while sealing pages");
+		} catch (ExecutionException e) {
+			throw new IOException("failed to seal pages", e.getCause());
+		}
+	}
+
+	private void checkFlushException() throws IOException {
+		Exception e = flushException;
+		if (e != null)
+			throw new IOException("failed to flush row group in background", e);
+	}
+
+	/**
+	 * wait until all row groups handed to the flush thread are written
+	 *
+	 * @throws IOException
+	 *             thrown if one of them failed to be flushed
+	 */
+	private void waitForBackgroundFlush() throws IOException {
+		flushExecutor.shutdown();
+		try {
+			while (!flushExecutor.awaitTermination(1, TimeUnit.MINUTES))
+				LOG.info("waiting for row group flushing");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while waiting for row group flushing");
+		}
+		checkFlushException();
 	}
 
 	protected void fillInRowGroupSize(long actualRowGroupSize) throws IOException {
-		if (actualRowGroupSize > primaryRowGroupSize)
-			LOG.warn("too large actual row group size!:actual:{},threshold:{}", actualRowGroupSize,
-					primaryRowGroupSize);
-		deltaFileWriter.fillInRowGroup(primaryRowGroupSize - actualRowGroupSize);
+		switch (rowGroupPadding) {
+		case NONE:
+			return;
+		case ALIGN:
+			long pos = deltaFileWriter.getPos();
+			deltaFileWriter.fillInRowGroup((rowGroupAlignment - pos % rowGroupAlignment) % rowGroupAlignment);
+			return;
+		default:
+			if (actualRowGroupSize > primaryRowGroupSize) {
+				LOG.warn("too large actual row group size!:actual:{},threshold:{}", actualRowGroupSize,
+						primaryRowGroupSize);
+				return;
+			}
+			if (rowGroupPadding == RowGroupPadding.SPARSE)
+				deltaFileWriter.fillInRowGroupWithHole(primaryRowGroupSize - actualRowGroupSize);
+			else
+				deltaFileWriter.fillInRowGroup(primaryRowGroupSize - actualRowGroupSize);
+		}
 	}
 
 	/**
@@ -183,14 +578,25 @@ public abstract class InternalRecordWriter<T> {
 
 	/**
 	 * calling this method to write the last data remaining in memory and close
-	 * the normal and error OutputStream
+	 * the normal and error OutputStream. It should be called after all threads
+	 * finish writing.
 	 *
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
 		LOG.info("start close file");
-		updateMemSizeForAllGroup();
-		flushRowGroup(false);
+		flushLock.writeLock().lock();
+		try {
+			if (flushExecutor != null)
+				waitForBackgroundFlush();
+			updateMemSizeForAllGroup();
+			flushRowGroup(false);
+		} finally {
+			if (sealExecutor != null)
+				sealExecutor.shutdown();
+			memoryManager.remove(this);
+			flushLock.writeLock().unlock();
+		}
 		deltaFileWriter.endFile();
 	}
 }
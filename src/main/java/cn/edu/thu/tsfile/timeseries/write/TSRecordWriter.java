@@ -23,10 +23,7 @@ public class TSRecordWriter extends InternalRecordWriter<TSRecord> {
 
     @Override
     protected boolean checkRowGroup(TSRecord record) throws IOException {
-        if (!schema.hasDeltaObject(record.deltaObjectId)) {
-            schema.addDeltaObject(record.deltaObjectId);
-            addGroupToInternalRecordWriter(record.deltaObjectId);
-        }
+        addGroupToInternalRecordWriter(record.deltaObjectId);
         return true;
     }
 }
@@ -0,0 +1,166 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+
+/**
+ * WriteMemoryManager tracks the memory held by the encoders and page buffers
+ * of all open {@code InternalRecordWriter}s in one JVM, including row groups
+ * waiting to be flushed in background. If the total size exceeds
+ * {@code TSFileConfig.writeMemoryBudgetInByte}, the largest writers are asked
+ * to flush their current row groups. A writer flushes when it reports its
+ * memory size, or at its next record if it is asked by another writer. A
+ * writer which has not written since it was asked is skipped by later
+ * requests, so that idle writers do not keep active ones from flushing. The
+ * budget is disabled if it is not positive.
+ */
+public class WriteMemoryManager {
+	private static final Logger LOG = LoggerFactory.getLogger(WriteMemoryManager.class);
+	/**
+	 * writers report their memory size each time they may have allocated this
+	 * part of the budget
+	 */
+	private static final int CHECK_PARTS_OF_BUDGET = 100;
+
+	private static WriteMemoryManager instance = new WriteMemoryManager(
+			TSFileDescriptor.getInstance().getConfig().writeMemoryBudgetInByte);
+
+	private final Map<InternalRecordWriter<?>, Long> memSizes = new HashMap<InternalRecordWriter<?>, Long>();
+	/**
+	 * writers asked to flush by others, which have not reported their memory
+	 * size since then
+	 */
+	private final Set<InternalRecordWriter<?>> pendingRequests = new HashSet<InternalRecordWriter<?>>();
+	private long budget;
+	private long totalMemSize = 0;
+	private long requestedFlushCount = 0;
+
+	private WriteMemoryManager(long budget) {
+		this.budget = budget;
+	}
+
+	public static WriteMemoryManager getInstance() {
+		return instance;
+	}
+
+	/**
+	 * @return false if the budget is not positive
+	 */
+	public synchronized boolean isEnabled() {
+		return budget > 0;
+	}
+
+	/**
+	 * @return bytes a writer may allocate before reporting its memory size
+	 *         again, or Long.MAX_VALUE if the budget is disabled
+	 */
+	public synchronized long getCheckSize() {
+		return budget > 0 ? Math.max(1, budget / CHECK_PARTS_OF_BUDGET) : Long.MAX_VALUE;
+	}
+
+	/**
+	 * record the memory size of a writer. If the total size exceeds the
+	 * budget, ask the largest writers to flush until enough memory would be
+	 * released.
+	 *
+	 * @param writer
+	 *            - writer reporting its memory size
+	 * @param memSize
+	 *            - bytes held by the writer
+	 * @return true if the reporting writer should flush now
+	 */
+	synchronized boolean update(InternalRecordWriter<?> writer, long memSize) {
+		// a writer reports its size when it checks whether to flush
+		pendingRequests.remove(writer);
+		Long oldSize = memSizes.put(writer, memSize);
+		totalMemSize += memSize - (oldSize == null ? 0 : oldSize);
+		if (budget <= 0 || totalMemSize <= budget)
+			return false;
+		return requestFlush(writer);
+	}
+
+	/**
+	 * subtract memory released by a writer, such as a row group flushed in
+	 * background
+	 */
+	synchronized void release(InternalRecordWriter<?> writer, long releasedSize) {
+		Long oldSize = memSizes.get(writer);
+		if (oldSize == null)
+			return;
+		long newSize = Math.max(0, oldSize - releasedSize);
+		memSizes.put(writer, newSize);
+		totalMemSize -= oldSize - newSize;
+	}
+
+	/**
+	 * stop tracking a closed writer
+	 */
+	synchronized void remove(InternalRecordWriter<?> writer) {
+		pendingRequests.remove(writer);
+		Long oldSize = memSizes.remove(writer);
+		if (oldSize != null)
+			totalMemSize -= oldSize;
+	}
+
+	private boolean requestFlush(InternalRecordWriter<?> caller) {
+		List<Map.Entry<InternalRecordWriter<?>, Long>> writers = new ArrayList<Map.Entry<InternalRecordWriter<?>, Long>>(
+				memSizes.entrySet());
+		writers.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+		LOG.info("write memory size {} exceeds budget {}, request flushing", totalMemSize, budget);
+		long sizeToRelease = totalMemSize - budget;
+		boolean flushCaller = false;
+		for (Map.Entry<InternalRecordWriter<?>, Long> entry : writers) {
+			if (sizeToRelease <= 0 || entry.getValue() == 0)
+				break;
+			// an idle writer does not release its memory until it writes again
+			if (pendingRequests.contains(entry.getKey()))
+				continue;
+			if (entry.getKey() == caller) {
+				flushCaller = true;
+			} else {
+				entry.getKey().requestFlush();
+				pendingRequests.add(entry.getKey());
+			}
+			requestedFlushCount++;
+			sizeToRelease -= entry.getValue();
+		}
+		return flushCaller;
+	}
+
+	/**
+	 * Change the budget. Writers exceeding a smaller budget are asked to flush
+	 * when the next one reports its memory size.
+	 */
+	public synchronized void setBudget(long budget) {
+		LOG.info("Write memory budget is set to {} bytes", budget);
+		this.budget = budget;
+	}
+
+	public synchronized long getBudget() {
+		return budget;
+	}
+
+	public synchronized long getTotalMemSize() {
+		return totalMemSize;
+	}
+
+	public synchronized int getWriterCount() {
+		return memSizes.size();
+	}
+
+	/**
+	 * @return number of flushes requested because the budget was exceeded
+	 */
+	public synchronized long getRequestedFlushCount() {
+		return requestedFlushCount;
+	}
+}
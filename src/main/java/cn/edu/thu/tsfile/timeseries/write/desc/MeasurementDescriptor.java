@@ -118,9 +118,16 @@ public class MeasurementDescriptor implements Comparable<MeasurementDescriptor>
             typeConverter.setDataValues(v);
     }
 
+    /**
+     * @return encoding of the time column, which is the same for all series
+     */
+    public TSEncoding getTimeEncoding() {
+        return TSEncoding.valueOf(TSFileDescriptor.getInstance().getConfig().timeSeriesEncoder);
+    }
+
     public Encoder getTimeEncoder(){
         TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
-        TSEncoding timeSeriesEncoder = TSEncoding.valueOf(conf.timeSeriesEncoder);
+        TSEncoding timeSeriesEncoder = getTimeEncoding();
         TSDataType timeType = TSDataType.valueOf(conf.timeSeriesDataType);
         Encoder timeEncoder =
                 TSEncodingConverter.getConverter(timeSeriesEncoder)
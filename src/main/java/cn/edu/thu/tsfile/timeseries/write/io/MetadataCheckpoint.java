@@ -0,0 +1,181 @@
+package cn.edu.thu.tsfile.timeseries.write.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.thu.tsfile.common.utils.PublicBAOS;
+import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
+import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
+
+/**
+ * MetadataCheckpoint keeps the metadata of flushed row groups in a sidecar file next to a TsFile
+ * being written, so that the writer can be restored after a crash instead of writing all data
+ * again. {@linkplain TSFileIOWriter} appends a checkpoint after the row groups of each flush, and
+ * the sidecar file is deleted after the footer is written.<br>
+ * Each checkpoint is a record of
+ * <ul>
+ * <li>length of content, in 4 bytes</li>
+ * <li>CRC32 of content, in 4 bytes</li>
+ * <li>content: position of the data file after these row groups in 8 bytes, count of row groups in
+ * 4 bytes and metadata of each row group in thrift format</li>
+ * </ul>
+ * A checkpoint is forced to the storage device when it is appended, after {@linkplain TSFileIOWriter}
+ * has forced the data it refers to.
+ */
+public class MetadataCheckpoint {
+    private static final Logger LOG = LoggerFactory.getLogger(MetadataCheckpoint.class);
+    public static final String SUFFIX = ".checkpoint";
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private final File file;
+    private final FileChannel channel;
+    private final List<RowGroupMetaData> rowGroups;
+    private final long dataEnd;
+
+    private MetadataCheckpoint(File file, List<RowGroupMetaData> rowGroups, long dataEnd)
+            throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        this.rowGroups = rowGroups;
+        this.dataEnd = dataEnd;
+    }
+
+    /**
+     * Open the checkpoint of a TsFile to be written. If the checkpoint exists, the row groups in
+     * its valid records are restored, and the torn tails of both the checkpoint and the data file
+     * are truncated. Otherwise a new checkpoint is created, and the data file must be empty.
+     *
+     * @param dataFile - the TsFile to be written
+     * @return checkpoint to be given to {@linkplain TSFileIOWriter}, after which the data file
+     *         should be opened for writing
+     * @throws IOException if I/O error occurs, or the data file has been written without checkpoint
+     */
+    public static MetadataCheckpoint open(File dataFile) throws IOException {
+        File file = getCheckpointFile(dataFile);
+        if (!file.exists()) {
+            if (dataFile.length() > 0)
+                throw new IOException(String.format(
+                        "%s has %d bytes but no checkpoint, it is complete or not written with checkpoint",
+                        dataFile, dataFile.length()));
+            return new MetadataCheckpoint(file, new ArrayList<>(), 0);
+        }
+
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        long dataLength = dataFile.length();
+        List<RowGroupMetaData> rowGroups = new ArrayList<>();
+        long dataEnd = 0;
+        int validLength = 0;
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > buffer.remaining())
+                break;
+            crc.reset();
+            crc.update(bytes, buffer.position(), length);
+            if ((int) crc.getValue() != checksum)
+                break;
+            DataInputStream input =
+                    new DataInputStream(new ByteArrayInputStream(bytes, buffer.position(), length));
+            long recordDataEnd = input.readLong();
+            if (recordDataEnd > dataLength)
+                break;
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                RowGroupMetaData rowGroup = new RowGroupMetaData();
+                rowGroup.convertToTSF(ReadWriteThriftFormatUtils.readRowGroupMetaData(input));
+                rowGroups.add(rowGroup);
+            }
+            dataEnd = recordDataEnd;
+            buffer.position(buffer.position() + length);
+            validLength = buffer.position();
+        }
+        LOG.info("restore {} row groups ending at {} from checkpoint {}, {} bytes of checkpoint and {} bytes of data are truncated",
+                rowGroups.size(), dataEnd, file, bytes.length - validLength, dataLength - dataEnd);
+        truncate(file, validLength);
+        truncate(dataFile, dataEnd);
+        return new MetadataCheckpoint(file, rowGroups, dataEnd);
+    }
+
+    public static File getCheckpointFile(File dataFile) {
+        return new File(dataFile.getPath() + SUFFIX);
+    }
+
+    /**
+     * @return restored row groups, empty for a new checkpoint
+     */
+    public List<RowGroupMetaData> getRowGroups() {
+        return Collections.unmodifiableList(rowGroups);
+    }
+
+    /**
+     * @return position of the data file after restored row groups, 0 for a new checkpoint
+     */
+    public long getDataEnd() {
+        return dataEnd;
+    }
+
+    /**
+     * append a checkpoint and force it to the storage device
+     *
+     * @param newRowGroups - row groups flushed after the last checkpoint
+     * @param newDataEnd - position of the data file after these row groups
+     * @throws IOException if I/O error occurs
+     */
+    public void append(List<RowGroupMetaData> newRowGroups, long newDataEnd) throws IOException {
+        PublicBAOS content = new PublicBAOS();
+        DataOutputStream output = new DataOutputStream(content);
+        output.writeLong(newDataEnd);
+        output.writeInt(newRowGroups.size());
+        for (RowGroupMetaData rowGroup : newRowGroups) {
+            ReadWriteThriftFormatUtils.writeRowGroupMetaData(rowGroup.convertToThrift(), output);
+        }
+        output.flush();
+        CRC32 crc = new CRC32();
+        crc.update(content.getBuf(), 0, content.size());
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        header.putInt(content.size());
+        header.putInt((int) crc.getValue());
+        header.flip();
+        ByteBuffer[] buffers = new ByteBuffer[] {header, ByteBuffer.wrap(content.getBuf(), 0, content.size())};
+        while (buffers[1].hasRemaining()) {
+            channel.write(buffers);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * close and delete the checkpoint, which is called after the footer of the data file is written
+     *
+     * @throws IOException if I/O error occurs
+     */
+    public void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(file.toPath());
+    }
+
+    private static void truncate(File file, long length) throws IOException {
+        if (file.length() > length) {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(length);
+            }
+        }
+    }
+}
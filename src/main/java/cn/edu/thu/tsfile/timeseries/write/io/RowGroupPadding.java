@@ -0,0 +1,28 @@
+package cn.edu.thu.tsfile.timeseries.write.io;
+
+/**
+ * RowGroupPadding decides what is written after a full row group, which is
+ * configured by {@code TSFileConfig.rowGroupPadding}. Readers locate row
+ * groups by the offsets in file metadata, so files written with any padding
+ * are read in the same way.
+ */
+public enum RowGroupPadding {
+    /**
+     * write zeros until the row group takes {@code groupSizeInByte}
+     */
+    FILL,
+    /**
+     * the same size as FILL, but leave a hole if the output supports sparse
+     * files
+     */
+    SPARSE,
+    /**
+     * write zeros until the next row group starts at a multiple of
+     * {@code rowGroupAlignmentInByte}
+     */
+    ALIGN,
+    /**
+     * write nothing
+     */
+    NONE
+}
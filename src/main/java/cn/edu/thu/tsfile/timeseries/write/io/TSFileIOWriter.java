@@ -4,6 +4,7 @@ import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
 import cn.edu.thu.tsfile.common.utils.BytesUtils;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileWriter;
 import cn.edu.thu.tsfile.common.utils.ListByteArrayOutputStream;
+import cn.edu.thu.tsfile.common.utils.PublicBAOS;
 import cn.edu.thu.tsfile.file.metadata.*;
 import cn.edu.thu.tsfile.file.metadata.converter.TSFileMetaDataConverter;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
@@ -17,6 +18,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,12 +34,18 @@ public class TSFileIOWriter {
     public static final String MAGIC_STRING = "TsFilev0.0.1";
     public static final byte[] magicStringBytes;
     private static final Logger LOG = LoggerFactory.getLogger(TSFileIOWriter.class);
+    private static final int FILL_BUFFER_SIZE = 64 * 1024;
     public static final TSFileMetaDataConverter metadataConverter = new TSFileMetaDataConverter();
     private final FileSchema schema;
     private final TSRandomAccessFileWriter out;
     private RowGroupMetaData currentRowGroup;
     private TimeSeriesChunkMetaData currentSeries;
     protected List<RowGroupMetaData> rowGroups = new ArrayList<>();
+    private MetadataCheckpoint checkpoint;
+    /**
+     * count of row groups in checkpoints
+     */
+    private int checkpointedRowGroupCount;
 
     static {
         magicStringBytes = BytesUtils.StringToBytes(MAGIC_STRING);
@@ -72,6 +80,35 @@ public class TSFileIOWriter {
     	this.rowGroups = rowGroups;
     }
 
+    /**
+     * Write with a {@linkplain MetadataCheckpoint MetadataCheckpoint}, which is appended after the
+     * row groups of each flush. If the checkpoint has restored row groups, writing continues after
+     * them. Written data is forced by {@linkplain TSRandomAccessFileWriter#sync sync} before each
+     * checkpoint, so output must support it.
+     *
+     * @param schema schema containing measurement information
+     * @param output be used to output written data, opened after
+     *        {@linkplain MetadataCheckpoint#open MetadataCheckpoint.open}
+     * @param checkpoint checkpoint of the written file
+     * @throws IOException if I/O error occurs
+     * @throws UnsupportedOperationException if output cannot force written data
+     */
+    public TSFileIOWriter(FileSchema schema, TSRandomAccessFileWriter output,
+                          MetadataCheckpoint checkpoint) throws IOException {
+        this.schema = schema;
+        this.out = output;
+        this.checkpoint = checkpoint;
+        if (checkpoint.getDataEnd() == 0) {
+            startFile();
+        } else {
+            out.seek(checkpoint.getDataEnd());
+            rowGroups.addAll(checkpoint.getRowGroups());
+            checkpointedRowGroupCount = rowGroups.size();
+        }
+        // fail here rather than at the first flush if output cannot force written data
+        out.sync();
+    }
+
     /**
      * Writes given <code>ListByteArrayOutputStream</code> to output stream.
      * This method is called when total memory size exceeds the row group size threshold.
@@ -80,7 +117,7 @@ public class TSFileIOWriter {
      * @throws IOException if an I/O error occurs.
      */
     public void writeBytesToStream(ListByteArrayOutputStream bytes) throws IOException {
-        bytes.writeAllTo(out.getOutputStream());
+        out.writeAll(bytes);
     }
 
     private void startFile() throws IOException {
@@ -124,6 +161,8 @@ public class TSFileIOWriter {
                 new TimeSeriesChunkMetaData(descriptor.getMeasurementId(), TSChunkType.VALUE,
                         out.getPos(), compressionCodecName);
         TInTimeSeriesChunkMetaData t = new TInTimeSeriesChunkMetaData(tsDataType, minTime, maxTime);
+        // the time column has no encoding in page headers, so it is recorded here for readers
+        t.setTimeEncoding(descriptor.getTimeEncoding());
         currentSeries.setTInTimeSeriesChunkMetaData(t);
         byte[] max = statistics.getMaxBytes();
         byte[] min = statistics.getMinBytes();
@@ -137,6 +176,36 @@ public class TSFileIOWriter {
         currentSeries.setVInTimeSeriesChunkMetaData(v);
     }
 
+    /**
+     * write the page index of current series after its data pages. The index page is not counted in
+     * the total byte size of the series, so that it is never read as a data page.
+     *
+     * @param pageIndex - offsets and time ranges of data pages in current series
+     * @throws IOException if I/O error occurs
+     */
+    public void writePageIndex(PageIndex pageIndex) throws IOException {
+        PublicBAOS indexBytes = new PublicBAOS(pageIndex.estimateMaxSize());
+        pageIndex.serializeTo(indexBytes);
+        currentSeries.setIndexPageOffset(out.getPos());
+        ReadWriteThriftFormatUtils.writeIndexPageHeader(indexBytes.size(), out.getOutputStream());
+        indexBytes.writeTo(out.getOutputStream());
+        LOG.debug("write page index of series:{}, {}", currentSeries.getProperties().getMeasurementUID(), pageIndex);
+    }
+
+    /**
+     * write the dictionary page of current series after its data pages. Like the index page, it is
+     * not counted in the total byte size of the series.
+     *
+     * @param dictionaryPage - header and content of the dictionary page
+     * @throws IOException if I/O error occurs
+     */
+    public void writeDictionaryPage(PublicBAOS dictionaryPage) throws IOException {
+        currentSeries.setDictionaryPageOffset(out.getPos());
+        dictionaryPage.writeTo(out.getOutputStream());
+        LOG.debug("write dictionary page of series:{}, size:{}", currentSeries.getProperties().getMeasurementUID(),
+                dictionaryPage.size());
+    }
+
     public void endSeries(long size, long totalValueCount) throws IOException {
         LOG.debug("end series:{},totalvalue:{}", currentSeries, totalValueCount);
         currentSeries.setTotalByteSize(size);
@@ -145,13 +214,29 @@ public class TSFileIOWriter {
         currentSeries = null;
     }
 
-    public void endRowGroup(long memSize) throws IOException {
+    public synchronized void endRowGroup(long memSize) throws IOException {
         currentRowGroup.setTotalByteSize(memSize);
         rowGroups.add(currentRowGroup);
         LOG.debug("end row group:{}", currentRowGroup);
         currentRowGroup = null;
     }
 
+    /**
+     * called after all row groups of one flush are written, appending a checkpoint if it is
+     * written with one
+     * 
+     * @throws IOException if I/O error occurs
+     */
+    public void endRowGroups() throws IOException {
+        out.endRowGroups();
+        if (checkpoint != null) {
+            // a checkpoint never refers to data which may be lost in a crash
+            out.sync();
+            checkpoint.append(rowGroups.subList(checkpointedRowGroupCount, rowGroups.size()), out.getPos());
+            checkpointedRowGroupCount = rowGroups.size();
+        }
+    }
+
     /**
      * write {@linkplain cn.edu.thu.tsfile.file.metadata.TSFileMetaData TSFileMetaData} to
      * output stream and close it.
@@ -168,6 +253,8 @@ public class TSFileIOWriter {
         serializeTsFileMetadata(tsfileMetadata);
         out.close();
         LOG.info("output stream is closed");
+        if (checkpoint != null)
+            checkpoint.delete();
     }
 
     /**
@@ -193,19 +280,31 @@ public class TSFileIOWriter {
 
     // fill in output stream to complete row group threshold
     public void fillInRowGroup(long diff) throws IOException {
-        if(diff <= Integer.MAX_VALUE)
-            out.write(new byte[(int)diff]);
-        else
-            throw new IOException("write too much blank byte array!array size:"+diff);
+        OutputStream output = out.getOutputStream();
+        byte[] zeros = new byte[(int) Math.min(diff, FILL_BUFFER_SIZE)];
+        while (diff > 0) {
+            int size = (int) Math.min(diff, zeros.length);
+            output.write(zeros, 0, size);
+            diff -= size;
+        }
+    }
+
+    /**
+     * fill in output stream like {@code fillInRowGroup}, but leave a hole if the output supports
+     * sparse files
+     */
+    public void fillInRowGroupWithHole(long diff) throws IOException {
+        out.writeHole(diff);
     }
     
     /**
-     * Get the list of RowGroupMetaData in memory
+     * Get the list of RowGroupMetaData in memory. Row groups may be written by
+     * a background thread, so a copy is returned.
      * 
-     * @return - current list of RowGroupMetaData
+     * @return - a snapshot of current list of RowGroupMetaData
      */
-    public List<RowGroupMetaData> getRowGroups(){
-    	return rowGroups;
+    public synchronized List<RowGroupMetaData> getRowGroups(){
+    	return new ArrayList<>(rowGroups);
     }
     
 }
@@ -2,6 +2,7 @@ package cn.edu.thu.tsfile.timeseries.write.page;
 
 import cn.edu.thu.tsfile.common.utils.ListByteArrayOutputStream;
 import cn.edu.thu.tsfile.common.utils.Pair;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.file.metadata.statistics.Statistics;
 import cn.edu.thu.tsfile.timeseries.write.exception.PageException;
@@ -50,6 +51,14 @@ public interface IPageWriter {
      */
     void writeToFileWriter(TSFileIOWriter writer, Statistics<?> statistics) throws IOException;
 
+    /**
+     * set the encoder of a series encoded by PLAIN_DICTIONARY. Its dictionary is written as a
+     * dictionary page with the pages, and cleared when the pages are reset.
+     *
+     * @param dictionaryEncoder - value encoder of the series
+     */
+    void setDictionaryEncoder(DictionaryEncoder dictionaryEncoder);
+
     /**
      * reset exist data in page for next stage
      */
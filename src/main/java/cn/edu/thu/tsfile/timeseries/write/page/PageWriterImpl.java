@@ -7,11 +7,15 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import cn.edu.thu.tsfile.common.utils.ByteArrayPool;
 import cn.edu.thu.tsfile.common.utils.ListByteArrayOutputStream;
 import cn.edu.thu.tsfile.common.utils.Pair;
 import cn.edu.thu.tsfile.common.utils.PublicBAOS;
 import cn.edu.thu.tsfile.compress.Compressor;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
+import cn.edu.thu.tsfile.file.metadata.PageIndex;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.file.metadata.statistics.Statistics;
 import cn.edu.thu.tsfile.file.utils.ReadWriteThriftFormatUtils;
 import cn.edu.thu.tsfile.timeseries.write.desc.MeasurementDescriptor;
@@ -35,55 +39,132 @@ public class PageWriterImpl implements IPageWriter {
 	private long totalValueCount;
 	private long maxTimestamp;
 	private long minTimestamp = -1;
+	// offsets and time ranges of pages in buf
+	private PageIndex pageIndex;
+	// value encoder of a series encoded by PLAIN_DICTIONARY, null for other series
+	private DictionaryEncoder dictionaryEncoder;
 
 	public PageWriterImpl(MeasurementDescriptor desc) {
 		this.desc = desc;
 		this.compressor = desc.getCompressor();
 		this.buf = new ListByteArrayOutputStream();
+		this.pageIndex = new PageIndex();
 	}
 
 	@Override
 	public void writePage(ListByteArrayOutputStream listByteArray, int valueCount, Statistics<?> statistics,
 			long maxTimestamp, long minTimestamp) throws PageException {
-		// compress the input data
 		if (this.minTimestamp == -1)
 			this.minTimestamp = minTimestamp;
 		this.maxTimestamp = maxTimestamp;
 		int uncompressedSize = listByteArray.size();
-		ListByteArrayOutputStream compressedBytes = compressor.compress(listByteArray);
-		int compressedSize = compressedBytes.size();
+		ByteArrayPool pool = ByteArrayPool.getInstance();
+		byte[] compressed = null;
+		int compressedSize = uncompressedSize;
+		// compress the input data through pooled buffers, uncompressed data is
+		// copied from the value writer into the page directly
+		if (compressor.getCodecName() != CompressionTypeName.UNCOMPRESSED) {
+			byte[] uncompressed = pool.allocate(uncompressedSize);
+			compressed = pool.allocate(compressor.getMaxCompressedLength(uncompressedSize));
+			try {
+				listByteArray.copyTo(uncompressed, 0);
+				compressedSize = compressor.compress(uncompressed, 0, uncompressedSize, compressed, 0);
+			} catch (IOException e) {
+				pool.release(compressed);
+				resetTimeStamp();
+				throw new PageException("meet IO Exception in compression,ignore this page,error message:"
+						+ e.getMessage());
+			} finally {
+				pool.release(uncompressed);
+			}
+		}
 		PublicBAOS tempOutputStream = new PublicBAOS(estimateMaxPageHeaderSize() + compressedSize);
 		// write the page header to IOWriter
 		try {
 			ReadWriteThriftFormatUtils.writeDataPageHeader(uncompressedSize, compressedSize, valueCount, statistics,
-					valueCount, desc.getEncodingType(), tempOutputStream, maxTimestamp, minTimestamp);
+					valueCount, getPageEncoding(), tempOutputStream, maxTimestamp, minTimestamp);
 		} catch (IOException e) {
+			if (compressed != null)
+				pool.release(compressed);
 			resetTimeStamp();
 			throw new PageException(
 					"meet IO Exception in writeDataPageHeader,ignore this page,error message:" + e.getMessage());
 		}
 		this.totalValueCount += valueCount;
-		try {
-			compressedBytes.writeAllTo(tempOutputStream);
-		} catch (IOException e) {
-			/*
-			 * In our method, this line is to flush listByteArray to buf, both
-			 * of them are in class of ListByteArrayOutputStream which contain
-			 * several ByteArrayOutputStream. In general, they won't throw
-			 * exception. The IOException is just for interface requirement of
-			 * OutputStream.
-			 */
-			throw new PageException("meet IO Exception in buffer append,but we cannot understand it:" + e.getMessage());
+		if (compressed != null) {
+			tempOutputStream.write(compressed, 0, compressedSize);
+			pool.release(compressed);
+		} else {
+			try {
+				listByteArray.writeAllTo(tempOutputStream);
+			} catch (IOException e) {
+				/*
+				 * In our method, this line is to flush listByteArray to buf,
+				 * both of them are in class of ListByteArrayOutputStream which
+				 * contain several ByteArrayOutputStream. In general, they won't
+				 * throw exception. The IOException is just for interface
+				 * requirement of OutputStream.
+				 */
+				throw new PageException(
+						"meet IO Exception in buffer append,but we cannot understand it:" + e.getMessage());
+			}
 		}
+		pageIndex.addPage(buf.size(), minTimestamp, maxTimestamp);
 		buf.append(tempOutputStream);
 		LOG.debug("page {}:write page from seriesWriter, valueCount:{}, stats:{},size:{}", desc, valueCount, statistics,
 				estimateMaxPageMemSize());
 	}
 
+	/**
+	 * @return encoding of the page just flushed by the value encoder. Pages of
+	 *         a PLAIN_DICTIONARY series are encoded by PLAIN once its
+	 *         dictionary is too large.
+	 */
+	private TSEncoding getPageEncoding() {
+		return dictionaryEncoder == null ? desc.getEncodingType() : dictionaryEncoder.getPageEncoding();
+	}
+
+	private boolean hasDictionary() {
+		return dictionaryEncoder != null && dictionaryEncoder.getEntryCount() > 0;
+	}
+
+	/**
+	 * compress the dictionary of current series in the same way as data pages,
+	 * and put it after a dictionary page header
+	 */
+	private PublicBAOS getDictionaryPage() throws IOException {
+		PublicBAOS dictionary = new PublicBAOS(dictionaryEncoder.getDictionarySize());
+		dictionaryEncoder.writeDictionary(dictionary);
+		int uncompressedSize = dictionary.size();
+		byte[] content = dictionary.getBuf();
+		int compressedSize = uncompressedSize;
+		if (compressor.getCodecName() != CompressionTypeName.UNCOMPRESSED) {
+			content = new byte[compressor.getMaxCompressedLength(uncompressedSize)];
+			compressedSize = compressor.compress(dictionary.getBuf(), 0, uncompressedSize, content, 0);
+		}
+		PublicBAOS page = new PublicBAOS(estimateMaxPageHeaderSize() + compressedSize);
+		// entries in a dictionary page are always encoded by PLAIN
+		ReadWriteThriftFormatUtils.writeDictionaryPageHeader(uncompressedSize, compressedSize,
+				dictionaryEncoder.getEntryCount(), TSEncoding.PLAIN, page);
+		page.write(content, 0, compressedSize);
+		return page;
+	}
+
+	/**
+	 * the dictionary page of a PLAIN_DICTIONARY series is put before its data
+	 * pages, so that it is read before ids in data pages
+	 */
 	public Pair<List<ByteArrayInputStream>, CompressionTypeName> query() {
 
 		
 		List<ByteArrayInputStream> backupPageList = buf.transform();
+		if (hasDictionary()) {
+			try {
+				backupPageList.add(0, getDictionaryPage().transformToInputStream());
+			} catch (IOException e) {
+				LOG.error("meet IO Exception in writing dictionary page of {}, error message:{}", desc, e.getMessage());
+			}
+		}
 		Pair<List<ByteArrayInputStream>, CompressionTypeName> ret = new Pair<List<ByteArrayInputStream>, CompressionTypeName>(
 				backupPageList, compressor.getCodecName());
 		return ret;
@@ -101,22 +182,40 @@ public class PageWriterImpl implements IPageWriter {
 		writer.writeBytesToStream(buf);
 		LOG.debug("write series to file finished:{}", desc);
 		long size = writer.getPos() - totalByteSize;
+		if (hasDictionary()) {
+			writer.writeDictionaryPage(getDictionaryPage());
+		}
+		// an index of one page or of pages out of time order is useless for seeking
+		if (pageIndex.size() > 1 && pageIndex.isOrdered()) {
+			writer.writePageIndex(pageIndex);
+		}
 		writer.endSeries(size, totalValueCount);
 		LOG.debug("page {}:write page to fileWriter,type:{},maxTime:{},minTime:{},nowPos:{},stats:{}",
 				desc.getMeasurementId(), desc.getType(), maxTimestamp, minTimestamp, writer.getPos(), statistics);
 	}
 
+	@Override
+	public void setDictionaryEncoder(DictionaryEncoder dictionaryEncoder) {
+		this.dictionaryEncoder = dictionaryEncoder;
+	}
+
 	@Override
 	public void reset() {
+		if (dictionaryEncoder != null)
+			dictionaryEncoder.resetDictionary();
 		minTimestamp = -1;
 		buf.reset();
+		pageIndex.reset();
 		totalValueCount = 0;
 	}
 
 	@Override
 	public long estimateMaxPageMemSize() {
 		// return size of buffer + page max size;
-		return buf.size() + estimateMaxPageHeaderSize();
+		long size = buf.size() + estimateMaxPageHeaderSize() + pageIndex.estimateMaxSize();
+		if (dictionaryEncoder != null)
+			size += estimateMaxPageHeaderSize() + dictionaryEncoder.getDictionarySize();
+		return size;
 	}
 
 	private int estimateMaxPageHeaderSize() {
@@ -0,0 +1,84 @@
+package cn.edu.thu.tsfile.timeseries.write.record;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+
+/**
+ * TSTablet is a batch of rows of one delta object stored by column. It contains an array of
+ * timestamps and an array of primitive values for each measurement, so that the rows can be
+ * written without creating a {@linkplain TSRecord TSRecord} and a {@linkplain DataPoint DataPoint}
+ * for each value. Every column has a value at each of the first {@code rowCount} timestamps.
+ * Columns of ENUMS measurements are given as int arrays.
+ */
+public class TSTablet {
+    public final String deltaObjectId;
+    public final long[] timestamps;
+    public final int rowCount;
+    public final List<String> measurementIds = new ArrayList<>();
+    public final List<TSDataType> dataTypes = new ArrayList<>();
+    /**
+     * each column is an int[], long[], float[], double[], boolean[] or Binary[]
+     */
+    public final List<Object> columns = new ArrayList<>();
+
+    public TSTablet(String deltaObjectId, long[] timestamps) {
+        this(deltaObjectId, timestamps, timestamps.length);
+    }
+
+    /**
+     * @param deltaObjectId - delta object id of all rows
+     * @param timestamps - timestamps of rows, only the first rowCount ones are used
+     * @param rowCount - number of rows
+     */
+    public TSTablet(String deltaObjectId, long[] timestamps, int rowCount) {
+        if (rowCount > timestamps.length) {
+            throw new IllegalArgumentException("row count " + rowCount + " is larger than the number of timestamps "
+                    + timestamps.length);
+        }
+        this.deltaObjectId = deltaObjectId;
+        this.timestamps = timestamps;
+        this.rowCount = rowCount;
+    }
+
+    public void addColumn(String measurementId, int[] values) {
+        addColumn(measurementId, TSDataType.INT32, values, values.length);
+    }
+
+    public void addColumn(String measurementId, long[] values) {
+        addColumn(measurementId, TSDataType.INT64, values, values.length);
+    }
+
+    public void addColumn(String measurementId, float[] values) {
+        addColumn(measurementId, TSDataType.FLOAT, values, values.length);
+    }
+
+    public void addColumn(String measurementId, double[] values) {
+        addColumn(measurementId, TSDataType.DOUBLE, values, values.length);
+    }
+
+    public void addColumn(String measurementId, boolean[] values) {
+        addColumn(measurementId, TSDataType.BOOLEAN, values, values.length);
+    }
+
+    public void addColumn(String measurementId, Binary[] values) {
+        addColumn(measurementId, TSDataType.BYTE_ARRAY, values, values.length);
+    }
+
+    private void addColumn(String measurementId, TSDataType dataType, Object values, int length) {
+        if (length < rowCount) {
+            throw new IllegalArgumentException("measurement " + measurementId + " has " + length
+                    + " values, less than row count " + rowCount);
+        }
+        measurementIds.add(measurementId);
+        dataTypes.add(dataType);
+        columns.add(values);
+    }
+
+    public String toString() {
+        return "{delta object id:" + deltaObjectId + ", row count:" + rowCount + ", measurements:"
+                + measurementIds + "}";
+    }
+}
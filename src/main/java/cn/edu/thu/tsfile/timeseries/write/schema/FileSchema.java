@@ -12,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 
@@ -29,9 +30,10 @@ public class FileSchema {
     static private final Logger LOG = LoggerFactory.getLogger(FileSchema.class);
     /**
      * {@code appearDeltaObjectIdSet} responds to delta object that appeared in this stage. Stage
-     * means the time period after the last <b>flushing to file</b> up to now.
+     * means the time period after the last <b>flushing to file</b> up to now. It is concurrent
+     * since records of different delta objects may be written by several threads.
      */
-    private Set<String> appearDeltaObjectIdSet = new HashSet<>();
+    private Set<String> appearDeltaObjectIdSet = ConcurrentHashMap.newKeySet();
     /**
      * {@code Map<measurementId, TSDataType>}
      */
@@ -185,9 +187,9 @@ public class FileSchema {
         for (String id : groupWriters.keySet()) {
             tempKeyArray[i++] = id;
         }
-        for (String existDeltaObjectId : tempKeyArray) {
-            if (!appearDeltaObjectIdSet.contains(existDeltaObjectId)) {
-                groupWriters.remove(existDeltaObjectId);
+        for (int j = 0; j < i; j++) {
+            if (!appearDeltaObjectIdSet.contains(tempKeyArray[j])) {
+                groupWriters.remove(tempKeyArray[j]);
             }
         }
         appearDeltaObjectIdSet.clear();
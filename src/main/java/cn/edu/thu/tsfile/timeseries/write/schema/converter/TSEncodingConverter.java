@@ -11,11 +11,14 @@ import cn.edu.thu.tsfile.common.exception.metadata.MetadataArgsErrorException;
 import cn.edu.thu.tsfile.encoding.common.EndianType;
 import cn.edu.thu.tsfile.encoding.encoder.BitmapEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.Encoder;
 import cn.edu.thu.tsfile.encoding.encoder.FloatEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.GorillaEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.IntRleEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.LongRleEncoder;
 import cn.edu.thu.tsfile.encoding.encoder.PlainEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.RegularDataEncoder;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
 import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 
@@ -35,7 +38,7 @@ import java.util.Map;
  */
 public abstract class TSEncodingConverter {
     public static class PLAIN extends TSEncodingConverter {
-        private int maxStringLength;
+        protected int maxStringLength;
         @Override
         public Encoder getEncoder(String measurementId, TSDataType type) {
             return new PlainEncoder(EndianType.LITTLE_ENDIAN, type, maxStringLength);
@@ -58,6 +61,22 @@ public abstract class TSEncodingConverter {
         }
     }
 
+    /**
+     * PLAIN_DICTIONARY accepts the same <b>max_string_length</b> as PLAIN, which is used for the
+     * entries of the dictionary and for values once the dictionary is too large.
+     */
+    public static class PLAIN_DICTIONARY extends PLAIN {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case BYTE_ARRAY:
+                    return new DictionaryEncoder(maxStringLength, conf.maxDictionarySize);
+                default:
+                    throw new UnSupportedDataTypeException("PLAIN_DICTIONARY doesn't support data type: "+ type);
+            }
+        }
+    }
+
     public static class RLE extends TSEncodingConverter {
         private int maxPointNumber = 0;
 
@@ -128,9 +147,9 @@ public abstract class TSEncodingConverter {
         public Encoder getEncoder(String measurementId, TSDataType type) {
             switch (type) {
                 case INT32:
-                    return new DeltaBinaryEncoder.IntDeltaEncoder();
+                    return new DeltaBinaryEncoder.IntDeltaEncoder(conf.deltaBlockSize, conf.deltaBlockPatched);
                 case INT64:
-                    return new DeltaBinaryEncoder.LongDeltaEncoder();
+                    return new DeltaBinaryEncoder.LongDeltaEncoder(conf.deltaBlockSize, conf.deltaBlockPatched);
                 case FLOAT:
                 case DOUBLE:
                 case BIGDECIMAL:
@@ -197,6 +216,32 @@ public abstract class TSEncodingConverter {
         }
     }
 
+    public static class GORILLA extends TSEncodingConverter {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case FLOAT:
+                    return new GorillaEncoder.FloatGorillaEncoder();
+                case DOUBLE:
+                    return new GorillaEncoder.DoubleGorillaEncoder();
+                default:
+                    throw new UnSupportedDataTypeException("GORILLA doesn't support data type: "+ type);
+            }
+        }
+    }
+
+    public static class REGULAR extends TSEncodingConverter {
+        @Override
+        public Encoder getEncoder(String measurementId, TSDataType type) {
+            switch (type) {
+                case INT64:
+                    return new RegularDataEncoder();
+                default:
+                    throw new UnSupportedDataTypeException("REGULAR doesn't support data type: "+ type);
+            }
+        }
+    }
+
     private static final Logger LOG = LoggerFactory.getLogger(TSEncodingConverter.class);
     protected final TSFileConfig conf;
 
@@ -214,12 +259,18 @@ public abstract class TSEncodingConverter {
         switch (type) {
             case PLAIN:
                 return new PLAIN();
+            case PLAIN_DICTIONARY:
+                return new PLAIN_DICTIONARY();
             case RLE:
                 return new RLE();
             case TS_2DIFF:
                 return new TS_2DIFF();
             case BITMAP:
                 return new BITMAP();
+            case GORILLA:
+                return new GORILLA();
+            case REGULAR:
+                return new REGULAR();
             default:
                 throw new UnsupportedOperationException(type.toString());
         }
@@ -1,11 +1,13 @@
 package cn.edu.thu.tsfile.timeseries.write.series;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
 import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 import cn.edu.thu.tsfile.timeseries.write.record.DataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
 
 /**
  * a row group in TSFile contains a list of value series. TimeSeriesGroupWriter
@@ -30,6 +32,21 @@ public interface IRowGroupWriter {
 	 */
 	void write(long time, List<DataPoint> data) throws WriteProcessException, IOException;
 
+	/**
+	 * write rows [start, end) of a tablet to the series writers of its
+	 * measurements.
+	 * 
+	 * @param tablet
+	 *            - rows stored by column
+	 * @param start
+	 *            - index of the first row to write
+	 * @param end
+	 *            - index after the last row to write
+	 * @throws WriteProcessException
+	 * @throws IOException
+	 */
+	void write(TSTablet tablet, int start, int end) throws WriteProcessException, IOException;
+
 	/**
 	 * flushing method for outputting to OS file system or HDFS.
 	 * 
@@ -39,6 +56,11 @@ public interface IRowGroupWriter {
 	 */
 	void flushToFileWriter(TSFileIOWriter tsfileWriter) throws IOException;
 
+	/**
+	 * @return series writers in the order they are flushed
+	 */
+	Collection<ISeriesWriter> getSeriesWriters();
+
 	/**
 	 * query this measurementId data in memory
 	 * 
@@ -28,9 +28,31 @@ public interface ISeriesWriter {
     void write(long time, BigDecimal value) throws IOException;
 
     void write(long time, Binary value) throws IOException;
+
+    /**
+     * write times[start, end) and values[start, end) of a batch. Statistics and page size are
+     * updated and checked once for several values rather than for each value.
+     */
+    void write(long[] times, int[] values, int start, int end) throws IOException;
+
+    void write(long[] times, long[] values, int start, int end) throws IOException;
+
+    void write(long[] times, boolean[] values, int start, int end) throws IOException;
+
+    void write(long[] times, float[] values, int start, int end) throws IOException;
+
+    void write(long[] times, double[] values, int start, int end) throws IOException;
+
+    void write(long[] times, Binary[] values, int start, int end) throws IOException;
     
     List<Object> query();
 
+    /**
+     * encode and compress the values of the current page, so that {@code writeToFileWriter()}
+     * only outputs finished pages. Different series may be sealed concurrently.
+     */
+    void sealCurrentPage();
+
     void writeToFileWriter(TSFileIOWriter tsfileWriter) throws IOException;
 
     long estimateMaxSeriesMemSize();
@@ -3,6 +3,7 @@ package cn.edu.thu.tsfile.timeseries.write.series;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +11,8 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.Binary;
 import cn.edu.thu.tsfile.common.utils.Pair;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.timeseries.read.query.DynamicOneColumnData;
@@ -20,10 +23,12 @@ import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
 import cn.edu.thu.tsfile.timeseries.write.page.IPageWriter;
 import cn.edu.thu.tsfile.timeseries.write.page.PageWriterImpl;
 import cn.edu.thu.tsfile.timeseries.write.record.DataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
 import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
 
 /**
- * a implementation of IRowGroupWriter
+ * a implementation of IRowGroupWriter. Writing and querying are synchronized
+ * on it, so records of one delta object may be written by several threads.
  * 
  * @see IRowGroupWriter IRowGroupWriter
  * @author kangrong
@@ -43,11 +48,13 @@ public class RowGroupWriterImpl implements IRowGroupWriter {
 
 	private ISeriesWriter createSeriesWriter(MeasurementDescriptor desc, int pageSizeThreshold) {
 		IPageWriter pageWriter = new PageWriterImpl(desc);
-		return new SeriesWriterImpl(deltaObjectId, desc, pageWriter, pageSizeThreshold);
+		ISeriesWriter seriesWriter = new SeriesWriterImpl(deltaObjectId, desc, pageWriter, pageSizeThreshold);
+		long outOfOrderWindow = TSFileDescriptor.getInstance().getConfig().outOfOrderWindow;
+		return outOfOrderWindow > 0 ? new SortedSeriesWriter(seriesWriter, outOfOrderWindow) : seriesWriter;
 	}
 
 	@Override
-	public void write(long time, List<DataPoint> data) throws WriteProcessException, IOException {
+	public synchronized void write(long time, List<DataPoint> data) throws WriteProcessException, IOException {
 		for (DataPoint point : data) {
 			String measurementId = point.getMeasurementId();
 			if (!dataSeriesWriters.containsKey(measurementId))
@@ -58,7 +65,40 @@ public class RowGroupWriterImpl implements IRowGroupWriter {
 	}
 
 	@Override
-	public List<Object> query(String measurementId) {
+	public synchronized void write(TSTablet tablet, int start, int end) throws WriteProcessException, IOException {
+		for (int i = 0; i < tablet.measurementIds.size(); i++) {
+			String measurementId = tablet.measurementIds.get(i);
+			ISeriesWriter seriesWriter = dataSeriesWriters.get(measurementId);
+			if (seriesWriter == null)
+				throw new NoMeasurementException("measurement id " + measurementId + " not found!");
+			Object column = tablet.columns.get(i);
+			switch (tablet.dataTypes.get(i)) {
+			case INT32:
+				seriesWriter.write(tablet.timestamps, (int[]) column, start, end);
+				break;
+			case INT64:
+				seriesWriter.write(tablet.timestamps, (long[]) column, start, end);
+				break;
+			case FLOAT:
+				seriesWriter.write(tablet.timestamps, (float[]) column, start, end);
+				break;
+			case DOUBLE:
+				seriesWriter.write(tablet.timestamps, (double[]) column, start, end);
+				break;
+			case BOOLEAN:
+				seriesWriter.write(tablet.timestamps, (boolean[]) column, start, end);
+				break;
+			case BYTE_ARRAY:
+				seriesWriter.write(tablet.timestamps, (Binary[]) column, start, end);
+				break;
+			default:
+				throw new WriteProcessException("unsupported data type in tablet: " + tablet.dataTypes.get(i));
+			}
+		}
+	}
+
+	@Override
+	public synchronized List<Object> query(String measurementId) {
 		if (dataSeriesWriters.get(measurementId) == null) {
 			LOG.warn("The measurementId {} is not exist", measurementId);
 			DynamicOneColumnData left = null;
@@ -79,6 +119,11 @@ public class RowGroupWriterImpl implements IRowGroupWriter {
 		}
 	}
 
+	@Override
+	public Collection<ISeriesWriter> getSeriesWriters() {
+		return dataSeriesWriters.values();
+	}
+
 	@Override
 	public long updateMaxGroupMemSize() {
 		long bufferSize = 0;
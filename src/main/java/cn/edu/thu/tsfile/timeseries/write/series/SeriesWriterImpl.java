@@ -13,6 +13,8 @@ import cn.edu.thu.tsfile.common.conf.TSFileConfig;
 import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
 import cn.edu.thu.tsfile.common.utils.Binary;
 import cn.edu.thu.tsfile.common.utils.Pair;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
 import cn.edu.thu.tsfile.file.metadata.statistics.Statistics;
@@ -86,7 +88,11 @@ public class SeriesWriterImpl implements ISeriesWriter {
 		this.pageCountUpperBound = TSFileDescriptor.getInstance().getConfig().maxNumberOfPointsInPage;
 
 		this.dataValueWriter.setTimeEncoder(desc.getTimeEncoder());
-		this.dataValueWriter.setValueEncoder(desc.getValueEncoder());
+		Encoder valueEncoder = desc.getValueEncoder();
+		this.dataValueWriter.setValueEncoder(valueEncoder);
+		// the dictionary is shared by all pages of the series in a row group
+		if (valueEncoder instanceof DictionaryEncoder)
+			pageWriter.setDictionaryEncoder((DictionaryEncoder) valueEncoder);
 		// cache page data
 		TSFileConfig config = TSFileDescriptor.getInstance().getConfig();
 		if (config.duplicateIncompletedPage) {
@@ -199,6 +205,124 @@ public class SeriesWriterImpl implements ISeriesWriter {
 		checkPageSize();
 	}
 
+	@Override
+	public void write(long[] times, int[] values, int start, int end) throws IOException {
+		while (start < end) {
+			int batchEnd = start + Math.min(end - start, getValueCountBeforeCheck());
+			dataValueWriter.write(times, values, start, batchEnd);
+			pageStatistics.updateStats(values, start, batchEnd);
+			if (cacheCurrentPageData != null) {
+				for (int i = start; i < batchEnd; i++) {
+					cacheCurrentPageData.putTime(times[i]);
+					cacheCurrentPageData.putInt(values[i]);
+				}
+			}
+			endBatch(times, start, batchEnd);
+			start = batchEnd;
+		}
+	}
+
+	@Override
+	public void write(long[] times, long[] values, int start, int end) throws IOException {
+		while (start < end) {
+			int batchEnd = start + Math.min(end - start, getValueCountBeforeCheck());
+			dataValueWriter.write(times, values, start, batchEnd);
+			pageStatistics.updateStats(values, start, batchEnd);
+			if (cacheCurrentPageData != null) {
+				for (int i = start; i < batchEnd; i++) {
+					cacheCurrentPageData.putTime(times[i]);
+					cacheCurrentPageData.putLong(values[i]);
+				}
+			}
+			endBatch(times, start, batchEnd);
+			start = batchEnd;
+		}
+	}
+
+	@Override
+	public void write(long[] times, boolean[] values, int start, int end) throws IOException {
+		while (start < end) {
+			int batchEnd = start + Math.min(end - start, getValueCountBeforeCheck());
+			dataValueWriter.write(times, values, start, batchEnd);
+			pageStatistics.updateStats(values, start, batchEnd);
+			if (cacheCurrentPageData != null) {
+				for (int i = start; i < batchEnd; i++) {
+					cacheCurrentPageData.putTime(times[i]);
+					cacheCurrentPageData.putBoolean(values[i]);
+				}
+			}
+			endBatch(times, start, batchEnd);
+			start = batchEnd;
+		}
+	}
+
+	@Override
+	public void write(long[] times, float[] values, int start, int end) throws IOException {
+		while (start < end) {
+			int batchEnd = start + Math.min(end - start, getValueCountBeforeCheck());
+			dataValueWriter.write(times, values, start, batchEnd);
+			pageStatistics.updateStats(values, start, batchEnd);
+			if (cacheCurrentPageData != null) {
+				for (int i = start; i < batchEnd; i++) {
+					cacheCurrentPageData.putTime(times[i]);
+					cacheCurrentPageData.putFloat(values[i]);
+				}
+			}
+			endBatch(times, start, batchEnd);
+			start = batchEnd;
+		}
+	}
+
+	@Override
+	public void write(long[] times, double[] values, int start, int end) throws IOException {
+		while (start < end) {
+			int batchEnd = start + Math.min(end - start, getValueCountBeforeCheck());
+			dataValueWriter.write(times, values, start, batchEnd);
+			pageStatistics.updateStats(values, start, batchEnd);
+			if (cacheCurrentPageData != null) {
+				for (int i = start; i < batchEnd; i++) {
+					cacheCurrentPageData.putTime(times[i]);
+					cacheCurrentPageData.putDouble(values[i]);
+				}
+			}
+			endBatch(times, start, batchEnd);
+			start = batchEnd;
+		}
+	}
+
+	@Override
+	public void write(long[] times, Binary[] values, int start, int end) throws IOException {
+		while (start < end) {
+			int batchEnd = start + Math.min(end - start, getValueCountBeforeCheck());
+			dataValueWriter.write(times, values, start, batchEnd);
+			pageStatistics.updateStats(values, start, batchEnd);
+			if (cacheCurrentPageData != null) {
+				for (int i = start; i < batchEnd; i++) {
+					cacheCurrentPageData.putTime(times[i]);
+					cacheCurrentPageData.putBinary(values[i]);
+				}
+			}
+			endBatch(times, start, batchEnd);
+			start = batchEnd;
+		}
+	}
+
+	/**
+	 * @return number of values which can be written before the next check in
+	 *         {@code checkPageSize()}, at least 1
+	 */
+	private int getValueCountBeforeCheck() {
+		return Math.min(pageCountUpperBound - valueCount, Math.max(1, valueCountForNextSizeCheck - valueCount));
+	}
+
+	private void endBatch(long[] times, int start, int end) {
+		this.time = times[end - 1];
+		valueCount += end - start;
+		if (minTimestamp == -1)
+			minTimestamp = times[start];
+		checkPageSize();
+	}
+
 	@Override
 	public List<Object> query() {
 
@@ -264,10 +388,15 @@ public class SeriesWriterImpl implements ISeriesWriter {
 	}
 
 	@Override
-	public void writeToFileWriter(TSFileIOWriter tsfileWriter) throws IOException {
+	public void sealCurrentPage() {
 		if (valueCount > 0) {
 			writePage();
 		}
+	}
+
+	@Override
+	public void writeToFileWriter(TSFileIOWriter tsfileWriter) throws IOException {
+		sealCurrentPage();
 		pageWriter.writeToFileWriter(tsfileWriter, seriesStatistics);
 		pageWriter.reset();
 		// reset series_statistics
@@ -0,0 +1,324 @@
+package cn.edu.thu.tsfile.timeseries.write.series;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
+
+/**
+ * SortedSeriesWriter buffers points of a series in primitive arrays sorted by
+ * time, and writes them to another {@code ISeriesWriter} once they are older
+ * than the latest point by more than {@code outOfOrderWindow} in
+ * {@linkplain cn.edu.thu.tsfile.common.conf.TSFileConfig TSFileConfig}. Points
+ * arriving late within the window are therefore encoded in time order, which
+ * keeps pages ordered and their time ranges tight. Points arriving later than
+ * that are written in arrival order.<br>
+ * Buffered points are written out in batches when the oldest one is older
+ * than the latest one by more than two windows, and all of them are written
+ * out before the current page is sealed, queried or flushed.
+ *
+ * @see ISeriesWriter ISeriesWriter
+ */
+public class SortedSeriesWriter implements ISeriesWriter {
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final ISeriesWriter writer;
+	private final long window;
+	private long[] times = new long[INITIAL_CAPACITY];
+	/**
+	 * an array of values, whose type is decided by the first written value
+	 */
+	private Object values;
+	/**
+	 * buffered points are in [start, end) of {@code times} and {@code values}
+	 */
+	private int start;
+	private int end;
+	/**
+	 * total length of buffered {@code Binary} values
+	 */
+	private long binarySize;
+
+	public SortedSeriesWriter(ISeriesWriter writer, long window) {
+		this.writer = writer;
+		this.window = window;
+	}
+
+	@Override
+	public void write(long time, int value) throws IOException {
+		if (values == null)
+			values = new int[times.length];
+		int pos = insert(time);
+		((int[]) values)[pos] = value;
+		checkWindow();
+	}
+
+	@Override
+	public void write(long time, long value) throws IOException {
+		if (values == null)
+			values = new long[times.length];
+		int pos = insert(time);
+		((long[]) values)[pos] = value;
+		checkWindow();
+	}
+
+	@Override
+	public void write(long time, boolean value) throws IOException {
+		if (values == null)
+			values = new boolean[times.length];
+		int pos = insert(time);
+		((boolean[]) values)[pos] = value;
+		checkWindow();
+	}
+
+	@Override
+	public void write(long time, float value) throws IOException {
+		if (values == null)
+			values = new float[times.length];
+		int pos = insert(time);
+		((float[]) values)[pos] = value;
+		checkWindow();
+	}
+
+	@Override
+	public void write(long time, double value) throws IOException {
+		if (values == null)
+			values = new double[times.length];
+		int pos = insert(time);
+		((double[]) values)[pos] = value;
+		checkWindow();
+	}
+
+	@Override
+	public void write(long time, BigDecimal value) throws IOException {
+		if (values == null)
+			values = new BigDecimal[times.length];
+		int pos = insert(time);
+		((BigDecimal[]) values)[pos] = value;
+		checkWindow();
+	}
+
+	@Override
+	public void write(long time, Binary value) throws IOException {
+		if (values == null)
+			values = new Binary[times.length];
+		int pos = insert(time);
+		((Binary[]) values)[pos] = value;
+		binarySize += value.getLength();
+		checkWindow();
+	}
+
+	@Override
+	public void write(long[] times, int[] values, int start, int end) throws IOException {
+		if (this.values == null)
+			this.values = new int[this.times.length];
+		for (int i = start; i < end; i++) {
+			int pos = insert(times[i]);
+			((int[]) this.values)[pos] = values[i];
+		}
+		checkWindow();
+	}
+
+	@Override
+	public void write(long[] times, long[] values, int start, int end) throws IOException {
+		if (this.values == null)
+			this.values = new long[this.times.length];
+		for (int i = start; i < end; i++) {
+			int pos = insert(times[i]);
+			((long[]) this.values)[pos] = values[i];
+		}
+		checkWindow();
+	}
+
+	@Override
+	public void write(long[] times, boolean[] values, int start, int end) throws IOException {
+		if (this.values == null)
+			this.values = new boolean[this.times.length];
+		for (int i = start; i < end; i++) {
+			int pos = insert(times[i]);
+			((boolean[]) this.values)[pos] = values[i];
+		}
+		checkWindow();
+	}
+
+	@Override
+	public void write(long[] times, float[] values, int start, int end) throws IOException {
+		if (this.values == null)
+			this.values = new float[this.times.length];
+		for (int i = start; i < end; i++) {
+			int pos = insert(times[i]);
+			((float[]) this.values)[pos] = values[i];
+		}
+		checkWindow();
+	}
+
+	@Override
+	public void write(long[] times, double[] values, int start, int end) throws IOException {
+		if (this.values == null)
+			this.values = new double[this.times.length];
+		for (int i = start; i < end; i++) {
+			int pos = insert(times[i]);
+			((double[]) this.values)[pos] = values[i];
+		}
+		checkWindow();
+	}
+
+	@Override
+	public void write(long[] times, Binary[] values, int start, int end) throws IOException {
+		if (this.values == null)
+			this.values = new Binary[this.times.length];
+		for (int i = start; i < end; i++) {
+			int pos = insert(times[i]);
+			((Binary[]) this.values)[pos] = values[i];
+			binarySize += values[i].getLength();
+		}
+		checkWindow();
+	}
+
+	/**
+	 * reserve a position for a point, keeping buffered points sorted by time.
+	 * A point not earlier than the latest one is appended, and a late point is
+	 * inserted after buffered points with the same or earlier time.
+	 *
+	 * @return index in {@code values} where the value of the point is put
+	 */
+	private int insert(long time) {
+		if (end == times.length)
+			makeRoom();
+		int pos = end;
+		if (pos > start && times[pos - 1] > time) {
+			pos = upperBound(time);
+			System.arraycopy(times, pos, times, pos + 1, end - pos);
+			System.arraycopy(values, pos, values, pos + 1, end - pos);
+		}
+		times[pos] = time;
+		end++;
+		return pos;
+	}
+
+	/**
+	 * @return index of the first buffered point later than time
+	 */
+	private int upperBound(long time) {
+		int low = start;
+		int high = end;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (times[mid] <= time)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * move buffered points to the head of arrays if at most half of them are
+	 * used, otherwise double the arrays
+	 */
+	private void makeRoom() {
+		int size = end - start;
+		if (start > 0 && size <= times.length / 2) {
+			System.arraycopy(times, start, times, 0, size);
+			System.arraycopy(values, start, values, 0, size);
+		} else {
+			int capacity = times.length * 2;
+			times = Arrays.copyOfRange(times, start, start + capacity);
+			Object newValues = Array.newInstance(values.getClass().getComponentType(), capacity);
+			System.arraycopy(values, start, newValues, 0, size);
+			values = newValues;
+		}
+		start = 0;
+		end = size;
+	}
+
+	/**
+	 * write out buffered points older than the latest one by more than the
+	 * window, if the oldest one is older than it by more than two windows
+	 */
+	private void checkWindow() throws IOException {
+		if (end == start)
+			return;
+		long latest = times[end - 1];
+		if (latest - times[start] > 2 * window)
+			writeBefore(upperBound(latest - window - 1));
+	}
+
+	/**
+	 * write buffered points in [start, to) to {@code writer}
+	 */
+	private void writeBefore(int to) throws IOException {
+		if (to == start)
+			return;
+		if (values instanceof long[])
+			writer.write(times, (long[]) values, start, to);
+		else if (values instanceof int[])
+			writer.write(times, (int[]) values, start, to);
+		else if (values instanceof double[])
+			writer.write(times, (double[]) values, start, to);
+		else if (values instanceof float[])
+			writer.write(times, (float[]) values, start, to);
+		else if (values instanceof boolean[])
+			writer.write(times, (boolean[]) values, start, to);
+		else if (values instanceof Binary[]) {
+			Binary[] binaries = (Binary[]) values;
+			writer.write(times, binaries, start, to);
+			for (int i = start; i < to; i++)
+				binarySize -= binaries[i].getLength();
+			Arrays.fill(binaries, start, to, null);
+		} else {
+			BigDecimal[] decimals = (BigDecimal[]) values;
+			for (int i = start; i < to; i++)
+				writer.write(times[i], decimals[i]);
+			Arrays.fill(decimals, start, to, null);
+		}
+		start = to;
+		if (start == end)
+			start = end = 0;
+	}
+
+	private void writeAll() throws IOException {
+		writeBefore(end);
+	}
+
+	@Override
+	public List<Object> query() {
+		try {
+			writeAll();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return writer.query();
+	}
+
+	@Override
+	public void sealCurrentPage() {
+		try {
+			writeAll();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		writer.sealCurrentPage();
+	}
+
+	@Override
+	public void writeToFileWriter(TSFileIOWriter tsfileWriter) throws IOException {
+		writeAll();
+		writer.writeToFileWriter(tsfileWriter);
+	}
+
+	@Override
+	public long estimateMaxSeriesMemSize() {
+		long valueSize = 8;
+		if (values instanceof int[] || values instanceof float[])
+			valueSize = 4;
+		else if (values instanceof boolean[])
+			valueSize = 1;
+		return writer.estimateMaxSeriesMemSize() + times.length * (8 + valueSize) + binarySize;
+	}
+}
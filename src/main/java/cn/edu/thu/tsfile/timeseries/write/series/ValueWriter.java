@@ -71,6 +71,64 @@ public class ValueWriter {
         valueEncoder.encode(value, valueOut);
     }
 
+    /**
+     * write times[start, end) and values[start, end). Since times and values are encoded to
+     * different streams, all times are encoded before values.
+     */
+    public void write(long[] times, boolean[] values, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            timeEncoder.encode(times[i], timeOut);
+        }
+        for (int i = start; i < end; i++) {
+            valueEncoder.encode(values[i], valueOut);
+        }
+    }
+
+    public void write(long[] times, int[] values, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            timeEncoder.encode(times[i], timeOut);
+        }
+        for (int i = start; i < end; i++) {
+            valueEncoder.encode(values[i], valueOut);
+        }
+    }
+
+    public void write(long[] times, long[] values, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            timeEncoder.encode(times[i], timeOut);
+        }
+        for (int i = start; i < end; i++) {
+            valueEncoder.encode(values[i], valueOut);
+        }
+    }
+
+    public void write(long[] times, float[] values, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            timeEncoder.encode(times[i], timeOut);
+        }
+        for (int i = start; i < end; i++) {
+            valueEncoder.encode(values[i], valueOut);
+        }
+    }
+
+    public void write(long[] times, double[] values, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            timeEncoder.encode(times[i], timeOut);
+        }
+        for (int i = start; i < end; i++) {
+            valueEncoder.encode(values[i], valueOut);
+        }
+    }
+
+    public void write(long[] times, Binary[] values, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            timeEncoder.encode(times[i], timeOut);
+        }
+        for (int i = start; i < end; i++) {
+            valueEncoder.encode(values[i], valueOut);
+        }
+    }
+
     /**
      * flush all data remained in encoders.
      * 
@@ -0,0 +1,177 @@
+#!/usr/bin/env python
+"""
+Generate IntBitPacker.java and LongBitPacker.java, which pack (unpack) groups of 8 values
+with a routine unrolled for each bit width. The bit layout is the same as the one described
+in IntPacker: values are stored one after another, from the highest bit to the lowest bit.
+
+Run it from the root of the project:
+    python src/main/python/gen_bit_packers.py
+"""
+
+import os
+
+PACKAGE_DIR = 'src/main/java/cn/edu/thu/tsfile/encoding/bitpacking'
+
+HEADER = '''package cn.edu.thu.tsfile.encoding.bitpacking;
+
+import java.util.Arrays;
+
+// This file is generated by src/main/python/gen_bit_packers.py, do not edit it by hand.
+
+/**
+ * {class_name} packs (unpacks) groups of 8 {type}s with a given bit-width, in the layout
+ * described in {{@link {facade}}}. There is one subclass for each bit-width from 0 to {max_width},
+ * in which the shifts and masks of every value are unrolled into constants, so that the width
+ * is selected once for a block instead of being checked for every bit.
+ */
+abstract class {class_name} {{
+
+	private static final {class_name}[] PACKERS = {{
+{packers}
+	}};
+
+	/**
+	 * @param width - bit-width, from 0 to {max_width}
+	 * @return the packer of the given bit-width
+	 */
+	static {class_name} of(int width) {{
+		if (width < 0 || width > {max_width}) {{
+			throw new IllegalArgumentException("bit-width should be in [0, {max_width}], but is " + width);
+		}}
+		return PACKERS[width];
+	}}
+
+	/**
+	 * encode {{@code groups}} groups of 8 {type}s from {{@code values}} into {{@code buf}}, every
+	 * group takes bit-width bytes
+	 *
+	 * @param values - array where values are in
+	 * @param valueOffset - index of the first value to be encoded
+	 * @param groups - number of groups to be encoded
+	 * @param buf - array where encoded bytes are written
+	 * @param bufOffset - index of the first byte to be written
+	 */
+	abstract void pack(long[] values, int valueOffset, int groups, byte[] buf, int bufOffset);
+
+	/**
+	 * decode {{@code groups}} groups of 8 {type}s from {{@code buf}} into {{@code values}}
+	 *
+	 * @param buf - array where encoded bytes are in
+	 * @param bufOffset - index of the first byte to be decoded
+	 * @param groups - number of groups to be decoded
+	 * @param values - array where decoded values are written
+	 * @param valueOffset - index of the first value to be written
+	 */
+	abstract void unpack(byte[] buf, int bufOffset, int groups, long[] values, int valueOffset);
+'''
+
+
+def index(base, i):
+    return base if i == 0 else '%s + %d' % (base, i)
+
+
+def join(terms):
+    if len(terms) == 1:
+        return terms[0]
+    return ' | '.join('(%s)' % t if '<<' in t or '>>>' in t else t for t in terms)
+
+
+def pack_body(width, long_type):
+    lines = []
+    for j in range(width):
+        byte_end = 8 * j + 8
+        terms = []
+        for i in range(8):
+            start = i * width
+            end = start + width
+            if end <= 8 * j or start >= byte_end:
+                continue
+            shift = byte_end - end
+            value = 'values[%s]' % index('valueOffset', i)
+            if shift > 0:
+                terms.append('%s << %d' % (value, shift))
+            elif shift < 0:
+                terms.append('%s >>> %d' % (value, -shift))
+            else:
+                terms.append(value)
+        lines.append('buf[%s] = (byte) (%s);' % (index('bufOffset', j), join(terms)))
+    return lines
+
+
+def unpack_body(width, long_type):
+    lines = []
+    byte_mask = '0xFFL' if long_type else '0xFF'
+    for i in range(8):
+        start = i * width
+        end = start + width
+        terms = []
+        for b in range(start // 8, (end - 1) // 8 + 1):
+            mask = 0xFF >> (start - 8 * b) if start > 8 * b else 0xFF
+            mask_text = byte_mask if mask == 0xFF else '0x%X%s' % (mask, 'L' if long_type else '')
+            term = '(buf[%s] & %s)' % (index('bufOffset', b), mask_text)
+            shift = end - (8 * b + 8)
+            if shift > 0:
+                term = '%s << %d' % (term, shift)
+            elif shift < 0:
+                term = '%s >>> %d' % (term, -shift)
+            terms.append(term)
+        lines.append('values[%s] = %s;' % (index('valueOffset', i), join(terms)))
+    return lines
+
+
+def packer_class(width, type_name, class_name):
+    long_type = type_name == 'long'
+    out = []
+    out.append('')
+    out.append('\tprivate static final class Packer%d extends %s {' % (width, class_name))
+    out.append('')
+    out.append('\t\t@Override')
+    out.append('\t\tvoid pack(%s[] values, int valueOffset, int groups, byte[] buf, int bufOffset) {'
+               % type_name)
+    if width == 0:
+        out.append('\t\t}')
+    else:
+        out.append('\t\t\tfor (int i = 0; i < groups; i++) {')
+        for line in pack_body(width, long_type):
+            out.append('\t\t\t\t' + line)
+        out.append('\t\t\t\tvalueOffset += 8;')
+        out.append('\t\t\t\tbufOffset += %d;' % width)
+        out.append('\t\t\t}')
+        out.append('\t\t}')
+    out.append('')
+    out.append('\t\t@Override')
+    out.append('\t\tvoid unpack(byte[] buf, int bufOffset, int groups, %s[] values, int valueOffset) {'
+               % type_name)
+    if width == 0:
+        out.append('\t\t\tArrays.fill(values, valueOffset, valueOffset + groups * 8, 0);')
+        out.append('\t\t}')
+    else:
+        out.append('\t\t\tfor (int i = 0; i < groups; i++) {')
+        for line in unpack_body(width, long_type):
+            out.append('\t\t\t\t' + line)
+        out.append('\t\t\t\tvalueOffset += 8;')
+        out.append('\t\t\t\tbufOffset += %d;' % width)
+        out.append('\t\t\t}')
+        out.append('\t\t}')
+    out.append('\t}')
+    return out
+
+
+def generate(type_name, max_width, class_name, facade):
+    packers = ',\n'.join('\t\tnew Packer%d()' % w for w in range(max_width + 1))
+    text = HEADER.format(class_name=class_name, type=type_name, facade=facade,
+                         max_width=max_width, packers=packers)
+    text = text.replace('long[] values', '%s[] values' % type_name)
+    lines = text.split('\n')
+    for width in range(max_width + 1):
+        lines.extend(packer_class(width, type_name, class_name))
+    lines.append('}')
+    lines.append('')
+    path = os.path.join(PACKAGE_DIR, class_name + '.java')
+    with open(path, 'w') as f:
+        f.write('\n'.join(lines))
+
+
+if __name__ == '__main__':
+    generate('int', 32, 'IntBitPacker', 'IntPacker')
+    generate('long', 64, 'LongBitPacker', 'LongPacker')
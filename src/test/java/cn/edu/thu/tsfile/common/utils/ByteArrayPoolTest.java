@@ -0,0 +1,60 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ByteArrayPoolTest {
+    private ByteArrayPool pool = ByteArrayPool.getInstance();
+
+    @Test
+    public void allocateTest() {
+        assertEquals(1024, pool.allocate(0).length);
+        assertEquals(1024, pool.allocate(1024).length);
+        assertEquals(2048, pool.allocate(1025).length);
+        assertEquals(1 << 20, pool.allocate((1 << 20) - 1).length);
+    }
+
+    @Test
+    public void reuseTest() {
+        byte[] array = pool.allocate(3000);
+        assertTrue(array.length >= 3000);
+        pool.release(array);
+        assertSame(array, pool.allocate(4096));
+        // arrays not allocated by the pool are not kept
+        byte[] other = new byte[3000];
+        pool.release(other);
+        assertNotSame(other, pool.allocate(3000));
+    }
+
+    @Test
+    public void boundedTest() {
+        byte[][] arrays = new byte[100][];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = pool.allocate(512 * 1024);
+        }
+        int size = pool.size();
+        for (byte[] array : arrays) {
+            pool.release(array);
+        }
+        assertTrue(pool.size() - size <= 16);
+    }
+
+    @Test
+    public void maxPooledSizeTest() {
+        ByteArrayPool small = new ByteArrayPool(64 * 1024);
+        byte[] array = small.allocate(64 * 1024);
+        small.release(array);
+        assertEquals(1, small.size());
+        assertSame(array, small.allocate(64 * 1024));
+        // arrays larger than the page size range are left to GC
+        byte[] large = small.allocate(64 * 1024 + 1);
+        assertEquals(64 * 1024 + 1, large.length);
+        small.release(large);
+        small.release(new byte[128 * 1024]);
+        assertEquals(0, small.size());
+    }
+}
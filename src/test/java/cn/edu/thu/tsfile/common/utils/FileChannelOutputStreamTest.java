@@ -0,0 +1,112 @@
+package cn.edu.thu.tsfile.common.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+public class FileChannelOutputStreamTest {
+  private static final String fileName = "testFileChannelOutputStream";
+  private static final String expectedFileName = "testFileChannelOutputStreamExpected";
+
+  @After
+  public void after() {
+    new File(fileName).delete();
+    new File(expectedFileName).delete();
+  }
+
+  @Test
+  public void testFileChannelOutputStreamFile() throws IOException {
+    byte bt1 = 1;
+    int i1 = 123123;
+    boolean b1 = false;
+    long l1 = 134578845l;
+    float f1 = 13547.2376f;
+    double d1 = 12123.158476d;
+    File file = new File(fileName);
+    FileChannelOutputStream out = new FileChannelOutputStream(file);
+    out.write(bt1);
+    out.write(BytesUtils.intToBytes(i1));
+    out.write(BytesUtils.boolToBytes(b1));
+    out.write(BytesUtils.longToBytes(l1));
+    out.write(BytesUtils.floatToBytes(f1));
+    out.write(BytesUtils.doubleToBytes(d1));
+    assertEquals(1 + 4 + 1 + 8 + 4 + 8, out.getPos());
+    out.close();
+    // test correctness
+    RandomAccessFile input = new RandomAccessFile(fileName, "r");
+    assertEquals(1 + 4 + 1 + 8 + 4 + 8, input.length());
+    assertEquals(bt1, input.read());
+    assertEquals(i1, input.readInt());
+    assertEquals(b1, input.readBoolean());
+    assertEquals(l1, input.readLong());
+    assertEquals(f1, input.readFloat(), CommonTestConstant.float_min_delta);
+    assertEquals(d1, input.readDouble(), CommonTestConstant.double_min_delta);
+    input.close();
+  }
+
+  @Test
+  public void testGatherWriteAndSeek() throws IOException {
+    byte[] expected = new byte[3 + 200000 + 100 + 1000];
+    PublicBAOS page1 = new PublicBAOS();
+    PublicBAOS page2 = new PublicBAOS();
+    for (int i = 0; i < 200000; i++) {
+      page1.write(i);
+      expected[3 + i] = (byte) i;
+    }
+    for (int i = 0; i < 100; i++) {
+      page2.write(-i);
+      expected[3 + 200000 + i] = (byte) -i;
+    }
+    expected[0] = 7;
+    expected[1] = 8;
+    expected[2] = 9;
+    expected[expected.length - 1] = 5;
+
+    FileChannelOutputStream out =
+        new FileChannelOutputStream(new File(fileName), FileChannelOutputStream.SyncPolicy.ROW_GROUP);
+    out.write(new byte[] {7, 8, 9});
+    out.writeAll(new ListByteArrayOutputStream(page1, page2));
+    assertEquals(3 + 200000 + 100, out.getPos());
+    out.endRowGroups();
+    out.writeHole(999);
+    out.write(5);
+    assertEquals(expected.length, out.getPos());
+    // overwrite and truncate the tail when closing
+    out.write(new byte[100]);
+    out.seek(expected.length);
+    out.close();
+    assertArrayEquals(expected, Files.readAllBytes(new File(fileName).toPath()));
+  }
+
+  @Test
+  public void testSameAsRandomAccessOutputStream() throws IOException, WriteProcessException {
+    writeTsFile(new RandomAccessOutputStream(new File(expectedFileName)));
+    byte[] expected = Files.readAllBytes(new File(expectedFileName).toPath());
+    for (FileChannelOutputStream.SyncPolicy policy : FileChannelOutputStream.SyncPolicy.values()) {
+      new File(fileName).delete();
+      writeTsFile(new FileChannelOutputStream(new File(fileName), policy));
+      assertArrayEquals(expected, Files.readAllBytes(new File(fileName).toPath()));
+    }
+  }
+
+  private void writeTsFile(TSRandomAccessFileWriter output) throws IOException, WriteProcessException {
+    TsFile tsFile = new TsFile(output, JsonSchemaHelper.getJsonSchema("channel_test",
+        new String[] {"INT64", "INT64", "INT64"}, new String[] {"TS_2DIFF", "TS_2DIFF", "TS_2DIFF"},
+        128 * 1024));
+    for (int i = 0; i < 30000; i++) {
+      tsFile.writeLine("d" + i % 2 + "," + i + ",s0," + i + ",s1," + i * 7L + ",s2," + (i ^ 0x5a5a));
+    }
+    tsFile.close();
+  }
+}
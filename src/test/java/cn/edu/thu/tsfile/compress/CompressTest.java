@@ -55,6 +55,27 @@ public class CompressTest {
 		assertEquals(inputString, result);
 	}
 
+	@Test
+	public void noCompressorArrayTest() throws IOException {
+		arrayCompressTest(new Compressor.NoCompressor(), new NoUnCompressor());
+	}
+
+	@Test
+	public void snappyCompressorArrayTest() throws IOException {
+		arrayCompressTest(new Compressor.SnappyCompressor(), new SnappyUnCompressor());
+	}
+
+	private void arrayCompressTest(Compressor compressor, UnCompressor unCompressor) throws IOException {
+		byte[] input = ("xx" + inputString).getBytes("UTF-8");
+		int length = input.length - 2;
+		byte[] output = new byte[3 + compressor.getMaxCompressedLength(length)];
+		int compressedSize = compressor.compress(input, 2, length, output, 3);
+		byte[] compressed = new byte[compressedSize];
+		System.arraycopy(output, 3, compressed, 0, compressedSize);
+		String result = new String(unCompressor.uncompress(compressed), "UTF-8");
+		assertEquals(inputString, result);
+	}
+
 	@Test
 	public void snappyTest() throws IOException {
 		byte[] compressed = Snappy.compress(inputString.getBytes("UTF-8"));
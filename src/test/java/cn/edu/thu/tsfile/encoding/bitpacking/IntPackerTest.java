@@ -1,12 +1,15 @@
 package cn.edu.thu.tsfile.encoding.bitpacking;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Random;
 
 import org.junit.Test;
 
+import cn.edu.thu.tsfile.common.utils.BytesUtils;
 import cn.edu.thu.tsfile.encoding.bitpacking.IntPacker;
 
 /**
@@ -46,4 +49,41 @@ public class IntPackerTest {
 			assertEquals(res[i], v);
 		}
 	}
+
+	@Test
+	public void testAllWidths() {
+		Random rand = new Random(7);
+		int groups = 5;
+		int offset = 3;
+		for (int width = 0; width <= 32; width++) {
+			int[] values = new int[groups * 8];
+			byte[] expected = new byte[offset + groups * width];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = width == 0 ? 0 : rand.nextInt() >>> (32 - width);
+				// the layout of packed values is the same as the one written bit by bit
+				BytesUtils.intToBytes(values[i], expected, offset * 8 + i * width, width);
+			}
+			IntPacker packer = new IntPacker(width);
+			byte[] buf = new byte[offset + groups * width];
+			packer.packValues(values, 0, groups, buf, offset);
+			assertArrayEquals(expected, buf);
+
+			int[] res = new int[values.length + 1];
+			packer.unpackValues(buf, offset, groups, res, 1);
+			for (int i = 0; i < values.length; i++) {
+				assertEquals(values[i], res[i + 1]);
+			}
+			res = new int[values.length];
+			packer.unpackAllValues(buf, offset, groups * width, res);
+			assertArrayEquals(values, res);
+			res = new int[values.length];
+			packer.unpackAllValues(ByteBuffer.wrap(buf), offset, groups * width, res);
+			assertArrayEquals(values, res);
+			ByteBuffer direct = ByteBuffer.allocateDirect(buf.length);
+			direct.put(buf);
+			res = new int[values.length];
+			packer.unpackAllValues(direct, offset, groups * width, res);
+			assertArrayEquals(values, res);
+		}
+	}
 }
@@ -6,11 +6,13 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 import org.junit.Test;
+import cn.edu.thu.tsfile.common.utils.BytesUtils;
 import cn.edu.thu.tsfile.common.utils.ReadWriteStreamUtils;
 import cn.edu.thu.tsfile.encoding.bitpacking.LongPacker;
 
@@ -96,4 +98,41 @@ public class LongPackerTest {
 			assertEquals(readArray[i], v);
 		}
 	}
+
+	@Test
+	public void testAllWidths() {
+		Random rand = new Random(7);
+		int groups = 5;
+		int offset = 3;
+		for (int width = 0; width <= 64; width++) {
+			long[] values = new long[groups * 8];
+			byte[] expected = new byte[offset + groups * width];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = width == 0 ? 0 : rand.nextLong() >>> (64 - width);
+				// the layout of packed values is the same as the one written bit by bit
+				BytesUtils.longToBytes(values[i], expected, offset * 8 + i * width, width);
+			}
+			LongPacker packer = new LongPacker(width);
+			byte[] buf = new byte[offset + groups * width];
+			packer.packValues(values, 0, groups, buf, offset);
+			assertArrayEquals(expected, buf);
+
+			long[] res = new long[values.length + 1];
+			packer.unpackValues(buf, offset, groups, res, 1);
+			for (int i = 0; i < values.length; i++) {
+				assertEquals(values[i], res[i + 1]);
+			}
+			res = new long[values.length];
+			packer.unpackAllValues(buf, offset, groups * width, res);
+			assertArrayEquals(values, res);
+			res = new long[values.length];
+			packer.unpackAllValues(ByteBuffer.wrap(buf), offset, groups * width, res);
+			assertArrayEquals(values, res);
+			ByteBuffer direct = ByteBuffer.allocateDirect(buf.length);
+			direct.put(buf);
+			res = new long[values.length];
+			packer.unpackAllValues(direct, offset, groups * width, res);
+			assertArrayEquals(values, res);
+		}
+	}
 }
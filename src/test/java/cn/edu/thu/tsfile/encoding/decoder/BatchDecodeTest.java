@@ -0,0 +1,189 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.utils.ByteBufferInputStream;
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.encoding.encoder.BitmapEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.FloatEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.IntRleEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.LongRleEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.PlainEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+
+/**
+ * Values decoded by readInts, readLongs, readFloats and readDoubles must be
+ * the same as values decoded one by one.
+ *
+ */
+public class BatchDecodeTest {
+  private static final int NUM = 1000;
+  private static final int[] BATCH_SIZES = {1, 7, 128, NUM + 1};
+
+  private int getInt(int i) {
+    // runs of repeated values followed by increasing values
+    return (i / 50) % 2 == 0 ? i / 50 : i * 3 - 700;
+  }
+
+  @Test
+  public void testInts() throws IOException {
+    Encoder[] encoders = {new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.INT32, 0),
+        new DeltaBinaryEncoder.IntDeltaEncoder(), new IntRleEncoder(EndianType.LITTLE_ENDIAN),
+        new BitmapEncoder(EndianType.LITTLE_ENDIAN)};
+    Decoder[] decoders = {new PlainDecoder(EndianType.LITTLE_ENDIAN),
+        new DeltaBinaryDecoder.IntDeltaDecoder(), new IntRleDecoder(EndianType.LITTLE_ENDIAN),
+        new BitmapDecoder(EndianType.LITTLE_ENDIAN)};
+    for (int k = 0; k < encoders.length; k++) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      for (int i = 0; i < NUM; i++) {
+        // bitmap encoding is for values in a small range
+        encoders[k].encode(k == 3 ? getInt(i) % 9 : getInt(i), baos);
+      }
+      encoders[k].flush(baos);
+      byte[] bytes = baos.toByteArray();
+
+      int[] expected = new int[NUM];
+      InputStream in = new ByteArrayInputStream(bytes);
+      Decoder decoder = newDecoder(decoders[k]);
+      for (int i = 0; i < NUM; i++) {
+        expected[i] = decoder.readInt(in);
+      }
+      for (int batchSize : BATCH_SIZES) {
+        int[] actual = new int[NUM];
+        decoder = newDecoder(decoders[k]);
+        in = new ByteArrayInputStream(bytes);
+        int n = 0;
+        int count;
+        while ((count = decoder.readInts(in, actual, n, Math.min(batchSize, NUM - n))) > 0) {
+          n += count;
+        }
+        assertEquals(NUM, n);
+        assertArrayEquals(expected, actual);
+      }
+    }
+  }
+
+  @Test
+  public void testLongs() throws IOException {
+    Encoder[] encoders = {new PlainEncoder(EndianType.LITTLE_ENDIAN, TSDataType.INT64, 0),
+        new DeltaBinaryEncoder.LongDeltaEncoder(), new LongRleEncoder(EndianType.LITTLE_ENDIAN)};
+    Decoder[] decoders = {new PlainDecoder(EndianType.LITTLE_ENDIAN),
+        new DeltaBinaryDecoder.LongDeltaDecoder(), new LongRleDecoder(EndianType.LITTLE_ENDIAN)};
+    for (int k = 0; k < encoders.length; k++) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      for (int i = 0; i < NUM; i++) {
+        encoders[k].encode(1480562618000L + getInt(i), baos);
+      }
+      encoders[k].flush(baos);
+      byte[] bytes = baos.toByteArray();
+
+      long[] expected = new long[NUM];
+      InputStream in = new ByteArrayInputStream(bytes);
+      Decoder decoder = newDecoder(decoders[k]);
+      for (int i = 0; i < NUM; i++) {
+        expected[i] = decoder.readLong(in);
+      }
+      for (int batchSize : BATCH_SIZES) {
+        long[] actual = new long[NUM];
+        decoder = newDecoder(decoders[k]);
+        in = new ByteBufferInputStream(ByteBuffer.wrap(bytes));
+        int n = 0;
+        int count;
+        while ((count = decoder.readLongs(in, actual, n, Math.min(batchSize, NUM - n))) > 0) {
+          n += count;
+        }
+        assertEquals(NUM, n);
+        assertArrayEquals(expected, actual);
+      }
+    }
+  }
+
+  @Test
+  public void testFloatsAndDoubles() throws IOException {
+    for (TSEncoding encoding : new TSEncoding[] {TSEncoding.PLAIN, TSEncoding.RLE, TSEncoding.TS_2DIFF}) {
+      ByteArrayOutputStream floatOut = new ByteArrayOutputStream();
+      ByteArrayOutputStream doubleOut = new ByteArrayOutputStream();
+      Encoder floatEncoder = getFloatEncoder(encoding, TSDataType.FLOAT);
+      Encoder doubleEncoder = getFloatEncoder(encoding, TSDataType.DOUBLE);
+      for (int i = 0; i < NUM; i++) {
+        floatEncoder.encode(getInt(i) / 100.0f, floatOut);
+        doubleEncoder.encode(getInt(i) / 100.0, doubleOut);
+      }
+      floatEncoder.flush(floatOut);
+      doubleEncoder.flush(doubleOut);
+
+      float[] expectedFloats = new float[NUM];
+      double[] expectedDoubles = new double[NUM];
+      InputStream floatIn = new ByteArrayInputStream(floatOut.toByteArray());
+      InputStream doubleIn = new ByteArrayInputStream(doubleOut.toByteArray());
+      Decoder floatDecoder = getFloatDecoder(encoding, TSDataType.FLOAT);
+      Decoder doubleDecoder = getFloatDecoder(encoding, TSDataType.DOUBLE);
+      for (int i = 0; i < NUM; i++) {
+        expectedFloats[i] = floatDecoder.readFloat(floatIn);
+        expectedDoubles[i] = doubleDecoder.readDouble(doubleIn);
+      }
+      for (int batchSize : BATCH_SIZES) {
+        float[] floats = new float[NUM];
+        double[] doubles = new double[NUM];
+        floatIn = new ByteArrayInputStream(floatOut.toByteArray());
+        doubleIn = new ByteArrayInputStream(doubleOut.toByteArray());
+        floatDecoder = getFloatDecoder(encoding, TSDataType.FLOAT);
+        doubleDecoder = getFloatDecoder(encoding, TSDataType.DOUBLE);
+        int n = 0;
+        int count;
+        while ((count = floatDecoder.readFloats(floatIn, floats, n, Math.min(batchSize, NUM - n))) > 0) {
+          n += count;
+        }
+        assertEquals(NUM, n);
+        n = 0;
+        while ((count = doubleDecoder.readDoubles(doubleIn, doubles, n, Math.min(batchSize, NUM - n))) > 0) {
+          n += count;
+        }
+        assertEquals(NUM, n);
+        assertArrayEquals(expectedFloats, floats, 0);
+        assertArrayEquals(expectedDoubles, doubles, 0);
+      }
+    }
+  }
+
+  private Decoder newDecoder(Decoder decoder) {
+    if (decoder instanceof PlainDecoder) {
+      return new PlainDecoder(EndianType.LITTLE_ENDIAN);
+    } else if (decoder instanceof DeltaBinaryDecoder.IntDeltaDecoder) {
+      return new DeltaBinaryDecoder.IntDeltaDecoder();
+    } else if (decoder instanceof DeltaBinaryDecoder.LongDeltaDecoder) {
+      return new DeltaBinaryDecoder.LongDeltaDecoder();
+    } else if (decoder instanceof IntRleDecoder) {
+      return new IntRleDecoder(EndianType.LITTLE_ENDIAN);
+    } else if (decoder instanceof LongRleDecoder) {
+      return new LongRleDecoder(EndianType.LITTLE_ENDIAN);
+    }
+    return new BitmapDecoder(EndianType.LITTLE_ENDIAN);
+  }
+
+  private Encoder getFloatEncoder(TSEncoding encoding, TSDataType dataType) {
+    if (encoding == TSEncoding.PLAIN) {
+      return new PlainEncoder(EndianType.LITTLE_ENDIAN, dataType, 0);
+    }
+    return new FloatEncoder(encoding, dataType, 2);
+  }
+
+  private Decoder getFloatDecoder(TSEncoding encoding, TSDataType dataType) {
+    if (encoding == TSEncoding.PLAIN) {
+      return new PlainDecoder(EndianType.LITTLE_ENDIAN);
+    }
+    return new FloatDecoder(encoding, dataType);
+  }
+}
@@ -0,0 +1,240 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.constant.JsonFormatConstant;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.encoding.common.EndianType;
+import cn.edu.thu.tsfile.encoding.encoder.DictionaryEncoder;
+import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
+import cn.edu.thu.tsfile.file.metadata.TimeSeriesChunkMetaData;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.read.support.RowRecord;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+
+public class DictionaryDecoderTest {
+  private static final String FILE = "src/test/resources/dictionaryOutput.ksn";
+  private static final String[] STATUS = {"running", "idle", "stopped", "error", "unknown"};
+  private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+  private int oldGroupSize;
+  private int oldPageSize;
+  private int oldMaxDictionarySize;
+
+  @Before
+  public void setUp() throws Exception {
+    oldGroupSize = conf.groupSizeInByte;
+    oldPageSize = conf.pageSizeInByte;
+    oldMaxDictionarySize = conf.maxDictionarySize;
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    conf.groupSizeInByte = oldGroupSize;
+    conf.pageSizeInByte = oldPageSize;
+    conf.maxDictionarySize = oldMaxDictionarySize;
+    new File(FILE).delete();
+  }
+
+  @Test
+  public void testPages() throws Exception {
+    DictionaryEncoder encoder = new DictionaryEncoder(conf.maxStringLength, conf.maxDictionarySize);
+    List<byte[]> pages = new ArrayList<>();
+    for (int page = 0; page < 3; page++) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      for (int i = 0; i < 1000; i++) {
+        encoder.encode(new Binary(STATUS[(i + page) % STATUS.length]), out);
+      }
+      encoder.flush(out);
+      assertEquals(TSEncoding.PLAIN_DICTIONARY, encoder.getPageEncoding());
+      pages.add(out.toByteArray());
+    }
+    assertEquals(STATUS.length, encoder.getEntryCount());
+    // ids of a page take much less than the values
+    assertTrue(pages.get(0).length < 1000);
+
+    ByteArrayOutputStream dictionaryPage = new ByteArrayOutputStream();
+    encoder.writeDictionary(dictionaryPage);
+    Binary[] dictionary = DictionaryDecoder.readDictionary(
+        new ByteArrayInputStream(dictionaryPage.toByteArray()), encoder.getEntryCount());
+    for (int page = 0; page < 3; page++) {
+      ByteArrayInputStream in = new ByteArrayInputStream(pages.get(page));
+      DictionaryDecoder decoder = new DictionaryDecoder();
+      decoder.setDictionary(dictionary);
+      Binary first = null;
+      for (int i = 0; i < 1000; i++) {
+        assertTrue(decoder.hasNext(in));
+        Binary value = decoder.readBinary(in);
+        assertEquals(STATUS[(i + page) % STATUS.length], value.getStringValue());
+        if (i == 0) {
+          first = value;
+        } else if (i % STATUS.length == 0) {
+          // repeated values are not allocated again
+          assertSame(first, value);
+        }
+      }
+      assertFalse(decoder.hasNext(in));
+    }
+
+    encoder.resetDictionary();
+    assertEquals(0, encoder.getEntryCount());
+    assertEquals(0, encoder.getDictionarySize());
+  }
+
+  @Test
+  public void testFallback() throws Exception {
+    DictionaryEncoder encoder = new DictionaryEncoder(conf.maxStringLength, 100);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < 50; i++) {
+      encoder.encode(new Binary("value" + i), out);
+    }
+    encoder.flush(out);
+    // the page exceeding the limit is still encoded by the dictionary
+    assertEquals(TSEncoding.PLAIN_DICTIONARY, encoder.getPageEncoding());
+    int entryCount = encoder.getEntryCount();
+
+    out = new ByteArrayOutputStream();
+    for (int i = 50; i < 100; i++) {
+      encoder.encode(new Binary("value" + i), out);
+    }
+    encoder.flush(out);
+    assertEquals(TSEncoding.PLAIN, encoder.getPageEncoding());
+    assertEquals(entryCount, encoder.getEntryCount());
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+    Decoder decoder = new PlainDecoder(EndianType.LITTLE_ENDIAN);
+    for (int i = 50; i < 100; i++) {
+      assertEquals("value" + i, decoder.readBinary(in).getStringValue());
+    }
+    assertFalse(decoder.hasNext(in));
+
+    encoder.resetDictionary();
+    encoder.encode(new Binary("value0"), out);
+    encoder.flush(out);
+    assertEquals(TSEncoding.PLAIN_DICTIONARY, encoder.getPageEncoding());
+  }
+
+  @Test
+  public void testTsFile() throws Exception {
+    conf.groupSizeInByte = 64 * 1024;
+    conf.pageSizeInByte = 4 * 1024;
+    int rows = 50000;
+    writeTsFile(rows, "PLAIN", false);
+    long plainSize = new File(FILE).length();
+    writeTsFile(rows, "PLAIN_DICTIONARY", false);
+    assertTrue(new File(FILE).length() * 2 < plainSize);
+
+    LocalFileInput input = new LocalFileInput(FILE);
+    try {
+      List<RowGroupMetaData> rowGroups = new FileReader(input).getFileMetadata().getRowGroups();
+      assertTrue(rowGroups.size() > 1);
+      for (TimeSeriesChunkMetaData chunk : rowGroups.get(0).getTimeSeriesChunkMetaDataList()) {
+        assertTrue(chunk.getDictionaryPageOffset() > 0);
+      }
+
+      QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0|d1.s1"));
+      int count = 0;
+      while (dataSet.hasNextRecord()) {
+        RowRecord record = dataSet.getNextRecord();
+        assertEquals(count, record.timestamp);
+        assertEquals(getStatus(count), record.fields.get(0).getBinaryV().getStringValue());
+        assertEquals(getLabel(count), record.fields.get(1).getBinaryV().getStringValue());
+        count++;
+      }
+      assertEquals(rows, count);
+
+      dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0", "null", "null",
+          "2,d1.s0,(=error)"));
+      int expected = 0;
+      for (int i = 0; i < rows; i++) {
+        if (getStatus(i).equals("error")) {
+          expected++;
+        }
+      }
+      count = 0;
+      while (dataSet.hasNextRecord()) {
+        RowRecord record = dataSet.getNextRecord();
+        assertEquals("error", getStatus((int) record.timestamp));
+        count++;
+      }
+      assertEquals(expected, count);
+    } finally {
+      input.close();
+    }
+  }
+
+  @Test
+  public void testTsFileFallback() throws Exception {
+    conf.pageSizeInByte = 4 * 1024;
+    conf.maxDictionarySize = 1024;
+    int rows = 20000;
+    writeTsFile(rows, "PLAIN_DICTIONARY", true);
+
+    LocalFileInput input = new LocalFileInput(FILE);
+    try {
+      QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0|d1.s1|d1.s2"));
+      int count = 0;
+      while (dataSet.hasNextRecord()) {
+        RowRecord record = dataSet.getNextRecord();
+        assertEquals(getStatus(count), record.fields.get(0).getBinaryV().getStringValue());
+        assertEquals(getLabel(count), record.fields.get(1).getBinaryV().getStringValue());
+        assertEquals("id" + count, record.fields.get(2).getBinaryV().getStringValue());
+        count++;
+      }
+      assertEquals(rows, count);
+    } finally {
+      input.close();
+    }
+  }
+
+  private String getStatus(int i) {
+    return STATUS[i / 7 % STATUS.length];
+  }
+
+  private String getLabel(int i) {
+    return "label-" + (i * 31 % 97);
+  }
+
+  /**
+   * write s0 and s1 with few distinct values, and s2 with distinct values if {@code withIds}
+   */
+  private void writeTsFile(int rows, String encoding, boolean withIds) throws Exception {
+    new File(FILE).delete();
+    String[] types = new String[withIds ? 3 : 2];
+    String[] encodings = new String[types.length];
+    Arrays.fill(types, "BYTE_ARRAY");
+    Arrays.fill(encodings, encoding);
+    JSONObject jsonSchema = JsonSchemaHelper.getJsonSchema("dictionary_test", types, encodings);
+    // pages and dictionaries of s1 are compressed
+    jsonSchema.getJSONArray(JsonFormatConstant.JSON_SCHEMA).getJSONObject(1)
+        .put(JsonFormatConstant.COMPRESS_TYPE, "SNAPPY");
+    TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(FILE)), jsonSchema);
+    for (int i = 0; i < rows; i++) {
+      tsFile.writeLine("d1," + i + ",s0," + getStatus(i) + ",s1," + getLabel(i)
+          + (withIds ? ",s2,id" + i : ""));
+    }
+    tsFile.close();
+  }
+}
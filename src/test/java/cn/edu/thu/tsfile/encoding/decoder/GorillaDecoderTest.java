@@ -0,0 +1,158 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.GorillaEncoder;
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.format.Encoding;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.read.support.RowRecord;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+
+public class GorillaDecoderTest {
+  private static final String FILE = "src/test/resources/gorillaOutput.ksn";
+  private List<Double> doubleList;
+  private List<Float> floatList;
+
+  @Before
+  public void setUp() throws Exception {
+    Random random = new Random(11);
+    doubleList = new ArrayList<Double>();
+    floatList = new ArrayList<Float>();
+    double value = 20.5;
+    for (int i = 0; i < 1000; i++) {
+      // a vibration-like series with repeated values and random noise
+      if (i % 7 != 0) {
+        value = Math.sin(i / 50.0) * 100 + random.nextGaussian();
+      }
+      doubleList.add(value);
+      floatList.add((float) value);
+    }
+    double[] specials = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY,
+        Double.NEGATIVE_INFINITY, Double.MIN_VALUE, Double.MAX_VALUE, -1.0, 1.0};
+    for (double special : specials) {
+      doubleList.add(special);
+      floatList.add((float) special);
+    }
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    new File(FILE).delete();
+  }
+
+  @Test
+  public void testDouble() throws Exception {
+    for (int i = 1; i <= 5; i++) {
+      testDoubleLength(doubleList, i);
+    }
+  }
+
+  @Test
+  public void testFloat() throws Exception {
+    for (int i = 1; i <= 5; i++) {
+      testFloatLength(floatList, i);
+    }
+  }
+
+  @Test
+  public void testCompression() throws Exception {
+    Encoder encoder = new GorillaEncoder.DoubleGorillaEncoder();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int i = 0; i < 1000; i++) {
+      encoder.encode(i % 10 == 0 ? i / 10.0 : (i - i % 10) / 10.0, baos);
+    }
+    encoder.flush(baos);
+    assertTrue(baos.size() < 1000 * 8 / 4);
+  }
+
+  @Test
+  public void testTsFile() throws Exception {
+    TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(FILE)), JsonSchemaHelper
+        .getJsonSchema("gorilla_test", new String[] {"DOUBLE", "FLOAT"}, new String[] {"GORILLA", "GORILLA"}));
+    for (int i = 0; i < doubleList.size(); i++) {
+      tsFile.writeLine("d1," + i + ",s0," + doubleList.get(i) + ",s1," + floatList.get(i));
+    }
+    tsFile.close();
+
+    LocalFileInput input = new LocalFileInput(FILE);
+    try {
+      QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0|d1.s1"));
+      int count = 0;
+      while (dataSet.hasNextRecord()) {
+        RowRecord record = dataSet.getNextRecord();
+        assertEquals(Double.doubleToLongBits(doubleList.get(count)),
+            Double.doubleToLongBits(record.fields.get(0).getDoubleV()));
+        assertEquals(Float.floatToIntBits(floatList.get(count)),
+            Float.floatToIntBits(record.fields.get(1).getFloatV()));
+        count++;
+      }
+      assertFalse(dataSet.hasNextRecord());
+      assertEquals(doubleList.size(), count);
+    } finally {
+      input.close();
+    }
+  }
+
+  private void testDoubleLength(List<Double> valueList, int repeatCount) throws Exception {
+    Encoder encoder = new GorillaEncoder.DoubleGorillaEncoder();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int i = 0; i < repeatCount; i++) {
+      for (double value : valueList) {
+        encoder.encode(value, baos);
+      }
+      encoder.flush(baos);
+    }
+
+    ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+    Decoder decoder = Decoder.getDecoderByType(Encoding.GORILLA, TSDataType.DOUBLE);
+    for (int i = 0; i < repeatCount; i++) {
+      for (double value : valueList) {
+        assertTrue(decoder.hasNext(bais));
+        // compare bits, so that NaN and -0.0 are checked as well
+        assertEquals(Double.doubleToRawLongBits(value),
+            Double.doubleToRawLongBits(decoder.readDouble(bais)));
+      }
+    }
+    assertFalse(decoder.hasNext(bais));
+  }
+
+  private void testFloatLength(List<Float> valueList, int repeatCount) throws Exception {
+    Encoder encoder = new GorillaEncoder.FloatGorillaEncoder();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int i = 0; i < repeatCount; i++) {
+      for (float value : valueList) {
+        encoder.encode(value, baos);
+      }
+      encoder.flush(baos);
+    }
+
+    ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+    Decoder decoder = Decoder.getDecoderByType(Encoding.GORILLA, TSDataType.FLOAT);
+    float[] values = new float[valueList.size() * repeatCount + 1];
+    assertEquals(values.length - 1, decoder.readFloats(bais, values, 0, values.length));
+    for (int i = 0; i < values.length - 1; i++) {
+      assertEquals(Float.floatToRawIntBits(valueList.get(i % valueList.size())),
+          Float.floatToRawIntBits(values[i]));
+    }
+  }
+}
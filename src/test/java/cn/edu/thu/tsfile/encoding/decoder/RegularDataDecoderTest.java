@@ -0,0 +1,249 @@
+package cn.edu.thu.tsfile.encoding.decoder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+import cn.edu.thu.tsfile.encoding.encoder.Encoder;
+import cn.edu.thu.tsfile.encoding.encoder.RegularDataEncoder;
+import cn.edu.thu.tsfile.file.metadata.TimeSeriesChunkMetaData;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.read.support.RowRecord;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+
+public class RegularDataDecoderTest {
+  private static final String FILE = "src/test/resources/regularOutput.ksn";
+  private static final long START_TIME = 1480562618000L;
+  private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+  private String oldTimeSeriesEncoder;
+
+  @Before
+  public void setUp() throws Exception {
+    oldTimeSeriesEncoder = conf.timeSeriesEncoder;
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    conf.timeSeriesEncoder = oldTimeSeriesEncoder;
+    new File(FILE).delete();
+  }
+
+  @Test
+  public void testRegular() throws Exception {
+    long[] times = new long[10000];
+    for (int i = 0; i < times.length; i++) {
+      times[i] = START_TIME + i;
+    }
+    byte[] bytes = testLength(times, 1);
+    // a single run
+    assertTrue(bytes.length < 16);
+    assertTrue(bytes.length * 100 < encodeByDelta(times).length);
+  }
+
+  @Test
+  public void testGapAndJitter() throws Exception {
+    Random random = new Random(3);
+    long[] times = new long[5000];
+    long time = START_TIME;
+    for (int i = 0; i < times.length; i++) {
+      int r = random.nextInt(100);
+      if (r == 0) {
+        time += 1000;
+      } else if (r == 1) {
+        time -= 3;
+      }
+      times[i] = time;
+      time += 10;
+    }
+    for (int i = 1; i <= 5; i++) {
+      testLength(times, i);
+    }
+  }
+
+  @Test
+  public void testFirstDeltaOff() throws Exception {
+    long[] times = new long[10000];
+    for (int i = 0; i < times.length; i++) {
+      times[i] = i * 1000L;
+    }
+    times[1] = 1001;
+    byte[] bytes = testLength(times, 2);
+    // three runs in each of two blocks: 0, 1001 and the others
+    assertTrue(bytes.length < 32);
+    assertTrue(bytes.length * 50 < encodeByDelta(times).length);
+  }
+
+  @Test
+  public void testSpecial() throws Exception {
+    testLength(new long[] {START_TIME}, 3);
+    testLength(new long[] {7, 7, 7, 5}, 2);
+    testLength(new long[] {100, 90, 80, 70, 71}, 2);
+    testLength(new long[] {Long.MIN_VALUE, 0, Long.MAX_VALUE}, 2);
+  }
+
+  @Test
+  public void testGetValue() throws Exception {
+    long[] times = {0, 10, 20, 30, 1000, 1010, 1020, 2000, 5000, 5010};
+    Encoder encoder = new RegularDataEncoder();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (long time : times) {
+      encoder.encode(time, baos);
+    }
+    encoder.flush(baos);
+    for (long time : times) {
+      encoder.encode(time + 10000, baos);
+    }
+    encoder.flush(baos);
+    ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+    RegularDataDecoder decoder = new RegularDataDecoder();
+    assertEquals(times.length, decoder.loadBlock(bais));
+    for (int i = times.length - 1; i >= 0; i--) {
+      assertEquals(times[i], decoder.getValue(i));
+    }
+    for (int from = 0; from < times.length; from++) {
+      long[] values = new long[times.length - from];
+      decoder.getValues(from, values, 0, values.length);
+      assertArrayEquals(Arrays.copyOfRange(times, from, times.length), values);
+    }
+    assertEquals(0, decoder.getPosition(-1));
+    assertEquals(4, decoder.getPosition(31));
+    assertEquals(4, decoder.getPosition(1000));
+    assertEquals(9, decoder.getPosition(5010));
+    assertEquals(times.length, decoder.getPosition(5011));
+    // the loaded block is skipped by sequential reads
+    assertEquals(times[0] + 10000, decoder.readLong(bais));
+  }
+
+  @Test
+  public void testTsFile() throws Exception {
+    conf.timeSeriesEncoder = "REGULAR";
+    TsFile tsFile = new TsFile(new RandomAccessOutputStream(new File(FILE)), JsonSchemaHelper
+        .getJsonSchema("regular_test", new String[] {"INT64"}, new String[] {"TS_2DIFF"}));
+    for (int i = 0; i < 100000; i++) {
+      // a gap of a second after 50000 points
+      long time = START_TIME + i + (i >= 50000 ? 1000 : 0);
+      tsFile.writeLine("d1," + time + ",s0," + i * 3L);
+    }
+    tsFile.close();
+    conf.timeSeriesEncoder = oldTimeSeriesEncoder;
+
+    LocalFileInput input = new LocalFileInput(FILE);
+    try {
+      TimeSeriesChunkMetaData chunk = new FileReader(input).getFileMetadata().getRowGroups().get(0)
+          .getTimeSeriesChunkMetaDataList().get(0);
+      assertEquals(TSEncoding.REGULAR, chunk.getTInTimeSeriesChunkMetaData().getTimeEncoding());
+      // the frequency type is left unset
+      assertNull(chunk.getTInTimeSeriesChunkMetaData().getFreqType());
+      QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0"));
+      int count = 0;
+      while (dataSet.hasNextRecord()) {
+        RowRecord record = dataSet.getNextRecord();
+        assertEquals(START_TIME + count + (count >= 50000 ? 1000 : 0), record.timestamp);
+        assertEquals(count * 3L, record.fields.get(0).getLongV());
+        count++;
+      }
+      assertEquals(100000, count);
+
+      dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0",
+          "0,(>=" + (START_TIME + 49990) + ")&(<" + (START_TIME + 51010) + ")", "null", "null"));
+      count = 0;
+      while (dataSet.hasNextRecord()) {
+        RowRecord record = dataSet.getNextRecord();
+        long i = 49990 + count;
+        assertEquals(START_TIME + i + (i >= 50000 ? 1000 : 0), record.timestamp);
+        assertEquals(i * 3L, record.fields.get(0).getLongV());
+        count++;
+      }
+      assertFalse(dataSet.hasNextRecord());
+      assertEquals(20, count);
+
+      // a time filter of two intervals with open bounds
+      dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0",
+          "0,(<" + (START_TIME + 5) + ")|(>" + (START_TIME + 100994) + ")", "null", "null"));
+      count = 0;
+      while (dataSet.hasNextRecord()) {
+        RowRecord record = dataSet.getNextRecord();
+        long i = count < 5 ? count : 99990 + count;
+        assertEquals(START_TIME + i + (i >= 50000 ? 1000 : 0), record.timestamp);
+        assertEquals(i * 3L, record.fields.get(0).getLongV());
+        count++;
+      }
+      assertEquals(10, count);
+
+      // values are read by the timestamps satisfying the value filter
+      dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0", "null", "null",
+          "[2,d1.s0,(>=" + 49990 * 3L + ")]"));
+      count = 0;
+      while (dataSet.hasNextRecord()) {
+        RowRecord record = dataSet.getNextRecord();
+        long i = 49990 + count;
+        assertEquals(START_TIME + i + (i >= 50000 ? 1000 : 0), record.timestamp);
+        assertEquals(i * 3L, record.fields.get(0).getLongV());
+        count++;
+      }
+      assertEquals(50010, count);
+    } finally {
+      input.close();
+    }
+  }
+
+  private byte[] testLength(long[] times, int repeatCount) throws Exception {
+    Encoder encoder = new RegularDataEncoder();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (int i = 0; i < repeatCount; i++) {
+      for (long time : times) {
+        encoder.encode(time, baos);
+      }
+      encoder.flush(baos);
+    }
+
+    ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
+    Decoder decoder = new RegularDataDecoder();
+    for (int i = 0; i < repeatCount; i++) {
+      if (i % 2 == 0) {
+        for (long time : times) {
+          assertTrue(decoder.hasNext(bais));
+          assertEquals(time, decoder.readLong(bais));
+        }
+      } else {
+        long[] values = new long[times.length];
+        assertEquals(times.length, decoder.readLongs(bais, values, 0, times.length));
+        assertArrayEquals(times, values);
+      }
+    }
+    assertFalse(decoder.hasNext(bais));
+    return baos.toByteArray();
+  }
+
+  private byte[] encodeByDelta(long[] times) throws Exception {
+    Encoder encoder = new DeltaBinaryEncoder.LongDeltaEncoder();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    for (long time : times) {
+      encoder.encode(time, baos);
+    }
+    encoder.flush(baos);
+    return baos.toByteArray();
+  }
+}
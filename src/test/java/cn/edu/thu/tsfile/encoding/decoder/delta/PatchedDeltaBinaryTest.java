@@ -0,0 +1,135 @@
+package cn.edu.thu.tsfile.encoding.decoder.delta;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.encoding.decoder.DeltaBinaryDecoder;
+import cn.edu.thu.tsfile.encoding.encoder.DeltaBinaryEncoder;
+
+/**
+ * test blocks of {@linkplain DeltaBinaryEncoder} which save rare wide values as patches
+ */
+public class PatchedDeltaBinaryTest {
+  private static final int ROW_NUM = 10000;
+  private static final int BLOCK_SIZE = 128;
+  private Random random = new Random(5);
+
+  @Test
+  public void testSpikeLong() throws IOException {
+    long[] data = new long[ROW_NUM];
+    long value = 1480562618000L;
+    for (int i = 0; i < ROW_NUM; i++) {
+      // a gap every 100 points
+      value += i % 100 == 99 ? 3600000 : 1000 + random.nextInt(4);
+      data[i] = value;
+    }
+    byte[] patched = checkLong(data, true);
+    byte[] unpatched = checkLong(data, false);
+    assertTrue(patched.length * 2 < unpatched.length);
+  }
+
+  @Test
+  public void testSpikeInt() throws IOException {
+    int[] data = new int[ROW_NUM];
+    int value = 0;
+    for (int i = 0; i < ROW_NUM; i++) {
+      // a reset every 200 points
+      value = i % 200 == 0 ? 0 : value + random.nextInt(8);
+      data[i] = value;
+    }
+    byte[] patched = checkInt(data, true);
+    byte[] unpatched = checkInt(data, false);
+    // a single patch is padded to a group of 8
+    assertTrue(patched.length * 4 < unpatched.length * 3);
+  }
+
+  @Test
+  public void testRandom() throws IOException {
+    long[] longs = new long[ROW_NUM];
+    int[] ints = new int[ROW_NUM];
+    for (int i = 0; i < ROW_NUM; i++) {
+      longs[i] = i % 37 == 0 ? random.nextLong() : random.nextInt(1000);
+      ints[i] = i % 37 == 0 ? random.nextInt() : random.nextInt(1000);
+    }
+    checkLong(longs, true);
+    checkInt(ints, true);
+  }
+
+  @Test
+  public void testMaxMin() throws IOException {
+    long[] longs = new long[ROW_NUM];
+    int[] ints = new int[ROW_NUM];
+    for (int i = 0; i < ROW_NUM; i++) {
+      longs[i] = i % 50 == 0 ? Long.MAX_VALUE : i % 50 == 1 ? Long.MIN_VALUE : i;
+      ints[i] = i % 50 == 0 ? Integer.MAX_VALUE : i % 50 == 1 ? Integer.MIN_VALUE : i;
+    }
+    checkLong(longs, true);
+    checkInt(ints, true);
+  }
+
+  @Test
+  public void testShortBlock() throws IOException {
+    for (int length = 1; length <= 20; length++) {
+      long[] longs = new long[length];
+      int[] ints = new int[length];
+      for (int i = 0; i < length; i++) {
+        longs[i] = i == length / 2 ? 1L << 40 : i;
+        ints[i] = i == length / 2 ? 1 << 20 : i;
+      }
+      checkLong(longs, true);
+      checkInt(ints, true);
+    }
+  }
+
+  private byte[] checkLong(long[] data, boolean patched) throws IOException {
+    DeltaBinaryEncoder encoder = new DeltaBinaryEncoder.LongDeltaEncoder(BLOCK_SIZE, patched);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (long value : data) {
+      encoder.encode(value, out);
+    }
+    encoder.flush(out);
+    byte[] bytes = out.toByteArray();
+
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    DeltaBinaryDecoder decoder = new DeltaBinaryDecoder.LongDeltaDecoder();
+    int half = data.length / 2;
+    for (int i = 0; i < half; i++) {
+      assertTrue(decoder.hasNext(in));
+      assertEquals(data[i], decoder.readLong(in));
+    }
+    long[] rest = new long[data.length - half];
+    assertEquals(rest.length, decoder.readLongs(in, rest, 0, rest.length));
+    for (int i = half; i < data.length; i++) {
+      assertEquals(data[i], rest[i - half]);
+    }
+    assertFalse(decoder.hasNext(in));
+    return bytes;
+  }
+
+  private byte[] checkInt(int[] data, boolean patched) throws IOException {
+    DeltaBinaryEncoder encoder = new DeltaBinaryEncoder.IntDeltaEncoder(BLOCK_SIZE, patched);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int value : data) {
+      encoder.encode(value, out);
+    }
+    encoder.flush(out);
+    byte[] bytes = out.toByteArray();
+
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+    DeltaBinaryDecoder decoder = new DeltaBinaryDecoder.IntDeltaDecoder();
+    int[] values = new int[data.length];
+    assertEquals(data.length, decoder.readInts(in, values, 0, data.length));
+    assertArrayEquals(data, values);
+    assertFalse(decoder.hasNext(in));
+    return bytes;
+  }
+}
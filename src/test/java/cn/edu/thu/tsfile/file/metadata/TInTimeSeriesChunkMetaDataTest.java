@@ -8,7 +8,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.format.DataType;
+import cn.edu.thu.tsfile.format.Encoding;
 import cn.edu.thu.tsfile.format.TimeInTimeSeriesChunkMetaData;
 import org.junit.After;
 import org.junit.Before;
@@ -128,4 +130,22 @@ public class TInTimeSeriesChunkMetaDataTest {
       }
     }
   }
+
+  @Test
+  public void testTimeEncoding() {
+    for (TSEncoding encoding : TSEncoding.values()) {
+      TInTimeSeriesChunkMetaData metaData =
+          new TInTimeSeriesChunkMetaData(TSDataType.INT64, startTime, endTime);
+      metaData.setTimeEncoding(encoding);
+      Utils.isTSeriesChunkMetadataEqual(metaData, metaData.convertToThrift());
+    }
+    // encodings without counterparts in TSEncoding are read as unknown
+    for (Encoding encoding : Encoding.values()) {
+      TimeInTimeSeriesChunkMetaData timeInTimeSeriesChunkMetaData =
+          new TimeInTimeSeriesChunkMetaData(DataType.INT64, startTime, endTime);
+      timeInTimeSeriesChunkMetaData.setTime_encoding(encoding);
+      metaData.convertToTSF(timeInTimeSeriesChunkMetaData);
+      Utils.isTSeriesChunkMetadataEqual(metaData, timeInTimeSeriesChunkMetaData);
+    }
+  }
 }
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import cn.edu.thu.tsfile.file.metadata.enums.TSChunkType;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.file.metadata.enums.TSFreqType;
 import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
@@ -146,6 +147,7 @@ public class TestHelper {
         new TInTimeSeriesChunkMetaData(dataType, startTime, endTime);
     metaData.setFreqType(freqType);
     metaData.setFrequencies(frequencies);
+    metaData.setTimeEncoding(TSEncoding.REGULAR);
 
     List<String> dataValues = new ArrayList<String>();
     dataValues.add("A");
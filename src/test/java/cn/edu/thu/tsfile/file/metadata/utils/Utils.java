@@ -12,6 +12,8 @@ import cn.edu.thu.tsfile.file.metadata.TSFileMetaData;
 import cn.edu.thu.tsfile.file.metadata.TimeSeriesChunkMetaData;
 import cn.edu.thu.tsfile.file.metadata.VInTimeSeriesChunkMetaData;
 import cn.edu.thu.tsfile.file.metadata.TInTimeSeriesChunkMetaData;
+import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
+import cn.edu.thu.tsfile.format.Encoding;
 import cn.edu.thu.tsfile.format.TimeInTimeSeriesChunkMetaData;
 import cn.edu.thu.tsfile.format.TimeSeries;
 import cn.edu.thu.tsfile.format.ValueInTimeSeriesChunkMetaData;
@@ -67,6 +69,17 @@ public class Utils {
     assertTrue(str1.toString().equals(str2.toString()));
   }
 
+  /**
+   * @return true if encoding in thrift has a counterpart in TSEncoding
+   */
+  public static boolean isKnownEncoding(Encoding encoding) {
+    for (TSEncoding tsEncoding : TSEncoding.values()) {
+      if (tsEncoding.toString().equals(encoding.toString()))
+        return true;
+    }
+    return false;
+  }
+
   public static void isTimeSeriesEqual(TimeSeriesMetadata timeSeriesInTSF,
       TimeSeries timeSeriesInThrift) {
     if (Utils.isTwoObjectsNotNULL(timeSeriesInTSF.getMeasurementUID(),
@@ -126,6 +139,13 @@ public class Utils {
           timeInTimeSeriesChunkMetaData.getFrequencies(), "frequencies");
       Utils.isListEqual(tSeriesMetaData.getEnumValues(),
           timeInTimeSeriesChunkMetaData.getEnum_values(), "data values");
+      if (timeInTimeSeriesChunkMetaData.getTime_encoding() == null
+          || !isKnownEncoding(timeInTimeSeriesChunkMetaData.getTime_encoding())) {
+        assertNull(tSeriesMetaData.getTimeEncoding());
+      } else {
+        Utils.isStringSame(tSeriesMetaData.getTimeEncoding(),
+            timeInTimeSeriesChunkMetaData.getTime_encoding(), "time encoding");
+      }
     }
   }
 
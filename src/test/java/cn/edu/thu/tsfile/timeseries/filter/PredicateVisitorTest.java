@@ -0,0 +1,140 @@
+package cn.edu.thu.tsfile.timeseries.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
+import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.DoubleFilterSeries;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeriesType;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FloatFilterSeries;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.IntFilterSeries;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.LongFilterSeries;
+import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.DoublePredicateVisitor;
+import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.IntPredicateVisitor;
+import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.LongPredicateVisitor;
+import cn.edu.thu.tsfile.timeseries.filter.visitorImpl.SingleValueVisitor;
+
+/**
+ * The compiled predicates must give the same result as SingleValueVisitor.
+ *
+ */
+public class PredicateVisitorTest {
+
+    private static String deltaObjectUID = FilterTestConstant.deltaObjectUID;
+    private static String measurementUID = FilterTestConstant.measurementUID;
+
+    private static SingleSeriesFilterExpression and(SingleSeriesFilterExpression left,
+            SingleSeriesFilterExpression right) {
+        return (SingleSeriesFilterExpression) FilterFactory.and(left, right);
+    }
+
+    private static SingleSeriesFilterExpression or(SingleSeriesFilterExpression left,
+            SingleSeriesFilterExpression right) {
+        return (SingleSeriesFilterExpression) FilterFactory.or(left, right);
+    }
+
+    @Test
+    public void intTest() {
+        IntFilterSeries series = FilterFactory.intFilterSeries(deltaObjectUID, measurementUID,
+                FilterSeriesType.VALUE_FILTER);
+        SingleSeriesFilterExpression[] filters = new SingleSeriesFilterExpression[] {
+                FilterFactory.eq(series, 5),
+                FilterFactory.noteq(series, 5),
+                FilterFactory.ltEq(series, -3, true),
+                FilterFactory.ltEq(series, -3, false),
+                FilterFactory.gtEq(series, 7, true),
+                FilterFactory.gtEq(series, 7, false),
+                and(FilterFactory.gtEq(series, -5, false), FilterFactory.ltEq(series, 5, true)),
+                or(FilterFactory.ltEq(series, -5, false), FilterFactory.eq(series, 8)),
+                FilterFactory.not(and(FilterFactory.gtEq(series, 0, true), FilterFactory.noteq(series, 3))),
+                and(FilterFactory.gtEq(series, 5, true), FilterFactory.ltEq(series, 5, false)) };
+        int[] values = new int[] { Integer.MIN_VALUE, -10, -5, -4, -3, -2, 0, 3, 4, 5, 6, 7, 8, 100,
+                Integer.MAX_VALUE };
+        for (SingleSeriesFilterExpression filter : filters) {
+            SingleValueVisitor<Integer> visitor = new SingleValueVisitor<>(filter);
+            IntPredicate predicate = new IntPredicateVisitor().compile(filter);
+            for (int v : values) {
+                assertEquals(filter + " " + v, visitor.satisfyObject(v, filter), predicate.test(v));
+            }
+        }
+    }
+
+    @Test
+    public void longTest() {
+        LongFilterSeries series = FilterFactory.longFilterSeries(deltaObjectUID, measurementUID,
+                FilterSeriesType.TIME_FILTER);
+        SingleSeriesFilterExpression[] filters = new SingleSeriesFilterExpression[] {
+                FilterFactory.eq(series, 1480562618000L),
+                FilterFactory.noteq(series, 1480562618000L),
+                and(FilterFactory.gtEq(series, 1480562618000L, true), FilterFactory.ltEq(series, 1480562619000L, false)),
+                or(FilterFactory.ltEq(series, -1L, true), FilterFactory.gtEq(series, 1480562619000L, false)),
+                FilterFactory.not(or(FilterFactory.eq(series, 0L), FilterFactory.gtEq(series, 10L, true))) };
+        long[] values = new long[] { Long.MIN_VALUE, -1L, 0L, 9L, 10L, 1480562617999L, 1480562618000L,
+                1480562618001L, 1480562619000L, 1480562619001L, Long.MAX_VALUE };
+        for (SingleSeriesFilterExpression filter : filters) {
+            SingleValueVisitor<Long> visitor = new SingleValueVisitor<>(filter);
+            LongPredicate predicate = new LongPredicateVisitor().compile(filter);
+            for (long v : values) {
+                assertEquals(filter + " " + v, visitor.satisfyObject(v, filter), predicate.test(v));
+            }
+        }
+    }
+
+    @Test
+    public void floatTest() {
+        FloatFilterSeries series = FilterFactory.floatFilterSeries(deltaObjectUID, measurementUID,
+                FilterSeriesType.VALUE_FILTER);
+        SingleSeriesFilterExpression[] filters = new SingleSeriesFilterExpression[] {
+                FilterFactory.eq(series, 1.5f),
+                FilterFactory.noteq(series, 0.0f),
+                FilterFactory.ltEq(series, -2.5f, true),
+                FilterFactory.gtEq(series, 0.1f, false),
+                and(FilterFactory.gtEq(series, -1.0f, true), FilterFactory.ltEq(series, 1.0f, false)),
+                FilterFactory.not(or(FilterFactory.eq(series, 1.5f), FilterFactory.ltEq(series, -100f, true))) };
+        float[] values = new float[] { -Float.MAX_VALUE, -100f, -2.5f, -1.0f, -0.0f, 0.0f, Float.MIN_VALUE,
+                0.1f, 1.0f, 1.5f, Float.MAX_VALUE, Float.NaN, Float.POSITIVE_INFINITY };
+        for (SingleSeriesFilterExpression filter : filters) {
+            SingleValueVisitor<Float> visitor = new SingleValueVisitor<>(filter);
+            DoublePredicate predicate = new DoublePredicateVisitor().compile(filter);
+            for (float v : values) {
+                assertEquals(filter + " " + v, visitor.satisfyObject(v, filter), predicate.test(v));
+            }
+        }
+    }
+
+    @Test
+    public void doubleTest() {
+        DoubleFilterSeries series = FilterFactory.doubleFilterSeries(deltaObjectUID, measurementUID,
+                FilterSeriesType.VALUE_FILTER);
+        SingleSeriesFilterExpression[] filters = new SingleSeriesFilterExpression[] {
+                FilterFactory.eq(series, 1.5),
+                FilterFactory.noteq(series, 1.5),
+                FilterFactory.ltEq(series, -2.5, false),
+                FilterFactory.gtEq(series, -2.5, true),
+                or(FilterFactory.ltEq(series, -1.0, true), FilterFactory.gtEq(series, 1.0, true)),
+                FilterFactory.not(and(FilterFactory.gtEq(series, 0.0, true), FilterFactory.ltEq(series, 2.0, true))) };
+        double[] values = new double[] { -Double.MAX_VALUE, -2.5, -1.0, -0.0, 0.0, Double.MIN_VALUE, 1.0,
+                1.5, 2.0, 2.0000001, Double.MAX_VALUE, Double.NaN };
+        for (SingleSeriesFilterExpression filter : filters) {
+            SingleValueVisitor<Double> visitor = new SingleValueVisitor<>(filter);
+            DoublePredicate predicate = new DoublePredicateVisitor().compile(filter);
+            for (double v : values) {
+                assertEquals(filter + " " + v, visitor.satisfyObject(v, filter), predicate.test(v));
+            }
+        }
+    }
+
+    @Test
+    public void nullFilterTest() {
+        assertTrue(new IntPredicateVisitor().compile(null).test(Integer.MIN_VALUE));
+        assertTrue(new LongPredicateVisitor().compile(null).test(0L));
+        assertTrue(new DoublePredicateVisitor().compile(null).test(Double.NaN));
+    }
+}
@@ -12,7 +12,6 @@ import cn.edu.thu.tsfile.common.conf.TSFileConfig;
 import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
 import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileWriter;
 import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
-import cn.edu.thu.tsfile.file.metadata.enums.TSEncoding;
 import cn.edu.thu.tsfile.timeseries.utils.FileUtils;
 import cn.edu.thu.tsfile.timeseries.utils.FileUtils.Unit;
 import cn.edu.thu.tsfile.timeseries.utils.RecordUtils;
@@ -52,13 +51,12 @@ public class GenerateBigTSFile {
     // y = A*sin(wt), sinConfigs:w,A
     private static double[][] sinConfigs = {{0.05, 10}, {0.3, 100}, {2, 50}};
     private static double[][] sinAbnormalConfigs = {{0.8, 20}, {0.3, 100}, {2, 50}};
-    private static String deltaObjectType = "root.laptop";
 
 
     private static void getNextRecord(long timestamp, long index) throws IOException {
         for (int i = 0; i < deviceCount; i++) {
             StringContainer sc = new StringContainer(",");
-            sc.addTail("d" + i, timestamp, deltaObjectType);
+            sc.addTail("d" + i, timestamp);
             if (sensorSet.contains("s0")) {
                 // s0:broken line, int
                 if ((timestamp % brokenLineConfigs[i][2]) == 0)
@@ -157,17 +155,11 @@ public class GenerateBigTSFile {
         s3.put(JsonFormatConstant.DATA_TYPE, TSDataType.DOUBLE.toString());
         s3.put(JsonFormatConstant.MEASUREMENT_ENCODING,
                 conf.valueEncoder);
-        JSONObject s4 = new JSONObject();
-        s4.put(JsonFormatConstant.MEASUREMENT_UID, "s4");
-        s4.put(JsonFormatConstant.DATA_TYPE, TSDataType.BYTE_ARRAY.toString());
-        s4.put(JsonFormatConstant.MEASUREMENT_ENCODING,
-                TSEncoding.PLAIN.toString());
         JSONArray measureGroup1 = new JSONArray();
         measureGroup1.put(s0);
         measureGroup1.put(s1);
         measureGroup1.put(s2);
         measureGroup1.put(s3);
-        measureGroup1.put(s4);
 
         JSONObject jsonSchema = new JSONObject();
         jsonSchema.put(JsonFormatConstant.DELTA_TYPE, "test_type");
@@ -182,16 +174,28 @@ public class GenerateBigTSFile {
             System.err.println("input format: <outputFile> <size> <unit> [rowGroupSize(MB)]");
             return;
         }
-        outputDataFile = args[0];
-        if (new File(outputDataFile).exists())
-            new File(outputDataFile).delete();
-        fileSchema = new FileSchema(generateTestSchema());
         long size =
                 (long) FileUtils
                         .transformUnitToByte(Double.valueOf(args[1]), Unit.valueOf(args[2]));
         if (args.length >= 4)
             setRowGroupSize =
                     (int) FileUtils.transformUnitToByte(Integer.valueOf(args[3]), Unit.MB);
+        generate(args[0], size);
+    }
+
+    /**
+     * Write a TsFile of about {@code size} bytes. It contains one deltaObject d0 with s0(INT32),
+     * s1(INT64) and s2(FLOAT), and the time of each line is increased by 1.
+     *
+     * @param outputFile path of the file, an existing file is overwritten
+     * @param size       file size in byte
+     */
+    public static void generate(String outputFile, long size)
+            throws IOException, InterruptedException, WriteProcessException {
+        outputDataFile = outputFile;
+        if (new File(outputDataFile).exists())
+            new File(outputDataFile).delete();
+        fileSchema = new FileSchema(generateTestSchema());
         conf.groupSizeInByte = setRowGroupSize;
         deviceCount = 1;
         strLines = new String[deviceCount];
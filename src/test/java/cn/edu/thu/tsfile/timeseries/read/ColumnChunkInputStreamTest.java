@@ -0,0 +1,71 @@
+package cn.edu.thu.tsfile.timeseries.read;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+public class ColumnChunkInputStreamTest {
+	private static String fileName = "src/test/resources/perTestOutputData.ksn";
+
+	@Before
+	public void prepare() throws IOException, InterruptedException, WriteProcessException {
+		ReadPerf.generateFile();
+	}
+
+	@After
+	public void after() {
+		ReadPerf.after();
+	}
+
+	@Test
+	public void readAndSkipTest() throws IOException {
+		LocalFileInput raf = new LocalFileInput(fileName);
+		int length = (int) raf.length();
+		byte[] expected = new byte[length];
+		raf.seek(0);
+		raf.read(expected, 0, length);
+
+		int start = 7;
+		int end = length - 3;
+		ColumnChunkInputStream in = new ColumnChunkInputStream(raf, start, end);
+		assertEquals(end - start, in.available());
+
+		// small read through buffer
+		assertEquals(expected[start] & 0xFF, in.read());
+		byte[] small = new byte[10];
+		assertEquals(10, in.read(small, 0, 10));
+		assertArrayEquals(copy(expected, start + 1, 10), small);
+
+		// skip inside buffer and beyond buffer
+		assertEquals(5, in.skip(5));
+		assertEquals(start + 16, in.getPosition());
+		assertEquals(expected[start + 16] & 0xFF, in.read());
+		long pos = in.getPosition();
+		int bigSkip = Math.min(5000, (int) (end - pos - 100));
+		assertEquals(bigSkip, in.skip(bigSkip));
+		assertEquals(expected[(int) pos + bigSkip] & 0xFF, in.read());
+
+		// large read directly from file, truncated at the end of chunk
+		pos = in.getPosition();
+		byte[] rest = new byte[length];
+		int n = in.read(rest, 0, rest.length);
+		assertEquals(end - pos, n);
+		assertArrayEquals(copy(expected, (int) pos, n), copy(rest, 0, n));
+		assertEquals(0, in.available());
+		assertEquals(-1, in.read());
+		raf.close();
+	}
+
+	private byte[] copy(byte[] src, int offset, int len) {
+		byte[] res = new byte[len];
+		System.arraycopy(src, offset, res, 0, len);
+		return res;
+	}
+}
@@ -0,0 +1,140 @@
+package cn.edu.thu.tsfile.timeseries.read;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileReader;
+import cn.edu.thu.tsfile.timeseries.read.management.FileStreamManager;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.read.support.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+public class MappedFileInputTest {
+	private static String fileName = "src/test/resources/perTestOutputData.ksn";
+
+	@Before
+	public void prepare() throws IOException, InterruptedException, WriteProcessException {
+		ReadPerf.generateFile();
+	}
+
+	@After
+	public void after() {
+		ReadPerf.after();
+	}
+
+	@Test
+	public void readSameBytesAsLocalFileInput() throws IOException {
+		LocalFileInput local = new LocalFileInput(fileName);
+		// use a small segment size to read across segment boundaries
+		MappedFileInput mapped = new MappedFileInput(fileName, 1000);
+		int length = (int) local.length();
+		assertEquals(length, mapped.length());
+
+		byte[] expected = new byte[length];
+		local.seek(0);
+		local.read(expected, 0, length);
+		byte[] actual = new byte[length];
+		mapped.seek(0);
+		assertEquals(length, mapped.read(actual, 0, length));
+		assertArrayEquals(expected, actual);
+		assertEquals(-1, mapped.read());
+
+		for (long pos : new long[] { 0, 997, 998, 999, 1000, length - 4 }) {
+			local.seek(pos);
+			mapped.seek(pos);
+			assertEquals(local.readInt(), mapped.readInt());
+		}
+
+		ByteBuffer inSegment = mapped.slice(10, 100);
+		assertEquals(100, inSegment.remaining());
+		ByteBuffer crossSegment = mapped.slice(950, 100);
+		assertEquals(100, crossSegment.remaining());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(expected[10 + i], inSegment.get(i));
+			assertEquals(expected[950 + i], crossSegment.get(i));
+		}
+		local.close();
+		mapped.close();
+	}
+
+	@Test
+	public void queryWithMappedFileInput() throws IOException {
+		QueryConfig[] configs = new QueryConfig[] { new QueryConfig("d1.s1|d2.s2"),
+				new QueryConfig("d1.s4|d1.s6", "0,(>=1480562618970)&(<=1480562618981)", "null", "null"),
+				new QueryConfig("d1.s1|d2.s2", "0,(>=1480562618950)&(<=1480562618960)", "null",
+						"[2,d2.s3,(>9541)|(<=9511)]&[2,d1.s1,(<=9562)]") };
+		for (QueryConfig config : configs) {
+			LocalFileInput local = new LocalFileInput(fileName);
+			MappedFileInput mapped = new MappedFileInput(fileName, 1000);
+			QueryDataSet expected = new QueryEngine(local).query(config);
+			QueryDataSet actual = new QueryEngine(mapped).query(config);
+			while (expected.hasNextRecord()) {
+				RowRecord r1 = expected.getNextRecord();
+				RowRecord r2 = actual.getNextRecord();
+				assertEquals(r1.toString(), r2.toString());
+			}
+			assertFalse(actual.hasNextRecord());
+			local.close();
+			mapped.close();
+		}
+	}
+
+	@Test
+	public void readAfterClose() throws IOException {
+		MappedFileInput mapped = new MappedFileInput(fileName);
+		mapped.close();
+		byte[] buf = new byte[4];
+		try {
+			mapped.read(buf, 0, buf.length);
+			fail();
+		} catch (IOException e) {
+			assertTrue(e.getMessage().endsWith("is closed"));
+		}
+		try {
+			mapped.readInt();
+			fail();
+		} catch (IOException e) {
+			assertTrue(e.getMessage().endsWith("is closed"));
+		}
+		try {
+			mapped.slice(0, 4);
+			fail();
+		} catch (IOException e) {
+			assertTrue(e.getMessage().endsWith("is closed"));
+		}
+	}
+
+	@Test
+	public void openByPathWithMappedRead() throws IOException {
+		TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+		QueryConfig config = new QueryConfig("d1.s1|d2.s2");
+		QueryDataSet expected = QueryEngine.query(config, fileName);
+		conf.useMemoryMappedRead = true;
+		try {
+			TSRandomAccessFileReader raf = FileStreamManager.getInstance().getLocalRandomAcessFileReader(fileName);
+			assertTrue(raf instanceof MappedFileInput);
+			raf.close();
+			QueryDataSet actual = QueryEngine.query(config, fileName);
+			while (expected.hasNextRecord()) {
+				assertEquals(expected.getNextRecord().toString(), actual.getNextRecord().toString());
+			}
+			assertFalse(actual.hasNextRecord());
+		} finally {
+			conf.useMemoryMappedRead = false;
+		}
+	}
+}
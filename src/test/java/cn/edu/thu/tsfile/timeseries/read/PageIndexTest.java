@@ -0,0 +1,158 @@
+package cn.edu.thu.tsfile.timeseries.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.file.metadata.PageIndex;
+import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
+import cn.edu.thu.tsfile.file.metadata.TimeSeriesChunkMetaData;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.read.support.RowRecord;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+public class PageIndexTest {
+	private static String fileName = "src/test/resources/perTestOutputData.ksn";
+	private static final long START_TIME = 1480562618000L;
+
+	private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+	private int oldMaxNumberOfPointsInPage;
+	private LocalFileInput raf;
+
+	@Before
+	public void prepare() throws IOException, InterruptedException, WriteProcessException {
+		oldMaxNumberOfPointsInPage = conf.maxNumberOfPointsInPage;
+		// about ten pages in each column
+		conf.maxNumberOfPointsInPage = 100;
+		ReadPerf.generateFile();
+	}
+
+	@After
+	public void after() throws IOException {
+		if (raf != null) {
+			raf.close();
+		}
+		conf.maxNumberOfPointsInPage = oldMaxNumberOfPointsInPage;
+		ReadPerf.after();
+	}
+
+	@Test
+	public void binarySearchTest() {
+		PageIndex index = new PageIndex();
+		for (int i = 0; i < 40; i++) {
+			index.addPage(i * 100, i * 10, i * 10 + 9);
+		}
+		assertTrue(index.isOrdered());
+		assertEquals(40, index.size());
+		assertEquals(0, index.firstPageEndingAtOrAfter(Long.MIN_VALUE));
+		assertEquals(0, index.firstPageEndingAtOrAfter(9));
+		assertEquals(1, index.firstPageEndingAtOrAfter(10));
+		assertEquals(40, index.firstPageEndingAtOrAfter(400));
+		assertEquals(-1, index.lastPageStartingAtOrBefore(-1));
+		assertEquals(0, index.lastPageStartingAtOrBefore(9));
+		assertEquals(1, index.lastPageStartingAtOrBefore(10));
+		assertEquals(39, index.lastPageStartingAtOrBefore(Long.MAX_VALUE));
+
+		index.addPage(4000, 5, 500);
+		assertFalse(index.isOrdered());
+		index.reset();
+		assertEquals(0, index.size());
+		assertTrue(index.isOrdered());
+	}
+
+	@Test
+	public void serializeTest() throws IOException {
+		PageIndex index = new PageIndex();
+		index.addPage(0, START_TIME, START_TIME + 99);
+		index.addPage(1234, START_TIME + 100, START_TIME + 199);
+		index.addPage(567890, START_TIME + 200, START_TIME + 200);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		index.serializeTo(out);
+		assertTrue(out.size() <= index.estimateMaxSize());
+
+		PageIndex read = PageIndex.deserializeFrom(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(index.size(), read.size());
+		for (int i = 0; i < index.size(); i++) {
+			assertEquals(index.getOffset(i), read.getOffset(i));
+			assertEquals(index.getMinTime(i), read.getMinTime(i));
+			assertEquals(index.getMaxTime(i), read.getMaxTime(i));
+		}
+	}
+
+	@Test
+	public void indexWrittenTest() throws IOException {
+		raf = new LocalFileInput(fileName);
+		int indexedColumns = 0;
+		for (RowGroupMetaData rowGroup : new FileReader(raf).getFileMetadata().getRowGroups()) {
+			for (TimeSeriesChunkMetaData chunk : rowGroup.getTimeSeriesChunkMetaDataList()) {
+				if (chunk.getIndexPageOffset() > 0) {
+					indexedColumns++;
+					long end = chunk.getProperties().getFileOffset() + chunk.getTotalByteSize();
+					assertTrue(chunk.getIndexPageOffset() >= end);
+				}
+			}
+		}
+		assertTrue(indexedColumns > 0);
+	}
+
+	@Test
+	public void timeFilterTest() throws IOException {
+		// d2.s3 is i * 10 + 3 at time START_TIME + i for every i
+		QueryConfig config = new QueryConfig("d2.s3",
+				"0,(>=" + (START_TIME + 250) + ")&(<" + (START_TIME + 260) + ")", "null", "null");
+		assertRows(config, 250, 260);
+
+		config = new QueryConfig("d2.s3", "0,(<" + (START_TIME + 5) + ")|(>=" + (START_TIME + 995) + ")",
+				"null", "null");
+		QueryDataSet dataSet = query(config);
+		int count = 0;
+		while (dataSet.hasNextRecord()) {
+			RowRecord record = dataSet.getNextRecord();
+			int i = (int) (record.timestamp - START_TIME);
+			assertTrue(i < 5 || i >= 995);
+			assertEquals(i * 10 + 3, record.fields.get(0).getLongV());
+			count++;
+		}
+		assertEquals(10, count);
+
+		config = new QueryConfig("d2.s3", "0,(>" + (START_TIME + 2000) + ")", "null", "null");
+		assertFalse(query(config).hasNextRecord());
+	}
+
+	@Test
+	public void crossQueryTest() throws IOException {
+		// d2.s2 is i * 10 + 2 if i % 20 >= 5, so values of the last ten times satisfy the filter
+		QueryConfig config = new QueryConfig("d2.s3", "null", "null", "[2,d2.s2,(>=9902)]");
+		assertRows(config, 990, 1000);
+	}
+
+	private void assertRows(QueryConfig config, int from, int to) throws IOException {
+		QueryDataSet dataSet = query(config);
+		for (int i = from; i < to; i++) {
+			assertTrue(dataSet.hasNextRecord());
+			RowRecord record = dataSet.getNextRecord();
+			assertEquals(START_TIME + i, record.timestamp);
+			assertEquals(i * 10 + 3, record.fields.get(0).getLongV());
+		}
+		assertFalse(dataSet.hasNextRecord());
+	}
+
+	private QueryDataSet query(QueryConfig config) throws IOException {
+		if (raf == null) {
+			raf = new LocalFileInput(fileName);
+		}
+		return new QueryEngine(raf).query(config);
+	}
+}
@@ -0,0 +1,123 @@
+package cn.edu.thu.tsfile.timeseries.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.timeseries.filter.definition.FilterFactory;
+import cn.edu.thu.tsfile.timeseries.filter.definition.SingleSeriesFilterExpression;
+import cn.edu.thu.tsfile.timeseries.filter.definition.filterseries.FilterSeriesType;
+import cn.edu.thu.tsfile.timeseries.read.query.DynamicOneColumnData;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+public class RecordReaderTest {
+	private static String fileName = "src/test/resources/perTestOutputData.ksn";
+	private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+	private int groupSizeInByte;
+	private int pageSizeInByte;
+
+	@Before
+	public void prepare() throws IOException, InterruptedException, WriteProcessException {
+		groupSizeInByte = conf.groupSizeInByte;
+		pageSizeInByte = conf.pageSizeInByte;
+		// write small RowGroups so that each deltaObject has several RowGroups
+		conf.groupSizeInByte = 10000;
+		conf.pageSizeInByte = 500;
+		ReadPerf.generateFile();
+	}
+
+	@After
+	public void after() {
+		conf.groupSizeInByte = groupSizeInByte;
+		conf.pageSizeInByte = pageSizeInByte;
+		ReadPerf.after();
+	}
+
+	@Test
+	public void readRowGroupsInParallelTest() throws IOException {
+		LocalFileInput raf = new LocalFileInput(fileName);
+		RecordReader serial = new RecordReader(raf);
+		RecordReader parallel = new RecordReader(raf);
+		parallel.setRowGroupReadParallelism(4);
+		assertTrue(serial.getDeltaObjectRowGroupCounts().get("d1") > 2);
+
+		SingleSeriesFilterExpression timeFilter = FilterFactory.gtEq(
+				FilterFactory.longFilterSeries("d1", "s1", FilterSeriesType.TIME_FILTER), 1480562618100L, true);
+		SingleSeriesFilterExpression valueFilter = FilterFactory.ltEq(
+				FilterFactory.intFilterSeries("d1", "s1", FilterSeriesType.VALUE_FILTER), 5000, true);
+		for (int fetchSize : new int[] { 7, 100, 20000 }) {
+			for (String measurement : new String[] { "s1", "s2", "s4", "s6", "s7" }) {
+				List<Integer> serialBatches = new ArrayList<>();
+				List<Integer> parallelBatches = new ArrayList<>();
+				assertEquals(readAll(serial, fetchSize, measurement, null, null, serialBatches),
+						readAll(parallel, fetchSize, measurement, null, null, parallelBatches));
+				// a fetch holds less than fetchSize values, and then less than
+				// fetchSize values and one more page of the next RowGroup
+				assertTrue(Collections.max(parallelBatches) < 3 * Collections.max(serialBatches));
+			}
+			assertEquals(readAll(serial, fetchSize, "s1", timeFilter, valueFilter, new ArrayList<>()),
+					readAll(parallel, fetchSize, "s1", timeFilter, valueFilter, new ArrayList<>()));
+		}
+		parallel.closeRowGroupReadExecutor();
+		raf.close();
+	}
+
+	@Test
+	public void queryRowGroupsInParallelTest() throws IOException {
+		QueryConfig config = new QueryConfig("d1.s1|d1.s4|d2.s2|d2.s3");
+		LocalFileInput raf = new LocalFileInput(fileName);
+		List<String> expected = query(new QueryEngine(raf, 50), config);
+		QueryEngine engine = new QueryEngine(raf, 50);
+		engine.setRowGroupReadParallelism(3);
+		assertEquals(expected, query(engine, config));
+		engine.close();
+		raf.close();
+	}
+
+	/**
+	 * @param batches the number of values read by each fetch is added to it
+	 */
+	private List<String> readAll(RecordReader reader, int fetchSize, String measurement,
+			SingleSeriesFilterExpression timeFilter, SingleSeriesFilterExpression valueFilter, List<Integer> batches)
+			throws IOException {
+		List<String> values = new ArrayList<>();
+		DynamicOneColumnData res = null;
+		while (true) {
+			if (timeFilter == null && valueFilter == null) {
+				res = reader.getValueInOneColumn(res, fetchSize, "d1", measurement);
+			} else {
+				res = reader.getValuesUseFilter(res, fetchSize, "d1", measurement, timeFilter, null, valueFilter);
+			}
+			if (res.length == 0) {
+				return values;
+			}
+			batches.add(res.length);
+			for (int i = 0; i < res.length; i++) {
+				values.add(res.getStringTimeValuePair(i));
+			}
+			res.clearData();
+		}
+	}
+
+	private List<String> query(QueryEngine engine, QueryConfig config) throws IOException {
+		QueryDataSet dataSet = engine.query(config);
+		List<String> records = new ArrayList<>();
+		while (dataSet.hasNextRecord()) {
+			records.add(dataSet.getNextRecord().toString());
+		}
+		return records;
+	}
+}
@@ -0,0 +1,103 @@
+package cn.edu.thu.tsfile.timeseries.read.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.ReadPerf;
+import cn.edu.thu.tsfile.timeseries.read.cache.PageCache.PageKey;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+public class PageCacheTest {
+	private static String fileName = "src/test/resources/perTestOutputData.ksn";
+	private long oldCapacity;
+
+	@Before
+	public void prepare() throws IOException, InterruptedException, WriteProcessException {
+		oldCapacity = PageCache.getInstance().getCapacity();
+		PageCache.getInstance().clear();
+		ReadPerf.generateFile();
+	}
+
+	@After
+	public void after() {
+		PageCache.getInstance().setCapacity(oldCapacity);
+		PageCache.getInstance().clear();
+		ReadPerf.after();
+	}
+
+	@Test
+	public void evictLeastRecentlyUsedTest() {
+		PageCache cache = PageCache.getInstance();
+		cache.setCapacity(100);
+		assertTrue(cache.isEnabled());
+		cache.put(new PageKey("f", 0, 0), new byte[40]);
+		cache.put(new PageKey("f", 0, 40), new byte[40]);
+		assertNotNull(cache.get(new PageKey("f", 0, 0)));
+		cache.put(new PageKey("f", 0, 80), new byte[40]);
+		assertEquals(80, cache.getUsedSize());
+		assertNull(cache.get(new PageKey("f", 0, 40)));
+		assertNotNull(cache.get(new PageKey("f", 0, 0)));
+		assertNotNull(cache.get(new PageKey("f", 0, 80)));
+		assertEquals(3, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		// page larger than capacity is not cached
+		cache.put(new PageKey("f", 0, 120), new byte[101]);
+		assertNull(cache.get(new PageKey("f", 0, 120)));
+		cache.setCapacity(0);
+		assertFalse(cache.isEnabled());
+		assertEquals(0, cache.getUsedSize());
+	}
+
+	@Test
+	public void queryWithPageCacheTest() throws IOException {
+		QueryConfig[] configs = new QueryConfig[] { new QueryConfig("d1.s1|d2.s2"),
+				new QueryConfig("d1.s4|d1.s6", "0,(>=1480562618970)&(<=1480562618981)", "null", "null"),
+				new QueryConfig("d1.s1|d2.s2", "0,(>=1480562618950)&(<=1480562618960)", "null",
+						"[2,d2.s3,(>9541)|(<=9511)]&[2,d1.s1,(<=9562)]") };
+		PageCache cache = PageCache.getInstance();
+		for (QueryConfig config : configs) {
+			cache.setCapacity(0);
+			List<String> expected = query(config);
+
+			cache.setCapacity(1024 * 1024 * 64);
+			assertEquals(expected, query(config));
+			long missCount = cache.getMissCount();
+			long hitCount = cache.getHitCount();
+			assertTrue(missCount > 0);
+			assertTrue(cache.getUsedSize() > 0);
+
+			// all pages of the second query are in cache
+			assertEquals(expected, query(config));
+			assertEquals(missCount, cache.getMissCount());
+			assertTrue(cache.getHitCount() > hitCount);
+			cache.clear();
+		}
+	}
+
+	private List<String> query(QueryConfig config) throws IOException {
+		LocalFileInput raf = new LocalFileInput(fileName);
+		QueryDataSet dataSet = new QueryEngine(raf).query(config);
+		List<String> records = new ArrayList<>();
+		while (dataSet.hasNextRecord()) {
+			records.add(dataSet.getNextRecord().toString());
+		}
+		raf.close();
+		return records;
+	}
+}
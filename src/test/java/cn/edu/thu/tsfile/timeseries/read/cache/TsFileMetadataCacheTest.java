@@ -0,0 +1,120 @@
+package cn.edu.thu.tsfile.timeseries.read.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.file.metadata.TSFileMetaData;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.ReadPerf;
+import cn.edu.thu.tsfile.timeseries.read.metadata.SeriesSchema;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+public class TsFileMetadataCacheTest {
+	private static String fileName = "src/test/resources/perTestOutputData.ksn";
+	private int oldCapacity;
+
+	@Before
+	public void prepare() throws IOException, InterruptedException, WriteProcessException {
+		oldCapacity = TsFileMetadataCache.getInstance().getCapacity();
+		TsFileMetadataCache.getInstance().clear();
+		ReadPerf.generateFile();
+	}
+
+	@After
+	public void after() {
+		TsFileMetadataCache.getInstance().setCapacity(oldCapacity);
+		TsFileMetadataCache.getInstance().clear();
+		ReadPerf.after();
+	}
+
+	@Test
+	public void evictAndInvalidateTest() {
+		TsFileMetadataCache cache = TsFileMetadataCache.getInstance();
+		cache.setCapacity(2);
+		cache.put("a#1#10", new TSFileMetaData());
+		cache.put("b#1#10", new TSFileMetaData());
+		assertNotNull(cache.get("a#1#10"));
+		cache.put("c#1#10", new TSFileMetaData());
+		assertEquals(2, cache.size());
+		assertNull(cache.get("b#1#10"));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		cache.invalidate("a");
+		assertNull(cache.get("a#1#10"));
+		assertNotNull(cache.get("c#1#10"));
+		cache.setCapacity(0);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void shareMetadataTest() throws IOException {
+		TsFileMetadataCache cache = TsFileMetadataCache.getInstance();
+		QueryConfig config = new QueryConfig("d1.s1|d2.s2", "0,(>=1480562618950)&(<=1480562618960)", "null",
+				"[2,d2.s3,(>9541)|(<=9511)]&[2,d1.s1,(<=9562)]");
+		cache.setCapacity(0);
+		List<String> expected = query(config);
+		String expectedColumns = getAllColumns();
+
+		cache.setCapacity(10);
+		LocalFileInput raf = new LocalFileInput(fileName);
+		TSFileMetaData fileMetaData = new FileReader(raf).getFileMetadata();
+		assertSame(fileMetaData, new FileReader(raf).getFileMetadata());
+		raf.close();
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+
+		assertEquals(expected, query(config));
+		assertEquals(expected, query(config));
+		assertEquals(expectedColumns, getAllColumns());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.size());
+
+		cache.invalidate(fileName);
+		assertEquals(0, cache.size());
+		assertEquals(expected, query(config));
+		assertEquals(2, cache.getMissCount());
+	}
+
+	private String getAllColumns() throws IOException {
+		LocalFileInput raf = new LocalFileInput(fileName);
+		StringBuilder columns = new StringBuilder();
+		for (Map.Entry<String, ArrayList<SeriesSchema>> entry : new TreeMap<>(QueryEngine.getAllColumns(raf))
+				.entrySet()) {
+			columns.append(entry.getKey());
+			for (SeriesSchema schema : entry.getValue()) {
+				columns.append(",").append(schema.name).append(":").append(schema.dataType);
+			}
+			columns.append(";");
+		}
+		raf.close();
+		return columns.toString();
+	}
+
+	private List<String> query(QueryConfig config) throws IOException {
+		LocalFileInput raf = new LocalFileInput(fileName);
+		QueryDataSet dataSet = new QueryEngine(raf).query(config);
+		List<String> records = new ArrayList<>();
+		while (dataSet.hasNextRecord()) {
+			records.add(dataSet.getNextRecord().toString());
+		}
+		raf.close();
+		return records;
+	}
+}
@@ -0,0 +1,143 @@
+package cn.edu.thu.tsfile.timeseries.read.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.file.metadata.enums.TSDataType;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.MappedFileInput;
+import cn.edu.thu.tsfile.timeseries.read.ReadPerf;
+import cn.edu.thu.tsfile.timeseries.read.qp.Path;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+public class IteratorQueryDataSetTest {
+	private static String fileName = "src/test/resources/perTestOutputData.ksn";
+
+	private QueryConfig[] configs = new QueryConfig[] {
+			new QueryConfig("d1.s1|d1.s2|d1.s3|d1.s4|d1.s6|d1.s7|d2.s1|d2.s2|d2.s3|d2.s4"),
+			new QueryConfig("d1.s1|d2.s2|d1.s1"),
+			new QueryConfig("d1.s4|d1.s6|d2.s2", "0,(>=1480562618970)&(<=1480562619500)", "null", "null"),
+			new QueryConfig("d1.s1", "null", "null", "2,d1.s1,(>=9562)") };
+
+	@Before
+	public void prepare() throws IOException, InterruptedException, WriteProcessException {
+		ReadPerf.generateFile();
+	}
+
+	@After
+	public void after() {
+		ReadPerf.after();
+	}
+
+	@Test
+	public void parallelReadTest() throws IOException {
+		for (QueryConfig config : configs) {
+			LocalFileInput raf = new LocalFileInput(fileName);
+			List<String> expected = query(new QueryEngine(raf, 7), config);
+			assertTrue(expected.size() > 0);
+
+			QueryEngine engine = new QueryEngine(raf, 7, 4);
+			assertEquals(4, engine.getReadThreadNum());
+			assertEquals(expected, query(engine, config));
+			engine.close();
+			raf.close();
+
+			MappedFileInput mapped = new MappedFileInput(fileName);
+			engine = new QueryEngine(mapped, 7, 3);
+			assertEquals(expected, query(engine, config));
+			engine.close();
+			mapped.close();
+		}
+	}
+
+	@Test
+	public void closeEngineWhileReadingTest() throws IOException {
+		LocalFileInput raf = new LocalFileInput(fileName);
+		List<String> expected = query(new QueryEngine(raf, 7), configs[0]);
+
+		QueryEngine engine = new QueryEngine(raf, 7, 2);
+		QueryDataSet dataSet = engine.query(configs[0]);
+		List<String> records = new ArrayList<>();
+		for (int i = 0; i < 20 && dataSet.hasNextRecord(); i++) {
+			records.add(dataSet.getNextRecord().toString());
+		}
+		// remaining batches are read in the query thread
+		engine.close();
+		while (dataSet.hasNextRecord()) {
+			records.add(dataSet.getNextRecord().toString());
+		}
+		assertEquals(expected, records);
+		raf.close();
+	}
+
+	@Test
+	public void failedBatchTest() throws IOException {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			assertFailureReachesCaller(null);
+			assertFailureReachesCaller(executor);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * The first batch of the column has 10 records, reading the second one
+	 * fails.
+	 */
+	private void assertFailureReachesCaller(ExecutorService executor) throws IOException {
+		List<Path> paths = Collections.singletonList(new Path("d1.s1"));
+		IteratorQueryDataSet dataSet = new IteratorQueryDataSet(paths, executor) {
+			@Override
+			public DynamicOneColumnData getMoreRecordsForOneColumn(Path colName, DynamicOneColumnData res)
+					throws IOException {
+				if (res != null) {
+					throw new IOException("second batch is broken");
+				}
+				DynamicOneColumnData batch = new DynamicOneColumnData(TSDataType.INT32, true);
+				for (int i = 0; i < 10; i++) {
+					batch.putTime(i);
+					batch.putInt(i);
+				}
+				return batch;
+			}
+		};
+		int count = 0;
+		try {
+			while (dataSet.hasNextRecord()) {
+				dataSet.getNextRecord();
+				count++;
+			}
+			fail("the failure of the second batch is not thrown");
+		} catch (UncheckedIOException e) {
+			assertEquals(9, count);
+			Throwable cause = e.getCause();
+			while (cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			assertEquals("second batch is broken", cause.getMessage());
+		}
+	}
+
+	private List<String> query(QueryEngine engine, QueryConfig config) throws IOException {
+		QueryDataSet dataSet = engine.query(config);
+		List<String> records = new ArrayList<>();
+		while (dataSet.hasNextRecord()) {
+			records.add(dataSet.getNextRecord().toString());
+		}
+		return records;
+	}
+}
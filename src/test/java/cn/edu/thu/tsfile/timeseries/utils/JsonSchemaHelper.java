@@ -0,0 +1,46 @@
+package cn.edu.thu.tsfile.timeseries.utils;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import cn.edu.thu.tsfile.common.constant.JsonFormatConstant;
+
+/**
+ * builds json schemas of test files, whose measurements are named s0, s1, ... in order
+ */
+public class JsonSchemaHelper {
+
+  /**
+   * @param deltaType - delta type of the schema
+   * @param types - data type of each measurement
+   * @param encodings - encoding of each measurement, the same length as {@code types}
+   */
+  public static JSONObject getJsonSchema(String deltaType, String[] types, String[] encodings) {
+    if (types.length != encodings.length) {
+      throw new IllegalArgumentException(
+          String.format("%d data types but %d encodings", types.length, encodings.length));
+    }
+    JSONArray schema = new JSONArray();
+    for (int i = 0; i < types.length; i++) {
+      JSONObject measurement = new JSONObject();
+      measurement.put(JsonFormatConstant.MEASUREMENT_UID, "s" + i);
+      measurement.put(JsonFormatConstant.DATA_TYPE, types[i]);
+      measurement.put(JsonFormatConstant.MEASUREMENT_ENCODING, encodings[i]);
+      schema.put(measurement);
+    }
+    JSONObject jsonSchema = new JSONObject();
+    jsonSchema.put(JsonFormatConstant.DELTA_TYPE, deltaType);
+    jsonSchema.put(JsonFormatConstant.JSON_SCHEMA, schema);
+    return jsonSchema;
+  }
+
+  /**
+   * @param rowGroupSize - row group size of the file in bytes
+   */
+  public static JSONObject getJsonSchema(String deltaType, String[] types, String[] encodings,
+      int rowGroupSize) {
+    JSONObject jsonSchema = getJsonSchema(deltaType, types, encodings);
+    jsonSchema.put(JsonFormatConstant.ROW_GROUP_SIZE, rowGroupSize);
+    return jsonSchema;
+  }
+}
@@ -0,0 +1,349 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.ListByteArrayOutputStream;
+import cn.edu.thu.tsfile.common.utils.Pair;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileWriter;
+import cn.edu.thu.tsfile.file.metadata.enums.CompressionTypeName;
+import cn.edu.thu.tsfile.format.PageHeader;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.PageReader;
+import cn.edu.thu.tsfile.timeseries.read.query.DynamicOneColumnData;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+import cn.edu.thu.tsfile.timeseries.utils.RecordUtils;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.schema.FileSchema;
+
+/**
+ * test flushing row groups by a background thread and sealing pages of series
+ * concurrently, which should produce the same file as flushing them by the
+ * writing thread.
+ */
+public class BackgroundFlushTest {
+    private static final String SYNC_FILE = "src/test/resources/syncFlushOutput.ksn";
+    private static final String ASYNC_FILE = "src/test/resources/asyncFlushOutput.ksn";
+    private static final String PATHS = "d1.s0|d1.s1|d2.s0|d2.s1";
+    private static final int ROW_COUNT = 20000;
+
+    private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int oldGroupSize;
+    private int oldMaxPendingRowGroupFlushes;
+    private int oldRowGroupFlushParallelism;
+    private boolean oldDuplicateIncompletedPage;
+
+    @Before
+    public void prepare() {
+        oldGroupSize = conf.groupSizeInByte;
+        oldMaxPendingRowGroupFlushes = conf.maxPendingRowGroupFlushes;
+        oldRowGroupFlushParallelism = conf.rowGroupFlushParallelism;
+        oldDuplicateIncompletedPage = conf.duplicateIncompletedPage;
+    }
+
+    @After
+    public void after() {
+        conf.groupSizeInByte = oldGroupSize;
+        conf.maxPendingRowGroupFlushes = oldMaxPendingRowGroupFlushes;
+        conf.rowGroupFlushParallelism = oldRowGroupFlushParallelism;
+        conf.duplicateIncompletedPage = oldDuplicateIncompletedPage;
+        new File(SYNC_FILE).delete();
+        new File(ASYNC_FILE).delete();
+    }
+
+    @Test
+    public void sameAsSyncFlushTest() throws IOException, WriteProcessException {
+        conf.maxPendingRowGroupFlushes = 0;
+        writeFile(newTsFile(new RandomAccessOutputStream(new File(SYNC_FILE))));
+        conf.maxPendingRowGroupFlushes = 1;
+        writeFile(newTsFile(new RandomAccessOutputStream(new File(ASYNC_FILE))));
+        assertSameFile();
+    }
+
+    @Test
+    public void parallelSealTest() throws IOException, WriteProcessException {
+        conf.maxPendingRowGroupFlushes = 0;
+        conf.rowGroupFlushParallelism = 1;
+        writeFile(newTsFile(new RandomAccessOutputStream(new File(SYNC_FILE))));
+        conf.maxPendingRowGroupFlushes = 1;
+        conf.rowGroupFlushParallelism = 4;
+        writeFile(newTsFile(new RandomAccessOutputStream(new File(ASYNC_FILE))));
+        assertSameFile();
+    }
+
+    private void assertSameFile() throws IOException {
+        assertEquals(new File(SYNC_FILE).length(), new File(ASYNC_FILE).length());
+        LocalFileInput syncInput = new LocalFileInput(SYNC_FILE);
+        LocalFileInput asyncInput = new LocalFileInput(ASYNC_FILE);
+        try {
+            int rowGroupCount = new FileReader(asyncInput).getFileMetadata().getRowGroups().size();
+            assertTrue(rowGroupCount > 2);
+            assertEquals(new FileReader(syncInput).getFileMetadata().getRowGroups().size(), rowGroupCount);
+
+            QueryDataSet expected = new QueryEngine(syncInput).query(new QueryConfig(PATHS));
+            QueryDataSet actual = new QueryEngine(asyncInput).query(new QueryConfig(PATHS));
+            int count = 0;
+            while (expected.hasNextRecord()) {
+                assertTrue(actual.hasNextRecord());
+                assertEquals(expected.getNextRecord().toString(), actual.getNextRecord().toString());
+                count++;
+            }
+            assertFalse(actual.hasNextRecord());
+            assertEquals(ROW_COUNT, count);
+        } finally {
+            syncInput.close();
+            asyncInput.close();
+        }
+    }
+
+    @Test
+    public void flushExceptionTest() throws IOException, WriteProcessException {
+        conf.maxPendingRowGroupFlushes = 1;
+        TsFile tsFile = newTsFile(new FailingWriter(new RandomAccessOutputStream(new File(ASYNC_FILE))));
+        try {
+            writeFile(tsFile);
+            fail();
+        } catch (IOException e) {
+            // thrown by the next flush or close
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void queryFlushingRowGroupTest() throws Exception {
+        conf.maxPendingRowGroupFlushes = 2;
+        conf.groupSizeInByte = 16 * 1024 * 1024;
+        conf.duplicateIncompletedPage = true;
+        BlockingWriter output = new BlockingWriter(new RandomAccessOutputStream(new File(ASYNC_FILE)));
+        FileSchema fileSchema = new FileSchema(getJsonSchema());
+        TSFileIOWriter fileWriter = new TSFileIOWriter(fileSchema, output);
+        InternalRecordWriter<TSRecord> writer = new TSRecordWriter(conf, fileWriter, new TSRecordWriteSupport(),
+                fileSchema);
+        output.block();
+        // the first row group only has d1, and the flush thread is blocked in writing it
+        writeRows(writer, fileSchema, "d1", 0, 100);
+        writer.requestFlush();
+        writeRows(writer, fileSchema, "d1", 100, 101);
+        output.awaitBlocked();
+        // the second row group waits in the queue
+        writeRows(writer, fileSchema, "d2", 0, 100);
+        writer.requestFlush();
+        writeRows(writer, fileSchema, "d2", 100, 101);
+        writeRows(writer, fileSchema, "d2", 101, 150);
+        assertTrue(fileWriter.getRowGroups().isEmpty());
+
+        List<Object> result = writer.query("d2", "s0");
+        DynamicOneColumnData currentPageData = (DynamicOneColumnData) result.get(0);
+        Pair<List<ByteArrayInputStream>, CompressionTypeName> pages = (Pair<List<ByteArrayInputStream>, CompressionTypeName>) result
+                .get(1);
+        assertEquals(49, currentPageData.length);
+        int pageValueCount = 0;
+        for (ByteArrayInputStream page : pages.left) {
+            PageReader pageReader = new PageReader(page, pages.right);
+            while (pageReader.hasNextPage()) {
+                PageHeader header = pageReader.getNextPageHeader();
+                pageValueCount += header.data_page_header.num_values;
+                pageReader.skipCurrentPage();
+            }
+        }
+        assertEquals(101, pageValueCount);
+
+        output.release();
+        writer.close();
+        assertEquals(3, fileWriter.getRowGroups().size());
+        LocalFileInput input = new LocalFileInput(ASYNC_FILE);
+        try {
+            QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d2.s0"));
+            int count = 0;
+            while (dataSet.hasNextRecord()) {
+                dataSet.getNextRecord();
+                count++;
+            }
+            assertEquals(150, count);
+        } finally {
+            input.close();
+        }
+    }
+
+    private void writeRows(InternalRecordWriter<TSRecord> writer, FileSchema fileSchema, String deltaObjectId,
+            int start, int end) throws IOException, WriteProcessException {
+        for (int i = start; i < end; i++) {
+            writer.write(RecordUtils.parseSimpleTupleRecord(deltaObjectId + "," + i + ",s0," + i + ",s1," + i * 10L,
+                    fileSchema));
+        }
+    }
+
+    private void writeFile(TsFile tsFile) throws IOException, WriteProcessException {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            tsFile.writeLine("d1," + i + ",s0," + i + ",s1," + i * 10L);
+            tsFile.writeLine("d2," + i + ",s0," + i % 100 + ",s1," + (ROW_COUNT - i));
+        }
+        tsFile.close();
+    }
+
+    private TsFile newTsFile(TSRandomAccessFileWriter output) throws IOException, WriteProcessException {
+        return new TsFile(output, getJsonSchema());
+    }
+
+    private JSONObject getJsonSchema() {
+        // several row groups
+        return JsonSchemaHelper.getJsonSchema("flush_test", new String[] {"INT32", "INT64"},
+                new String[] {"TS_2DIFF", "TS_2DIFF"}, 16 * 1024);
+    }
+
+    /**
+     * blocks writing after {@code block()} until {@code release()}
+     */
+    private static class BlockingWriter implements TSRandomAccessFileWriter {
+        private final TSRandomAccessFileWriter out;
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+        private final CountDownLatch blocked = new CountDownLatch(1);
+
+        BlockingWriter(TSRandomAccessFileWriter out) {
+            this.out = out;
+        }
+
+        void block() {
+            latch = new CountDownLatch(1);
+        }
+
+        void release() {
+            latch.countDown();
+        }
+
+        /**
+         * waits until a write is blocked
+         */
+        void awaitBlocked() throws InterruptedException {
+            blocked.await();
+        }
+
+        private void await() throws IOException {
+            if (latch.getCount() > 0)
+                blocked.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public long getPos() throws IOException {
+            return out.getPos();
+        }
+
+        @Override
+        public void seek(long offset) throws IOException {
+            out.seek(offset);
+        }
+
+        @Override
+        public void write(byte[] b) throws IOException {
+            await();
+            out.write(b);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            await();
+            out.write(b);
+        }
+
+        @Override
+        public void writeHole(long length) throws IOException {
+            await();
+            out.writeHole(length);
+        }
+
+        @Override
+        public void writeAll(ListByteArrayOutputStream bytes) throws IOException {
+            await();
+            out.writeAll(bytes);
+        }
+
+        @Override
+        public void endRowGroups() throws IOException {
+            await();
+            out.endRowGroups();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return out.getOutputStream();
+        }
+    }
+
+    /**
+     * fails when the first row group is written
+     */
+    private static class FailingWriter implements TSRandomAccessFileWriter {
+        private final TSRandomAccessFileWriter out;
+
+        FailingWriter(TSRandomAccessFileWriter out) {
+            this.out = out;
+        }
+
+        @Override
+        public long getPos() throws IOException {
+            long pos = out.getPos();
+            if (pos > 0)
+                throw new IOException("disk failure");
+            return pos;
+        }
+
+        @Override
+        public void seek(long offset) throws IOException {
+            out.seek(offset);
+        }
+
+        @Override
+        public void write(byte[] b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return out.getOutputStream();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
+
+/**
+ * test that records of different delta objects written by several threads
+ * into one TsFile are all read back, while row groups are flushed
+ * concurrently with writing.
+ */
+public class ConcurrentWriteTest {
+    private static final String FILE = "src/test/resources/concurrentWriteOutput.ksn";
+    private static final int THREAD_COUNT = 8;
+    private static final int ROW_COUNT = 10000;
+    private static final int TABLET_SIZE = 100;
+
+    private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int oldGroupSize;
+    private int oldMaxPendingRowGroupFlushes;
+
+    @Before
+    public void prepare() {
+        oldGroupSize = conf.groupSizeInByte;
+        oldMaxPendingRowGroupFlushes = conf.maxPendingRowGroupFlushes;
+    }
+
+    @After
+    public void after() {
+        conf.groupSizeInByte = oldGroupSize;
+        conf.maxPendingRowGroupFlushes = oldMaxPendingRowGroupFlushes;
+        new File(FILE).delete();
+    }
+
+    @Test
+    public void concurrentWriteTest() throws Exception {
+        conf.maxPendingRowGroupFlushes = 0;
+        writeAndCheck();
+    }
+
+    @Test
+    public void concurrentWriteWithBackgroundFlushTest() throws Exception {
+        conf.maxPendingRowGroupFlushes = 2;
+        writeAndCheck();
+    }
+
+    private void writeAndCheck() throws Exception {
+        File file = new File(FILE);
+        if (file.exists())
+            file.delete();
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(file), getJsonSchema());
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                String deltaObjectId = "d" + t;
+                boolean useTablet = t % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    if (useTablet)
+                        writeTablets(tsFile, deltaObjectId);
+                    else
+                        writeLines(tsFile, deltaObjectId);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw (Exception) e.getCause();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        tsFile.close();
+
+        LocalFileInput input = new LocalFileInput(FILE);
+        try {
+            assertTrue(new FileReader(input).getFileMetadata().getRowGroups().size() > THREAD_COUNT);
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d" + t + ".s0|d" + t + ".s1"));
+                int count = 0;
+                while (dataSet.hasNextRecord()) {
+                    long value = dataSet.getNextRecord().fields.get(0).getLongV();
+                    assertEquals(count * 13L + t, value);
+                    count++;
+                }
+                assertFalse(dataSet.hasNextRecord());
+                assertEquals(ROW_COUNT, count);
+            }
+        } finally {
+            input.close();
+        }
+    }
+
+    private void writeLines(TsFile tsFile, String deltaObjectId) throws IOException, WriteProcessException {
+        int t = Integer.parseInt(deltaObjectId.substring(1));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            tsFile.writeLine(deltaObjectId + "," + i + ",s0," + (i * 13L + t) + ",s1," + i / 3.0);
+        }
+    }
+
+    private void writeTablets(TsFile tsFile, String deltaObjectId) throws IOException, WriteProcessException {
+        int t = Integer.parseInt(deltaObjectId.substring(1));
+        for (int start = 0; start < ROW_COUNT; start += TABLET_SIZE) {
+            long[] timestamps = new long[TABLET_SIZE];
+            long[] s0 = new long[TABLET_SIZE];
+            double[] s1 = new double[TABLET_SIZE];
+            for (int i = 0; i < TABLET_SIZE; i++) {
+                timestamps[i] = start + i;
+                s0[i] = (start + i) * 13L + t;
+                s1[i] = (start + i) / 3.0;
+            }
+            TSTablet tablet = new TSTablet(deltaObjectId, timestamps);
+            tablet.addColumn("s0", s0);
+            tablet.addColumn("s1", s1);
+            tsFile.writeTablet(tablet);
+        }
+    }
+
+    private JSONObject getJsonSchema() {
+        return JsonSchemaHelper.getJsonSchema("concurrent_test", new String[] {"INT64", "DOUBLE"},
+                new String[] {"TS_2DIFF", "RLE"}, 128 * 1024);
+    }
+}
@@ -0,0 +1,231 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.FileChannelOutputStream;
+import cn.edu.thu.tsfile.common.utils.FileChannelOutputStream.SyncPolicy;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.common.utils.TSRandomAccessFileWriter;
+import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.io.MetadataCheckpoint;
+
+/**
+ * test that a TsFile written with {@linkplain MetadataCheckpoint} is the same as
+ * one written without it, and that writing continues after the last valid
+ * checkpoint when the writer is not closed.
+ */
+public class MetadataCheckpointTest {
+    private static final String FILE = "src/test/resources/checkpointOutput.ksn";
+    private static final String EXPECTED_FILE = "src/test/resources/checkpointExpectedOutput.ksn";
+    private static final int GROUP_SIZE = 64 * 1024;
+    private static final int ROW_COUNT = 20000;
+
+    private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int oldGroupSize;
+    private String oldRowGroupPadding;
+    private File file = new File(FILE);
+    private File checkpointFile = MetadataCheckpoint.getCheckpointFile(file);
+
+    @Before
+    public void prepare() {
+        oldGroupSize = conf.groupSizeInByte;
+        oldRowGroupPadding = conf.rowGroupPadding;
+        after();
+    }
+
+    @After
+    public void after() {
+        conf.groupSizeInByte = oldGroupSize;
+        conf.rowGroupPadding = oldRowGroupPadding;
+        file.delete();
+        checkpointFile.delete();
+        new File(EXPECTED_FILE).delete();
+    }
+
+    @Test
+    public void sameAsWithoutCheckpointTest() throws IOException, WriteProcessException {
+        TsFile expected = new TsFile(new RandomAccessOutputStream(new File(EXPECTED_FILE)), getJsonSchema());
+        writeRows(expected, 0, ROW_COUNT);
+        expected.close();
+
+        MetadataCheckpoint checkpoint = MetadataCheckpoint.open(file);
+        assertTrue(checkpoint.getRowGroups().isEmpty());
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(file), getJsonSchema(), checkpoint);
+        writeRows(tsFile, 0, ROW_COUNT);
+        assertTrue(checkpointFile.length() > 0);
+        tsFile.close();
+        assertFalse(checkpointFile.exists());
+        assertArrayEquals(Files.readAllBytes(new File(EXPECTED_FILE).toPath()), Files.readAllBytes(file.toPath()));
+
+        try {
+            MetadataCheckpoint.open(file);
+            fail();
+        } catch (IOException e) {
+            // a complete file is not written again
+        }
+    }
+
+    @Test
+    public void recoverTest() throws IOException, WriteProcessException {
+        RandomAccessOutputStream output = new RandomAccessOutputStream(file);
+        TsFile crashed = new TsFile(output, getJsonSchema(), MetadataCheckpoint.open(file));
+        writeRows(crashed, 0, ROW_COUNT);
+        // the writer is never closed, and both files end with torn writes
+        output.close();
+        long checkpointLength = checkpointFile.length();
+        try (FileOutputStream tail = new FileOutputStream(file, true)) {
+            tail.write(new byte[1000]);
+        }
+        try (FileOutputStream tail = new FileOutputStream(checkpointFile, true)) {
+            tail.write(new byte[] {0, 0, 1, 0, 1, 2, 3, 4, 5});
+        }
+
+        MetadataCheckpoint checkpoint = MetadataCheckpoint.open(file);
+        assertEquals(checkpointLength, checkpointFile.length());
+        assertEquals(checkpoint.getDataEnd(), file.length());
+        assertTrue(checkpoint.getRowGroups().size() > 1);
+        int restoredCount = 0;
+        for (RowGroupMetaData rowGroup : checkpoint.getRowGroups()) {
+            restoredCount += rowGroup.getNumOfRows();
+        }
+        assertTrue(restoredCount > 0 && restoredCount < ROW_COUNT);
+
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(file), getJsonSchema(), checkpoint);
+        writeRows(tsFile, restoredCount, ROW_COUNT);
+        tsFile.close();
+        assertFalse(checkpointFile.exists());
+
+        LocalFileInput input = new LocalFileInput(FILE);
+        try {
+            QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0"));
+            int count = 0;
+            while (dataSet.hasNextRecord()) {
+                assertEquals(count * 31L, dataSet.getNextRecord().fields.get(0).getLongV());
+                count++;
+            }
+            assertEquals(ROW_COUNT, count);
+        } finally {
+            input.close();
+        }
+    }
+
+    @Test
+    public void recoverSparseFileChannelTest() throws IOException, WriteProcessException {
+        conf.rowGroupPadding = "SPARSE";
+        FileChannelOutputStream output = new FileChannelOutputStream(file, SyncPolicy.ROW_GROUP);
+        TsFile crashed = new TsFile(output, getJsonSchema(), MetadataCheckpoint.open(file));
+        writeRows(crashed, 0, ROW_COUNT);
+        // the last flush ends with a hole, which must still be covered by the file
+        long flushedEnd = output.getPos();
+        output.close();
+        assertEquals(flushedEnd, file.length());
+
+        MetadataCheckpoint checkpoint = MetadataCheckpoint.open(file);
+        assertEquals(flushedEnd, checkpoint.getDataEnd());
+        int restoredCount = 0;
+        for (RowGroupMetaData rowGroup : checkpoint.getRowGroups()) {
+            restoredCount += rowGroup.getNumOfRows();
+        }
+        assertTrue(restoredCount > 0 && restoredCount < ROW_COUNT);
+
+        TsFile tsFile = new TsFile(new FileChannelOutputStream(file), getJsonSchema(), checkpoint);
+        writeRows(tsFile, restoredCount, ROW_COUNT);
+        tsFile.close();
+        assertFalse(checkpointFile.exists());
+
+        LocalFileInput input = new LocalFileInput(FILE);
+        try {
+            QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0"));
+            int count = 0;
+            while (dataSet.hasNextRecord()) {
+                assertEquals(count * 31L, dataSet.getNextRecord().fields.get(0).getLongV());
+                count++;
+            }
+            assertEquals(ROW_COUNT, count);
+        } finally {
+            input.close();
+        }
+    }
+
+    @Test
+    public void outputWithoutSyncTest() throws IOException, WriteProcessException {
+        RandomAccessOutputStream output = new RandomAccessOutputStream(file);
+        // an output which cannot force written bytes
+        TSRandomAccessFileWriter writer = new TSRandomAccessFileWriter() {
+            @Override
+            public long getPos() throws IOException {
+                return output.getPos();
+            }
+
+            @Override
+            public void seek(long offset) throws IOException {
+                output.seek(offset);
+            }
+
+            @Override
+            public void write(byte[] b) throws IOException {
+                output.write(b);
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                output.write(b);
+            }
+
+            @Override
+            public void close() throws IOException {
+                output.close();
+            }
+
+            @Override
+            public OutputStream getOutputStream() {
+                return output;
+            }
+        };
+        MetadataCheckpoint checkpoint = MetadataCheckpoint.open(file);
+        try {
+            new TsFile(writer, getJsonSchema(), checkpoint);
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // checkpoints would refer to data which may be lost in a crash
+        } finally {
+            output.close();
+            checkpoint.delete();
+        }
+    }
+
+    private void writeRows(TsFile tsFile, int start, int end) throws IOException, WriteProcessException {
+        for (int i = start; i < end; i++) {
+            tsFile.writeLine("d1," + i + ",s0," + i * 31L + ",s1," + i / 7.0);
+        }
+    }
+
+    private JSONObject getJsonSchema() {
+        return JsonSchemaHelper.getJsonSchema("checkpoint_test", new String[] {"INT64", "DOUBLE"},
+                new String[] {"TS_2DIFF", "RLE"}, GROUP_SIZE);
+    }
+}
@@ -0,0 +1,114 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.file.metadata.RowGroupMetaData;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.io.RowGroupPadding;
+
+/**
+ * test files written with each {@linkplain RowGroupPadding} are read in the
+ * same way.
+ */
+public class RowGroupPaddingTest {
+    private static final String FILE_PREFIX = "src/test/resources/rowGroupPaddingOutput";
+    private static final int GROUP_SIZE = 64 * 1024;
+    private static final int ROW_COUNT = 20000;
+
+    private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int oldGroupSize;
+    private String oldRowGroupPadding;
+
+    @Before
+    public void prepare() {
+        oldGroupSize = conf.groupSizeInByte;
+        oldRowGroupPadding = conf.rowGroupPadding;
+    }
+
+    @After
+    public void after() {
+        conf.groupSizeInByte = oldGroupSize;
+        conf.rowGroupPadding = oldRowGroupPadding;
+        for (RowGroupPadding padding : RowGroupPadding.values()) {
+            new File(getPath(padding)).delete();
+        }
+    }
+
+    @Test
+    public void paddingTest() throws IOException, WriteProcessException {
+        for (RowGroupPadding padding : RowGroupPadding.values()) {
+            conf.rowGroupPadding = padding.name();
+            writeFile(getPath(padding));
+        }
+        long fillLength = new File(getPath(RowGroupPadding.FILL)).length();
+        long alignLength = new File(getPath(RowGroupPadding.ALIGN)).length();
+        long noneLength = new File(getPath(RowGroupPadding.NONE)).length();
+        assertEquals(fillLength, new File(getPath(RowGroupPadding.SPARSE)).length());
+        assertTrue(noneLength < alignLength);
+        assertTrue(alignLength < fillLength);
+
+        for (RowGroupPadding padding : RowGroupPadding.values()) {
+            LocalFileInput input = new LocalFileInput(getPath(padding));
+            try {
+                List<RowGroupMetaData> rowGroups = new FileReader(input).getFileMetadata().getRowGroups();
+                assertTrue(rowGroups.size() > 2);
+                for (int i = 1; i < rowGroups.size(); i++) {
+                    long offset = rowGroups.get(i).getTimeSeriesChunkMetaDataList().get(0).getProperties()
+                            .getFileOffset();
+                    long previousOffset = rowGroups.get(i - 1).getTimeSeriesChunkMetaDataList().get(0)
+                            .getProperties().getFileOffset();
+                    if (padding == RowGroupPadding.ALIGN)
+                        assertEquals(0, offset % conf.rowGroupAlignmentInByte);
+                    else if (padding == RowGroupPadding.FILL || padding == RowGroupPadding.SPARSE)
+                        assertEquals(GROUP_SIZE, offset - previousOffset);
+                }
+                QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0"));
+                int count = 0;
+                while (dataSet.hasNextRecord()) {
+                    assertEquals(count * 31L, dataSet.getNextRecord().fields.get(0).getLongV());
+                    count++;
+                }
+                assertFalse(dataSet.hasNextRecord());
+                assertEquals(ROW_COUNT, count);
+            } finally {
+                input.close();
+            }
+        }
+    }
+
+    private String getPath(RowGroupPadding padding) {
+        return FILE_PREFIX + padding + ".ksn";
+    }
+
+    private void writeFile(String path) throws IOException, WriteProcessException {
+        File file = new File(path);
+        if (file.exists())
+            file.delete();
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(file), JsonSchemaHelper
+                .getJsonSchema("padding_test", new String[] {"INT64"}, new String[] {"PLAIN"}, GROUP_SIZE));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            tsFile.writeLine("d1," + i + ",s0," + i * 31L);
+        }
+        tsFile.close();
+    }
+}
@@ -0,0 +1,177 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+import cn.edu.thu.tsfile.timeseries.write.record.TSRecord;
+import cn.edu.thu.tsfile.timeseries.write.record.TSTablet;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.BooleanDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.DoubleDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.FloatDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.IntDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.LongDataPoint;
+import cn.edu.thu.tsfile.timeseries.write.record.datapoint.StringDataPoint;
+
+/**
+ * test that writing rows by {@linkplain TSTablet} produces the same file as
+ * writing them by {@linkplain TSRecord}, across pages and row groups.
+ */
+public class TabletWriteTest {
+    private static final String RECORD_FILE = "src/test/resources/tabletTestRecordOutput.ksn";
+    private static final String TABLET_FILE = "src/test/resources/tabletTestTabletOutput.ksn";
+    private static final String PATHS = "d1.s0|d1.s1|d1.s2|d1.s3|d1.s4|d1.s5";
+    private static final int ROW_COUNT = 10000;
+
+    private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private int oldGroupSize;
+    private int oldMaxNumberOfPointsInPage;
+    private String oldCompressor;
+
+    private long[] times = new long[ROW_COUNT];
+    private int[] ints = new int[ROW_COUNT];
+    private long[] longs = new long[ROW_COUNT];
+    private float[] floats = new float[ROW_COUNT];
+    private double[] doubles = new double[ROW_COUNT];
+    private boolean[] booleans = new boolean[ROW_COUNT];
+    private Binary[] binaries = new Binary[ROW_COUNT];
+
+    @Before
+    public void prepare() {
+        oldGroupSize = conf.groupSizeInByte;
+        oldMaxNumberOfPointsInPage = conf.maxNumberOfPointsInPage;
+        oldCompressor = conf.compressor;
+        conf.maxNumberOfPointsInPage = 100;
+        for (int i = 0; i < ROW_COUNT; i++) {
+            times[i] = 1480562618000L + i;
+            ints[i] = i % 97;
+            longs[i] = i * 1000L;
+            floats[i] = i / 7f;
+            doubles[i] = i / 3.0;
+            booleans[i] = i % 3 == 0;
+            binaries[i] = new Binary("v" + i % 10);
+        }
+    }
+
+    @After
+    public void after() {
+        conf.groupSizeInByte = oldGroupSize;
+        conf.maxNumberOfPointsInPage = oldMaxNumberOfPointsInPage;
+        conf.compressor = oldCompressor;
+        new File(RECORD_FILE).delete();
+        new File(TABLET_FILE).delete();
+    }
+
+    @Test
+    public void sameAsRecordTest() throws IOException, WriteProcessException {
+        assertSameAsRecord();
+    }
+
+    @Test
+    public void snappySameAsRecordTest() throws IOException, WriteProcessException {
+        conf.compressor = "SNAPPY";
+        assertSameAsRecord();
+    }
+
+    private void assertSameAsRecord() throws IOException, WriteProcessException {
+        TsFile tsFile = newTsFile(RECORD_FILE);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            TSRecord record = new TSRecord(times[i], "d1");
+            record.addTuple(new IntDataPoint("s0", ints[i]));
+            record.addTuple(new LongDataPoint("s1", longs[i]));
+            record.addTuple(new FloatDataPoint("s2", floats[i]));
+            record.addTuple(new DoubleDataPoint("s3", doubles[i]));
+            record.addTuple(new BooleanDataPoint("s4", booleans[i]));
+            record.addTuple(new StringDataPoint("s5", binaries[i]));
+            tsFile.writeLine(record);
+        }
+        tsFile.close();
+
+        tsFile = newTsFile(TABLET_FILE);
+        // write in two tablets, the second one starts in the middle of a page
+        int split = 4321;
+        tsFile.writeTablet(newTablet(0, split));
+        tsFile.writeTablet(newTablet(split, ROW_COUNT));
+        tsFile.close();
+
+        assertEquals(new File(RECORD_FILE).length(), new File(TABLET_FILE).length());
+        LocalFileInput recordInput = new LocalFileInput(RECORD_FILE);
+        LocalFileInput tabletInput = new LocalFileInput(TABLET_FILE);
+        try {
+            int rowGroupCount = new FileReader(tabletInput).getFileMetadata().getRowGroups().size();
+            assertTrue(rowGroupCount > 1);
+            assertEquals(new FileReader(recordInput).getFileMetadata().getRowGroups().size(), rowGroupCount);
+
+            QueryDataSet expected = new QueryEngine(recordInput).query(new QueryConfig(PATHS));
+            QueryDataSet actual = new QueryEngine(tabletInput).query(new QueryConfig(PATHS));
+            int count = 0;
+            while (expected.hasNextRecord()) {
+                assertTrue(actual.hasNextRecord());
+                assertEquals(expected.getNextRecord().toString(), actual.getNextRecord().toString());
+                count++;
+            }
+            assertFalse(actual.hasNextRecord());
+            assertEquals(ROW_COUNT, count);
+        } finally {
+            recordInput.close();
+            tabletInput.close();
+        }
+    }
+
+    @Test
+    public void wrongTypeTest() throws IOException, WriteProcessException {
+        TsFile tsFile = newTsFile(TABLET_FILE);
+        TSTablet tablet = new TSTablet("d1", times);
+        tablet.addColumn("s0", longs);
+        try {
+            tsFile.writeTablet(tablet);
+            fail();
+        } catch (WriteProcessException e) {
+            // s0 is INT32
+        }
+        tsFile.close();
+    }
+
+    private TSTablet newTablet(int from, int to) {
+        TSTablet tablet = new TSTablet("d1", Arrays.copyOfRange(times, from, to));
+        tablet.addColumn("s0", Arrays.copyOfRange(ints, from, to));
+        tablet.addColumn("s1", Arrays.copyOfRange(longs, from, to));
+        tablet.addColumn("s2", Arrays.copyOfRange(floats, from, to));
+        tablet.addColumn("s3", Arrays.copyOfRange(doubles, from, to));
+        tablet.addColumn("s4", Arrays.copyOfRange(booleans, from, to));
+        tablet.addColumn("s5", Arrays.copyOfRange(binaries, from, to));
+        return tablet;
+    }
+
+    private TsFile newTsFile(String path) throws IOException, WriteProcessException {
+        File file = new File(path);
+        if (file.exists())
+            file.delete();
+        String[] types = {"INT32", "INT64", "FLOAT", "DOUBLE", "BOOLEAN", "BYTE_ARRAY"};
+        String[] encodings = {"RLE", "TS_2DIFF", "RLE", "PLAIN", "PLAIN", "PLAIN"};
+        // several row groups
+        return new TsFile(new RandomAccessOutputStream(file),
+                JsonSchemaHelper.getJsonSchema("tablet_test", types, encodings, 32 * 1024));
+    }
+}
@@ -0,0 +1,143 @@
+package cn.edu.thu.tsfile.timeseries.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.FileReader;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+import cn.edu.thu.tsfile.timeseries.write.exception.WriteProcessException;
+
+/**
+ * test that writers flush early to keep their total memory size under the
+ * budget of {@linkplain WriteMemoryManager}.
+ */
+public class WriteMemoryManagerTest {
+    private static final String[] FILES = {"src/test/resources/memoryBudgetOutput0.ksn",
+            "src/test/resources/memoryBudgetOutput1.ksn"};
+    private static final long BUDGET = 256 * 1024;
+    private static final int ROW_COUNT = 50000;
+
+    private WriteMemoryManager memoryManager = WriteMemoryManager.getInstance();
+    private long oldBudget;
+
+    @Before
+    public void prepare() {
+        oldBudget = memoryManager.getBudget();
+        memoryManager.setBudget(BUDGET);
+    }
+
+    @After
+    public void after() {
+        memoryManager.setBudget(oldBudget);
+        for (String file : FILES) {
+            new File(file).delete();
+        }
+    }
+
+    @Test
+    public void budgetTest() throws IOException, WriteProcessException {
+        TsFile[] tsFiles = new TsFile[FILES.length];
+        for (int i = 0; i < FILES.length; i++) {
+            tsFiles[i] = newTsFile(FILES[i]);
+        }
+        long requestedFlushCount = memoryManager.getRequestedFlushCount();
+        long maxTotalMemSize = 0;
+        for (int i = 0; i < ROW_COUNT; i++) {
+            for (TsFile tsFile : tsFiles) {
+                tsFile.writeLine("d1," + i + ",s0," + i * 7919L + ",s1," + i / 3.0);
+            }
+            maxTotalMemSize = Math.max(maxTotalMemSize, memoryManager.getTotalMemSize());
+        }
+        assertEquals(FILES.length, memoryManager.getWriterCount());
+        for (TsFile tsFile : tsFiles) {
+            tsFile.close();
+        }
+        assertEquals(0, memoryManager.getWriterCount());
+        assertEquals(0, memoryManager.getTotalMemSize());
+        assertTrue(memoryManager.getRequestedFlushCount() > requestedFlushCount);
+        // writers may exceed the budget by what they allocate between two checks
+        assertTrue(maxTotalMemSize < BUDGET + BUDGET / 10);
+
+        for (String file : FILES) {
+            // row groups flushed early are not filled up to groupSizeInByte
+            assertTrue(new File(file).length() < 16 * 1024 * 1024);
+            LocalFileInput input = new LocalFileInput(file);
+            try {
+                assertTrue(new FileReader(input).getFileMetadata().getRowGroups().size() > 1);
+                QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0|d1.s1"));
+                int count = 0;
+                while (dataSet.hasNextRecord()) {
+                    assertEquals(count * 7919L, dataSet.getNextRecord().fields.get(0).getLongV());
+                    count++;
+                }
+                assertEquals(ROW_COUNT, count);
+                assertFalse(dataSet.hasNextRecord());
+            } finally {
+                input.close();
+            }
+        }
+    }
+
+    @Test
+    public void idleWriterTest() throws IOException, WriteProcessException {
+        TsFile idle = newTsFile(FILES[0]);
+        TsFile active = newTsFile(FILES[1]);
+        int idleRowCount = 0;
+        // the idle writer holds most of the budget, but does not exceed it alone
+        while (memoryManager.getTotalMemSize() < BUDGET * 3 / 4) {
+            idle.writeLine("d1," + idleRowCount + ",s0," + idleRowCount * 7919L + ",s1," + idleRowCount / 3.0);
+            idleRowCount++;
+        }
+        long maxTotalMemSize = 0;
+        for (int i = 0; i < ROW_COUNT; i++) {
+            active.writeLine("d1," + i + ",s0," + i * 7919L + ",s1," + i / 3.0);
+            maxTotalMemSize = Math.max(maxTotalMemSize, memoryManager.getTotalMemSize());
+        }
+        // the active writer flushes instead of waiting for the idle one
+        assertTrue(maxTotalMemSize < BUDGET + BUDGET / 10);
+        idle.close();
+        active.close();
+        assertEquals(0, memoryManager.getTotalMemSize());
+
+        LocalFileInput input = new LocalFileInput(FILES[1]);
+        try {
+            assertTrue(new FileReader(input).getFileMetadata().getRowGroups().size() > 1);
+        } finally {
+            input.close();
+        }
+        input = new LocalFileInput(FILES[0]);
+        try {
+            QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0"));
+            int count = 0;
+            while (dataSet.hasNextRecord()) {
+                dataSet.getNextRecord();
+                count++;
+            }
+            assertEquals(idleRowCount, count);
+        } finally {
+            input.close();
+        }
+    }
+
+    private TsFile newTsFile(String path) throws IOException, WriteProcessException {
+        File file = new File(path);
+        if (file.exists())
+            file.delete();
+        return new TsFile(new RandomAccessOutputStream(file), JsonSchemaHelper.getJsonSchema("memory_test",
+                new String[] {"INT64", "DOUBLE"}, new String[] {"PLAIN", "PLAIN"}));
+    }
+}
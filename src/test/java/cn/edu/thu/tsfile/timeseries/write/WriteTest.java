@@ -238,7 +238,7 @@ public class WriteTest {
 
         @Override
         protected void checkMemorySize() throws IOException {
-            if (recordCount == stageSize * stageDeltaObjectIds[stageState].length)
+            if (recordCount.get() == stageSize * stageDeltaObjectIds[stageState].length)
                 flushRowGroup(true);
         }
     }
@@ -0,0 +1,278 @@
+package cn.edu.thu.tsfile.timeseries.write.series;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cn.edu.thu.tsfile.common.conf.TSFileConfig;
+import cn.edu.thu.tsfile.common.conf.TSFileDescriptor;
+import cn.edu.thu.tsfile.common.utils.Binary;
+import cn.edu.thu.tsfile.common.utils.RandomAccessOutputStream;
+import cn.edu.thu.tsfile.timeseries.basis.TsFile;
+import cn.edu.thu.tsfile.timeseries.read.LocalFileInput;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryConfig;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryDataSet;
+import cn.edu.thu.tsfile.timeseries.read.query.QueryEngine;
+import cn.edu.thu.tsfile.timeseries.read.support.RowRecord;
+import cn.edu.thu.tsfile.timeseries.utils.JsonSchemaHelper;
+import cn.edu.thu.tsfile.timeseries.write.io.TSFileIOWriter;
+
+public class SortedSeriesWriterTest {
+    private static final String FILE = "src/test/resources/sortedSeriesOutput.ksn";
+    private static final long WINDOW = 50;
+    private static final int POINT_COUNT = 10000;
+
+    private TSFileConfig conf = TSFileDescriptor.getInstance().getConfig();
+    private long oldOutOfOrderWindow;
+
+    @Before
+    public void prepare() {
+        oldOutOfOrderWindow = conf.outOfOrderWindow;
+    }
+
+    @After
+    public void after() {
+        conf.outOfOrderWindow = oldOutOfOrderWindow;
+        new File(FILE).delete();
+    }
+
+    @Test
+    public void sortWithinWindowTest() throws IOException {
+        RecordingWriter recorder = new RecordingWriter();
+        SortedSeriesWriter writer = new SortedSeriesWriter(recorder, WINDOW);
+        long[] times = getJitteredTimes(WINDOW);
+        for (long time : times) {
+            writer.write(time, time * 3);
+        }
+        assertTrue(recorder.times.size() > 0);
+        assertTrue(recorder.times.size() < POINT_COUNT);
+        writer.writeToFileWriter(null);
+        assertEquals(POINT_COUNT, recorder.times.size());
+        for (int i = 0; i < POINT_COUNT; i++) {
+            if (i > 0)
+                assertTrue(recorder.times.get(i - 1) <= recorder.times.get(i));
+            assertEquals(recorder.times.get(i) * 3, (long) recorder.values.get(i));
+        }
+    }
+
+    @Test
+    public void batchTest() throws IOException {
+        RecordingWriter recorder = new RecordingWriter();
+        SortedSeriesWriter writer = new SortedSeriesWriter(recorder, WINDOW);
+        long[] times = getJitteredTimes(WINDOW);
+        long[] values = new long[times.length];
+        for (int i = 0; i < times.length; i++) {
+            values[i] = times[i] * 3;
+        }
+        for (int start = 0; start < times.length; start += 300) {
+            writer.write(times, values, start, Math.min(times.length, start + 300));
+        }
+        writer.sealCurrentPage();
+        assertEquals(POINT_COUNT, recorder.times.size());
+        for (int i = 0; i < POINT_COUNT; i++) {
+            if (i > 0)
+                assertTrue(recorder.times.get(i - 1) <= recorder.times.get(i));
+            assertEquals(recorder.times.get(i) * 3, (long) recorder.values.get(i));
+        }
+    }
+
+    @Test
+    public void tooLateTest() throws IOException {
+        RecordingWriter recorder = new RecordingWriter();
+        SortedSeriesWriter writer = new SortedSeriesWriter(recorder, WINDOW);
+        for (long time = 0; time < 1000; time++) {
+            writer.write(time, time);
+        }
+        // far later than the window, it is written in arrival order
+        writer.write(10, -1L);
+        writer.write(1000, 1000L);
+        writer.writeToFileWriter(null);
+        assertEquals(1002, recorder.times.size());
+        assertTrue(recorder.values.contains(-1L));
+    }
+
+    @Test
+    public void binaryTest() throws IOException {
+        RecordingWriter recorder = new RecordingWriter();
+        SortedSeriesWriter writer = new SortedSeriesWriter(recorder, WINDOW);
+        long[] times = getJitteredTimes(WINDOW);
+        for (long time : times) {
+            writer.write(time, new Binary(String.valueOf(time)));
+        }
+        long memSize = writer.estimateMaxSeriesMemSize();
+        writer.writeToFileWriter(null);
+        assertTrue(writer.estimateMaxSeriesMemSize() < memSize);
+        assertEquals(POINT_COUNT, recorder.times.size());
+        for (int i = 0; i < POINT_COUNT; i++) {
+            if (i > 0)
+                assertTrue(recorder.times.get(i - 1) <= recorder.times.get(i));
+            assertEquals(String.valueOf(recorder.times.get(i)), recorder.values.get(i));
+        }
+    }
+
+    @Test
+    public void tsFileTest() throws Exception {
+        conf.outOfOrderWindow = WINDOW;
+        File file = new File(FILE);
+        if (file.exists())
+            file.delete();
+        TsFile tsFile = new TsFile(new RandomAccessOutputStream(file), JsonSchemaHelper
+                .getJsonSchema("sorted_test", new String[] {"INT64"}, new String[] {"TS_2DIFF"}));
+        for (long time : getJitteredTimes(WINDOW)) {
+            tsFile.writeLine("d1," + time + ",s0," + time * 3);
+        }
+        tsFile.close();
+
+        LocalFileInput input = new LocalFileInput(FILE);
+        try {
+            QueryDataSet dataSet = new QueryEngine(input).query(new QueryConfig("d1.s0"));
+            int count = 0;
+            long lastTime = -1;
+            while (dataSet.hasNextRecord()) {
+                RowRecord record = dataSet.getNextRecord();
+                assertTrue(record.timestamp > lastTime);
+                assertEquals(record.timestamp * 3, record.fields.get(0).getLongV());
+                lastTime = record.timestamp;
+                count++;
+            }
+            assertFalse(dataSet.hasNextRecord());
+            assertEquals(POINT_COUNT, count);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * distinct times 0, 10, 20, ..., each of which arrives after a random delay
+     * less than window, so that it is later than the latest arrived one by less
+     * than window
+     */
+    private long[] getJitteredTimes(long window) {
+        Random random = new Random(7);
+        long[][] arrivals = new long[POINT_COUNT][];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            long time = i * 10L;
+            arrivals[i] = new long[] {time + random.nextInt((int) window), time};
+        }
+        Arrays.sort(arrivals, (x, y) -> Long.compare(x[0], y[0]));
+        long[] times = new long[POINT_COUNT];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            times[i] = arrivals[i][1];
+        }
+        return times;
+    }
+
+    /**
+     * records written points in order
+     */
+    private static class RecordingWriter implements ISeriesWriter {
+        private List<Long> times = new ArrayList<>();
+        private List<Object> values = new ArrayList<>();
+
+        private void record(long time, Object value) {
+            times.add(time);
+            values.add(value);
+        }
+
+        @Override
+        public void write(long time, int value) {
+            record(time, value);
+        }
+
+        @Override
+        public void write(long time, long value) {
+            record(time, value);
+        }
+
+        @Override
+        public void write(long time, boolean value) {
+            record(time, value);
+        }
+
+        @Override
+        public void write(long time, float value) {
+            record(time, value);
+        }
+
+        @Override
+        public void write(long time, double value) {
+            record(time, value);
+        }
+
+        @Override
+        public void write(long time, BigDecimal value) {
+            record(time, value);
+        }
+
+        @Override
+        public void write(long time, Binary value) {
+            record(time, value.getStringValue());
+        }
+
+        @Override
+        public void write(long[] times, int[] values, int start, int end) {
+            for (int i = start; i < end; i++)
+                record(times[i], values[i]);
+        }
+
+        @Override
+        public void write(long[] times, long[] values, int start, int end) {
+            for (int i = start; i < end; i++)
+                record(times[i], values[i]);
+        }
+
+        @Override
+        public void write(long[] times, boolean[] values, int start, int end) {
+            for (int i = start; i < end; i++)
+                record(times[i], values[i]);
+        }
+
+        @Override
+        public void write(long[] times, float[] values, int start, int end) {
+            for (int i = start; i < end; i++)
+                record(times[i], values[i]);
+        }
+
+        @Override
+        public void write(long[] times, double[] values, int start, int end) {
+            for (int i = start; i < end; i++)
+                record(times[i], values[i]);
+        }
+
+        @Override
+        public void write(long[] times, Binary[] values, int start, int end) {
+            for (int i = start; i < end; i++)
+                record(times[i], values[i].getStringValue());
+        }
+
+        @Override
+        public List<Object> query() {
+            return null;
+        }
+
+        @Override
+        public void sealCurrentPage() {
+        }
+
+        @Override
+        public void writeToFileWriter(TSFileIOWriter tsfileWriter) {
+        }
+
+        @Override
+        public long estimateMaxSeriesMemSize() {
+            return 0;
+        }
+    }
+}